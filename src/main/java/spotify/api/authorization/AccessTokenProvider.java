@@ -0,0 +1,27 @@
+package spotify.api.authorization;
+
+/**
+ * Supplies the access token that is used to authorize a request.
+ * <p>
+ * The token is requested every time a request is constructed, so an implementation can return a different token
+ * per user, or a refreshed token once the previous one has expired.
+ *
+ * @author Jiankai Zheng
+ * @see ScopedAccessTokenProvider
+ * @since 1.6.0
+ */
+@FunctionalInterface
+public interface AccessTokenProvider {
+
+    /**
+     * @return the access token for the request that is being constructed
+     */
+    String getAccessToken();
+
+    /**
+     * @return the value of the Authorization header for the request that is being constructed
+     */
+    default String getAuthorizationHeader() {
+        return "Bearer " + getAccessToken();
+    }
+}
@@ -0,0 +1,125 @@
+package spotify.api.authorization;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An {@link AccessTokenProvider} that provides the access token which is bound to the current thread.
+ * <p>
+ * This makes it possible to share one set of APIs between many users. Every request is made within
+ * {@link #callWithAccessToken(String, Supplier)}, which binds the access token of the user for the duration of the request.
+ * The token is read when the request is constructed, so requests that are executed asynchronously afterwards keep
+ * the token they have been constructed with. Requests that are constructed on another thread, such as the pages that
+ * are requested in the background by {@link spotify.api.paging.Pages}, get the tokens of the calling thread through
+ * {@link #propagate(Supplier)}. The lazy iterations of {@link spotify.api.paging.Pages} keep the tokens of the thread
+ * that created them through {@link #propagate(Function)}.
+ *
+ * @author Jiankai Zheng
+ * @see spotify.api.spotify.MultiTenantSpotifyApi
+ * @since 1.6.0
+ */
+public class ScopedAccessTokenProvider implements AccessTokenProvider {
+    private final Logger logger = LoggerFactory.getLogger(ScopedAccessTokenProvider.class);
+    /**
+     * The access tokens that are bound to the current thread, per provider. A map is never modified once it is bound,
+     * so it can be bound to other threads as it is.
+     */
+    private static final ThreadLocal<Map<ScopedAccessTokenProvider, String>> boundAccessTokens = new ThreadLocal<>();
+
+    /**
+     * Binds the access token to the current thread while the given action is executed.
+     *
+     * @param accessToken the access token to be used by the requests made in the action
+     * @param action      the action making the requests
+     * @param <T>         the type of the result
+     * @return the result of the action
+     */
+    public <T> T callWithAccessToken(final String accessToken, final Supplier<T> action) {
+        if (accessToken == null || accessToken.isEmpty()) {
+            final String errorMessage = "Access token can not be empty!";
+            logger.error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        final Map<ScopedAccessTokenProvider, String> previousAccessTokens = boundAccessTokens.get();
+        final Map<ScopedAccessTokenProvider, String> accessTokens = previousAccessTokens == null
+                ? new IdentityHashMap<>()
+                : new IdentityHashMap<>(previousAccessTokens);
+        accessTokens.put(this, accessToken);
+
+        return callWithAccessTokens(accessTokens, action);
+    }
+
+    /**
+     * Captures the access tokens that are bound to the current thread, of every provider, and binds them again to
+     * whichever thread executes the returned task. This is called on the thread that hands the task to an executor.
+     *
+     * @param task the task that makes requests
+     * @param <T>  the type of the result
+     * @return the task, with the access tokens of the current thread bound while it is executed
+     */
+    public static <T> Supplier<T> propagate(final Supplier<T> task) {
+        final Map<ScopedAccessTokenProvider, String> accessTokens = boundAccessTokens.get();
+
+        if (accessTokens == null) {
+            return task;
+        }
+
+        return () -> callWithAccessTokens(accessTokens, task);
+    }
+
+    /**
+     * Captures the access tokens that are bound to the current thread, of every provider, and binds them again every
+     * time the returned function is applied, on whichever thread and however long afterwards. Lazy iterations, like the
+     * streams of {@link spotify.api.paging.Pages}, are created with it, so they can be consumed after the access token
+     * is no longer bound.
+     *
+     * @param function the function that makes requests
+     * @param <T>      the type of the argument
+     * @param <R>      the type of the result
+     * @return the function, with the access tokens of the current thread bound while it is applied
+     */
+    public static <T, R> Function<T, R> propagate(final Function<T, R> function) {
+        final Map<ScopedAccessTokenProvider, String> accessTokens = boundAccessTokens.get();
+
+        if (accessTokens == null) {
+            return function;
+        }
+
+        return argument -> callWithAccessTokens(accessTokens, () -> function.apply(argument));
+    }
+
+    private static <T> T callWithAccessTokens(final Map<ScopedAccessTokenProvider, String> accessTokens, final Supplier<T> action) {
+        final Map<ScopedAccessTokenProvider, String> previousAccessTokens = boundAccessTokens.get();
+        boundAccessTokens.set(accessTokens);
+
+        try {
+            return action.get();
+        } finally {
+            if (previousAccessTokens == null) {
+                boundAccessTokens.remove();
+            } else {
+                boundAccessTokens.set(previousAccessTokens);
+            }
+        }
+    }
+
+    @Override
+    public String getAccessToken() {
+        final Map<ScopedAccessTokenProvider, String> accessTokens = boundAccessTokens.get();
+        final String accessToken = accessTokens == null ? null : accessTokens.get(this);
+
+        if (accessToken == null) {
+            final String errorMessage = "No access token has been bound to the current thread!";
+            logger.error(errorMessage);
+            throw new IllegalStateException(errorMessage);
+        }
+
+        return accessToken;
+    }
+}
@@ -0,0 +1,253 @@
+package spotify.api.batching;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.exceptions.SpotifyActionFailedException;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Collects concurrent lookups of single entities and loads them with one request to an endpoint that fetches multiple
+ * entities at once.
+ * <p>
+ * Lookups are batched per access token and per set of options, because both end up in the request. A batch is sent
+ * when its window has passed or when it holds the maximum amount of ids of its endpoint, whichever comes first.
+ * Duplicate ids within a batch are requested once.
+ * <p>
+ * When Spotify rejects a batch as a bad request or not found, which is how it responds to a malformed id, the ids of
+ * the batch are looked up one by one so a single bad id only fails its own lookup. Any other failure, such as an
+ * expired access token, a server error or a rate limit, fails every lookup of the batch instead of sending even more
+ * requests.
+ * <p>
+ * Spotify answers an id that it does not know with {@code null} in a batch, but with a 404 when the id is requested
+ * on its own. Such lookups fail with a {@link SpotifyActionFailedException} with status code 404, so turning batching
+ * on does not change how an unknown id surfaces.
+ *
+ * @param <T> the type of the entity
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+class BatchLoader<T> {
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final ScheduledThreadPoolExecutor scheduler = createScheduler();
+
+    private final Logger logger = LoggerFactory.getLogger(BatchLoader.class);
+    private final int maxBatchSize;
+    private final Duration window;
+    private final BatchFunction<T> batchFunction;
+    private final SingleFunction<T> singleFunction;
+    private final Map<BatchKey, Batch<T>> pendingBatches = new HashMap<>();
+
+    BatchLoader(final int maxBatchSize, final Duration window, final BatchFunction<T> batchFunction, final SingleFunction<T> singleFunction) {
+        this.maxBatchSize = maxBatchSize;
+        this.window = window;
+        this.batchFunction = batchFunction;
+        this.singleFunction = singleFunction;
+    }
+
+    /**
+     * Adds the id to the pending batch of the access token and options.
+     *
+     * @param accessToken the access token of the request
+     * @param id          the id of the entity
+     * @param options     the options of the request
+     * @return a future completing with the entity, or exceptionally with a {@link SpotifyActionFailedException} with
+     * status code 404 when Spotify does not know the id
+     */
+    CompletableFuture<T> load(final String accessToken, final String id, final Map<String, String> options) {
+        final BatchKey key = new BatchKey(accessToken, options);
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        Batch<T> fullBatch = null;
+
+        synchronized (pendingBatches) {
+            Batch<T> batch = pendingBatches.get(key);
+
+            if (batch == null) {
+                final Batch<T> newBatch = new Batch<>();
+                newBatch.scheduledFlush = scheduler.schedule(() -> flush(key, newBatch), window.toNanos(), TimeUnit.NANOSECONDS);
+                pendingBatches.put(key, newBatch);
+                batch = newBatch;
+            }
+
+            batch.add(id, future);
+
+            if (batch.size() >= maxBatchSize) {
+                pendingBatches.remove(key);
+                batch.scheduledFlush.cancel(false);
+                fullBatch = batch;
+            }
+        }
+
+        if (fullBatch != null) {
+            logger.trace("Batch has reached its maximum size of {} ids.", maxBatchSize);
+            dispatch(key, fullBatch);
+        }
+
+        return future;
+    }
+
+    private void flush(final BatchKey key, final Batch<T> batch) {
+        synchronized (pendingBatches) {
+            if (!pendingBatches.remove(key, batch)) {
+                return;
+            }
+        }
+
+        dispatch(key, batch);
+    }
+
+    private void dispatch(final BatchKey key, final Batch<T> batch) {
+        final List<String> ids = new ArrayList<>(batch.futuresById.keySet());
+
+        logger.debug("Loading a batch of {} ids.", ids.size());
+        call(() -> batchFunction.load(key.accessToken, ids, key.options)).whenComplete((entities, throwable) -> {
+            if (throwable == null && entities != null && entities.size() == ids.size()) {
+                for (int i = 0; i < ids.size(); i++) {
+                    complete(batch, ids.get(i), entities.get(i));
+                }
+            } else if (throwable == null) {
+                batch.completeAllExceptionally(new IllegalStateException(
+                        "Spotify has not returned an entity for every id of the batch!"));
+            } else if (ids.size() > 1 && isRejectedId(unwrap(throwable))) {
+                logger.warn("Batch of {} ids has been rejected, looking up the ids one by one.", ids.size());
+                for (String id : ids) {
+                    call(() -> singleFunction.load(key.accessToken, id, key.options)).whenComplete((entity, singleThrowable) -> {
+                        if (singleThrowable == null) {
+                            complete(batch, id, entity);
+                        } else {
+                            batch.completeExceptionally(id, unwrap(singleThrowable));
+                        }
+                    });
+                }
+            } else {
+                batch.completeAllExceptionally(unwrap(throwable));
+            }
+        });
+    }
+
+    private static <T> void complete(final Batch<T> batch, final String id, final T entity) {
+        if (entity == null) {
+            batch.completeExceptionally(id, new SpotifyActionFailedException("Spotify does not know the id " + id + "!", NOT_FOUND));
+        } else {
+            batch.complete(id, entity);
+        }
+    }
+
+    /**
+     * Whether the failure of a batch may be caused by a single id of it, rather than by the request as a whole.
+     */
+    private static boolean isRejectedId(final Throwable throwable) {
+        if (!(throwable instanceof SpotifyActionFailedException)) {
+            return false;
+        }
+
+        final int statusCode = ((SpotifyActionFailedException) throwable).getStatusCode();
+
+        return statusCode == BAD_REQUEST || statusCode == NOT_FOUND;
+    }
+
+    private static <R> CompletableFuture<R> call(final Callable<CompletableFuture<R>> function) {
+        try {
+            return function.call();
+        } catch (Exception e) {
+            final CompletableFuture<R> failedFuture = new CompletableFuture<>();
+            failedFuture.completeExceptionally(e);
+
+            return failedFuture;
+        }
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+
+        return throwable;
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "spotify-batch-loader");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+
+        return executor;
+    }
+
+    /**
+     * Loads the entities of multiple ids with one request.
+     *
+     * @param <T> the type of the entity
+     */
+    @FunctionalInterface
+    interface BatchFunction<T> {
+        /**
+         * @return a future completing with the entities in the same order as the ids
+         */
+        CompletableFuture<List<T>> load(String accessToken, List<String> ids, Map<String, String> options);
+    }
+
+    /**
+     * Loads the entity of one id.
+     *
+     * @param <T> the type of the entity
+     */
+    @FunctionalInterface
+    interface SingleFunction<T> {
+        CompletableFuture<T> load(String accessToken, String id, Map<String, String> options);
+    }
+
+    private static class Batch<T> {
+        private final Map<String, List<CompletableFuture<T>>> futuresById = new LinkedHashMap<>();
+        private ScheduledFuture<?> scheduledFlush;
+
+        private void add(final String id, final CompletableFuture<T> future) {
+            futuresById.computeIfAbsent(id, key -> new ArrayList<>(1)).add(future);
+        }
+
+        private int size() {
+            return futuresById.size();
+        }
+
+        private void complete(final String id, final T entity) {
+            futuresById.get(id).forEach(future -> future.complete(entity));
+        }
+
+        private void completeExceptionally(final String id, final Throwable throwable) {
+            futuresById.get(id).forEach(future -> future.completeExceptionally(throwable));
+        }
+
+        private void completeAllExceptionally(final Throwable throwable) {
+            futuresById.keySet().forEach(id -> completeExceptionally(id, throwable));
+        }
+    }
+
+    private static class BatchKey {
+        private final String accessToken;
+        private final Map<String, String> options;
+
+        private BatchKey(final String accessToken, final Map<String, String> options) {
+            this.accessToken = accessToken;
+            this.options = Collections.unmodifiableMap(new HashMap<>(options));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BatchKey batchKey = (BatchKey) o;
+            return accessToken.equals(batchKey.accessToken) && options.equals(batchKey.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accessToken, options);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package spotify.api.batching;
+
+import spotify.api.interfaces.AlbumApi;
+import spotify.api.interfaces.AsyncAlbumApi;
+import spotify.models.albums.AlbumFull;
+import spotify.models.albums.AlbumFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackSimplified;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link AlbumApi} that waits for a batching {@link AsyncAlbumApi} to look up single albums,
+ * so lookups made concurrently from many threads are sent as one request.
+ *
+ * @author Jiankai Zheng
+ * @see BatchingAsyncAlbumApi
+ * @since 1.6.0
+ */
+public class BatchingAlbumApi implements AlbumApi {
+    private final AlbumApi albumApi;
+    private final AsyncAlbumApi batchingAsyncAlbumApi;
+
+    public BatchingAlbumApi(final AlbumApi albumApi, final AsyncAlbumApi batchingAsyncAlbumApi) {
+        this.albumApi = albumApi;
+        this.batchingAsyncAlbumApi = batchingAsyncAlbumApi;
+    }
+
+    @Override
+    public AlbumFull getAlbum(String albumId, Map<String, String> options) {
+        return AsyncHttpUtil.join(batchingAsyncAlbumApi.getAlbum(albumId, options));
+    }
+
+    @Override
+    public AlbumFullCollection getAlbums(List<String> listOfAlbumIds, Map<String, String> options) {
+        return albumApi.getAlbums(listOfAlbumIds, options);
+    }
+
+    @Override
+    public Paging<TrackSimplified> getAlbumTracks(String albumId, Map<String, String> options) {
+        return albumApi.getAlbumTracks(albumId, options);
+    }
+}
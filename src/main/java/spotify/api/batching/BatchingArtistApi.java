@@ -0,0 +1,57 @@
+package spotify.api.batching;
+
+import spotify.api.enums.AlbumType;
+import spotify.api.interfaces.ArtistApi;
+import spotify.api.interfaces.AsyncArtistApi;
+import spotify.models.albums.AlbumSimplified;
+import spotify.models.artists.ArtistFull;
+import spotify.models.artists.ArtistFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ArtistApi} that waits for a batching {@link AsyncArtistApi} to look up single artists,
+ * so lookups made concurrently from many threads are sent as one request.
+ *
+ * @author Jiankai Zheng
+ * @see BatchingAsyncArtistApi
+ * @since 1.6.0
+ */
+public class BatchingArtistApi implements ArtistApi {
+    private final ArtistApi artistApi;
+    private final AsyncArtistApi batchingAsyncArtistApi;
+
+    public BatchingArtistApi(final ArtistApi artistApi, final AsyncArtistApi batchingAsyncArtistApi) {
+        this.artistApi = artistApi;
+        this.batchingAsyncArtistApi = batchingAsyncArtistApi;
+    }
+
+    @Override
+    public ArtistFull getArtist(String artistId) {
+        return AsyncHttpUtil.join(batchingAsyncArtistApi.getArtist(artistId));
+    }
+
+    @Override
+    public Paging<AlbumSimplified> getArtistAlbums(String artistId, List<AlbumType> listOfAlbumTypes, Map<String, String> options) {
+        return artistApi.getArtistAlbums(artistId, listOfAlbumTypes, options);
+    }
+
+    @Override
+    public TrackFullCollection getArtistTopTracks(String artistId, Map<String, String> options) {
+        return artistApi.getArtistTopTracks(artistId, options);
+    }
+
+    @Override
+    public ArtistFullCollection getRelatedArtists(String artistId) {
+        return artistApi.getRelatedArtists(artistId);
+    }
+
+    @Override
+    public ArtistFullCollection getArtists(List<String> listOfArtistIds) {
+        return artistApi.getArtists(listOfArtistIds);
+    }
+}
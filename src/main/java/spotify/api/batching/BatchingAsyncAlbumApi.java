@@ -0,0 +1,69 @@
+package spotify.api.batching;
+
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.impl.AsyncAlbumApiRetrofit;
+import spotify.api.interfaces.AsyncAlbumApi;
+import spotify.config.BatchingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.albums.AlbumFull;
+import spotify.models.albums.AlbumFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackSimplified;
+import spotify.retrofit.services.AlbumService;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncAlbumApi} that batches concurrent lookups of single albums into requests for multiple albums.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class BatchingAsyncAlbumApi implements AsyncAlbumApi {
+    private static final int MAX_ALBUMS_PER_REQUEST = 20;
+    private final AccessTokenProvider accessTokenProvider;
+    private final AlbumService albumService;
+    private final AsyncAlbumApi asyncAlbumApi;
+    private final BatchLoader<AlbumFull> albumLoader;
+
+    public BatchingAsyncAlbumApi(final AccessTokenProvider accessTokenProvider, final BatchingConfig batchingConfig) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getAlbumService(), batchingConfig);
+    }
+
+    public BatchingAsyncAlbumApi(final AccessTokenProvider accessTokenProvider, final AlbumService albumService, final BatchingConfig batchingConfig) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.albumService = albumService;
+        this.asyncAlbumApi = new AsyncAlbumApiRetrofit(accessTokenProvider, albumService);
+        this.albumLoader = new BatchLoader<>(
+                MAX_ALBUMS_PER_REQUEST,
+                batchingConfig.getWindow(),
+                (accessToken, albumIds, options) -> withAccessToken(accessToken)
+                        .getAlbums(albumIds, options)
+                        .thenApply(AlbumFullCollection::getAlbums),
+                (accessToken, albumId, options) -> withAccessToken(accessToken).getAlbum(albumId, options));
+    }
+
+    @Override
+    public CompletableFuture<AlbumFull> getAlbum(String albumId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        return albumLoader.load(accessTokenProvider.getAccessToken(), albumId, options);
+    }
+
+    @Override
+    public CompletableFuture<AlbumFullCollection> getAlbums(List<String> listOfAlbumIds, Map<String, String> options) {
+        return asyncAlbumApi.getAlbums(listOfAlbumIds, options);
+    }
+
+    @Override
+    public CompletableFuture<Paging<TrackSimplified>> getAlbumTracks(String albumId, Map<String, String> options) {
+        return asyncAlbumApi.getAlbumTracks(albumId, options);
+    }
+
+    private AsyncAlbumApi withAccessToken(final String accessToken) {
+        return new AsyncAlbumApiRetrofit(accessToken, albumService);
+    }
+}
@@ -0,0 +1,79 @@
+package spotify.api.batching;
+
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.AlbumType;
+import spotify.api.impl.AsyncArtistApiRetrofit;
+import spotify.api.interfaces.AsyncArtistApi;
+import spotify.config.BatchingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.albums.AlbumSimplified;
+import spotify.models.artists.ArtistFull;
+import spotify.models.artists.ArtistFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.retrofit.services.ArtistService;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncArtistApi} that batches concurrent lookups of single artists into requests for multiple artists.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class BatchingAsyncArtistApi implements AsyncArtistApi {
+    private static final int MAX_ARTISTS_PER_REQUEST = 50;
+    private final AccessTokenProvider accessTokenProvider;
+    private final ArtistService artistService;
+    private final AsyncArtistApi asyncArtistApi;
+    private final BatchLoader<ArtistFull> artistLoader;
+
+    public BatchingAsyncArtistApi(final AccessTokenProvider accessTokenProvider, final BatchingConfig batchingConfig) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getArtistService(), batchingConfig);
+    }
+
+    public BatchingAsyncArtistApi(final AccessTokenProvider accessTokenProvider, final ArtistService artistService, final BatchingConfig batchingConfig) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.artistService = artistService;
+        this.asyncArtistApi = new AsyncArtistApiRetrofit(accessTokenProvider, artistService);
+        this.artistLoader = new BatchLoader<>(
+                MAX_ARTISTS_PER_REQUEST,
+                batchingConfig.getWindow(),
+                (accessToken, artistIds, options) -> withAccessToken(accessToken)
+                        .getArtists(artistIds)
+                        .thenApply(ArtistFullCollection::getArtists),
+                (accessToken, artistId, options) -> withAccessToken(accessToken).getArtist(artistId));
+    }
+
+    @Override
+    public CompletableFuture<ArtistFull> getArtist(String artistId) {
+        return artistLoader.load(accessTokenProvider.getAccessToken(), artistId, Collections.emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<Paging<AlbumSimplified>> getArtistAlbums(String artistId, List<AlbumType> listOfAlbumTypes, Map<String, String> options) {
+        return asyncArtistApi.getArtistAlbums(artistId, listOfAlbumTypes, options);
+    }
+
+    @Override
+    public CompletableFuture<TrackFullCollection> getArtistTopTracks(String artistId, Map<String, String> options) {
+        return asyncArtistApi.getArtistTopTracks(artistId, options);
+    }
+
+    @Override
+    public CompletableFuture<ArtistFullCollection> getRelatedArtists(String artistId) {
+        return asyncArtistApi.getRelatedArtists(artistId);
+    }
+
+    @Override
+    public CompletableFuture<ArtistFullCollection> getArtists(List<String> listOfArtistIds) {
+        return asyncArtistApi.getArtists(listOfArtistIds);
+    }
+
+    private AsyncArtistApi withAccessToken(final String accessToken) {
+        return new AsyncArtistApiRetrofit(accessToken, artistService);
+    }
+}
@@ -0,0 +1,62 @@
+package spotify.api.batching;
+
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.impl.AsyncEpisodeApiRetrofit;
+import spotify.api.interfaces.AsyncEpisodeApi;
+import spotify.config.BatchingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.episodes.EpisodeFullCollection;
+import spotify.retrofit.services.EpisodeService;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncEpisodeApi} that batches concurrent lookups of single episodes into requests for multiple episodes.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class BatchingAsyncEpisodeApi implements AsyncEpisodeApi {
+    private static final int MAX_EPISODES_PER_REQUEST = 50;
+    private final AccessTokenProvider accessTokenProvider;
+    private final EpisodeService episodeService;
+    private final AsyncEpisodeApi asyncEpisodeApi;
+    private final BatchLoader<EpisodeFull> episodeLoader;
+
+    public BatchingAsyncEpisodeApi(final AccessTokenProvider accessTokenProvider, final BatchingConfig batchingConfig) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getEpisodeService(), batchingConfig);
+    }
+
+    public BatchingAsyncEpisodeApi(final AccessTokenProvider accessTokenProvider, final EpisodeService episodeService, final BatchingConfig batchingConfig) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.episodeService = episodeService;
+        this.asyncEpisodeApi = new AsyncEpisodeApiRetrofit(accessTokenProvider, episodeService);
+        this.episodeLoader = new BatchLoader<>(
+                MAX_EPISODES_PER_REQUEST,
+                batchingConfig.getWindow(),
+                (accessToken, episodeIds, options) -> withAccessToken(accessToken)
+                        .getEpisodes(episodeIds, options)
+                        .thenApply(EpisodeFullCollection::getEpisodes),
+                (accessToken, episodeId, options) -> withAccessToken(accessToken).getEpisode(episodeId, options));
+    }
+
+    @Override
+    public CompletableFuture<EpisodeFull> getEpisode(String episodeId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        return episodeLoader.load(accessTokenProvider.getAccessToken(), episodeId, options);
+    }
+
+    @Override
+    public CompletableFuture<EpisodeFullCollection> getEpisodes(List<String> listOfEpisodeIds, Map<String, String> options) {
+        return asyncEpisodeApi.getEpisodes(listOfEpisodeIds, options);
+    }
+
+    private AsyncEpisodeApi withAccessToken(final String accessToken) {
+        return new AsyncEpisodeApiRetrofit(accessToken, episodeService);
+    }
+}
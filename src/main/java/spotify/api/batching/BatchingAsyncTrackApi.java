@@ -0,0 +1,97 @@
+package spotify.api.batching;
+
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.impl.AsyncTrackApiRetrofit;
+import spotify.api.interfaces.AsyncTrackApi;
+import spotify.config.BatchingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioFeatures;
+import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.retrofit.services.TrackService;
+import spotify.utils.ValidatorUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncTrackApi} that batches concurrent lookups of single tracks and single track audio features
+ * into requests for multiple tracks.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class BatchingAsyncTrackApi implements AsyncTrackApi {
+    private static final int MAX_TRACKS_PER_REQUEST = 50;
+    private static final int MAX_AUDIO_FEATURES_PER_REQUEST = 100;
+    private final AccessTokenProvider accessTokenProvider;
+    private final TrackService trackService;
+    private final AsyncTrackApi asyncTrackApi;
+    private final BatchLoader<TrackFull> trackLoader;
+    private final BatchLoader<AudioFeatures> audioFeaturesLoader;
+
+    public BatchingAsyncTrackApi(final AccessTokenProvider accessTokenProvider, final BatchingConfig batchingConfig) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getTrackService(), batchingConfig);
+    }
+
+    public BatchingAsyncTrackApi(final AccessTokenProvider accessTokenProvider, final TrackService trackService, final BatchingConfig batchingConfig) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.trackService = trackService;
+        this.asyncTrackApi = new AsyncTrackApiRetrofit(accessTokenProvider, trackService);
+        this.trackLoader = new BatchLoader<>(
+                MAX_TRACKS_PER_REQUEST,
+                batchingConfig.getWindow(),
+                (accessToken, trackIds, options) -> withAccessToken(accessToken)
+                        .getTracks(trackIds, options)
+                        .thenApply(TrackFullCollection::getTracks),
+                (accessToken, trackId, options) -> withAccessToken(accessToken).getTrack(trackId, options));
+        this.audioFeaturesLoader = new BatchLoader<>(
+                MAX_AUDIO_FEATURES_PER_REQUEST,
+                batchingConfig.getWindow(),
+                (accessToken, trackIds, options) -> withAccessToken(accessToken)
+                        .getTracksAudioFeatures(trackIds)
+                        .thenApply(AudioFeaturesCollection::getAudioFeatures),
+                (accessToken, trackId, options) -> withAccessToken(accessToken).getTrackAudioFeatures(trackId));
+    }
+
+    @Override
+    public CompletableFuture<TrackFull> getTrack(String trackId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        return trackLoader.load(accessTokenProvider.getAccessToken(), trackId, options);
+    }
+
+    @Override
+    public CompletableFuture<TrackFullCollection> getTracks(List<String> listOfTrackIds, Map<String, String> options) {
+        return asyncTrackApi.getTracks(listOfTrackIds, options);
+    }
+
+    @Override
+    public CompletableFuture<AudioFeatures> getTrackAudioFeatures(String trackId) {
+        return audioFeaturesLoader.load(accessTokenProvider.getAccessToken(), trackId, Collections.emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<AudioFeaturesCollection> getTracksAudioFeatures(List<String> listOfTrackIds) {
+        return asyncTrackApi.getTracksAudioFeatures(listOfTrackIds);
+    }
+
+    @Override
+    public CompletableFuture<AudioAnalysis> getTrackAudioAnalysis(String trackId) {
+        return asyncTrackApi.getTrackAudioAnalysis(trackId);
+    }
+
+    @Override
+    public CompletableFuture<ColumnarAudioAnalysis> getTrackColumnarAudioAnalysis(String trackId) {
+        return asyncTrackApi.getTrackColumnarAudioAnalysis(trackId);
+    }
+
+    private AsyncTrackApi withAccessToken(final String accessToken) {
+        return new AsyncTrackApiRetrofit(accessToken, trackService);
+    }
+}
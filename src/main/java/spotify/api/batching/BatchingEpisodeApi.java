@@ -0,0 +1,38 @@
+package spotify.api.batching;
+
+import spotify.api.interfaces.AsyncEpisodeApi;
+import spotify.api.interfaces.EpisodeApi;
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.episodes.EpisodeFullCollection;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link EpisodeApi} that waits for a batching {@link AsyncEpisodeApi} to look up single episodes,
+ * so lookups made concurrently from many threads are sent as one request.
+ *
+ * @author Jiankai Zheng
+ * @see BatchingAsyncEpisodeApi
+ * @since 1.6.0
+ */
+public class BatchingEpisodeApi implements EpisodeApi {
+    private final EpisodeApi episodeApi;
+    private final AsyncEpisodeApi batchingAsyncEpisodeApi;
+
+    public BatchingEpisodeApi(final EpisodeApi episodeApi, final AsyncEpisodeApi batchingAsyncEpisodeApi) {
+        this.episodeApi = episodeApi;
+        this.batchingAsyncEpisodeApi = batchingAsyncEpisodeApi;
+    }
+
+    @Override
+    public EpisodeFull getEpisode(String episodeId, Map<String, String> options) {
+        return AsyncHttpUtil.join(batchingAsyncEpisodeApi.getEpisode(episodeId, options));
+    }
+
+    @Override
+    public EpisodeFullCollection getEpisodes(List<String> listOfEpisodeIds, Map<String, String> options) {
+        return episodeApi.getEpisodes(listOfEpisodeIds, options);
+    }
+}
@@ -0,0 +1,68 @@
+package spotify.api.batching;
+
+import spotify.api.interfaces.AsyncTrackApi;
+import spotify.api.interfaces.TrackApi;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioAnalysisVisitor;
+import spotify.models.audio.AudioFeatures;
+import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TrackApi} that waits for a batching {@link AsyncTrackApi} to look up single tracks and single track audio features,
+ * so lookups made concurrently from many threads are sent as one request.
+ *
+ * @author Jiankai Zheng
+ * @see BatchingAsyncTrackApi
+ * @since 1.6.0
+ */
+public class BatchingTrackApi implements TrackApi {
+    private final TrackApi trackApi;
+    private final AsyncTrackApi batchingAsyncTrackApi;
+
+    public BatchingTrackApi(final TrackApi trackApi, final AsyncTrackApi batchingAsyncTrackApi) {
+        this.trackApi = trackApi;
+        this.batchingAsyncTrackApi = batchingAsyncTrackApi;
+    }
+
+    @Override
+    public TrackFull getTrack(String trackId, Map<String, String> options) {
+        return AsyncHttpUtil.join(batchingAsyncTrackApi.getTrack(trackId, options));
+    }
+
+    @Override
+    public TrackFullCollection getTracks(List<String> listOfTrackIds, Map<String, String> options) {
+        return trackApi.getTracks(listOfTrackIds, options);
+    }
+
+    @Override
+    public AudioFeatures getTrackAudioFeatures(String trackId) {
+        return AsyncHttpUtil.join(batchingAsyncTrackApi.getTrackAudioFeatures(trackId));
+    }
+
+    @Override
+    public AudioFeaturesCollection getTracksAudioFeatures(List<String> listOfTrackIds) {
+        return trackApi.getTracksAudioFeatures(listOfTrackIds);
+    }
+
+    @Override
+    public AudioAnalysis getTrackAudioAnalysis(String trackId) {
+        return trackApi.getTrackAudioAnalysis(trackId);
+    }
+
+    @Override
+    public ColumnarAudioAnalysis getTrackColumnarAudioAnalysis(String trackId) {
+        return trackApi.getTrackColumnarAudioAnalysis(trackId);
+    }
+
+    @Override
+    public void streamTrackAudioAnalysis(String trackId, AudioAnalysisVisitor visitor) {
+        trackApi.streamTrackAudioAnalysis(trackId, visitor);
+    }
+}
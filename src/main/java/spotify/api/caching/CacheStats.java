@@ -0,0 +1,69 @@
+package spotify.api.caching;
+
+/**
+ * Snapshot of the statistics of a {@link CatalogCache}.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long entryCount;
+    private final long weight;
+
+    CacheStats(final long hitCount, final long missCount, final long evictionCount, final long entryCount, final long weight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.entryCount = entryCount;
+        this.weight = weight;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the amount of entries that have been removed to make room for other entries
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * @return the estimated size of all cached entries in bytes
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return the ratio of lookups that have been served from the cache, {@code 0} when there have been no lookups
+     */
+    public double getHitRate() {
+        final long requestCount = hitCount + missCount;
+
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", entryCount=" + entryCount +
+                ", weight=" + weight +
+                '}';
+    }
+}
@@ -0,0 +1,116 @@
+package spotify.api.caching;
+
+import spotify.config.CacheConfig;
+import spotify.models.albums.AlbumFull;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.paging.Paging;
+import spotify.models.shows.ShowFull;
+import spotify.models.tracks.TrackFull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * The types of catalog entities that can be cached, together with the time to live that applies to them and an
+ * estimate of the bytes that an entity of the type takes.
+ * <p>
+ * The estimate counts the items that make an entity large, such as the tracks of an album or the segments of an audio
+ * analysis, and multiplies them by the typical size of such an item. It never looks at the strings of an entity, so it
+ * takes no time next to the request that has loaded the entity.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+enum CachedEntityType {
+    TRACK(CacheConfig::getTrackTtl) {
+        @Override
+        long weigh(final Object entity) {
+            return 2048 + 256L * sizeOf(((TrackFull) entity).getArtists());
+        }
+    },
+    ALBUM(CacheConfig::getAlbumTtl) {
+        @Override
+        long weigh(final Object entity) {
+            final AlbumFull album = (AlbumFull) entity;
+
+            return 3072 + 256L * sizeOf(album.getArtists()) + 1536L * sizeOf(album.getTracks());
+        }
+    },
+    ARTIST(CacheConfig::getArtistTtl) {
+        @Override
+        long weigh(final Object entity) {
+            return 1536;
+        }
+    },
+    SHOW(CacheConfig::getShowTtl) {
+        @Override
+        long weigh(final Object entity) {
+            return 4096 + 2048L * sizeOf(((ShowFull) entity).getEpisodes());
+        }
+    },
+    SHOW_SIMPLIFIED(CacheConfig::getShowTtl) {
+        @Override
+        long weigh(final Object entity) {
+            return 4096;
+        }
+    },
+    EPISODE(CacheConfig::getEpisodeTtl) {
+        @Override
+        long weigh(final Object entity) {
+            return 6144;
+        }
+    },
+    AUDIO_FEATURES(CacheConfig::getAudioFeaturesTtl) {
+        @Override
+        long weigh(final Object entity) {
+            return 512;
+        }
+    },
+    AUDIO_ANALYSIS(CacheConfig::getAudioAnalysisTtl) {
+        @Override
+        long weigh(final Object entity) {
+            final AudioAnalysis audioAnalysis = (AudioAnalysis) entity;
+            final long timeIntervals = sizeOf(audioAnalysis.getBars()) + sizeOf(audioAnalysis.getBeats()) + sizeOf(audioAnalysis.getTatums());
+
+            // a segment holds two lists of twelve boxed floats
+            return 1024 + 96L * timeIntervals + 256L * sizeOf(audioAnalysis.getSections()) + 768L * sizeOf(audioAnalysis.getSegments());
+        }
+    },
+    COLUMNAR_AUDIO_ANALYSIS(CacheConfig::getAudioAnalysisTtl) {
+        @Override
+        long weigh(final Object entity) {
+            final ColumnarAudioAnalysis audioAnalysis = (ColumnarAudioAnalysis) entity;
+            final long timeIntervals = (long) audioAnalysis.getBars().size() + audioAnalysis.getBeats().size() + audioAnalysis.getTatums().size();
+
+            // a time interval takes three floats, a segment takes seven floats next to its pitches and timbre
+            return 1024 + 12L * timeIntervals + 256L * sizeOf(audioAnalysis.getSections())
+                    + 4L * (7 + 2 * ColumnarAudioAnalysis.VECTOR_LENGTH) * audioAnalysis.getSegments().size();
+        }
+    };
+
+    private final Function<CacheConfig, Duration> timeToLive;
+
+    CachedEntityType(final Function<CacheConfig, Duration> timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    Duration getTimeToLive(final CacheConfig cacheConfig) {
+        return timeToLive.apply(cacheConfig);
+    }
+
+    /**
+     * @param entity an entity of this type
+     * @return the estimated amount of bytes that the entity takes
+     */
+    abstract long weigh(Object entity);
+
+    private static int sizeOf(final Collection<?> collection) {
+        return collection == null ? 0 : collection.size();
+    }
+
+    private static int sizeOf(final Paging<?> page) {
+        return page == null ? 0 : sizeOf(page.getItems());
+    }
+}
@@ -0,0 +1,46 @@
+package spotify.api.caching;
+
+import spotify.api.interfaces.AlbumApi;
+import spotify.models.albums.AlbumFull;
+import spotify.models.albums.AlbumFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackSimplified;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link AlbumApi} that serves albums from a {@link CatalogCache}. Lookups of multiple albums only request the albums
+ * that are not cached.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class CachingAlbumApi implements AlbumApi {
+    private final AlbumApi albumApi;
+    private final CatalogCache catalogCache;
+
+    public CachingAlbumApi(final AlbumApi albumApi, final CatalogCache catalogCache) {
+        this.albumApi = albumApi;
+        this.catalogCache = catalogCache;
+    }
+
+    @Override
+    public AlbumFull getAlbum(String albumId, Map<String, String> options) {
+        return catalogCache.get(CachedEntityType.ALBUM, albumId, options, () -> albumApi.getAlbum(albumId, options));
+    }
+
+    @Override
+    public AlbumFullCollection getAlbums(List<String> listOfAlbumIds, Map<String, String> options) {
+        final AlbumFullCollection albumFullCollection = new AlbumFullCollection();
+        albumFullCollection.setAlbums(catalogCache.getAll(CachedEntityType.ALBUM, listOfAlbumIds, options,
+                albumIds -> albumApi.getAlbums(albumIds, options).getAlbums()));
+
+        return albumFullCollection;
+    }
+
+    @Override
+    public Paging<TrackSimplified> getAlbumTracks(String albumId, Map<String, String> options) {
+        return albumApi.getAlbumTracks(albumId, options);
+    }
+}
@@ -0,0 +1,59 @@
+package spotify.api.caching;
+
+import spotify.api.enums.AlbumType;
+import spotify.api.interfaces.ArtistApi;
+import spotify.models.albums.AlbumSimplified;
+import spotify.models.artists.ArtistFull;
+import spotify.models.artists.ArtistFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackFullCollection;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ArtistApi} that serves artists from a {@link CatalogCache}. Lookups of multiple artists only request the
+ * artists that are not cached.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class CachingArtistApi implements ArtistApi {
+    private final ArtistApi artistApi;
+    private final CatalogCache catalogCache;
+
+    public CachingArtistApi(final ArtistApi artistApi, final CatalogCache catalogCache) {
+        this.artistApi = artistApi;
+        this.catalogCache = catalogCache;
+    }
+
+    @Override
+    public ArtistFull getArtist(String artistId) {
+        return catalogCache.get(CachedEntityType.ARTIST, artistId, Collections.emptyMap(), () -> artistApi.getArtist(artistId));
+    }
+
+    @Override
+    public Paging<AlbumSimplified> getArtistAlbums(String artistId, List<AlbumType> listOfAlbumTypes, Map<String, String> options) {
+        return artistApi.getArtistAlbums(artistId, listOfAlbumTypes, options);
+    }
+
+    @Override
+    public TrackFullCollection getArtistTopTracks(String artistId, Map<String, String> options) {
+        return artistApi.getArtistTopTracks(artistId, options);
+    }
+
+    @Override
+    public ArtistFullCollection getRelatedArtists(String artistId) {
+        return artistApi.getRelatedArtists(artistId);
+    }
+
+    @Override
+    public ArtistFullCollection getArtists(List<String> listOfArtistIds) {
+        final ArtistFullCollection artistFullCollection = new ArtistFullCollection();
+        artistFullCollection.setArtists(catalogCache.getAll(CachedEntityType.ARTIST, listOfArtistIds, Collections.emptyMap(),
+                artistIds -> artistApi.getArtists(artistIds).getArtists()));
+
+        return artistFullCollection;
+    }
+}
@@ -0,0 +1,39 @@
+package spotify.api.caching;
+
+import spotify.api.interfaces.EpisodeApi;
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.episodes.EpisodeFullCollection;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link EpisodeApi} that serves episodes from a {@link CatalogCache}. Lookups of multiple episodes only request the
+ * episodes that are not cached.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class CachingEpisodeApi implements EpisodeApi {
+    private final EpisodeApi episodeApi;
+    private final CatalogCache catalogCache;
+
+    public CachingEpisodeApi(final EpisodeApi episodeApi, final CatalogCache catalogCache) {
+        this.episodeApi = episodeApi;
+        this.catalogCache = catalogCache;
+    }
+
+    @Override
+    public EpisodeFull getEpisode(String episodeId, Map<String, String> options) {
+        return catalogCache.get(CachedEntityType.EPISODE, episodeId, options, () -> episodeApi.getEpisode(episodeId, options));
+    }
+
+    @Override
+    public EpisodeFullCollection getEpisodes(List<String> listOfEpisodeIds, Map<String, String> options) {
+        final EpisodeFullCollection episodeFullCollection = new EpisodeFullCollection();
+        episodeFullCollection.setEpisodes(catalogCache.getAll(CachedEntityType.EPISODE, listOfEpisodeIds, options,
+                episodeIds -> episodeApi.getEpisodes(episodeIds, options).getEpisodes()));
+
+        return episodeFullCollection;
+    }
+}
@@ -0,0 +1,255 @@
+package spotify.api.caching;
+
+import spotify.api.interfaces.PlaylistApi;
+import spotify.api.paging.Pages;
+import spotify.api.playlists.PlaylistItems;
+import spotify.config.ApiUrl;
+import spotify.models.generic.Image;
+import spotify.models.paging.Paging;
+import spotify.models.playlists.PlaylistFull;
+import spotify.models.playlists.PlaylistSimplified;
+import spotify.models.playlists.PlaylistTrack;
+import spotify.models.playlists.Snapshot;
+import spotify.models.playlists.requests.CreateUpdatePlaylistRequestBody;
+import spotify.models.playlists.requests.DeleteItemsPlaylistRequestBody;
+import spotify.models.playlists.requests.ReorderPlaylistItemsRequestBody;
+
+import java.util.*;
+
+/**
+ * {@link PlaylistApi} that serves playlists and their items from a {@link PlaylistCache} while their snapshot has not
+ * changed. Listing playlists tells the cache their latest snapshots.
+ * <p>
+ * A playlist is only cached with all its items by {@link #getAllPlaylistTracks(String)}, or when a fetched playlist
+ * holds all its items in its first page. Any other request for a playlist or a page of items that is not cached is
+ * passed on as it is, so a single page never costs the requests of all pages. Only requests without options, apart
+ * from the offset and limit of the items, are served from the cache.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class CachingPlaylistApi implements PlaylistApi {
+    private static final Set<String> PAGING_OPTIONS = new HashSet<>(Arrays.asList("offset", "limit"));
+
+    private final PlaylistApi playlistApi;
+    private final PlaylistCache playlistCache;
+
+    public CachingPlaylistApi(final PlaylistApi playlistApi, final PlaylistCache playlistCache) {
+        this.playlistApi = playlistApi;
+        this.playlistCache = playlistCache;
+    }
+
+    @Override
+    public Paging<PlaylistSimplified> getPlaylists(Map<String, String> options) {
+        return observe(playlistApi.getPlaylists(options));
+    }
+
+    @Override
+    public Paging<PlaylistSimplified> getUserPlaylists(String userId, Map<String, String> options) {
+        return observe(playlistApi.getUserPlaylists(userId, options));
+    }
+
+    @Override
+    public List<Image> getPlaylistCoverImages(String playlistId) {
+        return playlistApi.getPlaylistCoverImages(playlistId);
+    }
+
+    @Override
+    public PlaylistFull getPlaylist(String playlistId, Map<String, String> options) {
+        if (options != null && !options.isEmpty()) {
+            return playlistApi.getPlaylist(playlistId, options);
+        }
+
+        final PlaylistCache.CachedPlaylist cachedPlaylist = playlistCache.getCurrent(playlistId);
+
+        if (cachedPlaylist != null) {
+            return toPlaylistFull(cachedPlaylist);
+        }
+
+        final PlaylistFull playlist = playlistApi.getPlaylist(playlistId, options);
+
+        if (playlist != null && playlist.getTracks() != null && playlist.getTracks().getItems() != null
+                && playlist.getTracks().getOffset() == 0 && playlist.getTracks().getNext() == null) {
+            playlistCache.put(playlist, playlist.getTracks().getItems());
+        } else if (playlist != null) {
+            playlistCache.observeSnapshot(playlist.getId(), playlist.getSnapshotId());
+        }
+
+        return playlist;
+    }
+
+    @Override
+    public Paging<PlaylistTrack> getPlaylistTracks(String playlistId, Map<String, String> options) {
+        if (options != null && !PAGING_OPTIONS.containsAll(options.keySet())) {
+            return playlistApi.getPlaylistTracks(playlistId, options);
+        }
+
+        final PlaylistCache.CachedPlaylist cachedPlaylist = playlistCache.getCurrent(playlistId);
+
+        if (cachedPlaylist == null) {
+            return playlistApi.getPlaylistTracks(playlistId, options);
+        }
+
+        final Map<String, String> pagingOptions = options == null ? Collections.emptyMap() : options;
+
+        return toPage(playlistId,
+                cachedPlaylist.getItems(),
+                Integer.parseInt(pagingOptions.getOrDefault("offset", "0")),
+                Integer.parseInt(pagingOptions.getOrDefault("limit", "100")));
+    }
+
+    /**
+     * Same as {@link #getPlaylistTracks(String, Map)}, for callers that go on to read all pages. When the page can be
+     * served from the cache, but the playlist is not cached yet, all its items are loaded and cached first with
+     * {@link #getAllPlaylistTracks(String)}, so the other pages are served from the cache as well.
+     *
+     * @param playlistId the id of the playlist
+     * @param options    the options of the page
+     * @return the page of items
+     */
+    public Paging<PlaylistTrack> getPlaylistTracksCachingAll(String playlistId, Map<String, String> options) {
+        if (options == null || PAGING_OPTIONS.containsAll(options.keySet())) {
+            getAllPlaylistTracks(playlistId);
+        }
+
+        return getPlaylistTracks(playlistId, options);
+    }
+
+    /**
+     * Returns all items of the playlist. When they are not cached, the playlist and all its pages of items are
+     * requested, up to four pages at the same time, and cached.
+     *
+     * @param playlistId the id of the playlist
+     * @return all items of the latest snapshot of the playlist, which must not be modified
+     */
+    public List<PlaylistTrack> getAllPlaylistTracks(String playlistId) {
+        final PlaylistCache.CachedPlaylist cachedPlaylist = playlistCache.getCurrent(playlistId);
+
+        if (cachedPlaylist != null) {
+            return cachedPlaylist.getItems();
+        }
+
+        final List<PlaylistTrack> items = new ArrayList<>();
+        final PlaylistFull playlist = PlaylistItems.requestAll(playlistApi, playlistId, items);
+
+        if (playlist == null || playlist.getTracks() == null || playlist.getTracks().getItems() == null) {
+            return Collections.emptyList();
+        }
+
+        playlistCache.put(playlist, items);
+
+        return Collections.unmodifiableList(items);
+    }
+
+    @Override
+    public Snapshot addItemToPlaylist(List<String> listOfObjectUris, String playlistId, int startPositionToInsert) {
+        final Snapshot snapshot = playlistApi.addItemToPlaylist(listOfObjectUris, playlistId, startPositionToInsert);
+        playlistCache.dropItems(playlistId, snapshotIdOf(snapshot));
+
+        return snapshot;
+    }
+
+    @Override
+    public void createPlaylist(String userId, CreateUpdatePlaylistRequestBody requestBody) {
+        playlistApi.createPlaylist(userId, requestBody);
+    }
+
+    @Override
+    public void updatePlaylist(String playlistId, CreateUpdatePlaylistRequestBody requestBody) {
+        playlistApi.updatePlaylist(playlistId, requestBody);
+        playlistCache.invalidate(playlistId);
+    }
+
+    @Override
+    public Snapshot reorderPlaylistItems(String playlistId, ReorderPlaylistItemsRequestBody requestBody) {
+        final Snapshot snapshot = playlistApi.reorderPlaylistItems(playlistId, requestBody);
+        playlistCache.applyReorder(playlistId,
+                requestBody.getSnapshotId(),
+                requestBody.getRangeStart(),
+                requestBody.getRangeLength(),
+                requestBody.getInsertBefore(),
+                snapshotIdOf(snapshot));
+
+        return snapshot;
+    }
+
+    @Override
+    public void replacePlaylistItems(String playlistId, List<String> listOfItemUris) {
+        playlistApi.replacePlaylistItems(playlistId, listOfItemUris);
+        playlistCache.invalidate(playlistId);
+    }
+
+    @Override
+    public void uploadCoverImageToPlaylist(String playlistId, String base64EncodedJpegImage) {
+        playlistApi.uploadCoverImageToPlaylist(playlistId, base64EncodedJpegImage);
+        playlistCache.invalidate(playlistId);
+    }
+
+    @Override
+    public Snapshot deleteItemsFromPlaylist(String playlistId, DeleteItemsPlaylistRequestBody items) {
+        final Snapshot snapshot = playlistApi.deleteItemsFromPlaylist(playlistId, items);
+        playlistCache.applyDelete(playlistId, items.getSnapshotId(), items.getTracks(), snapshotIdOf(snapshot));
+
+        return snapshot;
+    }
+
+    private Paging<PlaylistSimplified> observe(final Paging<PlaylistSimplified> playlists) {
+        if (playlists != null && playlists.getItems() != null) {
+            for (PlaylistSimplified playlist : playlists.getItems()) {
+                if (playlist != null) {
+                    playlistCache.observeSnapshot(playlist.getId(), playlist.getSnapshotId());
+                }
+            }
+        }
+
+        return playlists;
+    }
+
+    private static PlaylistFull toPlaylistFull(final PlaylistCache.CachedPlaylist cachedPlaylist) {
+        final PlaylistFull cached = cachedPlaylist.getPlaylist();
+        final PlaylistFull playlist = new PlaylistFull();
+        playlist.setCollaborative(cached.isCollaborative());
+        playlist.setDescription(cached.getDescription());
+        playlist.setExternalUrls(cached.getExternalUrls());
+        playlist.setFollowers(cached.getFollowers());
+        playlist.setHref(cached.getHref());
+        playlist.setId(cached.getId());
+        playlist.setImages(cached.getImages());
+        playlist.setName(cached.getName());
+        playlist.setOwner(cached.getOwner());
+        playlist.setPublic(cached.isPublic());
+        playlist.setSnapshotId(cachedPlaylist.getSnapshotId());
+        playlist.setTracks(toPage(cached.getId(), cachedPlaylist.getItems(), 0, Pages.MAX_PLAYLIST_ITEMS_LIMIT));
+        playlist.setType(cached.getType());
+        playlist.setUri(cached.getUri());
+
+        return playlist;
+    }
+
+    private static Paging<PlaylistTrack> toPage(final String playlistId, final List<PlaylistTrack> items, final int offset, final int limit) {
+        if (offset < 0 || limit < 1) {
+            throw new IllegalArgumentException("The offset must not be negative and the limit must be at least 1!");
+        }
+
+        final int from = Math.min(offset, items.size());
+        final int to = Math.min(from + limit, items.size());
+        final Paging<PlaylistTrack> page = new Paging<>();
+        page.setItems(new ArrayList<>(items.subList(from, to)));
+        page.setHref(pageUrl(playlistId, offset, limit));
+        page.setLimit(limit);
+        page.setOffset(offset);
+        page.setTotal(items.size());
+        page.setNext(to < items.size() ? pageUrl(playlistId, to, limit) : null);
+        page.setPrevious(offset > 0 ? pageUrl(playlistId, Math.max(0, offset - limit), limit) : null);
+
+        return page;
+    }
+
+    private static String pageUrl(final String playlistId, final int offset, final int limit) {
+        return ApiUrl.API_URL_HTTPS + ApiUrl.VERSION + "playlists/" + playlistId + "/tracks?offset=" + offset + "&limit=" + limit;
+    }
+
+    private static String snapshotIdOf(final Snapshot snapshot) {
+        return snapshot == null ? null : snapshot.getSnapshotId();
+    }
+}
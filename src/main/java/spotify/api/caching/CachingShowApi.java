@@ -0,0 +1,46 @@
+package spotify.api.caching;
+
+import spotify.api.interfaces.ShowApi;
+import spotify.models.episodes.EpisodeSimplified;
+import spotify.models.paging.Paging;
+import spotify.models.shows.ShowFull;
+import spotify.models.shows.ShowSimplifiedCollection;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ShowApi} that serves shows from a {@link CatalogCache}. Lookups of multiple shows only request the shows
+ * that are not cached. Spotify returns simplified shows for those lookups, they are cached apart from the full shows.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class CachingShowApi implements ShowApi {
+    private final ShowApi showApi;
+    private final CatalogCache catalogCache;
+
+    public CachingShowApi(final ShowApi showApi, final CatalogCache catalogCache) {
+        this.showApi = showApi;
+        this.catalogCache = catalogCache;
+    }
+
+    @Override
+    public ShowFull getShow(String showId, Map<String, String> options) {
+        return catalogCache.get(CachedEntityType.SHOW, showId, options, () -> showApi.getShow(showId, options));
+    }
+
+    @Override
+    public Paging<EpisodeSimplified> getShowEpisodes(String showId, Map<String, String> options) {
+        return showApi.getShowEpisodes(showId, options);
+    }
+
+    @Override
+    public ShowSimplifiedCollection getShows(List<String> listOfShowIds, Map<String, String> options) {
+        final ShowSimplifiedCollection showSimplifiedCollection = new ShowSimplifiedCollection();
+        showSimplifiedCollection.setShows(catalogCache.getAll(CachedEntityType.SHOW_SIMPLIFIED, listOfShowIds, options,
+                showIds -> showApi.getShows(showIds, options).getShows()));
+
+        return showSimplifiedCollection;
+    }
+}
@@ -0,0 +1,74 @@
+package spotify.api.caching;
+
+import spotify.api.interfaces.TrackApi;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioAnalysisVisitor;
+import spotify.models.audio.AudioFeatures;
+import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackFullCollection;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TrackApi} that serves tracks, audio features and audio analyses from a {@link CatalogCache}. Lookups of
+ * multiple tracks only request the tracks that are not cached.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class CachingTrackApi implements TrackApi {
+    private final TrackApi trackApi;
+    private final CatalogCache catalogCache;
+
+    public CachingTrackApi(final TrackApi trackApi, final CatalogCache catalogCache) {
+        this.trackApi = trackApi;
+        this.catalogCache = catalogCache;
+    }
+
+    @Override
+    public TrackFull getTrack(String trackId, Map<String, String> options) {
+        return catalogCache.get(CachedEntityType.TRACK, trackId, options, () -> trackApi.getTrack(trackId, options));
+    }
+
+    @Override
+    public TrackFullCollection getTracks(List<String> listOfTrackIds, Map<String, String> options) {
+        final TrackFullCollection trackFullCollection = new TrackFullCollection();
+        trackFullCollection.setTracks(catalogCache.getAll(CachedEntityType.TRACK, listOfTrackIds, options,
+                trackIds -> trackApi.getTracks(trackIds, options).getTracks()));
+
+        return trackFullCollection;
+    }
+
+    @Override
+    public AudioFeatures getTrackAudioFeatures(String trackId) {
+        return catalogCache.get(CachedEntityType.AUDIO_FEATURES, trackId, Collections.emptyMap(), () -> trackApi.getTrackAudioFeatures(trackId));
+    }
+
+    @Override
+    public AudioFeaturesCollection getTracksAudioFeatures(List<String> listOfTrackIds) {
+        final AudioFeaturesCollection audioFeaturesCollection = new AudioFeaturesCollection();
+        audioFeaturesCollection.setAudioFeatures(catalogCache.getAll(CachedEntityType.AUDIO_FEATURES, listOfTrackIds, Collections.emptyMap(),
+                trackIds -> trackApi.getTracksAudioFeatures(trackIds).getAudioFeatures()));
+
+        return audioFeaturesCollection;
+    }
+
+    @Override
+    public AudioAnalysis getTrackAudioAnalysis(String trackId) {
+        return catalogCache.get(CachedEntityType.AUDIO_ANALYSIS, trackId, Collections.emptyMap(), () -> trackApi.getTrackAudioAnalysis(trackId));
+    }
+
+    @Override
+    public ColumnarAudioAnalysis getTrackColumnarAudioAnalysis(String trackId) {
+        return catalogCache.get(CachedEntityType.COLUMNAR_AUDIO_ANALYSIS, trackId, Collections.emptyMap(), () -> trackApi.getTrackColumnarAudioAnalysis(trackId));
+    }
+
+    @Override
+    public void streamTrackAudioAnalysis(String trackId, AudioAnalysisVisitor visitor) {
+        trackApi.streamTrackAudioAnalysis(trackId, visitor);
+    }
+}
@@ -0,0 +1,150 @@
+package spotify.api.caching;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.config.CacheConfig;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of catalog entities, shared by the caching APIs that it is passed to.
+ * <p>
+ * Entities are cached per id and per set of options, because options such as the market change the response.
+ * Requests for the market of the current user ({@code market=from_token}) are never cached, so a cache can be shared
+ * by the APIs of multiple users. The size of an entity is estimated from the amount of items that it holds, see
+ * {@link CachedEntityType#weigh(Object)}.
+ * <p>
+ * Cached entities are returned to every caller that asks for them, so they must not be modified.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class CatalogCache {
+    private final Logger logger = LoggerFactory.getLogger(CatalogCache.class);
+    private final CacheConfig cacheConfig;
+    private final TinyLfuCache<String, Object> cache;
+
+    public CatalogCache(final CacheConfig cacheConfig) {
+        this(cacheConfig, System::nanoTime);
+    }
+
+    CatalogCache(final CacheConfig cacheConfig, final LongSupplier ticker) {
+        this.cacheConfig = cacheConfig;
+        this.cache = new TinyLfuCache<>(cacheConfig.getMaxWeight(), ticker);
+    }
+
+    /**
+     * @return the statistics of this cache so far
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    /**
+     * Removes all cached entities.
+     */
+    public void invalidateAll() {
+        logger.debug("Invalidating all cached entities.");
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the cached entity of the id, or loads and caches it.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(final CachedEntityType entityType, final String id, final Map<String, String> options, final Supplier<T> loader) {
+        if (!isCacheable(entityType, options)) {
+            return loader.get();
+        }
+
+        final String key = createKey(entityType, id, options);
+        final T cachedEntity = (T) cache.get(key);
+
+        if (cachedEntity != null) {
+            logger.trace("Serving {} {} from the cache.", entityType, id);
+            return cachedEntity;
+        }
+
+        final T entity = loader.get();
+        put(entityType, key, entity);
+
+        return entity;
+    }
+
+    /**
+     * Returns the entities of the ids in the same order as the ids. The entities that are not cached are loaded with
+     * one call to the loader, which must return them in the same order as the ids it has been given.
+     */
+    @SuppressWarnings("unchecked")
+    <T> List<T> getAll(final CachedEntityType entityType,
+                       final List<String> ids,
+                       final Map<String, String> options,
+                       final Function<List<String>, List<T>> loader) {
+        if (!isCacheable(entityType, options)) {
+            return loader.apply(ids);
+        }
+
+        final Map<String, T> entitiesById = new HashMap<>();
+        final Set<String> missingIds = new LinkedHashSet<>();
+
+        for (String id : ids) {
+            if (entitiesById.containsKey(id) || missingIds.contains(id)) {
+                continue;
+            }
+
+            final T cachedEntity = (T) cache.get(createKey(entityType, id, options));
+
+            if (cachedEntity != null) {
+                entitiesById.put(id, cachedEntity);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        logger.trace("Serving {} of {} {} ids from the cache.", ids.size() - missingIds.size(), ids.size(), entityType);
+
+        if (!missingIds.isEmpty()) {
+            final List<String> idsToLoad = new ArrayList<>(missingIds);
+            final List<T> loadedEntities = loader.apply(idsToLoad);
+
+            if (loadedEntities == null || loadedEntities.size() != idsToLoad.size()) {
+                throw new IllegalStateException("Spotify has not returned an entity for every id!");
+            }
+
+            for (int i = 0; i < idsToLoad.size(); i++) {
+                final String id = idsToLoad.get(i);
+                final T entity = loadedEntities.get(i);
+                entitiesById.put(id, entity);
+                put(entityType, createKey(entityType, id, options), entity);
+            }
+        }
+
+        final List<T> entities = new ArrayList<>(ids.size());
+
+        for (String id : ids) {
+            entities.add(entitiesById.get(id));
+        }
+
+        return entities;
+    }
+
+    private void put(final CachedEntityType entityType, final String key, final Object entity) {
+        if (entity == null) {
+            return;
+        }
+
+        cache.put(key, entity, entityType.weigh(entity), entityType.getTimeToLive(cacheConfig).toNanos());
+    }
+
+    private boolean isCacheable(final CachedEntityType entityType, final Map<String, String> options) {
+        return !entityType.getTimeToLive(cacheConfig).isZero()
+                && (options == null || !"from_token".equals(options.get("market")));
+    }
+
+    private static String createKey(final CachedEntityType entityType, final String id, final Map<String, String> options) {
+        return entityType + ":" + id + (options == null || options.isEmpty() ? "" : new TreeMap<>(options).toString());
+    }
+}
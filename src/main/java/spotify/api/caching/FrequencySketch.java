@@ -0,0 +1,103 @@
+package spotify.api.caching;
+
+/**
+ * Count-min sketch that estimates how often a key has been requested, using four 4-bit counters per key.
+ * <p>
+ * All counters are halved once the amount of increments reaches ten times the width of the sketch, so keys that were
+ * popular a long time ago do not stay in the cache forever.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+class FrequencySketch {
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private long[] table;
+    private int sampleSize;
+    private int additions;
+
+    FrequencySketch() {
+        ensureCapacity(0);
+    }
+
+    /**
+     * Grows the sketch so it can tell the frequencies of the given amount of keys apart. Growing resets the counters.
+     *
+     * @param expectedKeys the amount of keys the sketch should be able to track
+     */
+    void ensureCapacity(final int expectedKeys) {
+        final int width = Integer.highestOneBit(Math.max(64, Math.min(expectedKeys, 1 << 26)) - 1) << 1;
+
+        if (table != null && table.length >= width) {
+            return;
+        }
+
+        table = new long[width];
+        sampleSize = 10 * width;
+        additions = 0;
+    }
+
+    int frequency(final Object key) {
+        final int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            final long indexHash = indexHash(hash, depth);
+            frequency = Math.min(frequency, (int) ((table[tableIndex(indexHash)] >>> counterOffset(indexHash)) & 0xfL));
+        }
+
+        return frequency;
+    }
+
+    void increment(final Object key) {
+        final int hash = spread(key.hashCode());
+        boolean incremented = false;
+
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            final long indexHash = indexHash(hash, depth);
+            final int index = tableIndex(indexHash);
+            final int offset = counterOffset(indexHash);
+
+            if (((table[index] >>> offset) & 0xfL) < MAX_COUNT) {
+                table[index] += 1L << offset;
+                incremented = true;
+            }
+        }
+
+        if (incremented && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+
+        additions /= 2;
+    }
+
+    private int tableIndex(final long indexHash) {
+        return (int) indexHash & (table.length - 1);
+    }
+
+    private static int counterOffset(final long indexHash) {
+        return (int) ((indexHash >>> 32) & 0xfL) << 2;
+    }
+
+    private static long indexHash(final int hash, final int depth) {
+        long indexHash = (hash + SEEDS[depth]) * SEEDS[depth];
+        indexHash += indexHash >>> 32;
+
+        return indexHash;
+    }
+
+    private static int spread(final int hashCode) {
+        int hash = hashCode * 0x9e3779b9;
+        hash ^= hash >>> 16;
+
+        return hash;
+    }
+}
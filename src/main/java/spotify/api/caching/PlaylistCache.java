@@ -0,0 +1,314 @@
+package spotify.api.caching;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.models.playlists.PlaylistFull;
+import spotify.models.playlists.PlaylistItem;
+import spotify.models.playlists.PlaylistTrack;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process cache of playlists and all their items, keyed by playlist id and snapshot id.
+ * <p>
+ * Every change to a playlist gives it a new snapshot id. The cache keeps the latest snapshot id that it has seen of
+ * every playlist, from the listings of playlists, from fetched playlists and from the changes made through a
+ * {@link CachingPlaylistApi}. The items of a playlist are only served while they belong to that snapshot; once a
+ * listing reports another snapshot, they are fetched again on the next request. The cache does not find changes on
+ * its own, so the playlists should be listed as often as changes by others must be noticed. To bound how long a change
+ * that has not been listed goes unnoticed, cached items are no longer served once they are older than the max age.
+ * <p>
+ * Reordering and removing items through the caching API update the cached items in place. Adding items keeps the new
+ * snapshot id, but drops the cached items, because the added items are only known by their URIs.
+ * <p>
+ * Cached playlists are returned to every API that the cache is passed to, so a cache should only be shared by the
+ * APIs of users that may see the same playlists. The least recently used playlists are evicted once the maximum amount
+ * of playlists is reached.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class PlaylistCache {
+    private static final int DEFAULT_MAX_PLAYLISTS = 1000;
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(10);
+
+    private final Logger logger = LoggerFactory.getLogger(PlaylistCache.class);
+    private final Map<String, Entry> entries;
+    private final long maxAgeNanos;
+    private final LongSupplier ticker;
+
+    public PlaylistCache() {
+        this(DEFAULT_MAX_PLAYLISTS);
+    }
+
+    /**
+     * @param maxPlaylists the maximum amount of playlists whose snapshot id or items are cached
+     */
+    public PlaylistCache(final int maxPlaylists) {
+        this(maxPlaylists, DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * @param maxPlaylists the maximum amount of playlists whose snapshot id or items are cached
+     * @param maxAge       how long the items of a playlist are served after they have been fetched
+     */
+    public PlaylistCache(final int maxPlaylists, final Duration maxAge) {
+        this(maxPlaylists, maxAge, System::nanoTime);
+    }
+
+    PlaylistCache(final int maxPlaylists, final Duration maxAge, final LongSupplier ticker) {
+        if (maxPlaylists < 1) {
+            throw new IllegalArgumentException("The maximum amount of playlists must be at least 1!");
+        }
+
+        if (maxAge == null || maxAge.isNegative() || maxAge.isZero()) {
+            throw new IllegalArgumentException("The max age must be positive!");
+        }
+
+        this.maxAgeNanos = maxAge.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > maxPlaylists;
+            }
+        };
+    }
+
+    /**
+     * @param playlistId the id of the playlist
+     * @return the latest snapshot id that has been seen of the playlist, or {@code null} when it is not known
+     */
+    public synchronized String getSnapshotId(final String playlistId) {
+        final Entry entry = entries.get(playlistId);
+
+        return entry == null ? null : entry.snapshotId;
+    }
+
+    /**
+     * @param playlistId the id of the playlist
+     * @return whether the items of the latest snapshot of the playlist are cached
+     */
+    public synchronized boolean isCached(final String playlistId) {
+        return getCurrent(playlistId) != null;
+    }
+
+    /**
+     * Removes the playlist, so it is fetched again on the next request.
+     *
+     * @param playlistId the id of the playlist
+     */
+    public synchronized void invalidate(final String playlistId) {
+        entries.remove(playlistId);
+    }
+
+    /**
+     * Removes all cached playlists.
+     */
+    public synchronized void invalidateAll() {
+        logger.debug("Invalidating all cached playlists.");
+        entries.clear();
+    }
+
+    /**
+     * Remembers the snapshot id that a listing or a change has reported. Cached items of another snapshot are
+     * no longer served.
+     */
+    synchronized void observeSnapshot(final String playlistId, final String snapshotId) {
+        if (playlistId == null || snapshotId == null) {
+            return;
+        }
+
+        final Entry entry = entries.computeIfAbsent(playlistId, id -> new Entry());
+
+        if (!snapshotId.equals(entry.snapshotId)) {
+            logger.trace("Playlist {} has changed to snapshot {}.", playlistId, snapshotId);
+            entry.snapshotId = snapshotId;
+        }
+    }
+
+    /**
+     * @return the cached playlist and items of the latest snapshot, or {@code null} when they are not cached or older
+     * than the max age
+     */
+    synchronized CachedPlaylist getCurrent(final String playlistId) {
+        final Entry entry = entries.get(playlistId);
+
+        if (entry == null || entry.playlist == null || !entry.playlist.getSnapshotId().equals(entry.snapshotId)) {
+            return null;
+        }
+
+        if (ticker.getAsLong() - entry.playlist.fetchedNanos >= maxAgeNanos) {
+            logger.trace("Items of playlist {} have passed the max age.", playlistId);
+            entry.playlist = null;
+            return null;
+        }
+
+        return entry.playlist;
+    }
+
+    /**
+     * Caches the playlist with all its items, as the latest snapshot of the playlist.
+     */
+    synchronized void put(final PlaylistFull playlist, final List<PlaylistTrack> items) {
+        if (playlist == null || playlist.getId() == null || playlist.getSnapshotId() == null) {
+            return;
+        }
+
+        final Entry entry = entries.computeIfAbsent(playlist.getId(), id -> new Entry());
+        entry.snapshotId = playlist.getSnapshotId();
+        entry.playlist = new CachedPlaylist(playlist, playlist.getSnapshotId(), items, ticker.getAsLong());
+    }
+
+    /**
+     * Moves the cached items the way a reorder request has, and moves them to the new snapshot. When the items are
+     * not of the snapshot that the request was based on, they are dropped instead.
+     */
+    synchronized void applyReorder(final String playlistId,
+                                   final String baseSnapshotId,
+                                   final int rangeStart,
+                                   final int rangeLength,
+                                   final int insertBefore,
+                                   final String newSnapshotId) {
+        final CachedPlaylist current = getChangeable(playlistId, baseSnapshotId);
+
+        if (current != null
+                && rangeStart >= 0 && rangeLength >= 0 && rangeStart + rangeLength <= current.items.size()
+                && insertBefore >= 0 && insertBefore <= current.items.size()) {
+            final List<PlaylistTrack> items = new ArrayList<>(current.items);
+            final List<PlaylistTrack> range = new ArrayList<>(items.subList(rangeStart, rangeStart + rangeLength));
+            items.subList(rangeStart, rangeStart + rangeLength).clear();
+            items.addAll(insertBefore > rangeStart ? insertBefore - rangeLength : insertBefore, range);
+
+            replace(playlistId, current, items, newSnapshotId);
+        } else {
+            dropItems(playlistId, newSnapshotId);
+        }
+    }
+
+    /**
+     * Removes the cached items the way a delete request has, and moves them to the new snapshot. When the items are
+     * not of the snapshot that the request was based on, they are dropped instead.
+     */
+    synchronized void applyDelete(final String playlistId,
+                                  final String baseSnapshotId,
+                                  final List<PlaylistItem> deletedItems,
+                                  final String newSnapshotId) {
+        final CachedPlaylist current = getChangeable(playlistId, baseSnapshotId);
+
+        if (current == null || deletedItems == null) {
+            dropItems(playlistId, newSnapshotId);
+            return;
+        }
+
+        final Set<String> deletedEverywhere = new HashSet<>();
+        final Map<Integer, String> deletedAtPosition = new HashMap<>();
+
+        for (PlaylistItem deletedItem : deletedItems) {
+            if (deletedItem.getPositions() == null || deletedItem.getPositions().length == 0) {
+                deletedEverywhere.add(deletedItem.getUri());
+            } else {
+                for (int position : deletedItem.getPositions()) {
+                    deletedAtPosition.put(position, deletedItem.getUri());
+                }
+            }
+        }
+
+        final List<PlaylistTrack> items = new ArrayList<>(current.items.size());
+
+        for (int i = 0; i < current.items.size(); i++) {
+            final String uri = uriOf(current.items.get(i));
+
+            if (!deletedEverywhere.contains(uri) && !Objects.equals(deletedAtPosition.get(i), uri)) {
+                items.add(current.items.get(i));
+            }
+        }
+
+        replace(playlistId, current, items, newSnapshotId);
+    }
+
+    /**
+     * Keeps the new snapshot id of a change that cannot be applied to the cached items, and drops the items.
+     */
+    synchronized void dropItems(final String playlistId, final String newSnapshotId) {
+        final Entry entry = entries.get(playlistId);
+
+        if (entry != null) {
+            entry.playlist = null;
+        }
+
+        if (newSnapshotId == null) {
+            entries.remove(playlistId);
+        } else {
+            observeSnapshot(playlistId, newSnapshotId);
+        }
+    }
+
+    private CachedPlaylist getChangeable(final String playlistId, final String baseSnapshotId) {
+        final CachedPlaylist current = getCurrent(playlistId);
+
+        if (current == null || (baseSnapshotId != null && !baseSnapshotId.equals(current.snapshotId))) {
+            return null;
+        }
+
+        return current;
+    }
+
+    private void replace(final String playlistId,
+                         final CachedPlaylist current,
+                         final List<PlaylistTrack> items,
+                         final String newSnapshotId) {
+        if (newSnapshotId == null) {
+            entries.remove(playlistId);
+            return;
+        }
+
+        final Entry entry = entries.get(playlistId);
+        entry.snapshotId = newSnapshotId;
+        entry.playlist = new CachedPlaylist(current.playlist, newSnapshotId, items, current.fetchedNanos);
+    }
+
+    static String uriOf(final PlaylistTrack playlistTrack) {
+        return playlistTrack == null || playlistTrack.getTrack() == null ? null : playlistTrack.getTrack().getUri();
+    }
+
+    private static class Entry {
+        private String snapshotId;
+        private CachedPlaylist playlist;
+    }
+
+    /**
+     * The playlist as it has been fetched, and all its items at one snapshot. Changes made through the caching API keep
+     * the moment at which the playlist has been fetched, so they do not extend its age.
+     */
+    static class CachedPlaylist {
+        private final PlaylistFull playlist;
+        private final String snapshotId;
+        private final List<PlaylistTrack> items;
+        private final long fetchedNanos;
+
+        private CachedPlaylist(final PlaylistFull playlist,
+                               final String snapshotId,
+                               final List<PlaylistTrack> items,
+                               final long fetchedNanos) {
+            this.playlist = playlist;
+            this.snapshotId = snapshotId;
+            this.items = Collections.unmodifiableList(new ArrayList<>(items));
+            this.fetchedNanos = fetchedNanos;
+        }
+
+        PlaylistFull getPlaylist() {
+            return playlist;
+        }
+
+        String getSnapshotId() {
+            return snapshotId;
+        }
+
+        List<PlaylistTrack> getItems() {
+            return items;
+        }
+    }
+}
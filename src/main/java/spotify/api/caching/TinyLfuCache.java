@@ -0,0 +1,253 @@
+package spotify.api.caching;
+
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * Weight bounded cache with W-TinyLFU eviction and a time to live per entry.
+ * <p>
+ * New entries enter a small LRU window. Entries that fall out of the window are only admitted to the main space when
+ * the frequency sketch estimates them to be requested more often than the entry they would replace, so a burst of
+ * one-off lookups can not flush the entries that are requested over and over again. The main space is split into a
+ * probation and a protected segment, entries are promoted to the protected segment when they are hit on probation.
+ * <p>
+ * Expired entries are removed when they are looked up or when they are chosen for eviction.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+class TinyLfuCache<K, V> {
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final long maxWeight;
+    private final long windowMaxWeight;
+    private final long protectedMaxWeight;
+    private final LongSupplier ticker;
+    private final FrequencySketch sketch = new FrequencySketch();
+    private final Map<K, Node<K, V>> data = new HashMap<>();
+    private final LinkedHashMap<K, Node<K, V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<K, V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<K, V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * @param maxWeight the maximum weight of all entries together
+     * @param ticker    source of the current time in nanoseconds
+     */
+    TinyLfuCache(final long maxWeight, final LongSupplier ticker) {
+        this.maxWeight = maxWeight;
+        this.windowMaxWeight = Math.max(1, (long) (maxWeight * WINDOW_RATIO));
+        this.protectedMaxWeight = (long) ((maxWeight - windowMaxWeight) * PROTECTED_RATIO);
+        this.ticker = ticker;
+    }
+
+    /**
+     * @return the value of the key, or {@code null} when it is not cached or has expired
+     */
+    synchronized V get(final K key) {
+        sketch.increment(key);
+        final Node<K, V> node = data.get(key);
+
+        if (node == null) {
+            missCount++;
+            return null;
+        }
+
+        if (node.isExpired(ticker.getAsLong())) {
+            remove(node);
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        onHit(node);
+
+        return node.value;
+    }
+
+    /**
+     * Caches the value, evicting other entries when the cache exceeds its maximum weight. A value that weighs more
+     * than the maximum weight is not cached.
+     *
+     * @param timeToLive how long the value may be served, in nanoseconds
+     */
+    synchronized void put(final K key, final V value, final long weight, final long timeToLive) {
+        final Node<K, V> existingNode = data.get(key);
+
+        if (existingNode != null) {
+            remove(existingNode);
+        }
+
+        if (weight > maxWeight) {
+            return;
+        }
+
+        final Node<K, V> node = new Node<>(key, value, weight, ticker.getAsLong() + timeToLive);
+        data.put(key, node);
+        window.put(key, node);
+        windowWeight += weight;
+        sketch.ensureCapacity(data.size());
+
+        evict();
+    }
+
+    synchronized void invalidateAll() {
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        windowWeight = 0;
+        probationWeight = 0;
+        protectedWeight = 0;
+    }
+
+    synchronized CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount, data.size(), getWeight());
+    }
+
+    private void onHit(final Node<K, V> node) {
+        switch (node.segment) {
+            case WINDOW:
+                window.get(node.key);
+                break;
+            case PROBATION:
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+                addToProtected(node);
+                break;
+            case PROTECTED:
+                protectedSegment.get(node.key);
+                break;
+        }
+    }
+
+    private void addToProtected(final Node<K, V> node) {
+        node.segment = Segment.PROTECTED;
+        protectedSegment.put(node.key, node);
+        protectedWeight += node.weight;
+
+        while (protectedWeight > protectedMaxWeight && protectedSegment.size() > 1) {
+            final Node<K, V> demotedNode = eldest(protectedSegment);
+            protectedSegment.remove(demotedNode.key);
+            protectedWeight -= demotedNode.weight;
+            addToProbation(demotedNode);
+        }
+    }
+
+    private void addToProbation(final Node<K, V> node) {
+        node.segment = Segment.PROBATION;
+        probation.put(node.key, node);
+        probationWeight += node.weight;
+    }
+
+    /**
+     * Moves the entries that overflow the window to probation as candidates, then lets each candidate compete with
+     * the eldest entry of the main space until the cache fits its maximum weight again.
+     */
+    private void evict() {
+        final Deque<Node<K, V>> candidates = new ArrayDeque<>();
+
+        while (windowWeight > windowMaxWeight) {
+            final Node<K, V> candidate = eldest(window);
+            window.remove(candidate.key);
+            windowWeight -= candidate.weight;
+            addToProbation(candidate);
+            candidates.add(candidate);
+        }
+
+        final long now = ticker.getAsLong();
+
+        while (getWeight() > maxWeight) {
+            final Node<K, V> victim = findVictim(candidates);
+            final Node<K, V> candidate = candidates.peekFirst();
+
+            if (candidate == null || victim == null) {
+                evict(victim != null ? victim : candidate != null ? candidates.pollFirst() : eldest(window));
+            } else if (candidate.isExpired(now) || !victim.isExpired(now) && sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                evict(candidates.pollFirst());
+            } else {
+                evict(victim);
+            }
+        }
+    }
+
+    /**
+     * @return the eldest entry of the main space that is not a candidate, or {@code null} when there is none
+     */
+    private Node<K, V> findVictim(final Deque<Node<K, V>> candidates) {
+        if (probation.size() > candidates.size()) {
+            return eldest(probation);
+        }
+
+        if (!protectedSegment.isEmpty()) {
+            return eldest(protectedSegment);
+        }
+
+        return null;
+    }
+
+    private void evict(final Node<K, V> node) {
+        remove(node);
+        evictionCount++;
+    }
+
+    private void remove(final Node<K, V> node) {
+        data.remove(node.key);
+
+        switch (node.segment) {
+            case WINDOW:
+                window.remove(node.key);
+                windowWeight -= node.weight;
+                break;
+            case PROBATION:
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+                break;
+            case PROTECTED:
+                protectedSegment.remove(node.key);
+                protectedWeight -= node.weight;
+                break;
+        }
+    }
+
+    private long getWeight() {
+        return windowWeight + probationWeight + protectedWeight;
+    }
+
+    private static <K, V> Node<K, V> eldest(final LinkedHashMap<K, Node<K, V>> segment) {
+        return segment.values().iterator().next();
+    }
+
+    private enum Segment {
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    private static class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long weight;
+        private final long expiresAt;
+        private Segment segment = Segment.WINDOW;
+
+        private Node(final K key, final V value, final long weight, final long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(final long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
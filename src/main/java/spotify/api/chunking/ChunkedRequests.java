@@ -0,0 +1,136 @@
+package spotify.api.chunking;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Splits a list of ids into chunks that an endpoint accepts and sends a request per chunk.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+final class ChunkedRequests {
+
+    private ChunkedRequests() {
+    }
+
+    /**
+     * Sends a request for every chunk of the ids, with at most the given amount of requests in flight at once.
+     * <p>
+     * The returned future fails with the exception of the first request that fails, after which no more requests are
+     * sent. Requests that have already been sent are not undone.
+     *
+     * @param ids                   the ids to be split
+     * @param chunkSize             the maximum amount of ids per request
+     * @param maxConcurrentRequests the maximum amount of requests in flight at once
+     * @param request               sends the request for one chunk
+     * @param <R>                   the type of the result of a request
+     * @return a future completing with the results of the requests in the order of the chunks
+     */
+    static <R> CompletableFuture<List<R>> fanOut(final List<String> ids,
+                                                 final int chunkSize,
+                                                 final int maxConcurrentRequests,
+                                                 final Function<List<String>, CompletableFuture<R>> request) {
+        final List<List<String>> chunks = new ArrayList<>();
+
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            chunks.add(new ArrayList<>(ids.subList(start, Math.min(start + chunkSize, ids.size()))));
+        }
+
+        final FanOut<R> fanOut = new FanOut<>(chunks, request);
+
+        if (chunks.isEmpty()) {
+            fanOut.future.complete(Collections.emptyList());
+        }
+
+        for (int i = 0; i < Math.min(maxConcurrentRequests, chunks.size()); i++) {
+            fanOut.sendNextChunk();
+        }
+
+        return fanOut.future;
+    }
+
+    /**
+     * Concatenates the lists of the chunk results in order.
+     *
+     * @param results   the results of the chunks
+     * @param getter    returns the list of a result, which may be {@code null}
+     * @param <R>       the type of the result of a request
+     * @param <E>       the type of the elements
+     * @return the concatenated list
+     */
+    static <R, E> List<E> concat(final List<R> results, final Function<R, List<E>> getter) {
+        final List<E> elements = new ArrayList<>();
+
+        for (R result : results) {
+            final List<E> part = result == null ? null : getter.apply(result);
+
+            if (part != null) {
+                elements.addAll(part);
+            }
+        }
+
+        return elements;
+    }
+
+    private static class FanOut<R> {
+        private final CompletableFuture<List<R>> future = new CompletableFuture<>();
+        private final List<List<String>> chunks;
+        private final Function<List<String>, CompletableFuture<R>> request;
+        private final AtomicReferenceArray<R> results;
+        private final AtomicInteger nextChunk = new AtomicInteger();
+        private final AtomicInteger remainingChunks;
+
+        private FanOut(final List<List<String>> chunks, final Function<List<String>, CompletableFuture<R>> request) {
+            this.chunks = chunks;
+            this.request = request;
+            this.results = new AtomicReferenceArray<>(chunks.size());
+            this.remainingChunks = new AtomicInteger(chunks.size());
+        }
+
+        private void sendNextChunk() {
+            final int index = nextChunk.getAndIncrement();
+
+            if (index >= chunks.size() || future.isDone()) {
+                return;
+            }
+
+            final CompletableFuture<R> chunkFuture;
+            try {
+                chunkFuture = request.apply(chunks.get(index));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                return;
+            }
+
+            chunkFuture.whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    future.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable);
+                    return;
+                }
+
+                results.set(index, result);
+
+                if (remainingChunks.decrementAndGet() == 0) {
+                    final List<R> orderedResults = new ArrayList<>(results.length());
+
+                    for (int i = 0; i < results.length(); i++) {
+                        orderedResults.add(results.get(i));
+                    }
+
+                    future.complete(orderedResults);
+                } else {
+                    sendNextChunk();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package spotify.api.chunking;
+
+import spotify.api.interfaces.AlbumApi;
+import spotify.api.interfaces.AsyncAlbumApi;
+import spotify.models.albums.AlbumFull;
+import spotify.models.albums.AlbumFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackSimplified;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link AlbumApi} that waits for a chunking {@link AsyncAlbumApi} to send id lists exceeding the maximum of an endpoint.
+ *
+ * @author Jiankai Zheng
+ * @see ChunkingAsyncAlbumApi
+ * @since 1.6.0
+ */
+public class ChunkingAlbumApi implements AlbumApi {
+    private final AlbumApi albumApi;
+    private final AsyncAlbumApi chunkingAsyncAlbumApi;
+
+    public ChunkingAlbumApi(final AlbumApi albumApi, final AsyncAlbumApi chunkingAsyncAlbumApi) {
+        this.albumApi = albumApi;
+        this.chunkingAsyncAlbumApi = chunkingAsyncAlbumApi;
+    }
+
+    @Override
+    public AlbumFull getAlbum(String albumId, Map<String, String> options) {
+        return albumApi.getAlbum(albumId, options);
+    }
+
+    @Override
+    public AlbumFullCollection getAlbums(List<String> listOfAlbumIds, Map<String, String> options) {
+        return AsyncHttpUtil.join(chunkingAsyncAlbumApi.getAlbums(listOfAlbumIds, options));
+    }
+
+    @Override
+    public Paging<TrackSimplified> getAlbumTracks(String albumId, Map<String, String> options) {
+        return albumApi.getAlbumTracks(albumId, options);
+    }
+}
@@ -0,0 +1,56 @@
+package spotify.api.chunking;
+
+import spotify.api.enums.AlbumType;
+import spotify.api.interfaces.ArtistApi;
+import spotify.api.interfaces.AsyncArtistApi;
+import spotify.models.albums.AlbumSimplified;
+import spotify.models.artists.ArtistFull;
+import spotify.models.artists.ArtistFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ArtistApi} that waits for a chunking {@link AsyncArtistApi} to send id lists exceeding the maximum of an endpoint.
+ *
+ * @author Jiankai Zheng
+ * @see ChunkingAsyncArtistApi
+ * @since 1.6.0
+ */
+public class ChunkingArtistApi implements ArtistApi {
+    private final ArtistApi artistApi;
+    private final AsyncArtistApi chunkingAsyncArtistApi;
+
+    public ChunkingArtistApi(final ArtistApi artistApi, final AsyncArtistApi chunkingAsyncArtistApi) {
+        this.artistApi = artistApi;
+        this.chunkingAsyncArtistApi = chunkingAsyncArtistApi;
+    }
+
+    @Override
+    public ArtistFull getArtist(String artistId) {
+        return artistApi.getArtist(artistId);
+    }
+
+    @Override
+    public Paging<AlbumSimplified> getArtistAlbums(String artistId, List<AlbumType> listOfAlbumTypes, Map<String, String> options) {
+        return artistApi.getArtistAlbums(artistId, listOfAlbumTypes, options);
+    }
+
+    @Override
+    public TrackFullCollection getArtistTopTracks(String artistId, Map<String, String> options) {
+        return artistApi.getArtistTopTracks(artistId, options);
+    }
+
+    @Override
+    public ArtistFullCollection getRelatedArtists(String artistId) {
+        return artistApi.getRelatedArtists(artistId);
+    }
+
+    @Override
+    public ArtistFullCollection getArtists(List<String> listOfArtistIds) {
+        return AsyncHttpUtil.join(chunkingAsyncArtistApi.getArtists(listOfArtistIds));
+    }
+}
@@ -0,0 +1,91 @@
+package spotify.api.chunking;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.impl.AsyncAlbumApiRetrofit;
+import spotify.api.interfaces.AsyncAlbumApi;
+import spotify.config.ChunkingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.albums.AlbumFull;
+import spotify.models.albums.AlbumFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackSimplified;
+import spotify.retrofit.services.AlbumService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncAlbumApi} that splits id lists exceeding the maximum of an endpoint into multiple requests and merges
+ * their results in the order of the ids.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class ChunkingAsyncAlbumApi implements AsyncAlbumApi {
+    private static final int MAX_ALBUMS_PER_REQUEST = 20;
+    private final Logger logger = LoggerFactory.getLogger(ChunkingAsyncAlbumApi.class);
+    private final AsyncAlbumApi asyncAlbumApi;
+    private final AccessTokenProvider accessTokenProvider;
+    private final AlbumService albumService;
+    private final int maxConcurrentRequests;
+
+    public ChunkingAsyncAlbumApi(final AccessTokenProvider accessTokenProvider, final ChunkingConfig chunkingConfig) {
+        this(new AsyncAlbumApiRetrofit(accessTokenProvider), accessTokenProvider, RetrofitHttpServiceFactory.getAlbumService(), chunkingConfig);
+    }
+
+    /**
+     * @param asyncAlbumApi       the API that the requests which do not need to be split are delegated to
+     * @param accessTokenProvider provider of the access token
+     * @param albumService        the service that the split requests are sent with
+     * @param chunkingConfig      configuration of the chunking
+     */
+    public ChunkingAsyncAlbumApi(final AsyncAlbumApi asyncAlbumApi,
+                                 final AccessTokenProvider accessTokenProvider,
+                                 final AlbumService albumService,
+                                 final ChunkingConfig chunkingConfig) {
+        this.asyncAlbumApi = asyncAlbumApi;
+        this.accessTokenProvider = accessTokenProvider;
+        this.albumService = albumService;
+        this.maxConcurrentRequests = chunkingConfig.getMaxConcurrentRequests();
+    }
+
+    @Override
+    public CompletableFuture<AlbumFull> getAlbum(String albumId, Map<String, String> options) {
+        return asyncAlbumApi.getAlbum(albumId, options);
+    }
+
+    @Override
+    public CompletableFuture<AlbumFullCollection> getAlbums(List<String> listOfAlbumIds, Map<String, String> options) {
+        if (listOfAlbumIds == null || listOfAlbumIds.size() <= MAX_ALBUMS_PER_REQUEST) {
+            return asyncAlbumApi.getAlbums(listOfAlbumIds, options);
+        }
+
+        final AsyncAlbumApi asyncAlbumApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} album ids into requests of at most {} ids.", listOfAlbumIds.size(), MAX_ALBUMS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfAlbumIds, MAX_ALBUMS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncAlbumApiWithAccessToken.getAlbums(chunk, options))
+                .thenApply(results -> {
+                    final AlbumFullCollection albumFullCollection = new AlbumFullCollection();
+                    albumFullCollection.setAlbums(ChunkedRequests.concat(results, AlbumFullCollection::getAlbums));
+
+                    return albumFullCollection;
+                });
+    }
+
+    @Override
+    public CompletableFuture<Paging<TrackSimplified>> getAlbumTracks(String albumId, Map<String, String> options) {
+        return asyncAlbumApi.getAlbumTracks(albumId, options);
+    }
+
+    /**
+     * The access token is resolved once on the calling thread, because the requests of the chunks are sent from the
+     * threads that complete the previous ones.
+     */
+    private AsyncAlbumApi withAccessToken(final String accessToken) {
+        return new AsyncAlbumApiRetrofit(accessToken, albumService);
+    }
+}
@@ -0,0 +1,103 @@
+package spotify.api.chunking;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.AlbumType;
+import spotify.api.impl.AsyncArtistApiRetrofit;
+import spotify.api.interfaces.AsyncArtistApi;
+import spotify.config.ChunkingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.albums.AlbumSimplified;
+import spotify.models.artists.ArtistFull;
+import spotify.models.artists.ArtistFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.retrofit.services.ArtistService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncArtistApi} that splits id lists exceeding the maximum of an endpoint into multiple requests and merges
+ * their results in the order of the ids.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class ChunkingAsyncArtistApi implements AsyncArtistApi {
+    private static final int MAX_ARTISTS_PER_REQUEST = 50;
+    private final Logger logger = LoggerFactory.getLogger(ChunkingAsyncArtistApi.class);
+    private final AsyncArtistApi asyncArtistApi;
+    private final AccessTokenProvider accessTokenProvider;
+    private final ArtistService artistService;
+    private final int maxConcurrentRequests;
+
+    public ChunkingAsyncArtistApi(final AccessTokenProvider accessTokenProvider, final ChunkingConfig chunkingConfig) {
+        this(new AsyncArtistApiRetrofit(accessTokenProvider), accessTokenProvider, RetrofitHttpServiceFactory.getArtistService(), chunkingConfig);
+    }
+
+    /**
+     * @param asyncArtistApi      the API that the requests which do not need to be split are delegated to
+     * @param accessTokenProvider provider of the access token
+     * @param artistService       the service that the split requests are sent with
+     * @param chunkingConfig      configuration of the chunking
+     */
+    public ChunkingAsyncArtistApi(final AsyncArtistApi asyncArtistApi,
+                                  final AccessTokenProvider accessTokenProvider,
+                                  final ArtistService artistService,
+                                  final ChunkingConfig chunkingConfig) {
+        this.asyncArtistApi = asyncArtistApi;
+        this.accessTokenProvider = accessTokenProvider;
+        this.artistService = artistService;
+        this.maxConcurrentRequests = chunkingConfig.getMaxConcurrentRequests();
+    }
+
+    @Override
+    public CompletableFuture<ArtistFull> getArtist(String artistId) {
+        return asyncArtistApi.getArtist(artistId);
+    }
+
+    @Override
+    public CompletableFuture<Paging<AlbumSimplified>> getArtistAlbums(String artistId, List<AlbumType> listOfAlbumTypes, Map<String, String> options) {
+        return asyncArtistApi.getArtistAlbums(artistId, listOfAlbumTypes, options);
+    }
+
+    @Override
+    public CompletableFuture<TrackFullCollection> getArtistTopTracks(String artistId, Map<String, String> options) {
+        return asyncArtistApi.getArtistTopTracks(artistId, options);
+    }
+
+    @Override
+    public CompletableFuture<ArtistFullCollection> getRelatedArtists(String artistId) {
+        return asyncArtistApi.getRelatedArtists(artistId);
+    }
+
+    @Override
+    public CompletableFuture<ArtistFullCollection> getArtists(List<String> listOfArtistIds) {
+        if (listOfArtistIds == null || listOfArtistIds.size() <= MAX_ARTISTS_PER_REQUEST) {
+            return asyncArtistApi.getArtists(listOfArtistIds);
+        }
+
+        final AsyncArtistApi asyncArtistApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} artist ids into requests of at most {} ids.", listOfArtistIds.size(), MAX_ARTISTS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfArtistIds, MAX_ARTISTS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncArtistApiWithAccessToken.getArtists(chunk))
+                .thenApply(results -> {
+                    final ArtistFullCollection artistFullCollection = new ArtistFullCollection();
+                    artistFullCollection.setArtists(ChunkedRequests.concat(results, ArtistFullCollection::getArtists));
+
+                    return artistFullCollection;
+                });
+    }
+
+    /**
+     * The access token is resolved once on the calling thread, because the requests of the chunks are sent from the
+     * threads that complete the previous ones.
+     */
+    private AsyncArtistApi withAccessToken(final String accessToken) {
+        return new AsyncArtistApiRetrofit(accessToken, artistService);
+    }
+}
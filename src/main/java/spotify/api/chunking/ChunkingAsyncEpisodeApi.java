@@ -0,0 +1,84 @@
+package spotify.api.chunking;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.impl.AsyncEpisodeApiRetrofit;
+import spotify.api.interfaces.AsyncEpisodeApi;
+import spotify.config.ChunkingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.episodes.EpisodeFullCollection;
+import spotify.retrofit.services.EpisodeService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncEpisodeApi} that splits id lists exceeding the maximum of an endpoint into multiple requests and merges
+ * their results in the order of the ids.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class ChunkingAsyncEpisodeApi implements AsyncEpisodeApi {
+    private static final int MAX_EPISODES_PER_REQUEST = 50;
+    private final Logger logger = LoggerFactory.getLogger(ChunkingAsyncEpisodeApi.class);
+    private final AsyncEpisodeApi asyncEpisodeApi;
+    private final AccessTokenProvider accessTokenProvider;
+    private final EpisodeService episodeService;
+    private final int maxConcurrentRequests;
+
+    public ChunkingAsyncEpisodeApi(final AccessTokenProvider accessTokenProvider, final ChunkingConfig chunkingConfig) {
+        this(new AsyncEpisodeApiRetrofit(accessTokenProvider), accessTokenProvider, RetrofitHttpServiceFactory.getEpisodeService(), chunkingConfig);
+    }
+
+    /**
+     * @param asyncEpisodeApi     the API that the requests which do not need to be split are delegated to
+     * @param accessTokenProvider provider of the access token
+     * @param episodeService      the service that the split requests are sent with
+     * @param chunkingConfig      configuration of the chunking
+     */
+    public ChunkingAsyncEpisodeApi(final AsyncEpisodeApi asyncEpisodeApi,
+                                   final AccessTokenProvider accessTokenProvider,
+                                   final EpisodeService episodeService,
+                                   final ChunkingConfig chunkingConfig) {
+        this.asyncEpisodeApi = asyncEpisodeApi;
+        this.accessTokenProvider = accessTokenProvider;
+        this.episodeService = episodeService;
+        this.maxConcurrentRequests = chunkingConfig.getMaxConcurrentRequests();
+    }
+
+    @Override
+    public CompletableFuture<EpisodeFull> getEpisode(String episodeId, Map<String, String> options) {
+        return asyncEpisodeApi.getEpisode(episodeId, options);
+    }
+
+    @Override
+    public CompletableFuture<EpisodeFullCollection> getEpisodes(List<String> listOfEpisodeIds, Map<String, String> options) {
+        if (listOfEpisodeIds == null || listOfEpisodeIds.size() <= MAX_EPISODES_PER_REQUEST) {
+            return asyncEpisodeApi.getEpisodes(listOfEpisodeIds, options);
+        }
+
+        final AsyncEpisodeApi asyncEpisodeApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} episode ids into requests of at most {} ids.", listOfEpisodeIds.size(), MAX_EPISODES_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfEpisodeIds, MAX_EPISODES_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncEpisodeApiWithAccessToken.getEpisodes(chunk, options))
+                .thenApply(results -> {
+                    final EpisodeFullCollection episodeFullCollection = new EpisodeFullCollection();
+                    episodeFullCollection.setEpisodes(ChunkedRequests.concat(results, EpisodeFullCollection::getEpisodes));
+
+                    return episodeFullCollection;
+                });
+    }
+
+    /**
+     * The access token is resolved once on the calling thread, because the requests of the chunks are sent from the
+     * threads that complete the previous ones.
+     */
+    private AsyncEpisodeApi withAccessToken(final String accessToken) {
+        return new AsyncEpisodeApiRetrofit(accessToken, episodeService);
+    }
+}
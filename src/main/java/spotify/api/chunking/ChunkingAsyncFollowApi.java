@@ -0,0 +1,134 @@
+package spotify.api.chunking;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.EntityType;
+import spotify.api.impl.AsyncFollowApiRetrofit;
+import spotify.api.interfaces.AsyncFollowApi;
+import spotify.config.ChunkingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.artists.ArtistFull;
+import spotify.models.paging.CursorBasedPaging;
+import spotify.retrofit.services.FollowService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@link AsyncFollowApi} that splits id lists exceeding the maximum of an endpoint into multiple requests and merges
+ * their results in the order of the ids.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class ChunkingAsyncFollowApi implements AsyncFollowApi {
+    private static final int MAX_ENTITIES_PER_REQUEST = 50;
+    private static final int MAX_USERS_PER_REQUEST = 5;
+    private final Logger logger = LoggerFactory.getLogger(ChunkingAsyncFollowApi.class);
+    private final AsyncFollowApi asyncFollowApi;
+    private final AccessTokenProvider accessTokenProvider;
+    private final FollowService followService;
+    private final int maxConcurrentRequests;
+
+    public ChunkingAsyncFollowApi(final AccessTokenProvider accessTokenProvider, final ChunkingConfig chunkingConfig) {
+        this(new AsyncFollowApiRetrofit(accessTokenProvider), accessTokenProvider, RetrofitHttpServiceFactory.getFollowService(), chunkingConfig);
+    }
+
+    /**
+     * @param asyncFollowApi      the API that the requests which do not need to be split are delegated to
+     * @param accessTokenProvider provider of the access token
+     * @param followService       the service that the split requests are sent with
+     * @param chunkingConfig      configuration of the chunking
+     */
+    public ChunkingAsyncFollowApi(final AsyncFollowApi asyncFollowApi,
+                                  final AccessTokenProvider accessTokenProvider,
+                                  final FollowService followService,
+                                  final ChunkingConfig chunkingConfig) {
+        this.asyncFollowApi = asyncFollowApi;
+        this.accessTokenProvider = accessTokenProvider;
+        this.followService = followService;
+        this.maxConcurrentRequests = chunkingConfig.getMaxConcurrentRequests();
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> isFollowing(EntityType entityType, List<String> listOfEntityIds) {
+        if (listOfEntityIds == null || listOfEntityIds.size() <= MAX_ENTITIES_PER_REQUEST) {
+            return asyncFollowApi.isFollowing(entityType, listOfEntityIds);
+        }
+
+        final AsyncFollowApi asyncFollowApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} entity ids into requests of at most {} ids.", listOfEntityIds.size(), MAX_ENTITIES_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfEntityIds, MAX_ENTITIES_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncFollowApiWithAccessToken.isFollowing(entityType, chunk))
+                .thenApply(results -> ChunkedRequests.concat(results, Function.identity()));
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> isFollowingPlaylist(String playlistId, List<String> listOfUserIds) {
+        if (listOfUserIds == null || listOfUserIds.size() <= MAX_USERS_PER_REQUEST) {
+            return asyncFollowApi.isFollowingPlaylist(playlistId, listOfUserIds);
+        }
+
+        final AsyncFollowApi asyncFollowApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} user ids into requests of at most {} ids.", listOfUserIds.size(), MAX_USERS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfUserIds, MAX_USERS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncFollowApiWithAccessToken.isFollowingPlaylist(playlistId, chunk))
+                .thenApply(results -> ChunkedRequests.concat(results, Function.identity()));
+    }
+
+    @Override
+    public CompletableFuture<Void> followEntities(EntityType entityType, List<String> listOfEntityIds) {
+        if (listOfEntityIds == null || listOfEntityIds.size() <= MAX_ENTITIES_PER_REQUEST) {
+            return asyncFollowApi.followEntities(entityType, listOfEntityIds);
+        }
+
+        final AsyncFollowApi asyncFollowApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} entity ids into requests of at most {} ids.", listOfEntityIds.size(), MAX_ENTITIES_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfEntityIds, MAX_ENTITIES_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncFollowApiWithAccessToken.followEntities(entityType, chunk))
+                .thenApply(results -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> followPlaylist(String playlistId, boolean setPlaylistPublic) {
+        return asyncFollowApi.followPlaylist(playlistId, setPlaylistPublic);
+    }
+
+    @Override
+    public CompletableFuture<CursorBasedPaging<ArtistFull>> getFollowedArtists(EntityType entityType, Map<String, String> options) {
+        return asyncFollowApi.getFollowedArtists(entityType, options);
+    }
+
+    @Override
+    public CompletableFuture<Void> unfollowEntities(EntityType entityType, List<String> listOfEntityIds) {
+        if (listOfEntityIds == null || listOfEntityIds.size() <= MAX_ENTITIES_PER_REQUEST) {
+            return asyncFollowApi.unfollowEntities(entityType, listOfEntityIds);
+        }
+
+        final AsyncFollowApi asyncFollowApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} entity ids into requests of at most {} ids.", listOfEntityIds.size(), MAX_ENTITIES_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfEntityIds, MAX_ENTITIES_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncFollowApiWithAccessToken.unfollowEntities(entityType, chunk))
+                .thenApply(results -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> unfollowPlaylist(String playlistId) {
+        return asyncFollowApi.unfollowPlaylist(playlistId);
+    }
+
+    /**
+     * The access token is resolved once on the calling thread, because the requests of the chunks are sent from the
+     * threads that complete the previous ones.
+     */
+    private AsyncFollowApi withAccessToken(final String accessToken) {
+        return new AsyncFollowApiRetrofit(accessToken, followService);
+    }
+}
@@ -0,0 +1,206 @@
+package spotify.api.chunking;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.impl.AsyncLibraryApiRetrofit;
+import spotify.api.interfaces.AsyncLibraryApi;
+import spotify.config.ChunkingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.albums.SavedAlbumFull;
+import spotify.models.paging.Paging;
+import spotify.models.shows.SavedShowSimplified;
+import spotify.models.tracks.SavedTrackFull;
+import spotify.retrofit.services.LibraryService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@link AsyncLibraryApi} that splits id lists exceeding the maximum of an endpoint into multiple requests and merges
+ * their results in the order of the ids.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class ChunkingAsyncLibraryApi implements AsyncLibraryApi {
+    private static final int MAX_ALBUMS_PER_REQUEST = 20;
+    private static final int MAX_SHOWS_PER_REQUEST = 50;
+    private static final int MAX_TRACKS_PER_REQUEST = 50;
+    private final Logger logger = LoggerFactory.getLogger(ChunkingAsyncLibraryApi.class);
+    private final AsyncLibraryApi asyncLibraryApi;
+    private final AccessTokenProvider accessTokenProvider;
+    private final LibraryService libraryService;
+    private final int maxConcurrentRequests;
+
+    public ChunkingAsyncLibraryApi(final AccessTokenProvider accessTokenProvider, final ChunkingConfig chunkingConfig) {
+        this(new AsyncLibraryApiRetrofit(accessTokenProvider), accessTokenProvider, RetrofitHttpServiceFactory.getLibraryService(), chunkingConfig);
+    }
+
+    /**
+     * @param asyncLibraryApi     the API that the requests which do not need to be split are delegated to
+     * @param accessTokenProvider provider of the access token
+     * @param libraryService      the service that the split requests are sent with
+     * @param chunkingConfig      configuration of the chunking
+     */
+    public ChunkingAsyncLibraryApi(final AsyncLibraryApi asyncLibraryApi,
+                                   final AccessTokenProvider accessTokenProvider,
+                                   final LibraryService libraryService,
+                                   final ChunkingConfig chunkingConfig) {
+        this.asyncLibraryApi = asyncLibraryApi;
+        this.accessTokenProvider = accessTokenProvider;
+        this.libraryService = libraryService;
+        this.maxConcurrentRequests = chunkingConfig.getMaxConcurrentRequests();
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> hasSavedAlbums(List<String> listOfAlbumIds) {
+        if (listOfAlbumIds == null || listOfAlbumIds.size() <= MAX_ALBUMS_PER_REQUEST) {
+            return asyncLibraryApi.hasSavedAlbums(listOfAlbumIds);
+        }
+
+        final AsyncLibraryApi asyncLibraryApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} album ids into requests of at most {} ids.", listOfAlbumIds.size(), MAX_ALBUMS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfAlbumIds, MAX_ALBUMS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncLibraryApiWithAccessToken.hasSavedAlbums(chunk))
+                .thenApply(results -> ChunkedRequests.concat(results, Function.identity()));
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> hasSavedShows(List<String> listOfShowIds) {
+        if (listOfShowIds == null || listOfShowIds.size() <= MAX_SHOWS_PER_REQUEST) {
+            return asyncLibraryApi.hasSavedShows(listOfShowIds);
+        }
+
+        final AsyncLibraryApi asyncLibraryApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} show ids into requests of at most {} ids.", listOfShowIds.size(), MAX_SHOWS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfShowIds, MAX_SHOWS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncLibraryApiWithAccessToken.hasSavedShows(chunk))
+                .thenApply(results -> ChunkedRequests.concat(results, Function.identity()));
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> hasSavedTracks(List<String> listOfTrackIds) {
+        if (listOfTrackIds == null || listOfTrackIds.size() <= MAX_TRACKS_PER_REQUEST) {
+            return asyncLibraryApi.hasSavedTracks(listOfTrackIds);
+        }
+
+        final AsyncLibraryApi asyncLibraryApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} track ids into requests of at most {} ids.", listOfTrackIds.size(), MAX_TRACKS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfTrackIds, MAX_TRACKS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncLibraryApiWithAccessToken.hasSavedTracks(chunk))
+                .thenApply(results -> ChunkedRequests.concat(results, Function.identity()));
+    }
+
+    @Override
+    public CompletableFuture<Paging<SavedAlbumFull>> getSavedAlbums(Map<String, String> options) {
+        return asyncLibraryApi.getSavedAlbums(options);
+    }
+
+    @Override
+    public CompletableFuture<Paging<SavedShowSimplified>> getSavedShows(Map<String, String> options) {
+        return asyncLibraryApi.getSavedShows(options);
+    }
+
+    @Override
+    public CompletableFuture<Paging<SavedTrackFull>> getSavedTracks(Map<String, String> options) {
+        return asyncLibraryApi.getSavedTracks(options);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAlbums(List<String> listOfAlbumIds) {
+        if (listOfAlbumIds == null || listOfAlbumIds.size() <= MAX_ALBUMS_PER_REQUEST) {
+            return asyncLibraryApi.saveAlbums(listOfAlbumIds);
+        }
+
+        final AsyncLibraryApi asyncLibraryApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} album ids into requests of at most {} ids.", listOfAlbumIds.size(), MAX_ALBUMS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfAlbumIds, MAX_ALBUMS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncLibraryApiWithAccessToken.saveAlbums(chunk))
+                .thenApply(results -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveShows(List<String> listOfShowIds) {
+        if (listOfShowIds == null || listOfShowIds.size() <= MAX_SHOWS_PER_REQUEST) {
+            return asyncLibraryApi.saveShows(listOfShowIds);
+        }
+
+        final AsyncLibraryApi asyncLibraryApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} show ids into requests of at most {} ids.", listOfShowIds.size(), MAX_SHOWS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfShowIds, MAX_SHOWS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncLibraryApiWithAccessToken.saveShows(chunk))
+                .thenApply(results -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveTracks(List<String> listOfTrackIds) {
+        if (listOfTrackIds == null || listOfTrackIds.size() <= MAX_TRACKS_PER_REQUEST) {
+            return asyncLibraryApi.saveTracks(listOfTrackIds);
+        }
+
+        final AsyncLibraryApi asyncLibraryApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} track ids into requests of at most {} ids.", listOfTrackIds.size(), MAX_TRACKS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfTrackIds, MAX_TRACKS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncLibraryApiWithAccessToken.saveTracks(chunk))
+                .thenApply(results -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAlbums(List<String> listOfAlbumIds) {
+        if (listOfAlbumIds == null || listOfAlbumIds.size() <= MAX_ALBUMS_PER_REQUEST) {
+            return asyncLibraryApi.deleteAlbums(listOfAlbumIds);
+        }
+
+        final AsyncLibraryApi asyncLibraryApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} album ids into requests of at most {} ids.", listOfAlbumIds.size(), MAX_ALBUMS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfAlbumIds, MAX_ALBUMS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncLibraryApiWithAccessToken.deleteAlbums(chunk))
+                .thenApply(results -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteShows(List<String> listOfShowIds, Map<String, String> options) {
+        if (listOfShowIds == null || listOfShowIds.size() <= MAX_SHOWS_PER_REQUEST) {
+            return asyncLibraryApi.deleteShows(listOfShowIds, options);
+        }
+
+        final AsyncLibraryApi asyncLibraryApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} show ids into requests of at most {} ids.", listOfShowIds.size(), MAX_SHOWS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfShowIds, MAX_SHOWS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncLibraryApiWithAccessToken.deleteShows(chunk, options))
+                .thenApply(results -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteTracks(List<String> listOfTrackIds) {
+        if (listOfTrackIds == null || listOfTrackIds.size() <= MAX_TRACKS_PER_REQUEST) {
+            return asyncLibraryApi.deleteTracks(listOfTrackIds);
+        }
+
+        final AsyncLibraryApi asyncLibraryApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} track ids into requests of at most {} ids.", listOfTrackIds.size(), MAX_TRACKS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfTrackIds, MAX_TRACKS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncLibraryApiWithAccessToken.deleteTracks(chunk))
+                .thenApply(results -> null);
+    }
+
+    /**
+     * The access token is resolved once on the calling thread, because the requests of the chunks are sent from the
+     * threads that complete the previous ones.
+     */
+    private AsyncLibraryApi withAccessToken(final String accessToken) {
+        return new AsyncLibraryApiRetrofit(accessToken, libraryService);
+    }
+}
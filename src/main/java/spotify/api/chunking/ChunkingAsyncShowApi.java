@@ -0,0 +1,91 @@
+package spotify.api.chunking;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.impl.AsyncShowApiRetrofit;
+import spotify.api.interfaces.AsyncShowApi;
+import spotify.config.ChunkingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.episodes.EpisodeSimplified;
+import spotify.models.paging.Paging;
+import spotify.models.shows.ShowFull;
+import spotify.models.shows.ShowSimplifiedCollection;
+import spotify.retrofit.services.ShowService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncShowApi} that splits id lists exceeding the maximum of an endpoint into multiple requests and merges
+ * their results in the order of the ids.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class ChunkingAsyncShowApi implements AsyncShowApi {
+    private static final int MAX_SHOWS_PER_REQUEST = 50;
+    private final Logger logger = LoggerFactory.getLogger(ChunkingAsyncShowApi.class);
+    private final AsyncShowApi asyncShowApi;
+    private final AccessTokenProvider accessTokenProvider;
+    private final ShowService showService;
+    private final int maxConcurrentRequests;
+
+    public ChunkingAsyncShowApi(final AccessTokenProvider accessTokenProvider, final ChunkingConfig chunkingConfig) {
+        this(new AsyncShowApiRetrofit(accessTokenProvider), accessTokenProvider, RetrofitHttpServiceFactory.getShowService(), chunkingConfig);
+    }
+
+    /**
+     * @param asyncShowApi        the API that the requests which do not need to be split are delegated to
+     * @param accessTokenProvider provider of the access token
+     * @param showService         the service that the split requests are sent with
+     * @param chunkingConfig      configuration of the chunking
+     */
+    public ChunkingAsyncShowApi(final AsyncShowApi asyncShowApi,
+                                final AccessTokenProvider accessTokenProvider,
+                                final ShowService showService,
+                                final ChunkingConfig chunkingConfig) {
+        this.asyncShowApi = asyncShowApi;
+        this.accessTokenProvider = accessTokenProvider;
+        this.showService = showService;
+        this.maxConcurrentRequests = chunkingConfig.getMaxConcurrentRequests();
+    }
+
+    @Override
+    public CompletableFuture<ShowFull> getShow(String showId, Map<String, String> options) {
+        return asyncShowApi.getShow(showId, options);
+    }
+
+    @Override
+    public CompletableFuture<Paging<EpisodeSimplified>> getShowEpisodes(String showId, Map<String, String> options) {
+        return asyncShowApi.getShowEpisodes(showId, options);
+    }
+
+    @Override
+    public CompletableFuture<ShowSimplifiedCollection> getShows(List<String> listOfShowIds, Map<String, String> options) {
+        if (listOfShowIds == null || listOfShowIds.size() <= MAX_SHOWS_PER_REQUEST) {
+            return asyncShowApi.getShows(listOfShowIds, options);
+        }
+
+        final AsyncShowApi asyncShowApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} show ids into requests of at most {} ids.", listOfShowIds.size(), MAX_SHOWS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfShowIds, MAX_SHOWS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncShowApiWithAccessToken.getShows(chunk, options))
+                .thenApply(results -> {
+                    final ShowSimplifiedCollection showSimplifiedCollection = new ShowSimplifiedCollection();
+                    showSimplifiedCollection.setShows(ChunkedRequests.concat(results, ShowSimplifiedCollection::getShows));
+
+                    return showSimplifiedCollection;
+                });
+    }
+
+    /**
+     * The access token is resolved once on the calling thread, because the requests of the chunks are sent from the
+     * threads that complete the previous ones.
+     */
+    private AsyncShowApi withAccessToken(final String accessToken) {
+        return new AsyncShowApiRetrofit(accessToken, showService);
+    }
+}
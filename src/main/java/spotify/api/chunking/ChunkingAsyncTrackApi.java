@@ -0,0 +1,123 @@
+package spotify.api.chunking;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.impl.AsyncTrackApiRetrofit;
+import spotify.api.interfaces.AsyncTrackApi;
+import spotify.config.ChunkingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioFeatures;
+import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.retrofit.services.TrackService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link AsyncTrackApi} that splits id lists exceeding the maximum of an endpoint into multiple requests and merges
+ * their results in the order of the ids.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class ChunkingAsyncTrackApi implements AsyncTrackApi {
+    private static final int MAX_TRACKS_PER_REQUEST = 50;
+    private static final int MAX_AUDIO_FEATURES_PER_REQUEST = 100;
+    private final Logger logger = LoggerFactory.getLogger(ChunkingAsyncTrackApi.class);
+    private final AsyncTrackApi asyncTrackApi;
+    private final AccessTokenProvider accessTokenProvider;
+    private final TrackService trackService;
+    private final int maxConcurrentRequests;
+
+    public ChunkingAsyncTrackApi(final AccessTokenProvider accessTokenProvider, final ChunkingConfig chunkingConfig) {
+        this(new AsyncTrackApiRetrofit(accessTokenProvider), accessTokenProvider, RetrofitHttpServiceFactory.getTrackService(), chunkingConfig);
+    }
+
+    /**
+     * @param asyncTrackApi       the API that the requests which do not need to be split are delegated to
+     * @param accessTokenProvider provider of the access token
+     * @param trackService        the service that the split requests are sent with
+     * @param chunkingConfig      configuration of the chunking
+     */
+    public ChunkingAsyncTrackApi(final AsyncTrackApi asyncTrackApi,
+                                 final AccessTokenProvider accessTokenProvider,
+                                 final TrackService trackService,
+                                 final ChunkingConfig chunkingConfig) {
+        this.asyncTrackApi = asyncTrackApi;
+        this.accessTokenProvider = accessTokenProvider;
+        this.trackService = trackService;
+        this.maxConcurrentRequests = chunkingConfig.getMaxConcurrentRequests();
+    }
+
+    @Override
+    public CompletableFuture<TrackFull> getTrack(String trackId, Map<String, String> options) {
+        return asyncTrackApi.getTrack(trackId, options);
+    }
+
+    @Override
+    public CompletableFuture<TrackFullCollection> getTracks(List<String> listOfTrackIds, Map<String, String> options) {
+        if (listOfTrackIds == null || listOfTrackIds.size() <= MAX_TRACKS_PER_REQUEST) {
+            return asyncTrackApi.getTracks(listOfTrackIds, options);
+        }
+
+        final AsyncTrackApi asyncTrackApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} track ids into requests of at most {} ids.", listOfTrackIds.size(), MAX_TRACKS_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfTrackIds, MAX_TRACKS_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncTrackApiWithAccessToken.getTracks(chunk, options))
+                .thenApply(results -> {
+                    final TrackFullCollection trackFullCollection = new TrackFullCollection();
+                    trackFullCollection.setTracks(ChunkedRequests.concat(results, TrackFullCollection::getTracks));
+
+                    return trackFullCollection;
+                });
+    }
+
+    @Override
+    public CompletableFuture<AudioFeatures> getTrackAudioFeatures(String trackId) {
+        return asyncTrackApi.getTrackAudioFeatures(trackId);
+    }
+
+    @Override
+    public CompletableFuture<AudioFeaturesCollection> getTracksAudioFeatures(List<String> listOfTrackIds) {
+        if (listOfTrackIds == null || listOfTrackIds.size() <= MAX_AUDIO_FEATURES_PER_REQUEST) {
+            return asyncTrackApi.getTracksAudioFeatures(listOfTrackIds);
+        }
+
+        final AsyncTrackApi asyncTrackApiWithAccessToken = withAccessToken(accessTokenProvider.getAccessToken());
+
+        logger.info("Splitting {} track ids into requests of at most {} ids.", listOfTrackIds.size(), MAX_AUDIO_FEATURES_PER_REQUEST);
+        return ChunkedRequests.fanOut(listOfTrackIds, MAX_AUDIO_FEATURES_PER_REQUEST, maxConcurrentRequests,
+                        chunk -> asyncTrackApiWithAccessToken.getTracksAudioFeatures(chunk))
+                .thenApply(results -> {
+                    final AudioFeaturesCollection audioFeaturesCollection = new AudioFeaturesCollection();
+                    audioFeaturesCollection.setAudioFeatures(ChunkedRequests.concat(results, AudioFeaturesCollection::getAudioFeatures));
+
+                    return audioFeaturesCollection;
+                });
+    }
+
+    @Override
+    public CompletableFuture<AudioAnalysis> getTrackAudioAnalysis(String trackId) {
+        return asyncTrackApi.getTrackAudioAnalysis(trackId);
+    }
+
+    @Override
+    public CompletableFuture<ColumnarAudioAnalysis> getTrackColumnarAudioAnalysis(String trackId) {
+        return asyncTrackApi.getTrackColumnarAudioAnalysis(trackId);
+    }
+
+    /**
+     * The access token is resolved once on the calling thread, because the requests of the chunks are sent from the
+     * threads that complete the previous ones.
+     */
+    private AsyncTrackApi withAccessToken(final String accessToken) {
+        return new AsyncTrackApiRetrofit(accessToken, trackService);
+    }
+}
@@ -0,0 +1,37 @@
+package spotify.api.chunking;
+
+import spotify.api.interfaces.AsyncEpisodeApi;
+import spotify.api.interfaces.EpisodeApi;
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.episodes.EpisodeFullCollection;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link EpisodeApi} that waits for a chunking {@link AsyncEpisodeApi} to send id lists exceeding the maximum of an endpoint.
+ *
+ * @author Jiankai Zheng
+ * @see ChunkingAsyncEpisodeApi
+ * @since 1.6.0
+ */
+public class ChunkingEpisodeApi implements EpisodeApi {
+    private final EpisodeApi episodeApi;
+    private final AsyncEpisodeApi chunkingAsyncEpisodeApi;
+
+    public ChunkingEpisodeApi(final EpisodeApi episodeApi, final AsyncEpisodeApi chunkingAsyncEpisodeApi) {
+        this.episodeApi = episodeApi;
+        this.chunkingAsyncEpisodeApi = chunkingAsyncEpisodeApi;
+    }
+
+    @Override
+    public EpisodeFull getEpisode(String episodeId, Map<String, String> options) {
+        return episodeApi.getEpisode(episodeId, options);
+    }
+
+    @Override
+    public EpisodeFullCollection getEpisodes(List<String> listOfEpisodeIds, Map<String, String> options) {
+        return AsyncHttpUtil.join(chunkingAsyncEpisodeApi.getEpisodes(listOfEpisodeIds, options));
+    }
+}
@@ -0,0 +1,63 @@
+package spotify.api.chunking;
+
+import spotify.api.enums.EntityType;
+import spotify.api.interfaces.AsyncFollowApi;
+import spotify.api.interfaces.FollowApi;
+import spotify.models.artists.ArtistFull;
+import spotify.models.paging.CursorBasedPaging;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link FollowApi} that waits for a chunking {@link AsyncFollowApi} to send id lists exceeding the maximum of an endpoint.
+ *
+ * @author Jiankai Zheng
+ * @see ChunkingAsyncFollowApi
+ * @since 1.6.0
+ */
+public class ChunkingFollowApi implements FollowApi {
+    private final FollowApi followApi;
+    private final AsyncFollowApi chunkingAsyncFollowApi;
+
+    public ChunkingFollowApi(final FollowApi followApi, final AsyncFollowApi chunkingAsyncFollowApi) {
+        this.followApi = followApi;
+        this.chunkingAsyncFollowApi = chunkingAsyncFollowApi;
+    }
+
+    @Override
+    public List<Boolean> isFollowing(EntityType entityType, List<String> listOfEntityIds) {
+        return AsyncHttpUtil.join(chunkingAsyncFollowApi.isFollowing(entityType, listOfEntityIds));
+    }
+
+    @Override
+    public List<Boolean> isFollowingPlaylist(String playlistId, List<String> listOfUserIds) {
+        return AsyncHttpUtil.join(chunkingAsyncFollowApi.isFollowingPlaylist(playlistId, listOfUserIds));
+    }
+
+    @Override
+    public void followEntities(EntityType entityType, List<String> listOfEntityIds) {
+        AsyncHttpUtil.join(chunkingAsyncFollowApi.followEntities(entityType, listOfEntityIds));
+    }
+
+    @Override
+    public void followPlaylist(String playlistId, boolean setPlaylistPublic) {
+        followApi.followPlaylist(playlistId, setPlaylistPublic);
+    }
+
+    @Override
+    public CursorBasedPaging<ArtistFull> getFollowedArtists(EntityType entityType, Map<String, String> options) {
+        return followApi.getFollowedArtists(entityType, options);
+    }
+
+    @Override
+    public void unfollowEntities(EntityType entityType, List<String> listOfEntityIds) {
+        AsyncHttpUtil.join(chunkingAsyncFollowApi.unfollowEntities(entityType, listOfEntityIds));
+    }
+
+    @Override
+    public void unfollowPlaylist(String playlistId) {
+        followApi.unfollowPlaylist(playlistId);
+    }
+}
@@ -0,0 +1,89 @@
+package spotify.api.chunking;
+
+import spotify.api.interfaces.AsyncLibraryApi;
+import spotify.api.interfaces.LibraryApi;
+import spotify.models.albums.SavedAlbumFull;
+import spotify.models.paging.Paging;
+import spotify.models.shows.SavedShowSimplified;
+import spotify.models.tracks.SavedTrackFull;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link LibraryApi} that waits for a chunking {@link AsyncLibraryApi} to send id lists exceeding the maximum of an endpoint.
+ *
+ * @author Jiankai Zheng
+ * @see ChunkingAsyncLibraryApi
+ * @since 1.6.0
+ */
+public class ChunkingLibraryApi implements LibraryApi {
+    private final LibraryApi libraryApi;
+    private final AsyncLibraryApi chunkingAsyncLibraryApi;
+
+    public ChunkingLibraryApi(final LibraryApi libraryApi, final AsyncLibraryApi chunkingAsyncLibraryApi) {
+        this.libraryApi = libraryApi;
+        this.chunkingAsyncLibraryApi = chunkingAsyncLibraryApi;
+    }
+
+    @Override
+    public List<Boolean> hasSavedAlbums(List<String> listOfAlbumIds) {
+        return AsyncHttpUtil.join(chunkingAsyncLibraryApi.hasSavedAlbums(listOfAlbumIds));
+    }
+
+    @Override
+    public List<Boolean> hasSavedShows(List<String> listOfShowIds) {
+        return AsyncHttpUtil.join(chunkingAsyncLibraryApi.hasSavedShows(listOfShowIds));
+    }
+
+    @Override
+    public List<Boolean> hasSavedTracks(List<String> listOfTrackIds) {
+        return AsyncHttpUtil.join(chunkingAsyncLibraryApi.hasSavedTracks(listOfTrackIds));
+    }
+
+    @Override
+    public Paging<SavedAlbumFull> getSavedAlbums(Map<String, String> options) {
+        return libraryApi.getSavedAlbums(options);
+    }
+
+    @Override
+    public Paging<SavedShowSimplified> getSavedShows(Map<String, String> options) {
+        return libraryApi.getSavedShows(options);
+    }
+
+    @Override
+    public Paging<SavedTrackFull> getSavedTracks(Map<String, String> options) {
+        return libraryApi.getSavedTracks(options);
+    }
+
+    @Override
+    public void saveAlbums(List<String> listOfAlbumIds) {
+        AsyncHttpUtil.join(chunkingAsyncLibraryApi.saveAlbums(listOfAlbumIds));
+    }
+
+    @Override
+    public void saveShows(List<String> listOfShowIds) {
+        AsyncHttpUtil.join(chunkingAsyncLibraryApi.saveShows(listOfShowIds));
+    }
+
+    @Override
+    public void saveTracks(List<String> listOfTrackIds) {
+        AsyncHttpUtil.join(chunkingAsyncLibraryApi.saveTracks(listOfTrackIds));
+    }
+
+    @Override
+    public void deleteAlbums(List<String> listOfAlbumIds) {
+        AsyncHttpUtil.join(chunkingAsyncLibraryApi.deleteAlbums(listOfAlbumIds));
+    }
+
+    @Override
+    public void deleteShows(List<String> listOfShowIds, Map<String, String> options) {
+        AsyncHttpUtil.join(chunkingAsyncLibraryApi.deleteShows(listOfShowIds, options));
+    }
+
+    @Override
+    public void deleteTracks(List<String> listOfTrackIds) {
+        AsyncHttpUtil.join(chunkingAsyncLibraryApi.deleteTracks(listOfTrackIds));
+    }
+}
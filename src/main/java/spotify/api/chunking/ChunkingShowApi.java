@@ -0,0 +1,44 @@
+package spotify.api.chunking;
+
+import spotify.api.interfaces.AsyncShowApi;
+import spotify.api.interfaces.ShowApi;
+import spotify.models.episodes.EpisodeSimplified;
+import spotify.models.paging.Paging;
+import spotify.models.shows.ShowFull;
+import spotify.models.shows.ShowSimplifiedCollection;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ShowApi} that waits for a chunking {@link AsyncShowApi} to send id lists exceeding the maximum of an endpoint.
+ *
+ * @author Jiankai Zheng
+ * @see ChunkingAsyncShowApi
+ * @since 1.6.0
+ */
+public class ChunkingShowApi implements ShowApi {
+    private final ShowApi showApi;
+    private final AsyncShowApi chunkingAsyncShowApi;
+
+    public ChunkingShowApi(final ShowApi showApi, final AsyncShowApi chunkingAsyncShowApi) {
+        this.showApi = showApi;
+        this.chunkingAsyncShowApi = chunkingAsyncShowApi;
+    }
+
+    @Override
+    public ShowFull getShow(String showId, Map<String, String> options) {
+        return showApi.getShow(showId, options);
+    }
+
+    @Override
+    public Paging<EpisodeSimplified> getShowEpisodes(String showId, Map<String, String> options) {
+        return showApi.getShowEpisodes(showId, options);
+    }
+
+    @Override
+    public ShowSimplifiedCollection getShows(List<String> listOfShowIds, Map<String, String> options) {
+        return AsyncHttpUtil.join(chunkingAsyncShowApi.getShows(listOfShowIds, options));
+    }
+}
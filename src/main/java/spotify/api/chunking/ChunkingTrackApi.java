@@ -0,0 +1,67 @@
+package spotify.api.chunking;
+
+import spotify.api.interfaces.AsyncTrackApi;
+import spotify.api.interfaces.TrackApi;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioAnalysisVisitor;
+import spotify.models.audio.AudioFeatures;
+import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TrackApi} that waits for a chunking {@link AsyncTrackApi} to send id lists exceeding the maximum of an endpoint.
+ *
+ * @author Jiankai Zheng
+ * @see ChunkingAsyncTrackApi
+ * @since 1.6.0
+ */
+public class ChunkingTrackApi implements TrackApi {
+    private final TrackApi trackApi;
+    private final AsyncTrackApi chunkingAsyncTrackApi;
+
+    public ChunkingTrackApi(final TrackApi trackApi, final AsyncTrackApi chunkingAsyncTrackApi) {
+        this.trackApi = trackApi;
+        this.chunkingAsyncTrackApi = chunkingAsyncTrackApi;
+    }
+
+    @Override
+    public TrackFull getTrack(String trackId, Map<String, String> options) {
+        return trackApi.getTrack(trackId, options);
+    }
+
+    @Override
+    public TrackFullCollection getTracks(List<String> listOfTrackIds, Map<String, String> options) {
+        return AsyncHttpUtil.join(chunkingAsyncTrackApi.getTracks(listOfTrackIds, options));
+    }
+
+    @Override
+    public AudioFeatures getTrackAudioFeatures(String trackId) {
+        return trackApi.getTrackAudioFeatures(trackId);
+    }
+
+    @Override
+    public AudioFeaturesCollection getTracksAudioFeatures(List<String> listOfTrackIds) {
+        return AsyncHttpUtil.join(chunkingAsyncTrackApi.getTracksAudioFeatures(listOfTrackIds));
+    }
+
+    @Override
+    public AudioAnalysis getTrackAudioAnalysis(String trackId) {
+        return trackApi.getTrackAudioAnalysis(trackId);
+    }
+
+    @Override
+    public ColumnarAudioAnalysis getTrackColumnarAudioAnalysis(String trackId) {
+        return trackApi.getTrackColumnarAudioAnalysis(trackId);
+    }
+
+    @Override
+    public void streamTrackAudioAnalysis(String trackId, AudioAnalysisVisitor visitor) {
+        trackApi.streamTrackAudioAnalysis(trackId, visitor);
+    }
+}
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.AlbumApi;
 import spotify.exceptions.HttpRequestFailedException;
@@ -23,7 +24,7 @@ import java.util.Map;
 
 public class AlbumApiRetrofit implements AlbumApi {
     private final Logger logger = LoggerFactory.getLogger(AlbumApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final AlbumService albumService;
 
     public AlbumApiRetrofit(final String accessToken) {
@@ -31,7 +32,15 @@ public class AlbumApiRetrofit implements AlbumApi {
     }
 
     public AlbumApiRetrofit(final String accessToken, final AlbumService albumService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, albumService);
+    }
+
+    public AlbumApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getAlbumService());
+    }
+
+    public AlbumApiRetrofit(final AccessTokenProvider accessTokenProvider, final AlbumService albumService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.albumService = albumService;
     }
 
@@ -40,7 +49,7 @@ public class AlbumApiRetrofit implements AlbumApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch an album.");
-        Call<AlbumFull> httpCall = albumService.getAlbum("Bearer " + this.accessToken, albumId, options);
+        Call<AlbumFull> httpCall = albumService.getAlbum(accessTokenProvider.getAuthorizationHeader(), albumId, options);
 
         try {
             logger.info("Executing HTTP call to fetch an album.");
@@ -67,7 +76,7 @@ public class AlbumApiRetrofit implements AlbumApi {
         logger.debug("Mapped list of album ids to String: {}", albumIds);
 
         logger.trace("Constructing HTTP call to fetch albums.");
-        Call<AlbumFullCollection> httpCall = albumService.getAlbums("Bearer " + this.accessToken, albumIds, options);
+        Call<AlbumFullCollection> httpCall = albumService.getAlbums(accessTokenProvider.getAuthorizationHeader(), albumIds, options);
 
         try {
             logger.info("Executing HTTP call to fetch albums.");
@@ -90,7 +99,7 @@ public class AlbumApiRetrofit implements AlbumApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch album tracks.");
-        Call<Paging<TrackSimplified>> httpCall = albumService.getAlbumTracks("Bearer " + this.accessToken, albumId, options);
+        Call<Paging<TrackSimplified>> httpCall = albumService.getAlbumTracks(accessTokenProvider.getAuthorizationHeader(), albumId, options);
 
         try {
             logger.info("Executing HTTP call to fetch album tracks.");
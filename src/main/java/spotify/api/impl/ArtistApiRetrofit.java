@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.AlbumType;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.ArtistApi;
@@ -26,7 +27,7 @@ import java.util.stream.Collectors;
 
 public class ArtistApiRetrofit implements ArtistApi {
     private final Logger logger = LoggerFactory.getLogger(ArtistApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final ArtistService artistService;
 
     public ArtistApiRetrofit(final String accessToken) {
@@ -34,14 +35,22 @@ public class ArtistApiRetrofit implements ArtistApi {
     }
 
     public ArtistApiRetrofit(final String accessToken, final ArtistService artistService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, artistService);
+    }
+
+    public ArtistApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getArtistService());
+    }
+
+    public ArtistApiRetrofit(final AccessTokenProvider accessTokenProvider, final ArtistService artistService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.artistService = artistService;
     }
 
     @Override
     public ArtistFull getArtist(String artistId) {
         logger.trace("Constructing HTTP call to fetch an artist.");
-        Call<ArtistFull> httpCall = artistService.getArtist("Bearer " + this.accessToken, artistId);
+        Call<ArtistFull> httpCall = artistService.getArtist(accessTokenProvider.getAuthorizationHeader(), artistId);
 
         try {
             logger.info("Executing HTTP call to fetch an artist.");
@@ -71,7 +80,7 @@ public class ArtistApiRetrofit implements ArtistApi {
         }
 
         logger.trace("Constructing HTTP call to fetch albums of an artist.");
-        Call<Paging<AlbumSimplified>> httpCall = artistService.getArtistAlbums("Bearer " + this.accessToken, artistId, options);
+        Call<Paging<AlbumSimplified>> httpCall = artistService.getArtistAlbums(accessTokenProvider.getAuthorizationHeader(), artistId, options);
 
         try {
             logger.info("Executing HTTP call to fetch albums of artist.");
@@ -94,7 +103,7 @@ public class ArtistApiRetrofit implements ArtistApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch an artist top tracks.");
-        Call<TrackFullCollection> httpCall = artistService.getArtistTopTracks("Bearer " + this.accessToken, artistId, options);
+        Call<TrackFullCollection> httpCall = artistService.getArtistTopTracks(accessTokenProvider.getAuthorizationHeader(), artistId, options);
 
         try {
             logger.info("Executing HTTP call to fetch an artist top tracks.");
@@ -115,7 +124,7 @@ public class ArtistApiRetrofit implements ArtistApi {
     @Override
     public ArtistFullCollection getRelatedArtists(String artistId) {
         logger.trace("Constructing HTTP call to fetch a related artists.");
-        Call<ArtistFullCollection> httpCall = artistService.getRelatedArtists("Bearer " + this.accessToken, artistId);
+        Call<ArtistFullCollection> httpCall = artistService.getRelatedArtists(accessTokenProvider.getAuthorizationHeader(), artistId);
 
         try {
             logger.info("Executing HTTP call to fetch related artists.");
@@ -137,7 +146,7 @@ public class ArtistApiRetrofit implements ArtistApi {
         String artistIdsWithCommaDelimiter = String.join(",", listOfArtistIds);
 
         logger.trace("Constructing HTTP call to fetch multiple artists.");
-        Call<ArtistFullCollection> httpCall = artistService.getArtists("Bearer " + this.accessToken, artistIdsWithCommaDelimiter);
+        Call<ArtistFullCollection> httpCall = artistService.getArtists(accessTokenProvider.getAuthorizationHeader(), artistIdsWithCommaDelimiter);
 
         try {
             logger.info("Executing HTTP call to fetch multiple artists.");
@@ -0,0 +1,95 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncAlbumApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.albums.AlbumFull;
+import spotify.models.albums.AlbumFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackSimplified;
+import spotify.retrofit.services.AlbumService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncAlbumApiRetrofit implements AsyncAlbumApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncAlbumApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final AlbumService albumService;
+
+    public AsyncAlbumApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getAlbumService());
+    }
+
+    public AsyncAlbumApiRetrofit(final String accessToken, final AlbumService albumService) {
+        this(() -> accessToken, albumService);
+    }
+
+    public AsyncAlbumApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getAlbumService());
+    }
+
+    public AsyncAlbumApiRetrofit(final AccessTokenProvider accessTokenProvider, final AlbumService albumService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.albumService = albumService;
+    }
+
+    @Override
+    public CompletableFuture<AlbumFull> getAlbum(String albumId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch an album.");
+        Call<AlbumFull> httpCall = albumService.getAlbum(accessTokenProvider.getAuthorizationHeader(), albumId, options);
+
+        logger.info("Enqueueing HTTP call to fetch an album.");
+        logger.debug("Fetching album {} with following values: {}.", albumId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<AlbumFullCollection> getAlbums(List<String> listOfAlbumIds, Map<String, String> options) {
+        validateAlbumListSizeAndThrowIfExceeded(listOfAlbumIds, 20);
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        String albumIds = String.join(",", listOfAlbumIds);
+        logger.debug("Mapped list of album ids to String: {}", albumIds);
+
+        logger.trace("Constructing HTTP call to fetch albums.");
+        Call<AlbumFullCollection> httpCall = albumService.getAlbums(accessTokenProvider.getAuthorizationHeader(), albumIds, options);
+
+        logger.info("Enqueueing HTTP call to fetch albums.");
+        logger.debug("Fetching following albums: {} with following values: {}.", albumIds, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Paging<TrackSimplified>> getAlbumTracks(String albumId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch album tracks.");
+        Call<Paging<TrackSimplified>> httpCall = albumService.getAlbumTracks(accessTokenProvider.getAuthorizationHeader(), albumId, options);
+
+        logger.info("Enqueueing HTTP call to fetch album tracks.");
+        logger.debug("Fetching album {} tracks with following values: {}.", albumId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    private void validateAlbumListSizeAndThrowIfExceeded(List<String> listOfAlbumIds, int maximumAmountOfAlbumIdsAllowed) {
+        final int listSize = listOfAlbumIds.size();
+
+        if (listSize > maximumAmountOfAlbumIdsAllowed) {
+            logger.error("The list of album ids has exceeded the maximum allowed amount!");
+            throw new IllegalArgumentException(String.format(
+                    "The maximum amount of album ids allowed is %d! You have %d.",
+                    maximumAmountOfAlbumIdsAllowed,
+                    listSize));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.AlbumType;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncArtistApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.albums.AlbumSimplified;
+import spotify.models.artists.ArtistFull;
+import spotify.models.artists.ArtistFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.retrofit.services.ArtistService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+public class AsyncArtistApiRetrofit implements AsyncArtistApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncArtistApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final ArtistService artistService;
+
+    public AsyncArtistApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getArtistService());
+    }
+
+    public AsyncArtistApiRetrofit(final String accessToken, final ArtistService artistService) {
+        this(() -> accessToken, artistService);
+    }
+
+    public AsyncArtistApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getArtistService());
+    }
+
+    public AsyncArtistApiRetrofit(final AccessTokenProvider accessTokenProvider, final ArtistService artistService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.artistService = artistService;
+    }
+
+    @Override
+    public CompletableFuture<ArtistFull> getArtist(String artistId) {
+        logger.trace("Constructing HTTP call to fetch an artist.");
+        Call<ArtistFull> httpCall = artistService.getArtist(accessTokenProvider.getAuthorizationHeader(), artistId);
+
+        logger.info("Enqueueing HTTP call to fetch an artist.");
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Paging<AlbumSimplified>> getArtistAlbums(String artistId, List<AlbumType> listOfAlbumTypes, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        String albumTypesWithCommaDelimiter = listOfAlbumTypes.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        if (!albumTypesWithCommaDelimiter.isEmpty()) {
+            options.put("include_groups", albumTypesWithCommaDelimiter);
+        }
+
+        logger.trace("Constructing HTTP call to fetch albums of an artist.");
+        Call<Paging<AlbumSimplified>> httpCall = artistService.getArtistAlbums(accessTokenProvider.getAuthorizationHeader(), artistId, options);
+
+        logger.info("Enqueueing HTTP call to fetch albums of artist.");
+        logger.debug("Fetching artist {} albums with following values: {}.", artistId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<TrackFullCollection> getArtistTopTracks(String artistId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch an artist top tracks.");
+        Call<TrackFullCollection> httpCall = artistService.getArtistTopTracks(accessTokenProvider.getAuthorizationHeader(), artistId, options);
+
+        logger.info("Enqueueing HTTP call to fetch an artist top tracks.");
+        logger.debug("Fetching artist {} top tracks with following values: {}.", artistId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<ArtistFullCollection> getRelatedArtists(String artistId) {
+        logger.trace("Constructing HTTP call to fetch a related artists.");
+        Call<ArtistFullCollection> httpCall = artistService.getRelatedArtists(accessTokenProvider.getAuthorizationHeader(), artistId);
+
+        logger.info("Enqueueing HTTP call to fetch related artists.");
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<ArtistFullCollection> getArtists(List<String> listOfArtistIds) {
+        String artistIdsWithCommaDelimiter = String.join(",", listOfArtistIds);
+
+        logger.trace("Constructing HTTP call to fetch multiple artists.");
+        Call<ArtistFullCollection> httpCall = artistService.getArtists(accessTokenProvider.getAuthorizationHeader(), artistIdsWithCommaDelimiter);
+
+        logger.info("Enqueueing HTTP call to fetch multiple artists.");
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+}
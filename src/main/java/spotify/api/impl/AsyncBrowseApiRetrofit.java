@@ -0,0 +1,137 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncBrowseApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.albums.AlbumSimplifiedPaging;
+import spotify.models.categories.CategoryFull;
+import spotify.models.categories.CategoryFullPaging;
+import spotify.models.playlists.FeaturedPlaylistCollection;
+import spotify.models.playlists.PlaylistSimplifiedPaging;
+import spotify.models.recommendations.RecommendationCollection;
+import spotify.retrofit.services.BrowseService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncBrowseApiRetrofit implements AsyncBrowseApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncBrowseApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final BrowseService browseService;
+
+    public AsyncBrowseApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getBrowseService());
+    }
+
+    public AsyncBrowseApiRetrofit(final String accessToken, final BrowseService browseService) {
+        this(() -> accessToken, browseService);
+    }
+
+    public AsyncBrowseApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getBrowseService());
+    }
+
+    public AsyncBrowseApiRetrofit(final AccessTokenProvider accessTokenProvider, final BrowseService browseService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.browseService = browseService;
+    }
+
+    @Override
+    public CompletableFuture<CategoryFull> getCategory(String categoryId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch category.");
+        Call<CategoryFull> httpCall = browseService.getCategory(accessTokenProvider.getAuthorizationHeader(), categoryId, options);
+
+        logger.info("Enqueueing HTTP call to fetch category.");
+        logger.debug("Fetching category {} with following values: {}.", categoryId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<PlaylistSimplifiedPaging> getCategoryPlaylists(String categoryId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch category playlists.");
+        Call<PlaylistSimplifiedPaging> httpCall = browseService.getCategoryPlaylists(accessTokenProvider.getAuthorizationHeader(), categoryId, options);
+
+        logger.info("Enqueueing HTTP call to fetch category playlists.");
+        logger.debug("Fetching category {} playlists with following values: {}.", categoryId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<CategoryFullPaging> getCategories(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch categories.");
+        Call<CategoryFullPaging> httpCall = browseService.getCategories(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch categories.");
+        logger.debug("Fetching categories with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<FeaturedPlaylistCollection> getFeaturedPlaylists(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch featured playlists.");
+        Call<FeaturedPlaylistCollection> httpCall = browseService.getFeaturedPlaylists(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch featured playlists.");
+        logger.debug("Fetching featured playlists with following values: {}", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<AlbumSimplifiedPaging> getNewReleases(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch new releases.");
+        Call<AlbumSimplifiedPaging> httpCall = browseService.getNewReleases(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch new releases.");
+        logger.debug("Fetching new releases with following values: {}", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<RecommendationCollection> getRecommendations(List<String> listOfSeedArtists, List<String> listOfSeedGenres, List<String> listOfSeedTracks, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        mapSeedParameters(listOfSeedArtists, listOfSeedGenres, listOfSeedTracks, options);
+
+        logger.trace("Constructing HTTP call to fetch recommendations.");
+        Call<RecommendationCollection> httpCall = browseService.getRecommendations(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch recommendations.");
+        logger.debug("Fetching recommendations with following values: {}", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    private void mapSeedParameters(List<String> listOfSeedArtists, List<String> listOfSeedGenres, List<String> listOfSeedTracks, Map<String, String> options) {
+        final String artistSeedIds = String.join(",", listOfSeedArtists);
+        final String genreSeedIds = String.join(",", listOfSeedGenres);
+        final String trackSeedIds = String.join(",", listOfSeedTracks);
+
+        if (!artistSeedIds.isEmpty()) {
+            options.put("seed_artists", artistSeedIds);
+        }
+
+        if (!genreSeedIds.isEmpty()) {
+            options.put("seed_genres", genreSeedIds);
+        }
+
+        if (!trackSeedIds.isEmpty()) {
+            options.put("seed_tracks", trackSeedIds);
+        }
+    }
+}
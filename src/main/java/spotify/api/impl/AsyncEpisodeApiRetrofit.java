@@ -0,0 +1,80 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncEpisodeApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.episodes.EpisodeFullCollection;
+import spotify.retrofit.services.EpisodeService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncEpisodeApiRetrofit implements AsyncEpisodeApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncEpisodeApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final EpisodeService episodeService;
+
+    public AsyncEpisodeApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getEpisodeService());
+    }
+
+    public AsyncEpisodeApiRetrofit(final String accessToken, final EpisodeService episodeService) {
+        this(() -> accessToken, episodeService);
+    }
+
+    public AsyncEpisodeApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getEpisodeService());
+    }
+
+    public AsyncEpisodeApiRetrofit(final AccessTokenProvider accessTokenProvider, final EpisodeService episodeService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.episodeService = episodeService;
+    }
+
+    @Override
+    public CompletableFuture<EpisodeFull> getEpisode(String episodeId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch episode.");
+        Call<EpisodeFull> httpCall = episodeService.getEpisode(accessTokenProvider.getAuthorizationHeader(), episodeId, options);
+
+        logger.info("Enqueueing HTTP call to fetch episode.");
+        logger.debug("Fetching episodes {} with following values: {}.", episodeId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<EpisodeFullCollection> getEpisodes(List<String> listOfEpisodeIds, Map<String, String> options) {
+        validateEpisodeListSizeAndThrowIfExceeded(listOfEpisodeIds, 50);
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        String episodeIds = String.join(",", listOfEpisodeIds);
+
+        logger.trace("Constructing HTTP call to fetch multiple episodes.");
+        Call<EpisodeFullCollection> httpCall = episodeService.getEpisodes(accessTokenProvider.getAuthorizationHeader(), episodeIds, options);
+
+        logger.info("Enqueueing HTTP call to fetch multiple episodes.");
+        logger.debug("Fetching following episodes: {} with following values: {}.", episodeIds, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    private void validateEpisodeListSizeAndThrowIfExceeded(List<String> listOfEpisodeIds, int maximumAmountOfEpisodeIdsAllowed) {
+        final int listSize = listOfEpisodeIds.size();
+
+        if (listSize > maximumAmountOfEpisodeIdsAllowed) {
+            logger.error("The list of episode ids has exceeded the maximum allowed amount!");
+            throw new IllegalArgumentException(String.format(
+                    "The maximum amount of episode ids allowed is %d! You have %d.",
+                    maximumAmountOfEpisodeIdsAllowed,
+                    listSize));
+        }
+    }
+}
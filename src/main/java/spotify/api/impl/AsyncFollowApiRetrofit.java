@@ -0,0 +1,125 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.EntityType;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncFollowApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.artists.ArtistFull;
+import spotify.models.artists.ArtistFullCursorBasedPagingWrapper;
+import spotify.models.paging.CursorBasedPaging;
+import spotify.models.playlists.requests.FollowPlaylistRequestBody;
+import spotify.retrofit.services.FollowService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncFollowApiRetrofit implements AsyncFollowApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncFollowApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final FollowService followService;
+
+    public AsyncFollowApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getFollowService());
+    }
+
+    public AsyncFollowApiRetrofit(final String accessToken, final FollowService followService) {
+        this(() -> accessToken, followService);
+    }
+
+    public AsyncFollowApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getFollowService());
+    }
+
+    public AsyncFollowApiRetrofit(final AccessTokenProvider accessTokenProvider, final FollowService followService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.followService = followService;
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> isFollowing(EntityType entityType, List<String> listOfEntityIds) {
+        String entityIds = String.join(",", listOfEntityIds);
+
+        logger.trace("Constructing HTTP call to check if user follows the provided entities.");
+        Call<List<Boolean>> httpCall = followService.isFollowing(accessTokenProvider.getAuthorizationHeader(), entityType, entityIds);
+
+        logger.info("Enqueueing HTTP call to check if user follows the provided entities.");
+        logger.debug("Fetching {} following list with following entity ids: {}.", entityType, entityIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> isFollowingPlaylist(String playlistId, List<String> listOfUserIds) {
+        String userIds = String.join(",", listOfUserIds);
+
+        logger.trace("Constructing HTTP call to check if users are following the playlist.");
+        Call<List<Boolean>> httpCall = followService.isFollowingPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, userIds);
+
+        logger.info("Enqueueing HTTP call to check if users are following the playlist.");
+        logger.debug("Fetching {} playlist following list with following user ids: {}.", playlistId, userIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> followEntities(EntityType entityType, List<String> listOfEntityIds) {
+        String entityIds = String.join(",", listOfEntityIds);
+
+        logger.trace("Constructing HTTP call to follow entities.");
+        Call<Void> httpCall = followService.followEntities(accessTokenProvider.getAuthorizationHeader(), entityType, entityIds);
+
+        logger.info("Enqueueing HTTP call to follow entities.");
+        logger.debug("Following entities with following entity ids: {}.", entityIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> followPlaylist(String playlistId, boolean setPlaylistPublic) {
+        logger.trace("Constructing HTTP call to follow playlist.");
+        Call<Void> httpCall = followService.followPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, new FollowPlaylistRequestBody(setPlaylistPublic));
+
+        logger.info("Enqueueing HTTP call to follow playlist.");
+        logger.debug("Following playlist {} and set it to {}", playlistId, setPlaylistPublic ? "public" : "private");
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<CursorBasedPaging<ArtistFull>> getFollowedArtists(EntityType entityType, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch followed artists of the current user.");
+        Call<ArtistFullCursorBasedPagingWrapper> httpCall = followService.getFollowedArtists(accessTokenProvider.getAuthorizationHeader(), entityType, options);
+
+        logger.info("Enqueueing HTTP call to fetch followed artists of the current user.");
+        logger.debug("Fetching current user's followed artists with the following values: {}", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger)
+                .thenApply(body -> body.getArtists());
+    }
+
+    @Override
+    public CompletableFuture<Void> unfollowEntities(EntityType entityType, List<String> listOfEntityIds) {
+        String entityIds = String.join(",", listOfEntityIds);
+
+        logger.trace("Constructing HTTP call to unfollow entities.");
+        Call<Void> httpCall = followService.unfollowEntities(accessTokenProvider.getAuthorizationHeader(), entityType, entityIds);
+
+        logger.info("Enqueueing HTTP call to unfollow entities.");
+        logger.debug("Unfollowing entities with following entity ids: {}.", entityIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> unfollowPlaylist(String playlistId) {
+        logger.trace("Constructing HTTP call to unfollow playlist.");
+        Call<Void> httpCall = followService.unfollowPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId);
+
+        logger.info("Enqueueing HTTP call to unfollow playlist.");
+        logger.debug("Unfollowing playlist {} ", playlistId);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+}
@@ -0,0 +1,189 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncLibraryApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.albums.SavedAlbumFull;
+import spotify.models.paging.Paging;
+import spotify.models.shows.SavedShowSimplified;
+import spotify.models.tracks.SavedTrackFull;
+import spotify.retrofit.services.LibraryService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncLibraryApiRetrofit implements AsyncLibraryApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncLibraryApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final LibraryService libraryService;
+
+    public AsyncLibraryApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getLibraryService());
+    }
+
+    public AsyncLibraryApiRetrofit(final String accessToken, final LibraryService libraryService) {
+        this(() -> accessToken, libraryService);
+    }
+
+    public AsyncLibraryApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getLibraryService());
+    }
+
+    public AsyncLibraryApiRetrofit(final AccessTokenProvider accessTokenProvider, final LibraryService libraryService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.libraryService = libraryService;
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> hasSavedAlbums(List<String> listOfAlbumIds) {
+        String albumIds = String.join(",", listOfAlbumIds);
+
+        logger.trace("Constructing HTTP call check if current user has saved the given albums ");
+        Call<List<Boolean>> httpCall = libraryService.hasSavedAlbums(accessTokenProvider.getAuthorizationHeader(), albumIds);
+
+        logger.info("Enqueueing HTTP call to check saved albums.");
+        logger.debug("Checking albums with following album ids: {}.", albumIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> hasSavedShows(List<String> listOfShowIds) {
+        String showIds = String.join(",", listOfShowIds);
+
+        logger.trace("Constructing HTTP call check if current user has saved the given shows ");
+        Call<List<Boolean>> httpCall = libraryService.hasSavedShows(accessTokenProvider.getAuthorizationHeader(), showIds);
+
+        logger.info("Enqueueing HTTP call to check saved shows.");
+        logger.debug("Checking shows with following show ids: {}.", showIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<List<Boolean>> hasSavedTracks(List<String> listOfTrackIds) {
+        String trackIds = String.join(",", listOfTrackIds);
+
+        logger.trace("Constructing HTTP call check if current user has saved the given tracks ");
+        Call<List<Boolean>> httpCall = libraryService.hasSavedTracks(accessTokenProvider.getAuthorizationHeader(), trackIds);
+
+        logger.info("Enqueueing HTTP call to check saved tracks.");
+        logger.debug("Checking tracks with following track ids: {}.", trackIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Paging<SavedAlbumFull>> getSavedAlbums(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call fetch current user saved albums");
+        Call<Paging<SavedAlbumFull>> httpCall = libraryService.getSavedAlbums(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch current user saved albums");
+        logger.debug("Fetching current user saved albums with the following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Paging<SavedShowSimplified>> getSavedShows(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call fetch current user saved shows");
+        Call<Paging<SavedShowSimplified>> httpCall = libraryService.getSavedShows(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch current user saved shows");
+        logger.debug("Fetching current user saved shows with the following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Paging<SavedTrackFull>> getSavedTracks(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call fetch current user saved tracks");
+        Call<Paging<SavedTrackFull>> httpCall = libraryService.getSavedTracks(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch current user saved tracks");
+        logger.debug("Fetching current user saved tracks with the following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAlbums(List<String> listOfAlbumIds) {
+        String albumIds = String.join(",", listOfAlbumIds);
+
+        logger.trace("Constructing HTTP call to save the given albums");
+        Call<Void> httpCall = libraryService.saveAlbums(accessTokenProvider.getAuthorizationHeader(), albumIds);
+
+        logger.info("Enqueueing HTTP call to save the given albums.");
+        logger.debug("Saving albums with following album ids: {}.", albumIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.CREATED, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveShows(List<String> listOfShowIds) {
+        String showIds = String.join(",", listOfShowIds);
+
+        logger.trace("Constructing HTTP call to save the given shows");
+        Call<Void> httpCall = libraryService.saveShows(accessTokenProvider.getAuthorizationHeader(), showIds);
+
+        logger.info("Enqueueing HTTP call to save the given shows.");
+        logger.debug("Saving shows with following show ids: {}.", showIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveTracks(List<String> listOfTrackIds) {
+        String trackIds = String.join(",", listOfTrackIds);
+
+        logger.trace("Constructing HTTP call to save the given tracks");
+        Call<Void> httpCall = libraryService.saveTracks(accessTokenProvider.getAuthorizationHeader(), trackIds);
+
+        logger.info("Enqueueing HTTP call to save the given tracks.");
+        logger.debug("Saving tracks with following track ids: {}.", trackIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAlbums(List<String> listOfAlbumIds) {
+        String albumIds = String.join(",", listOfAlbumIds);
+
+        logger.trace("Constructing HTTP call to delete the saved albums");
+        Call<Void> httpCall = libraryService.deleteAlbums(accessTokenProvider.getAuthorizationHeader(), albumIds);
+
+        logger.info("Enqueueing HTTP call to delete the saved albums.");
+        logger.debug("Deleting saved albums with following album ids: {}.", albumIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteShows(List<String> listOfShowIds, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        String showIds = String.join(",", listOfShowIds);
+
+        logger.trace("Constructing HTTP call to delete the saved shows");
+        Call<Void> httpCall = libraryService.deleteShows(accessTokenProvider.getAuthorizationHeader(), showIds, options);
+
+        logger.info("Enqueueing HTTP call to delete the saved shows.");
+        logger.debug("Deleting saved shows with following show ids: {} and parameter values: {}.", showIds, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteTracks(List<String> listOfTrackIds) {
+        String trackIds = String.join(",", listOfTrackIds);
+
+        logger.trace("Constructing HTTP call to delete the saved tracks");
+        Call<Void> httpCall = libraryService.deleteTracks(accessTokenProvider.getAuthorizationHeader(), trackIds);
+
+        logger.info("Enqueueing HTTP call to delete the saved tracks.");
+        logger.debug("Deleting saved tracks with following track ids: {}.", trackIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+}
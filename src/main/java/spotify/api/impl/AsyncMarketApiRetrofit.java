@@ -0,0 +1,47 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncMarketApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.markets.MarketFull;
+import spotify.retrofit.services.MarketService;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncMarketApiRetrofit implements AsyncMarketApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncMarketApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final MarketService marketService;
+
+    public AsyncMarketApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getMarketService());
+    }
+
+    public AsyncMarketApiRetrofit(final String accessToken, final MarketService marketService) {
+        this(() -> accessToken, marketService);
+    }
+
+    public AsyncMarketApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getMarketService());
+    }
+
+    public AsyncMarketApiRetrofit(final AccessTokenProvider accessTokenProvider, final MarketService marketService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.marketService = marketService;
+    }
+
+    @Override
+    public CompletableFuture<MarketFull> getMarkets() {
+        logger.trace("Constructing HTTP call to fetch markets.");
+        Call<MarketFull> httpCall = marketService.getMarkets(accessTokenProvider.getAuthorizationHeader());
+
+        logger.info("Enqueueing HTTP call to fetch markets.");
+        logger.debug("Fetching markets....");
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+}
@@ -0,0 +1,65 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncPersonalizationApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.artists.ArtistFull;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackFull;
+import spotify.retrofit.services.PersonalizationService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncPersonalizationApiRetrofit implements AsyncPersonalizationApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncPersonalizationApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final PersonalizationService personalizationService;
+
+    public AsyncPersonalizationApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getPersonalizationService());
+    }
+
+    public AsyncPersonalizationApiRetrofit(final String accessToken, final PersonalizationService personalizationService) {
+        this(() -> accessToken, personalizationService);
+    }
+
+    public AsyncPersonalizationApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getPersonalizationService());
+    }
+
+    public AsyncPersonalizationApiRetrofit(final AccessTokenProvider accessTokenProvider, final PersonalizationService personalizationService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.personalizationService = personalizationService;
+    }
+
+    @Override
+    public CompletableFuture<Paging<ArtistFull>> getTopArtists(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch top artists.");
+        Call<Paging<ArtistFull>> httpCall = personalizationService.getTopArtists(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch top artists.");
+        logger.debug("Fetching top artists with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Paging<TrackFull>> getTopTracks(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch top tracks.");
+        Call<Paging<TrackFull>> httpCall = personalizationService.getTopTracks(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch top tracks.");
+        logger.debug("Fetching top tracks with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+}
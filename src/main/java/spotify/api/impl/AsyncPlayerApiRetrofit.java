@@ -0,0 +1,222 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.enums.RepeatType;
+import spotify.api.interfaces.AsyncPlayerApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.paging.CursorBasedPaging;
+import spotify.models.players.CurrentlyPlayingObject;
+import spotify.models.players.DeviceCollection;
+import spotify.models.players.PlayHistory;
+import spotify.models.players.PlayingContext;
+import spotify.models.players.requests.ChangePlaybackStateRequestBody;
+import spotify.models.players.requests.TransferPlaybackRequestBody;
+import spotify.retrofit.services.PlayerService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncPlayerApiRetrofit implements AsyncPlayerApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncPlayerApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final PlayerService playerService;
+
+    public AsyncPlayerApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getPlayerService());
+    }
+
+    public AsyncPlayerApiRetrofit(final String accessToken, final PlayerService playerService) {
+        this(() -> accessToken, playerService);
+    }
+
+    public AsyncPlayerApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getPlayerService());
+    }
+
+    public AsyncPlayerApiRetrofit(final AccessTokenProvider accessTokenProvider, final PlayerService playerService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.playerService = playerService;
+        logger.warn("The /player endpoints are in beta. Spotify API changes may break any of these functions." +
+                "\nIf there are any issues please report them on GitHub." +
+                " https://github.com/jzheng2017/spotify-web-api-wrapper");
+    }
+
+    @Override
+    public CompletableFuture<DeviceCollection> getAvailableDevices() {
+        logger.trace("Constructing HTTP call to fetch current user's available devices.");
+        Call<DeviceCollection> httpCall = playerService.getAvailableDevices(accessTokenProvider.getAuthorizationHeader());
+
+        logger.info("Enqueueing HTTP call to fetch current user's available devices.");
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<PlayingContext> getCurrentPlayingContext(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch current playing context.");
+        Call<PlayingContext> httpCall = playerService.getCurrentPlayingContext(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch current playing context.");
+        logger.debug("Fetching current playing context with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<CursorBasedPaging<PlayHistory>> getRecentlyPlayedTracks(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch current user's recently played tracks.");
+        Call<CursorBasedPaging<PlayHistory>> httpCall = playerService.getRecentlyPlayedTracks(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch current user's recently played tracks.");
+        logger.debug("Fetching recently played tracks with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<CurrentlyPlayingObject> getCurrentlyPlayedObject(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch current user's currently played object.");
+        Call<CurrentlyPlayingObject> httpCall = playerService.getCurrentlyPlayingObject(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch current user's currently played object.");
+        logger.debug("Fetching currently played object with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> addItemToQueue(String uri, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to add item to the queue.");
+        Call<Void> httpCall = playerService.addItemToQueue(accessTokenProvider.getAuthorizationHeader(), uri, options);
+
+        logger.info("Enqueueing HTTP call to add item to the queue.");
+        logger.debug("Adding item to the queue with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> skipToNextTrack(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to skip to the next track.");
+        Call<Void> httpCall = playerService.skipToNextTrack(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to skip to the next track.");
+        logger.debug("Skipping to the next track with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> skipToPreviousTrack(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to skip to the previous track.");
+        Call<Void> httpCall = playerService.skipToPreviousTrack(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to skip to the previous track.");
+        logger.debug("Skipping to the previous track with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> pausePlayback(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to pause user's playback.");
+        Call<Void> httpCall = playerService.pausePlayback(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to pause user's playback.");
+        logger.debug("Pausing playback with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> jumpToPositionInCurrentTrack(int positionMs, Map<String, String> options) {
+        if (positionMs < 0) {
+            final String errorMessage = "Time position must be a positive number!";
+            logger.error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to jump to a position in the current track.");
+        Call<Void> httpCall = playerService.jumpToPositionInCurrentTrack(accessTokenProvider.getAuthorizationHeader(), positionMs, options);
+
+        logger.info("Enqueueing HTTP call to jump to a position in the current track.");
+        logger.debug("Jumping to position with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> setRepeatModePlayback(RepeatType repeatType, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to set the repeat mode of the playback.");
+        Call<Void> httpCall = playerService.setRepeatModePlayback(accessTokenProvider.getAuthorizationHeader(), repeatType, options);
+
+        logger.info("Enqueueing HTTP call to set the repeat mode of the playback.");
+        logger.debug("Setting the repeat mode of the playback with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> setVolumePlayback(int volumePercent, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to set the volume of the playback.");
+        Call<Void> httpCall = playerService.setVolumePlayback(accessTokenProvider.getAuthorizationHeader(), volumePercent, options);
+
+        logger.info("Enqueueing HTTP call to set the volume of the playback.");
+        logger.debug("Setting the volume of the playback with following values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> changePlaybackState(ChangePlaybackStateRequestBody requestBody) {
+        logger.trace("Constructing HTTP call to change the state of the playback.");
+        Call<Void> httpCall = playerService.changePlaybackState(accessTokenProvider.getAuthorizationHeader(), requestBody);
+
+        logger.info("Enqueueing HTTP call to change the state of the playback.");
+        logger.debug("Changing the state of the playback with following values: {}.", requestBody);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> shufflePlayback(boolean shuffle, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to toggle shuffle of the playback.");
+        Call<Void> httpCall = playerService.shufflePlayback(accessTokenProvider.getAuthorizationHeader(), shuffle, options);
+
+        logger.info("Enqueueing HTTP call to toggle shuffle of the playback.");
+        logger.debug("Toggling shuffle {} of the playback with following values: {}.", shuffle ? "on" : "off", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> transferPlayback(TransferPlaybackRequestBody requestBody) {
+        if (requestBody == null || requestBody.getDeviceIds() == null || requestBody.getDeviceIds().isEmpty()) {
+            final String errorMessage = "The request body has not been constructed correctly!";
+            logger.error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        logger.trace("Constructing HTTP call to transfer playback to devices.");
+        Call<Void> httpCall = playerService.transferPlayback(accessTokenProvider.getAuthorizationHeader(), requestBody);
+
+        logger.info("Enqueueing HTTP call to transfer playback to devices.");
+        logger.debug("Transferring playback to the following devices: {}", requestBody.getDeviceIds());
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.NO_CONTENT, logger);
+    }
+}
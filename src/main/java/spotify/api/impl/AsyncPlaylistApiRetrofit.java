@@ -0,0 +1,249 @@
+package spotify.api.impl;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncPlaylistApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.generic.Image;
+import spotify.models.paging.Paging;
+import spotify.models.playlists.PlaylistFull;
+import spotify.models.playlists.PlaylistSimplified;
+import spotify.models.playlists.PlaylistTrack;
+import spotify.models.playlists.Snapshot;
+import spotify.models.playlists.requests.*;
+import spotify.retrofit.services.PlaylistService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncPlaylistApiRetrofit implements AsyncPlaylistApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncPlaylistApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final PlaylistService playlistService;
+
+
+    public AsyncPlaylistApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getPlaylistService());
+    }
+
+    public AsyncPlaylistApiRetrofit(final String accessToken, final PlaylistService playlistService) {
+        this(() -> accessToken, playlistService);
+    }
+
+    public AsyncPlaylistApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getPlaylistService());
+    }
+
+    public AsyncPlaylistApiRetrofit(final AccessTokenProvider accessTokenProvider, final PlaylistService playlistService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.playlistService = playlistService;
+    }
+
+    @Override
+    public CompletableFuture<Paging<PlaylistSimplified>> getPlaylists(Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch current user's playlists.");
+        Call<Paging<PlaylistSimplified>> httpCall = playlistService.getPlaylists(accessTokenProvider.getAuthorizationHeader(), options);
+
+        logger.info("Enqueueing HTTP call to fetch current user's playlists.");
+        logger.debug("Fetching playlists with following parameter values: {}.", options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Paging<PlaylistSimplified>> getUserPlaylists(String userId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch a user's playlists.");
+        Call<Paging<PlaylistSimplified>> httpCall = playlistService.getUserPlaylists(accessTokenProvider.getAuthorizationHeader(), userId, options);
+
+        logger.info("Enqueueing HTTP call to fetch a user's playlists.");
+        logger.debug("Fetching playlists from user {} with the following parameter values: {}.", userId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<List<Image>> getPlaylistCoverImages(String playlistId) {
+        logger.trace("Constructing HTTP call to fetch a playlist cover images.");
+        Call<List<Image>> httpCall = playlistService.getPlaylistCoverImages(accessTokenProvider.getAuthorizationHeader(), playlistId);
+
+        logger.info("Enqueueing HTTP call to fetch a playlist cover images.");
+        logger.debug("Fetching playlist cover images with the playlist id: {}.", playlistId);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<PlaylistFull> getPlaylist(String playlistId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch a playlist.");
+        Call<PlaylistFull> httpCall = playlistService.getPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, options);
+
+        logger.info("Enqueueing HTTP call to fetch a playlist.");
+        logger.debug("Fetching playlist with the playlist id: {}, with the following parameter values: {}.", playlistId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Paging<PlaylistTrack>> getPlaylistTracks(String playlistId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch tracks of a playlist.");
+        Call<Paging<PlaylistTrack>> httpCall = playlistService.getPlaylistTracks(accessTokenProvider.getAuthorizationHeader(), playlistId, options);
+
+        logger.info("Enqueueing HTTP call to fetch tracks of a playlist.");
+        logger.debug("Fetching tracks of a playlist with the playlist id: {}, with the following parameter values: {}.", playlistId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Snapshot> addItemToPlaylist(List<String> listOfObjectUris, String playlistId, int startPositionToInsert) {
+        final AddItemPlaylistRequestBody requestBody = new AddItemPlaylistRequestBody(listOfObjectUris, startPositionToInsert);
+
+        logger.trace("Constructing HTTP call to add items to a playlist.");
+        Call<Snapshot> httpCall = playlistService.addItemToPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, requestBody);
+
+        logger.info("Enqueueing HTTP call to add items to a playlist.");
+        logger.debug("Adding the following items to the playlist: {} from position {}.", playlistId, startPositionToInsert);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.CREATED, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> createPlaylist(String userId, CreateUpdatePlaylistRequestBody requestBody) {
+        if (userId == null || requestBody.getName() == null || userId.isEmpty() || requestBody.getName().isEmpty()) {
+            final String errorMessage = "Required parameters are empty!";
+            logger.error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        logger.trace("Constructing HTTP call to create a playlist.");
+        Call<Void> httpCall = playlistService.createPlaylist(accessTokenProvider.getAuthorizationHeader(), userId, requestBody);
+
+        logger.info("Enqueueing HTTP call to create a playlist.");
+        logger.debug(
+                "Creating a playlist with the name: {} and description: {}. The playlist is {} and {}.",
+                requestBody.getName(),
+                requestBody.getDescription(),
+                requestBody.isPublic() ? "public" : "private",
+                requestBody.isCollaborative() ? "collaborative" : "not collaborative");
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.CREATED, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> updatePlaylist(String playlistId, CreateUpdatePlaylistRequestBody requestBody) {
+        if (playlistId == null || playlistId.isEmpty()) {
+            final String errorMessage = "Playlist id can not be empty!";
+            logger.error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        logger.trace("Constructing HTTP call to update a playlist.");
+        Call<Void> httpCall = playlistService.updatePlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, requestBody);
+
+        logger.info("Enqueueing HTTP call to update a playlist.");
+        logger.debug(
+                "Updating playlist {} with the name: {} and description: {}. The playlist is {} and {}.",
+                playlistId,
+                requestBody.getName(),
+                requestBody.getDescription(),
+                requestBody.isPublic() ? "public" : "private",
+                requestBody.isCollaborative() ? "collaborative" : "not collaborative");
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Snapshot> reorderPlaylistItems(String playlistId, ReorderPlaylistItemsRequestBody requestBody) {
+        validateParametersReorderFunction(playlistId, requestBody);
+
+        logger.trace("Constructing HTTP call to reorder items of a playlist.");
+        Call<Snapshot> httpCall = playlistService.reorderPlaylistItems(accessTokenProvider.getAuthorizationHeader(), playlistId, requestBody);
+
+        logger.info("Enqueueing HTTP call to reorder items of a playlist.");
+        logger.debug(
+                "Reordering items of playlist {} with snapshot id {} from start position {} with range of {} length and insert it in position {} ",
+                playlistId, requestBody.getSnapshotId(), requestBody.getRangeStart(), requestBody.getRangeLength(), requestBody.getInsertBefore()
+        );
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> replacePlaylistItems(String playlistId, List<String> listOfItemUris) {
+        if (playlistId == null || playlistId.isEmpty()) {
+            final String errorMessage = "Playlist id is empty!";
+            logger.error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        logger.trace("Constructing HTTP call to replace items of a playlist.");
+        Call<Void> httpCall = playlistService.replacePlaylistItems(accessTokenProvider.getAuthorizationHeader(), playlistId, new ReplacePlaylistItemsRequestBody(listOfItemUris));
+
+        logger.info("Enqueueing HTTP call to replace items of a playlist.");
+        logger.debug("Replacing items of playlist {} with the following items: {}", playlistId, listOfItemUris);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.CREATED, logger);
+    }
+
+    @Override
+    public CompletableFuture<Void> uploadCoverImageToPlaylist(String playlistId, String base64EncodedJpegImage) {
+        if (playlistId == null || base64EncodedJpegImage == null || playlistId.isEmpty() || base64EncodedJpegImage.isEmpty()) {
+            final String errorMessage = "Required parameters are empty!";
+            logger.error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        //this is done because Retrofit converts @Body automatically to json, by passing in a RequestBody with media type text/plain it will not be converted to json
+        logger.trace("Creating OkHttp3 request body with text/plain media type");
+        final RequestBody requestBody = RequestBody.create(MediaType.parse("text/plain"), base64EncodedJpegImage);
+
+        logger.trace("Constructing HTTP call to upload a cover image to a playlist.");
+        Call<Void> httpCall = playlistService.uploadCoverImageToPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, requestBody);
+
+        logger.info("Enqueueing HTTP call to upload a cover image to a playlist.");
+        logger.debug("Uploading cover image to playlist {}", playlistId);
+        logger.debug("Base64 encoded jpeg image data: {}", base64EncodedJpegImage);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.ACCEPTED, logger);
+    }
+
+    @Override
+    public CompletableFuture<Snapshot> deleteItemsFromPlaylist(String playlistId, DeleteItemsPlaylistRequestBody items) {
+        if (playlistId == null || playlistId.isEmpty()) {
+            final String errorMessage = "Playlist id is empty!";
+            logger.error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        if (items.getSnapshotId() != null && items.getSnapshotId().isEmpty()) {
+            logger.warn("An empty snapshot id was passed in. The snapshot id has now been set to NULL.");
+            items.setSnapshotId(null);
+        }
+
+        logger.trace("Constructing HTTP call to remove items from a playlist.");
+        Call<Snapshot> httpCall = playlistService.deleteItemsFromPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, items);
+
+        logger.info("Enqueueing HTTP call to remove items from a playlist.");
+        logger.debug("Removing items from playlist {} with snapshot id {}", playlistId, items.getSnapshotId());
+        logger.debug("Removing the following items {}", items);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    private void validateParametersReorderFunction(String playlistId, ReorderPlaylistItemsRequestBody requestBody) {
+        if (playlistId == null || playlistId.isEmpty()) {
+            final String errorMessage = "Playlist id can not be empty!";
+            logger.error(errorMessage);
+            throw new IllegalArgumentException(errorMessage);
+        }
+
+        if (requestBody.getSnapshotId() != null && requestBody.getSnapshotId().isEmpty()) {
+            logger.warn("An empty snapshot id was passed in. The snapshot id has now been set to NULL.");
+            requestBody.setSnapshotId(null);
+        }
+    }
+}
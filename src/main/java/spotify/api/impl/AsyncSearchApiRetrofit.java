@@ -0,0 +1,58 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.enums.QueryType;
+import spotify.api.interfaces.AsyncSearchApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.search.SearchQueryResult;
+import spotify.retrofit.services.SearchService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+public class AsyncSearchApiRetrofit implements AsyncSearchApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncSearchApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final SearchService searchService;
+
+    public AsyncSearchApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getSearchService());
+    }
+
+    public AsyncSearchApiRetrofit(final String accessToken, final SearchService searchService) {
+        this(() -> accessToken, searchService);
+    }
+
+    public AsyncSearchApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getSearchService());
+    }
+
+    public AsyncSearchApiRetrofit(final AccessTokenProvider accessTokenProvider, final SearchService searchService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.searchService = searchService;
+    }
+
+    @Override
+    public CompletableFuture<SearchQueryResult> searchItem(String query, List<QueryType> listOfQueryTypes, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        final String queryTypes = listOfQueryTypes.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        logger.trace("Constructing HTTP call to perform a query.");
+        Call<SearchQueryResult> httpCall = searchService.searchItem(accessTokenProvider.getAuthorizationHeader(), query, queryTypes, options);
+
+        logger.info("Enqueueing HTTP call to to perform a query.");
+        logger.debug("Performing the following query: {} on the following types: {}, with following values: {}.", query, queryTypes, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+}
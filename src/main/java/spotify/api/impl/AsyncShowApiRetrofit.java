@@ -0,0 +1,80 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncShowApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.episodes.EpisodeSimplified;
+import spotify.models.paging.Paging;
+import spotify.models.shows.ShowFull;
+import spotify.models.shows.ShowSimplifiedCollection;
+import spotify.retrofit.services.ShowService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncShowApiRetrofit implements AsyncShowApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncShowApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final ShowService showService;
+
+    public AsyncShowApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getShowService());
+    }
+
+    public AsyncShowApiRetrofit(final String accessToken, final ShowService showService) {
+        this(() -> accessToken, showService);
+    }
+
+    public AsyncShowApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getShowService());
+    }
+
+    public AsyncShowApiRetrofit(final AccessTokenProvider accessTokenProvider, final ShowService showService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.showService = showService;
+    }
+
+    @Override
+    public CompletableFuture<ShowFull> getShow(String showId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch show.");
+        Call<ShowFull> httpCall = showService.getShow(accessTokenProvider.getAuthorizationHeader(), showId, options);
+
+        logger.info("Enqueueing HTTP call to fetch show.");
+        logger.debug("Fetching show {} with following values: {}.", showId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<Paging<EpisodeSimplified>> getShowEpisodes(String showId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch show episodes.");
+        Call<Paging<EpisodeSimplified>> httpCall = showService.getShowEpisodes(accessTokenProvider.getAuthorizationHeader(), showId, options);
+
+        logger.info("Enqueueing HTTP call to fetch show episodes.");
+        logger.debug("Fetching show {} episodes with following values: {}.", showId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<ShowSimplifiedCollection> getShows(List<String> listOfShowIds, Map<String, String> options) {
+        String showIds = String.join(",", listOfShowIds);
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch multiple shows.");
+        Call<ShowSimplifiedCollection> httpCall = showService.getShows(accessTokenProvider.getAuthorizationHeader(), showIds, options);
+
+        logger.info("Enqueueing HTTP call to fetch multiple shows.");
+        logger.debug("Fetching following shows: {} with following values: {}.", showIds, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+}
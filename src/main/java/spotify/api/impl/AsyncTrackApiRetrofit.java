@@ -0,0 +1,126 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncTrackApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioFeatures;
+import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.retrofit.services.TrackService;
+import spotify.utils.AsyncHttpUtil;
+import spotify.utils.ValidatorUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncTrackApiRetrofit implements AsyncTrackApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncTrackApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final TrackService trackService;
+
+    public AsyncTrackApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getTrackService());
+    }
+
+    public AsyncTrackApiRetrofit(final String accessToken, final TrackService trackService) {
+        this(() -> accessToken, trackService);
+    }
+
+    public AsyncTrackApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getTrackService());
+    }
+
+    public AsyncTrackApiRetrofit(final AccessTokenProvider accessTokenProvider, final TrackService trackService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.trackService = trackService;
+    }
+
+    @Override
+    public CompletableFuture<TrackFull> getTrack(String trackId, Map<String, String> options) {
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        logger.trace("Constructing HTTP call to fetch a track.");
+        Call<TrackFull> httpCall = trackService.getTrack(accessTokenProvider.getAuthorizationHeader(), trackId, options);
+
+        logger.info("Enqueueing HTTP call to fetch a track.");
+        logger.debug("Fetching track {} with following values: {}.", trackId, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<TrackFullCollection> getTracks(List<String> listOfTrackIds, Map<String, String> options) {
+        validateTrackListSizeAndThrowIfExceeded(listOfTrackIds, 50);
+        options = ValidatorUtil.optionsValueCheck(options);
+
+        String trackIds = String.join(",", listOfTrackIds);
+
+        logger.trace("Constructing HTTP call to fetch multiple tracks.");
+        Call<TrackFullCollection> httpCall = trackService.getTracks(accessTokenProvider.getAuthorizationHeader(), trackIds, options);
+
+        logger.info("Enqueueing HTTP call to fetch multiple tracks.");
+        logger.debug("Fetching following tracks: {} with following values: {}.", trackIds, options);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<AudioFeatures> getTrackAudioFeatures(String trackId) {
+        logger.trace("Constructing HTTP call to fetch audio features.");
+        Call<AudioFeatures> httpCall = trackService.getTrackAudioFeatures(accessTokenProvider.getAuthorizationHeader(), trackId);
+
+        logger.info("Enqueueing HTTP call to fetch multiple track audio features.");
+        logger.debug("Fetching track {} audio features.", trackId);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<AudioFeaturesCollection> getTracksAudioFeatures(List<String> listOfTrackIds) {
+        validateTrackListSizeAndThrowIfExceeded(listOfTrackIds, 100);
+
+        String trackIds = String.join(",", listOfTrackIds);
+
+        logger.trace("Constructing HTTP call to fetch audio features.");
+        Call<AudioFeaturesCollection> httpCall = trackService.getTracksAudioFeatures(accessTokenProvider.getAuthorizationHeader(), trackIds);
+
+        logger.info("Enqueueing HTTP call to fetch track audio features.");
+        logger.debug("Fetching following tracks: {} audio features.", trackIds);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<AudioAnalysis> getTrackAudioAnalysis(String trackId) {
+        logger.trace("Constructing HTTP call to fetch audio analysis.");
+        Call<AudioAnalysis> httpCall = trackService.getTrackAudioAnalysis(accessTokenProvider.getAuthorizationHeader(), trackId);
+
+        logger.info("Enqueueing HTTP call to fetch audio analysis for track {}.", trackId);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<ColumnarAudioAnalysis> getTrackColumnarAudioAnalysis(String trackId) {
+        logger.trace("Constructing HTTP call to fetch columnar audio analysis.");
+        Call<ColumnarAudioAnalysis> httpCall = trackService.getTrackColumnarAudioAnalysis(accessTokenProvider.getAuthorizationHeader(), trackId);
+
+        logger.info("Enqueueing HTTP call to fetch columnar audio analysis for track {}.", trackId);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    private void validateTrackListSizeAndThrowIfExceeded(List<String> listOfTrackIds, int maximumAmountOfTrackIdsAllowed) {
+        final int listSize = listOfTrackIds.size();
+
+        if (listSize > maximumAmountOfTrackIdsAllowed) {
+            logger.error("The list of track ids has exceeded the maximum allowed amount!");
+            throw new IllegalArgumentException(String.format(
+                    "The maximum amount of track ids allowed is %d! You have %d.",
+                    maximumAmountOfTrackIdsAllowed,
+                    listSize));
+        }
+    }
+}
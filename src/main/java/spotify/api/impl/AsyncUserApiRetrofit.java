@@ -0,0 +1,55 @@
+package spotify.api.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.AsyncUserApi;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.users.User;
+import spotify.retrofit.services.UserService;
+import spotify.utils.AsyncHttpUtil;
+
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncUserApiRetrofit implements AsyncUserApi {
+    private final Logger logger = LoggerFactory.getLogger(AsyncUserApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private UserService userService;
+
+    public AsyncUserApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getUserService());
+    }
+
+    public AsyncUserApiRetrofit(final String accessToken, final UserService userService) {
+        this(() -> accessToken, userService);
+    }
+
+    public AsyncUserApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getUserService());
+    }
+
+    public AsyncUserApiRetrofit(final AccessTokenProvider accessTokenProvider, final UserService userService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.userService = userService;
+    }
+
+    @Override
+    public CompletableFuture<User> getCurrentUser() {
+        logger.trace("Constructing HTTP call to fetch current user.");
+        Call<User> httpCall = userService.getCurrentUser(accessTokenProvider.getAuthorizationHeader());
+
+        logger.info("Enqueueing HTTP call to fetch current user.");
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+
+    @Override
+    public CompletableFuture<User> getUser(String userId) {
+        logger.trace("Constructing HTTP call to fetch user.");
+        Call<User> httpCall = userService.getUser(accessTokenProvider.getAuthorizationHeader(), userId);
+
+        logger.info("Enqueueing HTTP call to fetch user with id {}.", userId);
+        return AsyncHttpUtil.enqueue(httpCall, HttpStatusCode.OK, logger);
+    }
+}
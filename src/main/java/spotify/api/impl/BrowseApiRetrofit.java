@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.BrowseApi;
 import spotify.exceptions.HttpRequestFailedException;
@@ -25,7 +26,7 @@ import java.util.Map;
 
 public class BrowseApiRetrofit implements BrowseApi {
     private final Logger logger = LoggerFactory.getLogger(BrowseApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final BrowseService browseService;
 
     public BrowseApiRetrofit(final String accessToken) {
@@ -33,7 +34,15 @@ public class BrowseApiRetrofit implements BrowseApi {
     }
 
     public BrowseApiRetrofit(final String accessToken, final BrowseService browseService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, browseService);
+    }
+
+    public BrowseApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getBrowseService());
+    }
+
+    public BrowseApiRetrofit(final AccessTokenProvider accessTokenProvider, final BrowseService browseService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.browseService = browseService;
     }
 
@@ -42,7 +51,7 @@ public class BrowseApiRetrofit implements BrowseApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch category.");
-        Call<CategoryFull> httpCall = browseService.getCategory("Bearer " + this.accessToken, categoryId, options);
+        Call<CategoryFull> httpCall = browseService.getCategory(accessTokenProvider.getAuthorizationHeader(), categoryId, options);
 
         try {
             logger.info("Executing HTTP call to fetch category.");
@@ -65,7 +74,7 @@ public class BrowseApiRetrofit implements BrowseApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch category playlists.");
-        Call<PlaylistSimplifiedPaging> httpCall = browseService.getCategoryPlaylists("Bearer " + this.accessToken, categoryId, options);
+        Call<PlaylistSimplifiedPaging> httpCall = browseService.getCategoryPlaylists(accessTokenProvider.getAuthorizationHeader(), categoryId, options);
 
         try {
             logger.info("Executing HTTP call to fetch category playlists.");
@@ -88,7 +97,7 @@ public class BrowseApiRetrofit implements BrowseApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch categories.");
-        Call<CategoryFullPaging> httpCall = browseService.getCategories("Bearer " + this.accessToken, options);
+        Call<CategoryFullPaging> httpCall = browseService.getCategories(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch categories.");
@@ -111,7 +120,7 @@ public class BrowseApiRetrofit implements BrowseApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch featured playlists.");
-        Call<FeaturedPlaylistCollection> httpCall = browseService.getFeaturedPlaylists("Bearer " + this.accessToken, options);
+        Call<FeaturedPlaylistCollection> httpCall = browseService.getFeaturedPlaylists(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch featured playlists.");
@@ -134,7 +143,7 @@ public class BrowseApiRetrofit implements BrowseApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch new releases.");
-        Call<AlbumSimplifiedPaging> httpCall = browseService.getNewReleases("Bearer " + this.accessToken, options);
+        Call<AlbumSimplifiedPaging> httpCall = browseService.getNewReleases(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch new releases.");
@@ -159,7 +168,7 @@ public class BrowseApiRetrofit implements BrowseApi {
         mapSeedParameters(listOfSeedArtists, listOfSeedGenres, listOfSeedTracks, options);
 
         logger.trace("Constructing HTTP call to fetch recommendations.");
-        Call<RecommendationCollection> httpCall = browseService.getRecommendations("Bearer " + this.accessToken, options);
+        Call<RecommendationCollection> httpCall = browseService.getRecommendations(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch recommendations.");
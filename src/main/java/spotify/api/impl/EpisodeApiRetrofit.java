@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.EpisodeApi;
 import spotify.exceptions.HttpRequestFailedException;
@@ -21,7 +22,7 @@ import java.util.Map;
 
 public class EpisodeApiRetrofit implements EpisodeApi {
     private final Logger logger = LoggerFactory.getLogger(EpisodeApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final EpisodeService episodeService;
 
     public EpisodeApiRetrofit(final String accessToken) {
@@ -29,7 +30,15 @@ public class EpisodeApiRetrofit implements EpisodeApi {
     }
 
     public EpisodeApiRetrofit(final String accessToken, final EpisodeService episodeService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, episodeService);
+    }
+
+    public EpisodeApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getEpisodeService());
+    }
+
+    public EpisodeApiRetrofit(final AccessTokenProvider accessTokenProvider, final EpisodeService episodeService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.episodeService = episodeService;
     }
 
@@ -38,7 +47,7 @@ public class EpisodeApiRetrofit implements EpisodeApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch episode.");
-        Call<EpisodeFull> httpCall = episodeService.getEpisode("Bearer " + this.accessToken, episodeId, options);
+        Call<EpisodeFull> httpCall = episodeService.getEpisode(accessTokenProvider.getAuthorizationHeader(), episodeId, options);
 
         try {
             logger.info("Executing HTTP call to fetch episode.");
@@ -64,7 +73,7 @@ public class EpisodeApiRetrofit implements EpisodeApi {
         String episodeIds = String.join(",", listOfEpisodeIds);
 
         logger.trace("Constructing HTTP call to fetch multiple episodes.");
-        Call<EpisodeFullCollection> httpCall = episodeService.getEpisodes("Bearer " + this.accessToken, episodeIds, options);
+        Call<EpisodeFullCollection> httpCall = episodeService.getEpisodes(accessTokenProvider.getAuthorizationHeader(), episodeIds, options);
 
         try {
             logger.info("Executing HTTP call to fetch multiple episodes.");
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.EntityType;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.FollowApi;
@@ -25,7 +26,7 @@ import java.util.Map;
 
 public class FollowApiRetrofit implements FollowApi {
     private final Logger logger = LoggerFactory.getLogger(FollowApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final FollowService followService;
 
     public FollowApiRetrofit(final String accessToken) {
@@ -33,7 +34,15 @@ public class FollowApiRetrofit implements FollowApi {
     }
 
     public FollowApiRetrofit(final String accessToken, final FollowService followService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, followService);
+    }
+
+    public FollowApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getFollowService());
+    }
+
+    public FollowApiRetrofit(final AccessTokenProvider accessTokenProvider, final FollowService followService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.followService = followService;
     }
 
@@ -42,7 +51,7 @@ public class FollowApiRetrofit implements FollowApi {
         String entityIds = String.join(",", listOfEntityIds);
 
         logger.trace("Constructing HTTP call to check if user follows the provided entities.");
-        Call<List<Boolean>> httpCall = followService.isFollowing("Bearer " + this.accessToken, entityType, entityIds);
+        Call<List<Boolean>> httpCall = followService.isFollowing(accessTokenProvider.getAuthorizationHeader(), entityType, entityIds);
 
         try {
             logger.info("Executing HTTP call to check if user follows the provided entities.");
@@ -65,7 +74,7 @@ public class FollowApiRetrofit implements FollowApi {
         String userIds = String.join(",", listOfUserIds);
 
         logger.trace("Constructing HTTP call to check if users are following the playlist.");
-        Call<List<Boolean>> httpCall = followService.isFollowingPlaylist("Bearer " + this.accessToken, playlistId, userIds);
+        Call<List<Boolean>> httpCall = followService.isFollowingPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, userIds);
 
         try {
             logger.info("Executing HTTP call to check if users are following the playlist.");
@@ -88,7 +97,7 @@ public class FollowApiRetrofit implements FollowApi {
         String entityIds = String.join(",", listOfEntityIds);
 
         logger.trace("Constructing HTTP call to follow entities.");
-        Call<Void> httpCall = followService.followEntities("Bearer " + this.accessToken, entityType, entityIds);
+        Call<Void> httpCall = followService.followEntities(accessTokenProvider.getAuthorizationHeader(), entityType, entityIds);
 
         try {
             logger.info("Executing HTTP call to follow entities.");
@@ -108,7 +117,7 @@ public class FollowApiRetrofit implements FollowApi {
     @Override
     public void followPlaylist(String playlistId, boolean setPlaylistPublic) {
         logger.trace("Constructing HTTP call to follow playlist.");
-        Call<Void> httpCall = followService.followPlaylist("Bearer " + this.accessToken, playlistId, new FollowPlaylistRequestBody(setPlaylistPublic));
+        Call<Void> httpCall = followService.followPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, new FollowPlaylistRequestBody(setPlaylistPublic));
 
         try {
             logger.info("Executing HTTP call to follow playlist.");
@@ -130,7 +139,7 @@ public class FollowApiRetrofit implements FollowApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch followed artists of the current user.");
-        Call<ArtistFullCursorBasedPagingWrapper> httpCall = followService.getFollowedArtists("Bearer " + this.accessToken, entityType, options);
+        Call<ArtistFullCursorBasedPagingWrapper> httpCall = followService.getFollowedArtists(accessTokenProvider.getAuthorizationHeader(), entityType, options);
 
         try {
             logger.info("Executing HTTP call to fetch followed artists of the current user.");
@@ -160,7 +169,7 @@ public class FollowApiRetrofit implements FollowApi {
         String entityIds = String.join(",", listOfEntityIds);
 
         logger.trace("Constructing HTTP call to unfollow entities.");
-        Call<Void> httpCall = followService.unfollowEntities("Bearer " + this.accessToken, entityType, entityIds);
+        Call<Void> httpCall = followService.unfollowEntities(accessTokenProvider.getAuthorizationHeader(), entityType, entityIds);
 
         try {
             logger.info("Executing HTTP call to unfollow entities.");
@@ -180,7 +189,7 @@ public class FollowApiRetrofit implements FollowApi {
     @Override
     public void unfollowPlaylist(String playlistId) {
         logger.trace("Constructing HTTP call to unfollow playlist.");
-        Call<Void> httpCall = followService.unfollowPlaylist("Bearer " + this.accessToken, playlistId);
+        Call<Void> httpCall = followService.unfollowPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId);
 
         try {
             logger.info("Executing HTTP call to unfollow playlist.");
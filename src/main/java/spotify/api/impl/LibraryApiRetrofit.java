@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.LibraryApi;
 import spotify.exceptions.HttpRequestFailedException;
@@ -23,7 +24,7 @@ import java.util.Map;
 
 public class LibraryApiRetrofit implements LibraryApi {
     private final Logger logger = LoggerFactory.getLogger(LibraryApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final LibraryService libraryService;
 
     public LibraryApiRetrofit(final String accessToken) {
@@ -31,7 +32,15 @@ public class LibraryApiRetrofit implements LibraryApi {
     }
 
     public LibraryApiRetrofit(final String accessToken, final LibraryService libraryService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, libraryService);
+    }
+
+    public LibraryApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getLibraryService());
+    }
+
+    public LibraryApiRetrofit(final AccessTokenProvider accessTokenProvider, final LibraryService libraryService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.libraryService = libraryService;
     }
 
@@ -40,7 +49,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         String albumIds = String.join(",", listOfAlbumIds);
 
         logger.trace("Constructing HTTP call check if current user has saved the given albums ");
-        Call<List<Boolean>> httpCall = libraryService.hasSavedAlbums("Bearer " + this.accessToken, albumIds);
+        Call<List<Boolean>> httpCall = libraryService.hasSavedAlbums(accessTokenProvider.getAuthorizationHeader(), albumIds);
 
         try {
             logger.info("Executing HTTP call to check saved albums.");
@@ -63,7 +72,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         String showIds = String.join(",", listOfShowIds);
 
         logger.trace("Constructing HTTP call check if current user has saved the given shows ");
-        Call<List<Boolean>> httpCall = libraryService.hasSavedShows("Bearer " + this.accessToken, showIds);
+        Call<List<Boolean>> httpCall = libraryService.hasSavedShows(accessTokenProvider.getAuthorizationHeader(), showIds);
 
         try {
             logger.info("Executing HTTP call to check saved shows.");
@@ -86,7 +95,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         String trackIds = String.join(",", listOfTrackIds);
 
         logger.trace("Constructing HTTP call check if current user has saved the given tracks ");
-        Call<List<Boolean>> httpCall = libraryService.hasSavedTracks("Bearer " + this.accessToken, trackIds);
+        Call<List<Boolean>> httpCall = libraryService.hasSavedTracks(accessTokenProvider.getAuthorizationHeader(), trackIds);
 
         try {
             logger.info("Executing HTTP call to check saved tracks.");
@@ -109,7 +118,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call fetch current user saved albums");
-        Call<Paging<SavedAlbumFull>> httpCall = libraryService.getSavedAlbums("Bearer " + this.accessToken, options);
+        Call<Paging<SavedAlbumFull>> httpCall = libraryService.getSavedAlbums(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch current user saved albums");
@@ -132,7 +141,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call fetch current user saved shows");
-        Call<Paging<SavedShowSimplified>> httpCall = libraryService.getSavedShows("Bearer " + this.accessToken, options);
+        Call<Paging<SavedShowSimplified>> httpCall = libraryService.getSavedShows(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch current user saved shows");
@@ -155,7 +164,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call fetch current user saved tracks");
-        Call<Paging<SavedTrackFull>> httpCall = libraryService.getSavedTracks("Bearer " + this.accessToken, options);
+        Call<Paging<SavedTrackFull>> httpCall = libraryService.getSavedTracks(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch current user saved tracks");
@@ -179,7 +188,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         String albumIds = String.join(",", listOfAlbumIds);
 
         logger.trace("Constructing HTTP call to save the given albums");
-        Call<Void> httpCall = libraryService.saveAlbums("Bearer " + this.accessToken, albumIds);
+        Call<Void> httpCall = libraryService.saveAlbums(accessTokenProvider.getAuthorizationHeader(), albumIds);
 
         try {
             logger.info("Executing HTTP call to save the given albums.");
@@ -201,7 +210,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         String showIds = String.join(",", listOfShowIds);
 
         logger.trace("Constructing HTTP call to save the given shows");
-        Call<Void> httpCall = libraryService.saveShows("Bearer " + this.accessToken, showIds);
+        Call<Void> httpCall = libraryService.saveShows(accessTokenProvider.getAuthorizationHeader(), showIds);
 
         try {
             logger.info("Executing HTTP call to save the given shows.");
@@ -223,7 +232,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         String trackIds = String.join(",", listOfTrackIds);
 
         logger.trace("Constructing HTTP call to save the given tracks");
-        Call<Void> httpCall = libraryService.saveTracks("Bearer " + this.accessToken, trackIds);
+        Call<Void> httpCall = libraryService.saveTracks(accessTokenProvider.getAuthorizationHeader(), trackIds);
 
         try {
             logger.info("Executing HTTP call to save the given tracks.");
@@ -245,7 +254,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         String albumIds = String.join(",", listOfAlbumIds);
 
         logger.trace("Constructing HTTP call to delete the saved albums");
-        Call<Void> httpCall = libraryService.deleteAlbums("Bearer " + this.accessToken, albumIds);
+        Call<Void> httpCall = libraryService.deleteAlbums(accessTokenProvider.getAuthorizationHeader(), albumIds);
 
         try {
             logger.info("Executing HTTP call to delete the saved albums.");
@@ -269,7 +278,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         String showIds = String.join(",", listOfShowIds);
 
         logger.trace("Constructing HTTP call to delete the saved shows");
-        Call<Void> httpCall = libraryService.deleteShows("Bearer " + this.accessToken, showIds, options);
+        Call<Void> httpCall = libraryService.deleteShows(accessTokenProvider.getAuthorizationHeader(), showIds, options);
 
         try {
             logger.info("Executing HTTP call to delete the saved shows.");
@@ -291,7 +300,7 @@ public class LibraryApiRetrofit implements LibraryApi {
         String trackIds = String.join(",", listOfTrackIds);
 
         logger.trace("Constructing HTTP call to delete the saved tracks");
-        Call<Void> httpCall = libraryService.deleteTracks("Bearer " + this.accessToken, trackIds);
+        Call<Void> httpCall = libraryService.deleteTracks(accessTokenProvider.getAuthorizationHeader(), trackIds);
 
         try {
             logger.info("Executing HTTP call to delete the saved tracks.");
@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.MarketApi;
 import spotify.exceptions.HttpRequestFailedException;
@@ -18,7 +19,7 @@ import spotify.utils.ResponseChecker;
 
 public class MarketApiRetrofit implements MarketApi {
     private final Logger logger = LoggerFactory.getLogger(MarketApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final MarketService marketService;
 
     public MarketApiRetrofit(final String accessToken) {
@@ -26,14 +27,22 @@ public class MarketApiRetrofit implements MarketApi {
     }
 
     public MarketApiRetrofit(final String accessToken, final MarketService marketService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, marketService);
+    }
+
+    public MarketApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getMarketService());
+    }
+
+    public MarketApiRetrofit(final AccessTokenProvider accessTokenProvider, final MarketService marketService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.marketService = marketService;
     }
 
     @Override
     public MarketFull getMarkets(){
         logger.trace("Constructing HTTP call to fetch markets.");
-        Call<MarketFull> httpCall = marketService.getMarkets("Bearer " + this.accessToken);
+        Call<MarketFull> httpCall = marketService.getMarkets(accessTokenProvider.getAuthorizationHeader());
 
         try {
             logger.info("Executing HTTP call to fetch markets.");
@@ -0,0 +1,133 @@
+package spotify.api.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import okhttp3.ResponseBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.enums.HttpStatusCode;
+import spotify.api.interfaces.PagingApi;
+import spotify.config.ApiUrl;
+import spotify.exceptions.HttpRequestFailedException;
+import spotify.factories.ConverterRegistry;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.paging.CursorBasedPaging;
+import spotify.models.paging.Paging;
+import spotify.retrofit.services.PagingService;
+import spotify.utils.LoggingUtil;
+import spotify.utils.ResponseChecker;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Requests the pages that the {@code next} and {@code previous} URLs of a page point to.
+ * <p>
+ * The URLs already hold the offset or cursor, the limit and the other options of the request of the page, so they are
+ * sent as they are. Some endpoints, such as the categories and search, wrap their page in an object with one
+ * property; such a wrapper is unwrapped, so the page has the same type as the page it came from.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class PagingApiRetrofit implements PagingApi {
+    private static final String API_URL_PREFIX = ApiUrl.API_URL_HTTPS + ApiUrl.VERSION;
+
+    private final Logger logger = LoggerFactory.getLogger(PagingApiRetrofit.class);
+    private final AccessTokenProvider accessTokenProvider;
+    private final PagingService pagingService;
+    private final Gson gson = ConverterRegistry.getGsonWithPlayableObjects();
+
+    public PagingApiRetrofit(final String accessToken) {
+        this(accessToken, RetrofitHttpServiceFactory.getPagingService());
+    }
+
+    public PagingApiRetrofit(final String accessToken, final PagingService pagingService) {
+        this(() -> accessToken, pagingService);
+    }
+
+    public PagingApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getPagingService());
+    }
+
+    public PagingApiRetrofit(final AccessTokenProvider accessTokenProvider, final PagingService pagingService) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.pagingService = pagingService;
+    }
+
+    @Override
+    public <T> Paging<T> getNextPage(Paging<T> paging, Class<T> itemType) {
+        return paging.getNext() == null ? null : getPage(paging.getNext(), TypeToken.getParameterized(Paging.class, itemType).getType());
+    }
+
+    @Override
+    public <T> Paging<T> getPreviousPage(Paging<T> paging, Class<T> itemType) {
+        return paging.getPrevious() == null ? null : getPage(paging.getPrevious(), TypeToken.getParameterized(Paging.class, itemType).getType());
+    }
+
+    @Override
+    public <T> CursorBasedPaging<T> getNextPage(CursorBasedPaging<T> paging, Class<T> itemType) {
+        return paging.getNext() == null ? null : getPage(paging.getNext(), TypeToken.getParameterized(CursorBasedPaging.class, itemType).getType());
+    }
+
+    private <P> P getPage(final String pageUrl, final Type pageType) {
+        if (!pageUrl.startsWith(API_URL_PREFIX)) {
+            logger.error("The URL of the page is not an URL of the Spotify Web API!");
+            throw new IllegalArgumentException("The URL of the page must start with " + API_URL_PREFIX + "!");
+        }
+
+        logger.trace("Constructing HTTP call to fetch a page.");
+        Call<ResponseBody> httpCall = pagingService.getPage(accessTokenProvider.getAuthorizationHeader(), pageUrl);
+
+        try {
+            logger.info("Executing HTTP call to fetch a page.");
+            logger.debug("Fetching page with the following url: {}.", pageUrl);
+            LoggingUtil.logHttpCall(logger, httpCall);
+            Response<ResponseBody> response = httpCall.execute();
+
+            ResponseChecker.throwIfRequestHasNotBeenFulfilledCorrectly(response, HttpStatusCode.OK);
+
+            try (ResponseBody responseBody = response.body();
+                 Reader reader = responseBody.charStream()) {
+                final P page = gson.fromJson(unwrap(new JsonParser().parse(reader)), pageType);
+
+                logger.info("Page has been successfully fetched.");
+                return page;
+            }
+        } catch (IOException ex) {
+            logger.error("HTTP request to fetch a page has failed.");
+            throw new HttpRequestFailedException(ex.getMessage());
+        }
+    }
+
+    /**
+     * Returns the page in a wrapper object such as {@code {"categories": {...}}}, or the element itself when it is the
+     * page.
+     */
+    private static JsonElement unwrap(final JsonElement element) {
+        if (!element.isJsonObject()) {
+            throw new JsonParseException("The page is not a JSON object!");
+        }
+
+        final JsonObject object = element.getAsJsonObject();
+
+        if (!object.has("items") && object.size() == 1) {
+            final Map.Entry<String, JsonElement> property = object.entrySet().iterator().next();
+
+            if (property.getValue().isJsonObject() && property.getValue().getAsJsonObject().has("items")) {
+                return property.getValue();
+            }
+        }
+
+        return object;
+    }
+}
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.PersonalizationApi;
 import spotify.exceptions.HttpRequestFailedException;
@@ -21,7 +22,7 @@ import java.util.Map;
 
 public class PersonalizationApiRetrofit implements PersonalizationApi {
     private final Logger logger = LoggerFactory.getLogger(PersonalizationApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final PersonalizationService personalizationService;
 
     public PersonalizationApiRetrofit(final String accessToken) {
@@ -29,7 +30,15 @@ public class PersonalizationApiRetrofit implements PersonalizationApi {
     }
 
     public PersonalizationApiRetrofit(final String accessToken, final PersonalizationService personalizationService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, personalizationService);
+    }
+
+    public PersonalizationApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getPersonalizationService());
+    }
+
+    public PersonalizationApiRetrofit(final AccessTokenProvider accessTokenProvider, final PersonalizationService personalizationService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.personalizationService = personalizationService;
     }
 
@@ -38,7 +47,7 @@ public class PersonalizationApiRetrofit implements PersonalizationApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch top artists.");
-        Call<Paging<ArtistFull>> httpCall = personalizationService.getTopArtists("Bearer " + this.accessToken, options);
+        Call<Paging<ArtistFull>> httpCall = personalizationService.getTopArtists(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch top artists.");
@@ -61,7 +70,7 @@ public class PersonalizationApiRetrofit implements PersonalizationApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch top tracks.");
-        Call<Paging<TrackFull>> httpCall = personalizationService.getTopTracks("Bearer " + this.accessToken, options);
+        Call<Paging<TrackFull>> httpCall = personalizationService.getTopTracks(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch top tracks.");
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.enums.RepeatType;
 import spotify.api.interfaces.PlayerApi;
@@ -26,7 +27,7 @@ import java.util.Map;
 
 public class PlayerApiRetrofit implements PlayerApi {
     private final Logger logger = LoggerFactory.getLogger(PlayerApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final PlayerService playerService;
 
     public PlayerApiRetrofit(final String accessToken) {
@@ -34,7 +35,15 @@ public class PlayerApiRetrofit implements PlayerApi {
     }
 
     public PlayerApiRetrofit(final String accessToken, final PlayerService playerService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, playerService);
+    }
+
+    public PlayerApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getPlayerService());
+    }
+
+    public PlayerApiRetrofit(final AccessTokenProvider accessTokenProvider, final PlayerService playerService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.playerService = playerService;
         logger.warn("The /player endpoints are in beta. Spotify API changes may break any of these functions." +
                 "\nIf there are any issues please report them on GitHub." +
@@ -44,7 +53,7 @@ public class PlayerApiRetrofit implements PlayerApi {
     @Override
     public DeviceCollection getAvailableDevices() {
         logger.trace("Constructing HTTP call to fetch current user's available devices.");
-        Call<DeviceCollection> httpCall = playerService.getAvailableDevices("Bearer " + this.accessToken);
+        Call<DeviceCollection> httpCall = playerService.getAvailableDevices(accessTokenProvider.getAuthorizationHeader());
 
         try {
             logger.info("Executing HTTP call to fetch current user's available devices.");
@@ -66,7 +75,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch current playing context.");
-        Call<PlayingContext> httpCall = playerService.getCurrentPlayingContext("Bearer " + this.accessToken, options);
+        Call<PlayingContext> httpCall = playerService.getCurrentPlayingContext(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch current playing context.");
@@ -89,7 +98,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch current user's recently played tracks.");
-        Call<CursorBasedPaging<PlayHistory>> httpCall = playerService.getRecentlyPlayedTracks("Bearer " + this.accessToken, options);
+        Call<CursorBasedPaging<PlayHistory>> httpCall = playerService.getRecentlyPlayedTracks(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch current user's recently played tracks.");
@@ -112,7 +121,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch current user's currently played object.");
-        Call<CurrentlyPlayingObject> httpCall = playerService.getCurrentlyPlayingObject("Bearer " + this.accessToken, options);
+        Call<CurrentlyPlayingObject> httpCall = playerService.getCurrentlyPlayingObject(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch current user's currently played object.");
@@ -135,7 +144,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to add item to the queue.");
-        Call<Void> httpCall = playerService.addItemToQueue("Bearer " + this.accessToken, uri, options);
+        Call<Void> httpCall = playerService.addItemToQueue(accessTokenProvider.getAuthorizationHeader(), uri, options);
 
         try {
             logger.info("Executing HTTP call to add item to the queue.");
@@ -157,7 +166,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to skip to the next track.");
-        Call<Void> httpCall = playerService.skipToNextTrack("Bearer " + this.accessToken, options);
+        Call<Void> httpCall = playerService.skipToNextTrack(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to skip to the next track.");
@@ -179,7 +188,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to skip to the previous track.");
-        Call<Void> httpCall = playerService.skipToPreviousTrack("Bearer " + this.accessToken, options);
+        Call<Void> httpCall = playerService.skipToPreviousTrack(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to skip to the previous track.");
@@ -201,7 +210,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to pause user's playback.");
-        Call<Void> httpCall = playerService.pausePlayback("Bearer " + this.accessToken, options);
+        Call<Void> httpCall = playerService.pausePlayback(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to pause user's playback.");
@@ -229,7 +238,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to jump to a position in the current track.");
-        Call<Void> httpCall = playerService.jumpToPositionInCurrentTrack("Bearer " + this.accessToken, positionMs, options);
+        Call<Void> httpCall = playerService.jumpToPositionInCurrentTrack(accessTokenProvider.getAuthorizationHeader(), positionMs, options);
 
         try {
             logger.info("Executing HTTP call to jump to a position in the current track.");
@@ -251,7 +260,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to set the repeat mode of the playback.");
-        Call<Void> httpCall = playerService.setRepeatModePlayback("Bearer " + this.accessToken, repeatType, options);
+        Call<Void> httpCall = playerService.setRepeatModePlayback(accessTokenProvider.getAuthorizationHeader(), repeatType, options);
 
         try {
             logger.info("Executing HTTP call to set the repeat mode of the playback.");
@@ -273,7 +282,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to set the volume of the playback.");
-        Call<Void> httpCall = playerService.setVolumePlayback("Bearer " + this.accessToken, volumePercent, options);
+        Call<Void> httpCall = playerService.setVolumePlayback(accessTokenProvider.getAuthorizationHeader(), volumePercent, options);
 
         try {
             logger.info("Executing HTTP call to set the volume of the playback.");
@@ -293,7 +302,7 @@ public class PlayerApiRetrofit implements PlayerApi {
     @Override
     public void changePlaybackState(ChangePlaybackStateRequestBody requestBody) {
         logger.trace("Constructing HTTP call to change the state of the playback.");
-        Call<Void> httpCall = playerService.changePlaybackState("Bearer " + this.accessToken, requestBody);
+        Call<Void> httpCall = playerService.changePlaybackState(accessTokenProvider.getAuthorizationHeader(), requestBody);
 
         try {
             logger.info("Executing HTTP call to change the state of the playback.");
@@ -315,7 +324,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to toggle shuffle of the playback.");
-        Call<Void> httpCall = playerService.shufflePlayback("Bearer " + this.accessToken, shuffle, options);
+        Call<Void> httpCall = playerService.shufflePlayback(accessTokenProvider.getAuthorizationHeader(), shuffle, options);
 
         try {
             logger.info("Executing HTTP call to toggle shuffle of the playback.");
@@ -341,7 +350,7 @@ public class PlayerApiRetrofit implements PlayerApi {
         }
 
         logger.trace("Constructing HTTP call to transfer playback to devices.");
-        Call<Void> httpCall = playerService.transferPlayback("Bearer " + this.accessToken, requestBody);
+        Call<Void> httpCall = playerService.transferPlayback(accessTokenProvider.getAuthorizationHeader(), requestBody);
 
         try {
             logger.info("Executing HTTP call to transfer playback to devices.");
@@ -6,6 +6,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.PlaylistApi;
 import spotify.exceptions.HttpRequestFailedException;
@@ -28,7 +29,7 @@ import java.util.Map;
 
 public class PlaylistApiRetrofit implements PlaylistApi {
     private final Logger logger = LoggerFactory.getLogger(PlaylistApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final PlaylistService playlistService;
 
 
@@ -37,7 +38,15 @@ public class PlaylistApiRetrofit implements PlaylistApi {
     }
 
     public PlaylistApiRetrofit(final String accessToken, final PlaylistService playlistService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, playlistService);
+    }
+
+    public PlaylistApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getPlaylistService());
+    }
+
+    public PlaylistApiRetrofit(final AccessTokenProvider accessTokenProvider, final PlaylistService playlistService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.playlistService = playlistService;
     }
 
@@ -46,7 +55,7 @@ public class PlaylistApiRetrofit implements PlaylistApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch current user's playlists.");
-        Call<Paging<PlaylistSimplified>> httpCall = playlistService.getPlaylists("Bearer " + this.accessToken, options);
+        Call<Paging<PlaylistSimplified>> httpCall = playlistService.getPlaylists(accessTokenProvider.getAuthorizationHeader(), options);
 
         try {
             logger.info("Executing HTTP call to fetch current user's playlists.");
@@ -69,7 +78,7 @@ public class PlaylistApiRetrofit implements PlaylistApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch a user's playlists.");
-        Call<Paging<PlaylistSimplified>> httpCall = playlistService.getUserPlaylists("Bearer " + this.accessToken, userId, options);
+        Call<Paging<PlaylistSimplified>> httpCall = playlistService.getUserPlaylists(accessTokenProvider.getAuthorizationHeader(), userId, options);
 
         try {
             logger.info("Executing HTTP call to fetch a user's playlists.");
@@ -90,7 +99,7 @@ public class PlaylistApiRetrofit implements PlaylistApi {
     @Override
     public List<Image> getPlaylistCoverImages(String playlistId) {
         logger.trace("Constructing HTTP call to fetch a playlist cover images.");
-        Call<List<Image>> httpCall = playlistService.getPlaylistCoverImages("Bearer " + this.accessToken, playlistId);
+        Call<List<Image>> httpCall = playlistService.getPlaylistCoverImages(accessTokenProvider.getAuthorizationHeader(), playlistId);
 
         try {
             logger.info("Executing HTTP call to fetch a playlist cover images.");
@@ -113,7 +122,7 @@ public class PlaylistApiRetrofit implements PlaylistApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch a playlist.");
-        Call<PlaylistFull> httpCall = playlistService.getPlaylist("Bearer " + this.accessToken, playlistId, options);
+        Call<PlaylistFull> httpCall = playlistService.getPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, options);
 
         try {
             logger.info("Executing HTTP call to fetch a playlist.");
@@ -136,7 +145,7 @@ public class PlaylistApiRetrofit implements PlaylistApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch tracks of a playlist.");
-        Call<Paging<PlaylistTrack>> httpCall = playlistService.getPlaylistTracks("Bearer " + this.accessToken, playlistId, options);
+        Call<Paging<PlaylistTrack>> httpCall = playlistService.getPlaylistTracks(accessTokenProvider.getAuthorizationHeader(), playlistId, options);
 
         try {
             logger.info("Executing HTTP call to fetch tracks of a playlist.");
@@ -155,21 +164,22 @@ public class PlaylistApiRetrofit implements PlaylistApi {
     }
 
     @Override
-    public void addItemToPlaylist(List<String> listOfObjectUris, String playlistId, int startPositionToInsert) {
+    public Snapshot addItemToPlaylist(List<String> listOfObjectUris, String playlistId, int startPositionToInsert) {
         final AddItemPlaylistRequestBody requestBody = new AddItemPlaylistRequestBody(listOfObjectUris, startPositionToInsert);
 
         logger.trace("Constructing HTTP call to add items to a playlist.");
-        Call<Void> httpCall = playlistService.addItemToPlaylist("Bearer " + this.accessToken, playlistId, requestBody);
+        Call<Snapshot> httpCall = playlistService.addItemToPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, requestBody);
 
         try {
             logger.info("Executing HTTP call to add items to a playlist.");
             logger.debug("Adding the following items to the playlist: {} from position {}.", playlistId, startPositionToInsert);
             LoggingUtil.logHttpCall(logger, httpCall);
-            Response<Void> response = httpCall.execute();
+            Response<Snapshot> response = httpCall.execute();
 
             ResponseChecker.throwIfRequestHasNotBeenFulfilledCorrectly(response, HttpStatusCode.CREATED);
 
             logger.info("Items have been successfully added to the playlist");
+            return response.body();
         } catch (IOException ex) {
             logger.error("HTTP request to add items to the playlist has failed.");
             throw new HttpRequestFailedException(ex.getMessage());
@@ -185,7 +195,7 @@ public class PlaylistApiRetrofit implements PlaylistApi {
         }
 
         logger.trace("Constructing HTTP call to create a playlist.");
-        Call<Void> httpCall = playlistService.createPlaylist("Bearer " + this.accessToken, userId, requestBody);
+        Call<Void> httpCall = playlistService.createPlaylist(accessTokenProvider.getAuthorizationHeader(), userId, requestBody);
 
         try {
             logger.info("Executing HTTP call to create a playlist.");
@@ -216,7 +226,7 @@ public class PlaylistApiRetrofit implements PlaylistApi {
         }
 
         logger.trace("Constructing HTTP call to update a playlist.");
-        Call<Void> httpCall = playlistService.updatePlaylist("Bearer " + this.accessToken, playlistId, requestBody);
+        Call<Void> httpCall = playlistService.updatePlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, requestBody);
 
         try {
             logger.info("Executing HTTP call to update a playlist.");
@@ -244,7 +254,7 @@ public class PlaylistApiRetrofit implements PlaylistApi {
         validateParametersReorderFunction(playlistId, requestBody);
 
         logger.trace("Constructing HTTP call to reorder items of a playlist.");
-        Call<Snapshot> httpCall = playlistService.reorderPlaylistItems("Bearer " + this.accessToken, playlistId, requestBody);
+        Call<Snapshot> httpCall = playlistService.reorderPlaylistItems(accessTokenProvider.getAuthorizationHeader(), playlistId, requestBody);
 
         try {
             logger.info("Executing HTTP call to reorder items of a playlist.");
@@ -274,7 +284,7 @@ public class PlaylistApiRetrofit implements PlaylistApi {
         }
 
         logger.trace("Constructing HTTP call to replace items of a playlist.");
-        Call<Void> httpCall = playlistService.replacePlaylistItems("Bearer " + this.accessToken, playlistId, new ReplacePlaylistItemsRequestBody(listOfItemUris));
+        Call<Void> httpCall = playlistService.replacePlaylistItems(accessTokenProvider.getAuthorizationHeader(), playlistId, new ReplacePlaylistItemsRequestBody(listOfItemUris));
 
         try {
             logger.info("Executing HTTP call to replace items of a playlist.");
@@ -304,7 +314,7 @@ public class PlaylistApiRetrofit implements PlaylistApi {
         final RequestBody requestBody = RequestBody.create(MediaType.parse("text/plain"), base64EncodedJpegImage);
 
         logger.trace("Constructing HTTP call to upload a cover image to a playlist.");
-        Call<Void> httpCall = playlistService.uploadCoverImageToPlaylist("Bearer " + this.accessToken, playlistId, requestBody);
+        Call<Void> httpCall = playlistService.uploadCoverImageToPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, requestBody);
 
         try {
             logger.info("Executing HTTP call to upload a cover image to a playlist.");
@@ -336,7 +346,7 @@ public class PlaylistApiRetrofit implements PlaylistApi {
         }
 
         logger.trace("Constructing HTTP call to remove items from a playlist.");
-        Call<Snapshot> httpCall = playlistService.deleteItemsFromPlaylist("Bearer " + this.accessToken, playlistId, items);
+        Call<Snapshot> httpCall = playlistService.deleteItemsFromPlaylist(accessTokenProvider.getAuthorizationHeader(), playlistId, items);
 
         try {
             logger.info("Executing HTTP call to remove items from a playlist.");
@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.enums.QueryType;
 import spotify.api.interfaces.SearchApi;
@@ -22,7 +23,7 @@ import java.util.stream.Collectors;
 
 public class SearchApiRetrofit implements SearchApi {
     private final Logger logger = LoggerFactory.getLogger(SearchApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final SearchService searchService;
 
     public SearchApiRetrofit(final String accessToken) {
@@ -30,7 +31,15 @@ public class SearchApiRetrofit implements SearchApi {
     }
 
     public SearchApiRetrofit(final String accessToken, final SearchService searchService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, searchService);
+    }
+
+    public SearchApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getSearchService());
+    }
+
+    public SearchApiRetrofit(final AccessTokenProvider accessTokenProvider, final SearchService searchService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.searchService = searchService;
     }
 
@@ -43,7 +52,7 @@ public class SearchApiRetrofit implements SearchApi {
                 .collect(Collectors.joining(","));
 
         logger.trace("Constructing HTTP call to perform a query.");
-        Call<SearchQueryResult> httpCall = searchService.searchItem("Bearer " + this.accessToken, query, queryTypes, options);
+        Call<SearchQueryResult> httpCall = searchService.searchItem(accessTokenProvider.getAuthorizationHeader(), query, queryTypes, options);
 
         try {
             logger.info("Executing HTTP call to to perform a query.");
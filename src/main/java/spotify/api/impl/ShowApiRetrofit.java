@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.ShowApi;
 import spotify.exceptions.HttpRequestFailedException;
@@ -23,7 +24,7 @@ import java.util.Map;
 
 public class ShowApiRetrofit implements ShowApi {
     private final Logger logger = LoggerFactory.getLogger(ShowApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final ShowService showService;
 
     public ShowApiRetrofit(final String accessToken) {
@@ -31,7 +32,15 @@ public class ShowApiRetrofit implements ShowApi {
     }
 
     public ShowApiRetrofit(final String accessToken, final ShowService showService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, showService);
+    }
+
+    public ShowApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getShowService());
+    }
+
+    public ShowApiRetrofit(final AccessTokenProvider accessTokenProvider, final ShowService showService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.showService = showService;
     }
 
@@ -40,7 +49,7 @@ public class ShowApiRetrofit implements ShowApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch show.");
-        Call<ShowFull> httpCall = showService.getShow("Bearer " + this.accessToken, showId, options);
+        Call<ShowFull> httpCall = showService.getShow(accessTokenProvider.getAuthorizationHeader(), showId, options);
 
         try {
             logger.info("Executing HTTP call to fetch show.");
@@ -63,7 +72,7 @@ public class ShowApiRetrofit implements ShowApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch show episodes.");
-        Call<Paging<EpisodeSimplified>> httpCall = showService.getShowEpisodes("Bearer " + this.accessToken, showId, options);
+        Call<Paging<EpisodeSimplified>> httpCall = showService.getShowEpisodes(accessTokenProvider.getAuthorizationHeader(), showId, options);
 
         try {
             logger.info("Executing HTTP call to fetch show episodes.");
@@ -87,7 +96,7 @@ public class ShowApiRetrofit implements ShowApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch multiple shows.");
-        Call<ShowSimplifiedCollection> httpCall = showService.getShows("Bearer " + this.accessToken, showIds, options);
+        Call<ShowSimplifiedCollection> httpCall = showService.getShows(accessTokenProvider.getAuthorizationHeader(), showIds, options);
 
         try {
             logger.info("Executing HTTP call to fetch multiple shows.");
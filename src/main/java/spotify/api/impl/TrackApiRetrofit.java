@@ -1,16 +1,22 @@
 package spotify.api.impl;
 
+import com.google.gson.stream.JsonReader;
+import okhttp3.ResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.TrackApi;
 import spotify.exceptions.HttpRequestFailedException;
 import spotify.factories.RetrofitHttpServiceFactory;
 import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioAnalysisReader;
+import spotify.models.audio.AudioAnalysisVisitor;
 import spotify.models.audio.AudioFeatures;
 import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
 import spotify.models.tracks.TrackFull;
 import spotify.models.tracks.TrackFullCollection;
 import spotify.retrofit.services.TrackService;
@@ -24,16 +30,23 @@ import java.util.Map;
 
 public class TrackApiRetrofit implements TrackApi {
     private final Logger logger = LoggerFactory.getLogger(TrackApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private final TrackService trackService;
 
     public TrackApiRetrofit(final String accessToken) {
         this(accessToken, RetrofitHttpServiceFactory.getTrackService());
-
     }
 
     public TrackApiRetrofit(final String accessToken, final TrackService trackService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, trackService);
+    }
+
+    public TrackApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getTrackService());
+    }
+
+    public TrackApiRetrofit(final AccessTokenProvider accessTokenProvider, final TrackService trackService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.trackService = trackService;
     }
 
@@ -42,7 +55,7 @@ public class TrackApiRetrofit implements TrackApi {
         options = ValidatorUtil.optionsValueCheck(options);
 
         logger.trace("Constructing HTTP call to fetch a track.");
-        Call<TrackFull> httpCall = trackService.getTrack("Bearer " + this.accessToken, trackId, options);
+        Call<TrackFull> httpCall = trackService.getTrack(accessTokenProvider.getAuthorizationHeader(), trackId, options);
 
         try {
             logger.info("Executing HTTP call to fetch a track.");
@@ -68,7 +81,7 @@ public class TrackApiRetrofit implements TrackApi {
         String trackIds = String.join(",", listOfTrackIds);
 
         logger.trace("Constructing HTTP call to fetch multiple tracks.");
-        Call<TrackFullCollection> httpCall = trackService.getTracks("Bearer " + this.accessToken, trackIds, options);
+        Call<TrackFullCollection> httpCall = trackService.getTracks(accessTokenProvider.getAuthorizationHeader(), trackIds, options);
 
         try {
             logger.info("Executing HTTP call to fetch multiple tracks.");
@@ -89,7 +102,7 @@ public class TrackApiRetrofit implements TrackApi {
     @Override
     public AudioFeatures getTrackAudioFeatures(String trackId) {
         logger.trace("Constructing HTTP call to fetch audio features.");
-        Call<AudioFeatures> httpCall = trackService.getTrackAudioFeatures("Bearer " + this.accessToken, trackId);
+        Call<AudioFeatures> httpCall = trackService.getTrackAudioFeatures(accessTokenProvider.getAuthorizationHeader(), trackId);
 
         try {
             logger.info("Executing HTTP call to fetch multiple track audio features.");
@@ -114,7 +127,7 @@ public class TrackApiRetrofit implements TrackApi {
         String trackIds = String.join(",", listOfTrackIds);
 
         logger.trace("Constructing HTTP call to fetch audio features.");
-        Call<AudioFeaturesCollection> httpCall = trackService.getTracksAudioFeatures("Bearer " + this.accessToken, trackIds);
+        Call<AudioFeaturesCollection> httpCall = trackService.getTracksAudioFeatures(accessTokenProvider.getAuthorizationHeader(), trackIds);
 
         try {
             logger.info("Executing HTTP call to fetch track audio features.");
@@ -135,7 +148,7 @@ public class TrackApiRetrofit implements TrackApi {
     @Override
     public AudioAnalysis getTrackAudioAnalysis(String trackId) {
         logger.trace("Constructing HTTP call to fetch audio analysis.");
-        Call<AudioAnalysis> httpCall = trackService.getTrackAudioAnalysis("Bearer " + this.accessToken, trackId);
+        Call<AudioAnalysis> httpCall = trackService.getTrackAudioAnalysis(accessTokenProvider.getAuthorizationHeader(), trackId);
 
         try {
             logger.info("Executing HTTP call to fetch audio analysis for track {}.", trackId);
@@ -152,6 +165,52 @@ public class TrackApiRetrofit implements TrackApi {
         }
     }
 
+    @Override
+    public ColumnarAudioAnalysis getTrackColumnarAudioAnalysis(String trackId) {
+        logger.trace("Constructing HTTP call to fetch columnar audio analysis.");
+        Call<ColumnarAudioAnalysis> httpCall = trackService.getTrackColumnarAudioAnalysis(accessTokenProvider.getAuthorizationHeader(), trackId);
+
+        try {
+            logger.info("Executing HTTP call to fetch columnar audio analysis for track {}.", trackId);
+            LoggingUtil.logHttpCall(logger, httpCall);
+            Response<ColumnarAudioAnalysis> response = httpCall.execute();
+
+            ResponseChecker.throwIfRequestHasNotBeenFulfilledCorrectly(response, HttpStatusCode.OK);
+
+            logger.info("Track columnar audio analysis has been successfully fetched.");
+            return response.body();
+        } catch (IOException e) {
+            logger.error("Fetching track columnar audio analysis has failed.");
+            throw new HttpRequestFailedException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void streamTrackAudioAnalysis(String trackId, AudioAnalysisVisitor visitor) {
+        logger.trace("Constructing HTTP call to stream audio analysis.");
+        Call<ResponseBody> httpCall = trackService.streamTrackAudioAnalysis(accessTokenProvider.getAuthorizationHeader(), trackId);
+
+        try {
+            logger.info("Executing HTTP call to stream audio analysis for track {}.", trackId);
+            LoggingUtil.logHttpCall(logger, httpCall);
+            Response<ResponseBody> response = httpCall.execute();
+
+            ResponseChecker.throwIfRequestHasNotBeenFulfilledCorrectly(response, HttpStatusCode.OK);
+
+            try (ResponseBody responseBody = response.body();
+                 JsonReader jsonReader = new JsonReader(responseBody.charStream())) {
+                if (AudioAnalysisReader.read(jsonReader, visitor)) {
+                    logger.info("Track audio analysis has been successfully streamed.");
+                } else {
+                    logger.info("Streaming track audio analysis has been stopped by the visitor.");
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Streaming track audio analysis has failed.");
+            throw new HttpRequestFailedException(e.getMessage());
+        }
+    }
+
     private void validateTrackListSizeAndThrowIfExceeded(List<String> listOfTrackIds, int maximumAmountOfTrackIdsAllowed) {
         final int listSize = listOfTrackIds.size();
 
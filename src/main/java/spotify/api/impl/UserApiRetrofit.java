@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Call;
 import retrofit2.Response;
+import spotify.api.authorization.AccessTokenProvider;
 import spotify.api.enums.HttpStatusCode;
 import spotify.api.interfaces.UserApi;
 import spotify.exceptions.HttpRequestFailedException;
@@ -17,7 +18,7 @@ import java.io.IOException;
 
 public class UserApiRetrofit implements UserApi {
     private final Logger logger = LoggerFactory.getLogger(UserApiRetrofit.class);
-    private final String accessToken;
+    private final AccessTokenProvider accessTokenProvider;
     private UserService userService;
 
     public UserApiRetrofit(final String accessToken) {
@@ -25,14 +26,22 @@ public class UserApiRetrofit implements UserApi {
     }
 
     public UserApiRetrofit(final String accessToken, final UserService userService) {
-        this.accessToken = accessToken;
+        this(() -> accessToken, userService);
+    }
+
+    public UserApiRetrofit(final AccessTokenProvider accessTokenProvider) {
+        this(accessTokenProvider, RetrofitHttpServiceFactory.getUserService());
+    }
+
+    public UserApiRetrofit(final AccessTokenProvider accessTokenProvider, final UserService userService) {
+        this.accessTokenProvider = accessTokenProvider;
         this.userService = userService;
     }
 
     @Override
     public User getCurrentUser() {
         logger.trace("Constructing HTTP call to fetch current user.");
-        Call<User> httpCall = userService.getCurrentUser("Bearer " + this.accessToken);
+        Call<User> httpCall = userService.getCurrentUser(accessTokenProvider.getAuthorizationHeader());
 
         try {
             logger.info("Executing HTTP call to fetch current user.");
@@ -52,7 +61,7 @@ public class UserApiRetrofit implements UserApi {
     @Override
     public User getUser(String userId) {
         logger.trace("Constructing HTTP call to fetch user.");
-        Call<User> httpCall = userService.getUser("Bearer " + this.accessToken, userId);
+        Call<User> httpCall = userService.getUser(accessTokenProvider.getAuthorizationHeader(), userId);
 
         try {
             logger.info("Executing HTTP call to fetch user with id {}.", userId);
@@ -0,0 +1,18 @@
+package spotify.api.interfaces;
+
+import spotify.models.albums.AlbumFull;
+import spotify.models.albums.AlbumFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackSimplified;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncAlbumApi {
+    CompletableFuture<AlbumFull> getAlbum(String albumId, Map<String, String> options);
+
+    CompletableFuture<AlbumFullCollection> getAlbums(List<String> listOfAlbumIds, Map<String, String> options);
+
+    CompletableFuture<Paging<TrackSimplified>> getAlbumTracks(String albumId, Map<String, String> options);
+}
@@ -0,0 +1,24 @@
+package spotify.api.interfaces;
+
+import spotify.api.enums.AlbumType;
+import spotify.models.albums.AlbumSimplified;
+import spotify.models.artists.ArtistFull;
+import spotify.models.artists.ArtistFullCollection;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackFullCollection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncArtistApi {
+    CompletableFuture<ArtistFull> getArtist(String artistId);
+
+    CompletableFuture<Paging<AlbumSimplified>> getArtistAlbums(String artistId, List<AlbumType> listOfAlbumTypes, Map<String, String> options);
+
+    CompletableFuture<TrackFullCollection> getArtistTopTracks(String artistId, Map<String, String> options);
+
+    CompletableFuture<ArtistFullCollection> getRelatedArtists(String artistId);
+
+    CompletableFuture<ArtistFullCollection> getArtists(List<String> listOfArtistIds);
+}
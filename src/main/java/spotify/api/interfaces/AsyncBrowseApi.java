@@ -0,0 +1,26 @@
+package spotify.api.interfaces;
+
+import spotify.models.albums.AlbumSimplifiedPaging;
+import spotify.models.categories.CategoryFull;
+import spotify.models.categories.CategoryFullPaging;
+import spotify.models.playlists.FeaturedPlaylistCollection;
+import spotify.models.playlists.PlaylistSimplifiedPaging;
+import spotify.models.recommendations.RecommendationCollection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncBrowseApi {
+    CompletableFuture<CategoryFull> getCategory(String categoryId, Map<String, String> options);
+
+    CompletableFuture<PlaylistSimplifiedPaging> getCategoryPlaylists(String categoryId, Map<String, String> options);
+
+    CompletableFuture<CategoryFullPaging> getCategories(Map<String, String> options);
+
+    CompletableFuture<FeaturedPlaylistCollection> getFeaturedPlaylists(Map<String, String> options);
+
+    CompletableFuture<AlbumSimplifiedPaging> getNewReleases(Map<String, String> options);
+
+    CompletableFuture<RecommendationCollection> getRecommendations(List<String> listOfSeedArtists, List<String> listOfSeedGenres, List<String> listOfSeedTracks, Map<String, String> options);
+}
@@ -0,0 +1,14 @@
+package spotify.api.interfaces;
+
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.episodes.EpisodeFullCollection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncEpisodeApi {
+    CompletableFuture<EpisodeFull> getEpisode(String episodeId, Map<String, String> options);
+
+    CompletableFuture<EpisodeFullCollection> getEpisodes(List<String> listOfEpisodeIds, Map<String, String> options);
+}
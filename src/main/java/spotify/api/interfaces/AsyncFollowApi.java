@@ -0,0 +1,25 @@
+package spotify.api.interfaces;
+
+import spotify.api.enums.EntityType;
+import spotify.models.artists.ArtistFull;
+import spotify.models.paging.CursorBasedPaging;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncFollowApi {
+    CompletableFuture<List<Boolean>> isFollowing(EntityType entityType, List<String> listOfEntityIds);
+
+    CompletableFuture<List<Boolean>> isFollowingPlaylist(String playlistId, List<String> listOfUserIds);
+
+    CompletableFuture<Void> followEntities(EntityType entityType, List<String> listOfEntityIds);
+
+    CompletableFuture<Void> followPlaylist(String playlistId, boolean setPlaylistPublic);
+
+    CompletableFuture<CursorBasedPaging<ArtistFull>> getFollowedArtists(EntityType entityType, Map<String, String> options);
+
+    CompletableFuture<Void> unfollowEntities(EntityType entityType, List<String> listOfEntityIds);
+
+    CompletableFuture<Void> unfollowPlaylist(String playlistId);
+}
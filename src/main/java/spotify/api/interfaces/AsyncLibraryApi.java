@@ -0,0 +1,36 @@
+package spotify.api.interfaces;
+
+import spotify.models.albums.SavedAlbumFull;
+import spotify.models.paging.Paging;
+import spotify.models.shows.SavedShowSimplified;
+import spotify.models.tracks.SavedTrackFull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncLibraryApi {
+    CompletableFuture<List<Boolean>> hasSavedAlbums(List<String> listOfAlbumIds);
+
+    CompletableFuture<List<Boolean>> hasSavedShows(List<String> listOfShowIds);
+
+    CompletableFuture<List<Boolean>> hasSavedTracks(List<String> listOfTrackIds);
+
+    CompletableFuture<Paging<SavedAlbumFull>> getSavedAlbums(Map<String, String> options);
+
+    CompletableFuture<Paging<SavedShowSimplified>> getSavedShows(Map<String, String> options);
+
+    CompletableFuture<Paging<SavedTrackFull>> getSavedTracks(Map<String, String> options);
+
+    CompletableFuture<Void> saveAlbums(List<String> listOfAlbumIds);
+
+    CompletableFuture<Void> saveShows(List<String> listOfShowIds);
+
+    CompletableFuture<Void> saveTracks(List<String> listOfTrackIds);
+
+    CompletableFuture<Void> deleteAlbums(List<String> listOfAlbumIds);
+
+    CompletableFuture<Void> deleteShows(List<String> listOfShowIds, Map<String, String> options);
+
+    CompletableFuture<Void> deleteTracks(List<String> listOfTrackIds);
+}
@@ -0,0 +1,10 @@
+package spotify.api.interfaces;
+
+import spotify.models.markets.MarketFull;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncMarketApi {
+    CompletableFuture<MarketFull> getMarkets();
+
+}
\ No newline at end of file
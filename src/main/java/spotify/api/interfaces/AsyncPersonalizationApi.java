@@ -0,0 +1,14 @@
+package spotify.api.interfaces;
+
+import spotify.models.artists.ArtistFull;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackFull;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncPersonalizationApi {
+    CompletableFuture<Paging<ArtistFull>> getTopArtists(Map<String, String> options);
+
+    CompletableFuture<Paging<TrackFull>> getTopTracks(Map<String, String> options);
+}
@@ -0,0 +1,43 @@
+package spotify.api.interfaces;
+
+import spotify.api.enums.RepeatType;
+import spotify.models.paging.CursorBasedPaging;
+import spotify.models.players.CurrentlyPlayingObject;
+import spotify.models.players.DeviceCollection;
+import spotify.models.players.PlayHistory;
+import spotify.models.players.PlayingContext;
+import spotify.models.players.requests.ChangePlaybackStateRequestBody;
+import spotify.models.players.requests.TransferPlaybackRequestBody;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncPlayerApi {
+    CompletableFuture<DeviceCollection> getAvailableDevices();
+
+    CompletableFuture<PlayingContext> getCurrentPlayingContext(Map<String, String> options);
+
+    CompletableFuture<CursorBasedPaging<PlayHistory>> getRecentlyPlayedTracks(Map<String, String> options);
+
+    CompletableFuture<CurrentlyPlayingObject> getCurrentlyPlayedObject(Map<String, String> options);
+
+    CompletableFuture<Void> addItemToQueue(String uri, Map<String, String> options);
+
+    CompletableFuture<Void> skipToNextTrack(Map<String, String> options);
+
+    CompletableFuture<Void> skipToPreviousTrack(Map<String, String> options);
+
+    CompletableFuture<Void> pausePlayback(Map<String, String> options);
+
+    CompletableFuture<Void> jumpToPositionInCurrentTrack(int positionMs, Map<String, String> options);
+
+    CompletableFuture<Void> setRepeatModePlayback(RepeatType repeatType, Map<String, String> options);
+
+    CompletableFuture<Void> setVolumePlayback(int volumePercent, Map<String, String> options);
+
+    CompletableFuture<Void> changePlaybackState(ChangePlaybackStateRequestBody requestBody);
+
+    CompletableFuture<Void> shufflePlayback(boolean shuffle, Map<String, String> options);
+
+    CompletableFuture<Void> transferPlayback(TransferPlaybackRequestBody requestBody);
+}
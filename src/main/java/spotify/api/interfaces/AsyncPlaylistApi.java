@@ -0,0 +1,41 @@
+package spotify.api.interfaces;
+
+import spotify.models.generic.Image;
+import spotify.models.paging.Paging;
+import spotify.models.playlists.PlaylistFull;
+import spotify.models.playlists.PlaylistSimplified;
+import spotify.models.playlists.PlaylistTrack;
+import spotify.models.playlists.Snapshot;
+import spotify.models.playlists.requests.CreateUpdatePlaylistRequestBody;
+import spotify.models.playlists.requests.DeleteItemsPlaylistRequestBody;
+import spotify.models.playlists.requests.ReorderPlaylistItemsRequestBody;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncPlaylistApi {
+    CompletableFuture<Paging<PlaylistSimplified>> getPlaylists(Map<String, String> options);
+
+    CompletableFuture<Paging<PlaylistSimplified>> getUserPlaylists(String userId, Map<String, String> options);
+
+    CompletableFuture<List<Image>> getPlaylistCoverImages(String playlistId);
+
+    CompletableFuture<PlaylistFull> getPlaylist(String playlistId, Map<String, String> options);
+
+    CompletableFuture<Paging<PlaylistTrack>> getPlaylistTracks(String playlistId, Map<String, String> options);
+
+    CompletableFuture<Snapshot> addItemToPlaylist(List<String> listOfObjectUris, String playlistId, int startPositionToInsert);
+
+    CompletableFuture<Void> createPlaylist(String userId, CreateUpdatePlaylistRequestBody requestBody);
+
+    CompletableFuture<Void> updatePlaylist(String playlistId, CreateUpdatePlaylistRequestBody requestBody);
+
+    CompletableFuture<Snapshot> reorderPlaylistItems(String playlistId, ReorderPlaylistItemsRequestBody requestBody);
+
+    CompletableFuture<Void> replacePlaylistItems(String playlistId, List<String> listOfItemUris);
+
+    CompletableFuture<Void> uploadCoverImageToPlaylist(String playlistId, String base64EncodedJpegImage);
+
+    CompletableFuture<Snapshot> deleteItemsFromPlaylist(String playlistId, DeleteItemsPlaylistRequestBody items);
+}
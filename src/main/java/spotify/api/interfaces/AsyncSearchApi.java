@@ -0,0 +1,12 @@
+package spotify.api.interfaces;
+
+import spotify.api.enums.QueryType;
+import spotify.models.search.SearchQueryResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncSearchApi {
+    CompletableFuture<SearchQueryResult> searchItem(String query, List<QueryType> listOfQueryTypes, Map<String, String> options);
+}
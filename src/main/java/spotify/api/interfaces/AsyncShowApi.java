@@ -0,0 +1,18 @@
+package spotify.api.interfaces;
+
+import spotify.models.episodes.EpisodeSimplified;
+import spotify.models.paging.Paging;
+import spotify.models.shows.ShowFull;
+import spotify.models.shows.ShowSimplifiedCollection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncShowApi {
+    CompletableFuture<ShowFull> getShow(String showId, Map<String, String> options);
+
+    CompletableFuture<Paging<EpisodeSimplified>> getShowEpisodes(String showId, Map<String, String> options);
+
+    CompletableFuture<ShowSimplifiedCollection> getShows(List<String> listOfShowIds, Map<String, String> options);
+}
@@ -0,0 +1,26 @@
+package spotify.api.interfaces;
+
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioFeatures;
+import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackFullCollection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncTrackApi {
+    CompletableFuture<TrackFull> getTrack(String trackId, Map<String, String> options);
+
+    CompletableFuture<TrackFullCollection> getTracks(List<String> listOfTrackIds, Map<String, String> options);
+
+    CompletableFuture<AudioFeatures> getTrackAudioFeatures(String trackId);
+
+    CompletableFuture<AudioFeaturesCollection> getTracksAudioFeatures(List<String> listOfTrackIds);
+
+    CompletableFuture<AudioAnalysis> getTrackAudioAnalysis(String trackId);
+
+    CompletableFuture<ColumnarAudioAnalysis> getTrackColumnarAudioAnalysis(String trackId);
+}
@@ -0,0 +1,11 @@
+package spotify.api.interfaces;
+
+import spotify.models.users.User;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncUserApi {
+    CompletableFuture<User> getCurrentUser();
+
+    CompletableFuture<User> getUser(String userId);
+}
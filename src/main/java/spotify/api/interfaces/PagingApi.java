@@ -0,0 +1,12 @@
+package spotify.api.interfaces;
+
+import spotify.models.paging.CursorBasedPaging;
+import spotify.models.paging.Paging;
+
+public interface PagingApi {
+    <T> Paging<T> getNextPage(Paging<T> paging, Class<T> itemType);
+
+    <T> Paging<T> getPreviousPage(Paging<T> paging, Class<T> itemType);
+
+    <T> CursorBasedPaging<T> getNextPage(CursorBasedPaging<T> paging, Class<T> itemType);
+}
@@ -24,7 +24,7 @@ public interface PlaylistApi {
 
     Paging<PlaylistTrack> getPlaylistTracks(String playlistId, Map<String, String> options);
 
-    void addItemToPlaylist(List<String> listOfObjectUris, String playlistId, int startPositionToInsert);
+    Snapshot addItemToPlaylist(List<String> listOfObjectUris, String playlistId, int startPositionToInsert);
 
     void createPlaylist(String userId, CreateUpdatePlaylistRequestBody requestBody);
 
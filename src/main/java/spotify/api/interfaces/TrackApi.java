@@ -1,8 +1,10 @@
 package spotify.api.interfaces;
 
 import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioAnalysisVisitor;
 import spotify.models.audio.AudioFeatures;
 import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
 import spotify.models.tracks.TrackFull;
 import spotify.models.tracks.TrackFullCollection;
 
@@ -19,4 +21,8 @@ public interface TrackApi {
     AudioFeaturesCollection getTracksAudioFeatures(List<String> listOfTrackIds);
 
     AudioAnalysis getTrackAudioAnalysis(String trackId);
+
+    ColumnarAudioAnalysis getTrackColumnarAudioAnalysis(String trackId);
+
+    void streamTrackAudioAnalysis(String trackId, AudioAnalysisVisitor visitor);
 }
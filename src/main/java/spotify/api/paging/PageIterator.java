@@ -0,0 +1,109 @@
+package spotify.api.paging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.authorization.ScopedAccessTokenProvider;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Iterator over the items of all pages of a paged endpoint, which requests the pages as they are needed.
+ * <p>
+ * Nothing is requested until the first call of {@link #hasNext()}, which requests the first page on the calling
+ * thread. While the items of a page are consumed, the next page is already requested in the background, so the
+ * consumer rarely waits for a request. No page after that is requested until the consumer gets there. The background
+ * requests are made with the access tokens that a {@link ScopedAccessTokenProvider} has bound to the consuming thread,
+ * unless the page source binds tokens of its own, as the iterators of {@link Pages} do.
+ * {@link #close()} stops the iteration; a page that is being prefetched at that moment is discarded.
+ * <p>
+ * An exception of a request is thrown by {@link #hasNext()} once the consumer reaches the page that failed.
+ *
+ * @param <T> the type of the items
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class PageIterator<T> implements Iterator<T>, AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(PageIterator.class);
+    private final PageSource<T> pageSource;
+    private final Executor prefetcher;
+    private Map<String, String> firstPageOptions;
+    private Iterator<T> items = Collections.emptyIterator();
+    private CompletableFuture<PageSource.Page<T>> nextPage;
+    private boolean closed;
+
+    PageIterator(final PageSource<T> pageSource, final Map<String, String> firstPageOptions, final Executor prefetcher) {
+        this.pageSource = pageSource;
+        this.prefetcher = prefetcher;
+        this.firstPageOptions = firstPageOptions;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!items.hasNext()) {
+            if (closed || (firstPageOptions == null && nextPage == null)) {
+                return false;
+            }
+
+            final PageSource.Page<T> page;
+
+            if (firstPageOptions != null) {
+                page = pageSource.fetch(firstPageOptions);
+                firstPageOptions = null;
+            } else {
+                page = join(nextPage);
+            }
+
+            items = page.getItems().iterator();
+            nextPage = page.getNextOptions() == null || page.getItems().isEmpty() ? null : fetch(page.getNextOptions());
+        }
+
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return items.next();
+    }
+
+    /**
+     * Stops the iteration, discarding the page that is being prefetched.
+     */
+    @Override
+    public void close() {
+        if (!closed && nextPage != null) {
+            logger.trace("Closing the page iterator before the last page.");
+            nextPage.cancel(false);
+        }
+
+        closed = true;
+        firstPageOptions = null;
+        items = Collections.emptyIterator();
+        nextPage = null;
+    }
+
+    private CompletableFuture<PageSource.Page<T>> fetch(final Map<String, String> options) {
+        return CompletableFuture.supplyAsync(ScopedAccessTokenProvider.propagate(() -> pageSource.fetch(options)), prefetcher);
+    }
+
+    /**
+     * Waits for the future and throws the runtime exception it has failed with as is.
+     */
+    static <P> P join(final CompletableFuture<P> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+}
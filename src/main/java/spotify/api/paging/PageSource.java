@@ -0,0 +1,38 @@
+package spotify.api.paging;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Requests one page of a paged endpoint and tells which options request the page after it.
+ *
+ * @param <T> the type of the items
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+@FunctionalInterface
+interface PageSource<T> {
+    Page<T> fetch(Map<String, String> options);
+
+    class Page<T> {
+        private final List<T> items;
+        private final Map<String, String> nextOptions;
+
+        Page(final List<T> items, final Map<String, String> nextOptions) {
+            this.items = items == null ? Collections.emptyList() : items;
+            this.nextOptions = nextOptions;
+        }
+
+        List<T> getItems() {
+            return items;
+        }
+
+        /**
+         * @return the options of the next page, or {@code null} when this is the last page
+         */
+        Map<String, String> getNextOptions() {
+            return nextOptions;
+        }
+    }
+}
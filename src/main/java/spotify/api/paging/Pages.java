@@ -0,0 +1,234 @@
+package spotify.api.paging;
+
+import okhttp3.HttpUrl;
+import spotify.api.authorization.ScopedAccessTokenProvider;
+import spotify.models.paging.CursorBasedPaging;
+import spotify.models.paging.Paging;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy iteration over all items of the paged endpoints of the Spotify Web API.
+ * <p>
+ * The page function requests one page with the options it is given, for instance
+ * {@code options -> playlistApi.getPlaylistTracks(playlistId, options)}. The {@code limit} and the {@code offset} or
+ * cursor are set on the options by the iteration, the other options are passed on to every page. Pages are requested
+ * one ahead of the consumer, see {@link PageIterator}. When all items are needed anyway,
+ * {@link #forEachConcurrently(Function, int, Map, int, Consumer)} requests many pages at the same time instead. Pages
+ * that are requested in the background keep the access tokens that a
+ * {@link ScopedAccessTokenProvider} has bound to the calling thread. Iterators and streams keep the access tokens of
+ * the thread that created them, so they can be consumed after those tokens have been unbound.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class Pages {
+    /**
+     * The maximum page size of most paged endpoints.
+     */
+    public static final int MAX_LIMIT = 50;
+
+    /**
+     * The maximum page size of the items of a playlist.
+     */
+    public static final int MAX_PLAYLIST_ITEMS_LIMIT = 100;
+
+    private static final ExecutorService prefetcher = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "spotify-page-prefetcher");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    private Pages() {
+    }
+
+    /**
+     * @param pageFunction requests the page of the options
+     * @param limit        the amount of items per page
+     * @param options      the options of the endpoint, an {@code offset} among them is where the iteration starts
+     * @param <T>          the type of the items
+     * @return an iterator over the items of all pages from the offset on
+     */
+    public static <T> PageIterator<T> iterator(final Function<Map<String, String>, Paging<T>> pageFunction,
+                                               final int limit,
+                                               final Map<String, String> options) {
+        return new PageIterator<>(offsetPageSource(ScopedAccessTokenProvider.propagate(pageFunction)), firstPageOptions(limit, options), prefetcher);
+    }
+
+    /**
+     * @param pageFunction requests the page of the options
+     * @param limit        the amount of items per page
+     * @param options      the options of the endpoint
+     * @param <T>          the type of the items
+     * @return an iterator over the items of all pages, following the cursors of the pages
+     */
+    public static <T> PageIterator<T> cursorBasedIterator(final Function<Map<String, String>, CursorBasedPaging<T>> pageFunction,
+                                                          final int limit,
+                                                          final Map<String, String> options) {
+        return new PageIterator<>(cursorPageSource(ScopedAccessTokenProvider.propagate(pageFunction)), firstPageOptions(limit, options), prefetcher);
+    }
+
+    /**
+     * Same as {@link #iterator(Function, int, Map)}, as a sequential stream. Closing the stream, or a short-circuiting
+     * operation such as {@code limit} or {@code findFirst}, stops requesting pages.
+     */
+    public static <T> Stream<T> stream(final Function<Map<String, String>, Paging<T>> pageFunction,
+                                       final int limit,
+                                       final Map<String, String> options) {
+        return toStream(iterator(pageFunction, limit, options));
+    }
+
+    /**
+     * Same as {@link #cursorBasedIterator(Function, int, Map)}, as a sequential stream. Closing the stream, or a
+     * short-circuiting operation such as {@code limit} or {@code findFirst}, stops requesting pages.
+     */
+    public static <T> Stream<T> cursorBasedStream(final Function<Map<String, String>, CursorBasedPaging<T>> pageFunction,
+                                                  final int limit,
+                                                  final Map<String, String> options) {
+        return toStream(cursorBasedIterator(pageFunction, limit, options));
+    }
+
+    /**
+     * Requests all pages of an offset-paged endpoint, up to the maximum amount of requests at the same time, and hands
+     * their items to the consumer in order.
+     * <p>
+     * The first page is requested on its own, because its {@code total} tells the offsets of all other pages. At most
+     * the maximum amount of pages are requested or waiting for the consumer at any moment, so the memory stays bounded
+     * however large the total is. When a request or the consumer fails, the pending requests are cancelled and the
+     * exception is thrown.
+     *
+     * @param pageFunction          requests the page of the options
+     * @param limit                 the amount of items per page
+     * @param options               the options of the endpoint, an {@code offset} among them is where fetching starts
+     * @param maxConcurrentRequests the maximum amount of pages that are requested at the same time
+     * @param consumer              the consumer of the items, called on the calling thread
+     * @param <T>                   the type of the items
+     */
+    public static <T> void forEachConcurrently(final Function<Map<String, String>, Paging<T>> pageFunction,
+                                               final int limit,
+                                               final Map<String, String> options,
+                                               final int maxConcurrentRequests,
+                                               final Consumer<? super T> consumer) {
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("The maximum amount of concurrent requests must be at least 1!");
+        }
+
+        final Map<String, String> firstPageOptions = firstPageOptions(limit, options);
+        final Paging<T> firstPage = pageFunction.apply(firstPageOptions);
+
+        if (firstPage == null || firstPage.getItems() == null) {
+            return;
+        }
+
+        final Deque<CompletableFuture<Paging<T>>> pendingPages = new ArrayDeque<>();
+        final int total = firstPage.getNext() == null ? 0 : firstPage.getTotal();
+        int nextOffset = firstPage.getOffset() + limit;
+
+        try {
+            nextOffset = requestPages(pageFunction, firstPageOptions, pendingPages, nextOffset, limit, total, maxConcurrentRequests);
+            firstPage.getItems().forEach(consumer);
+
+            while (!pendingPages.isEmpty()) {
+                final Paging<T> page = PageIterator.join(pendingPages.poll());
+                nextOffset = requestPages(pageFunction, firstPageOptions, pendingPages, nextOffset, limit, total, maxConcurrentRequests);
+
+                if (page != null && page.getItems() != null) {
+                    page.getItems().forEach(consumer);
+                }
+            }
+        } finally {
+            pendingPages.forEach(pendingPage -> pendingPage.cancel(false));
+        }
+    }
+
+    private static <T> int requestPages(final Function<Map<String, String>, Paging<T>> pageFunction,
+                                        final Map<String, String> options,
+                                        final Deque<CompletableFuture<Paging<T>>> pendingPages,
+                                        int offset,
+                                        final int limit,
+                                        final int total,
+                                        final int maxConcurrentRequests) {
+        while (pendingPages.size() < maxConcurrentRequests && offset < total) {
+            final Map<String, String> pageOptions = new HashMap<>(options);
+            pageOptions.put("offset", String.valueOf(offset));
+            pendingPages.add(CompletableFuture.supplyAsync(
+                    ScopedAccessTokenProvider.propagate(() -> pageFunction.apply(pageOptions)), prefetcher));
+            offset += limit;
+        }
+
+        return offset;
+    }
+
+    private static <T> Stream<T> toStream(final PageIterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    private static Map<String, String> firstPageOptions(final int limit, final Map<String, String> options) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("The limit must be at least 1!");
+        }
+
+        final Map<String, String> firstPageOptions = new HashMap<>(options);
+        firstPageOptions.put("limit", String.valueOf(limit));
+
+        return firstPageOptions;
+    }
+
+    private static <T> PageSource<T> offsetPageSource(final Function<Map<String, String>, Paging<T>> pageFunction) {
+        return options -> {
+            final Paging<T> paging = pageFunction.apply(options);
+
+            if (paging == null) {
+                return new PageSource.Page<>(null, null);
+            }
+
+            if (paging.getNext() == null || paging.getItems() == null) {
+                return new PageSource.Page<>(paging.getItems(), null);
+            }
+
+            final Map<String, String> nextOptions = new HashMap<>(options);
+            nextOptions.put("offset", String.valueOf(paging.getOffset() + paging.getItems().size()));
+
+            return new PageSource.Page<>(paging.getItems(), nextOptions);
+        };
+    }
+
+    private static <T> PageSource<T> cursorPageSource(final Function<Map<String, String>, CursorBasedPaging<T>> pageFunction) {
+        return options -> {
+            final CursorBasedPaging<T> paging = pageFunction.apply(options);
+
+            if (paging == null) {
+                return new PageSource.Page<>(null, null);
+            }
+
+            final HttpUrl next = paging.getNext() == null ? null : HttpUrl.parse(paging.getNext());
+
+            if (next == null) {
+                return new PageSource.Page<>(paging.getItems(), null);
+            }
+
+            final Map<String, String> nextOptions = new HashMap<>(options);
+
+            for (String cursor : new String[]{"after", "before"}) {
+                final String value = next.queryParameter(cursor);
+
+                if (value == null) {
+                    nextOptions.remove(cursor);
+                } else {
+                    nextOptions.put(cursor, value);
+                }
+            }
+
+            return new PageSource.Page<>(paging.getItems(), nextOptions);
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package spotify.api.playlists;
+
+import spotify.api.interfaces.PlaylistApi;
+import spotify.models.playlists.Snapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Inserts items at a position of a playlist.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class AddItemsOperation implements PlaylistOperation {
+    private final List<String> itemUris;
+    private final int position;
+
+    AddItemsOperation(final List<String> itemUris, final int position) {
+        this.itemUris = Collections.unmodifiableList(new ArrayList<>(itemUris));
+        this.position = position;
+    }
+
+    public List<String> getItemUris() {
+        return itemUris;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public String apply(final PlaylistApi playlistApi, final String playlistId, final String snapshotId) {
+        final Snapshot snapshot = playlistApi.addItemToPlaylist(itemUris, playlistId, position);
+
+        return snapshot == null ? null : snapshot.getSnapshotId();
+    }
+
+    @Override
+    public void applyTo(final List<String> itemUris) {
+        itemUris.addAll(position, this.itemUris);
+    }
+
+    @Override
+    public String toString() {
+        return "AddItemsOperation{" +
+                "items=" + itemUris.size() +
+                ", position=" + position +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+package spotify.api.playlists;
+
+import spotify.api.interfaces.PlaylistApi;
+import spotify.models.playlists.PlaylistItem;
+import spotify.models.playlists.Snapshot;
+import spotify.models.playlists.requests.DeleteItemsPlaylistRequestBody;
+
+import java.util.*;
+
+/**
+ * Removes the items at given positions of a playlist. The positions are those in the snapshot that the request is
+ * based on, so only the planned occurrences of an item are removed.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class DeleteItemsOperation implements PlaylistOperation {
+    private final Map<String, List<Integer>> positionsByUri;
+
+    DeleteItemsOperation(final Map<String, List<Integer>> positionsByUri) {
+        this.positionsByUri = Collections.unmodifiableMap(new LinkedHashMap<>(positionsByUri));
+    }
+
+    /**
+     * @return the positions of the removed items, per URI
+     */
+    public Map<String, List<Integer>> getPositionsByUri() {
+        return positionsByUri;
+    }
+
+    @Override
+    public String apply(final PlaylistApi playlistApi, final String playlistId, final String snapshotId) {
+        final List<PlaylistItem> items = new ArrayList<>(positionsByUri.size());
+
+        positionsByUri.forEach((uri, positions) -> items.add(new PlaylistItem(uri, positions.stream().mapToInt(Integer::intValue).toArray())));
+
+        final Snapshot snapshot = playlistApi.deleteItemsFromPlaylist(playlistId, new DeleteItemsPlaylistRequestBody(items, snapshotId));
+
+        return snapshot == null ? null : snapshot.getSnapshotId();
+    }
+
+    @Override
+    public void applyTo(final List<String> itemUris) {
+        final SortedSet<Integer> positions = new TreeSet<>(Comparator.reverseOrder());
+        positionsByUri.values().forEach(positions::addAll);
+
+        for (int position : positions) {
+            itemUris.remove(position);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DeleteItemsOperation{" +
+                "items=" + positionsByUri.values().stream().mapToInt(List::size).sum() +
+                '}';
+    }
+}
@@ -0,0 +1,202 @@
+package spotify.api.playlists;
+
+import java.util.*;
+
+/**
+ * Plans the fewest requests that turn the items of a playlist into a target list, without replacing the items that
+ * both lists share. Items that stay keep the date on which they have been added.
+ * <p>
+ * The k-th occurrence of a URI in the playlist is paired with the k-th occurrence in the target. The plan first removes
+ * the items that have no pair, then moves the items that are out of order, and finally inserts the items that are new:
+ * <ul>
+ *     <li>Removals are sent up to 100 URIs per request, by position, so duplicates that stay are not removed.</li>
+ *     <li>The longest run of items that are already in target order, the longest increasing subsequence, stays
+ *     where it is. Every other item is moved right behind the item that precedes it in the target, and items that
+ *     are next to each other in both lists are moved together as one range.</li>
+ *     <li>Consecutive new items are inserted at their target position, up to 100 per request.</li>
+ * </ul>
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class PlaylistDiff {
+    /**
+     * The maximum amount of items that can be added or removed with one request.
+     */
+    public static final int MAX_ITEMS_PER_REQUEST = 100;
+
+    private PlaylistDiff() {
+    }
+
+    /**
+     * @param baseSnapshotId the snapshot id of the current items, or {@code null} when it is not known
+     * @param currentUris    the URIs of the items of the playlist
+     * @param targetUris     the URIs of the items that the playlist should have, in order
+     * @return the requests that turn the current items into the target
+     */
+    public static PlaylistPlan plan(final String baseSnapshotId, final List<String> currentUris, final List<String> targetUris) {
+        if (currentUris.contains(null) || targetUris.contains(null)) {
+            throw new IllegalArgumentException("Items without URI cannot be planned!");
+        }
+
+        final Map<String, Deque<Integer>> targetPositions = new HashMap<>();
+        for (int i = 0; i < targetUris.size(); i++) {
+            targetPositions.computeIfAbsent(targetUris.get(i), uri -> new ArrayDeque<>()).add(i);
+        }
+
+        final boolean[] added = new boolean[targetUris.size()];
+        Arrays.fill(added, true);
+        final int[] keptTargetPositions = new int[currentUris.size()];
+        final List<PlaylistOperation> operations = new ArrayList<>();
+        final Map<String, List<Integer>> deletedPositions = new LinkedHashMap<>();
+        int kept = 0;
+        int deletedBefore = 0;
+        int deletedInRequest = 0;
+
+        for (int i = 0; i < currentUris.size(); i++) {
+            final String uri = currentUris.get(i);
+            final Deque<Integer> positions = targetPositions.get(uri);
+
+            if (positions != null && !positions.isEmpty()) {
+                final int targetPosition = positions.poll();
+                added[targetPosition] = false;
+                keptTargetPositions[kept++] = targetPosition;
+                continue;
+            }
+
+            if (!deletedPositions.containsKey(uri) && deletedPositions.size() == MAX_ITEMS_PER_REQUEST) {
+                operations.add(new DeleteItemsOperation(deletedPositions));
+                deletedPositions.clear();
+                deletedBefore += deletedInRequest;
+                deletedInRequest = 0;
+            }
+
+            deletedPositions.computeIfAbsent(uri, deletedUri -> new ArrayList<>()).add(i - deletedBefore);
+            deletedInRequest++;
+        }
+
+        if (!deletedPositions.isEmpty()) {
+            operations.add(new DeleteItemsOperation(deletedPositions));
+        }
+
+        operations.addAll(planMoves(Arrays.copyOf(keptTargetPositions, kept)));
+
+        for (int start = 0; start < targetUris.size(); start++) {
+            if (!added[start]) {
+                continue;
+            }
+
+            int end = start;
+            while (end < targetUris.size() && added[end] && end - start < MAX_ITEMS_PER_REQUEST) {
+                end++;
+            }
+
+            operations.add(new AddItemsOperation(targetUris.subList(start, end), start));
+            start = end - 1;
+        }
+
+        return new PlaylistPlan(baseSnapshotId, operations);
+    }
+
+    /**
+     * Plans the moves that put items in the order of their keys, keeping the longest increasing subsequence in place.
+     * Items with equal keys keep their relative order.
+     *
+     * @param keys the keys of the items, in the current order of the items
+     * @return the moves, in the order in which they must be sent
+     */
+    static List<ReorderItemsOperation> planMoves(final int[] keys) {
+        final int size = keys.length;
+        final int[] ranks = ranks(keys);
+        final boolean[] stable = new boolean[size];
+
+        for (int index : longestIncreasingSubsequence(ranks)) {
+            stable[ranks[index]] = true;
+        }
+
+        final List<Integer> order = new ArrayList<>(size);
+        for (int rank : ranks) {
+            order.add(rank);
+        }
+
+        final List<ReorderItemsOperation> moves = new ArrayList<>();
+
+        for (int rank = 0; rank < size; rank++) {
+            if (stable[rank]) {
+                continue;
+            }
+
+            final int rangeStart = order.indexOf(rank);
+            int rangeLength = 1;
+            while (rank + rangeLength < size && !stable[rank + rangeLength]
+                    && rangeStart + rangeLength < size && order.get(rangeStart + rangeLength) == rank + rangeLength) {
+                rangeLength++;
+            }
+
+            final int insertBefore = rank == 0 ? 0 : order.indexOf(rank - 1) + 1;
+
+            if (insertBefore != rangeStart) {
+                moves.add(new ReorderItemsOperation(rangeStart, rangeLength, insertBefore));
+                ReorderItemsOperation.move(order, rangeStart, rangeLength, insertBefore);
+            }
+
+            rank += rangeLength - 1;
+        }
+
+        return moves;
+    }
+
+    /**
+     * @return the rank of every key, ties broken by position
+     */
+    private static int[] ranks(final int[] keys) {
+        final Integer[] indices = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            indices[i] = i;
+        }
+
+        Arrays.sort(indices, Comparator.comparingInt(index -> keys[index]));
+
+        final int[] ranks = new int[keys.length];
+        for (int rank = 0; rank < indices.length; rank++) {
+            ranks[indices[rank]] = rank;
+        }
+
+        return ranks;
+    }
+
+    /**
+     * @return the indices of a longest strictly increasing subsequence of the distinct values
+     */
+    private static int[] longestIncreasingSubsequence(final int[] values) {
+        final int[] tails = new int[values.length];
+        final int[] predecessors = new int[values.length];
+        int length = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            int low = 0;
+            int high = length;
+
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+
+                if (values[tails[middle]] < values[i]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            predecessors[i] = low == 0 ? -1 : tails[low - 1];
+            tails[low] = i;
+            length = Math.max(length, low + 1);
+        }
+
+        final int[] subsequence = new int[length];
+        for (int i = length - 1, index = length == 0 ? -1 : tails[length - 1]; i >= 0; i--, index = predecessors[index]) {
+            subsequence[i] = index;
+        }
+
+        return subsequence;
+    }
+}
@@ -0,0 +1,97 @@
+package spotify.api.playlists;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.interfaces.PlaylistApi;
+import spotify.models.playlists.PlaylistTrack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Makes the items of a playlist match a target list with the fewest requests, see {@link PlaylistDiff}.
+ * <p>
+ * The requests are sent one after another. Every removal and move is based on the snapshot id that the previous
+ * request has returned, so Spotify applies the positions to the items that they have been planned for. Additions do
+ * not take a snapshot id, so the playlist should not be edited by others while a plan is applied.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class PlaylistEditor {
+    private final Logger logger = LoggerFactory.getLogger(PlaylistEditor.class);
+    private final PlaylistApi playlistApi;
+
+    public PlaylistEditor(final PlaylistApi playlistApi) {
+        this.playlistApi = playlistApi;
+    }
+
+    /**
+     * Requests the items of the playlist and plans the requests that turn them into the target.
+     *
+     * @param playlistId the id of the playlist
+     * @param targetUris the URIs of the items that the playlist should have, in order
+     * @return the plan, based on the current snapshot of the playlist
+     */
+    public PlaylistPlan plan(final String playlistId, final List<String> targetUris) {
+        final List<PlaylistTrack> items = new ArrayList<>();
+        final String snapshotId = getItems(playlistId, items);
+        final List<String> currentUris = new ArrayList<>(items.size());
+
+        for (PlaylistTrack item : items) {
+            if (item == null || item.getTrack() == null || item.getTrack().getUri() == null) {
+                throw new IllegalArgumentException("The playlist contains items without URI, which cannot be edited!");
+            }
+
+            currentUris.add(item.getTrack().getUri());
+        }
+
+        return PlaylistDiff.plan(snapshotId, currentUris, targetUris);
+    }
+
+    /**
+     * Sends the requests of the plan in order.
+     *
+     * @param playlistId the id of the playlist
+     * @param plan       the plan of the playlist
+     * @return the snapshot id of the playlist after the last request
+     */
+    public String apply(final String playlistId, final PlaylistPlan plan) {
+        String snapshotId = plan.getBaseSnapshotId();
+
+        for (PlaylistOperation operation : plan.getOperations()) {
+            logger.debug("Applying {} to playlist {} at snapshot {}.", operation, playlistId, snapshotId);
+            final String nextSnapshotId = operation.apply(playlistApi, playlistId, snapshotId);
+
+            if (nextSnapshotId != null) {
+                snapshotId = nextSnapshotId;
+            }
+        }
+
+        return snapshotId;
+    }
+
+    /**
+     * Makes the items of the playlist match the target.
+     *
+     * @param playlistId the id of the playlist
+     * @param targetUris the URIs of the items that the playlist should have, in order
+     * @return the plan that has been applied
+     */
+    public PlaylistPlan sync(final String playlistId, final List<String> targetUris) {
+        final PlaylistPlan plan = plan(playlistId, targetUris);
+        logger.debug("Syncing playlist {} with {} requests.", playlistId, plan.size());
+        apply(playlistId, plan);
+
+        return plan;
+    }
+
+    /**
+     * Adds all items of the playlist to the list.
+     *
+     * @return the snapshot id of the items
+     */
+    String getItems(final String playlistId, final List<PlaylistTrack> items) {
+        return PlaylistItems.requestAll(playlistApi, playlistId, items).getSnapshotId();
+    }
+}
@@ -0,0 +1,52 @@
+package spotify.api.playlists;
+
+import spotify.api.interfaces.PlaylistApi;
+import spotify.api.paging.Pages;
+import spotify.models.paging.Paging;
+import spotify.models.playlists.PlaylistFull;
+import spotify.models.playlists.PlaylistTrack;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Requests a playlist together with all its items. The first page of items comes with the playlist, the other pages
+ * are requested up to four at the same time.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class PlaylistItems {
+    private static final int MAX_CONCURRENT_REQUESTS = 4;
+
+    private PlaylistItems() {
+    }
+
+    /**
+     * Requests the playlist and adds all its items to the list, in order.
+     *
+     * @param playlistApi the API that the requests are sent with
+     * @param playlistId  the id of the playlist
+     * @param items       the list that the items are added to
+     * @return the playlist, of which the items are the snapshot of its snapshot id
+     */
+    public static PlaylistFull requestAll(final PlaylistApi playlistApi, final String playlistId, final List<PlaylistTrack> items) {
+        final PlaylistFull playlist = playlistApi.getPlaylist(playlistId, Collections.emptyMap());
+        final Paging<PlaylistTrack> firstPage = playlist == null ? null : playlist.getTracks();
+
+        if (firstPage != null && firstPage.getItems() != null) {
+            items.addAll(firstPage.getItems());
+
+            if (firstPage.getNext() != null) {
+                final Map<String, String> options = new HashMap<>();
+                options.put("offset", String.valueOf(firstPage.getOffset() + firstPage.getItems().size()));
+                Pages.forEachConcurrently(pageOptions -> playlistApi.getPlaylistTracks(playlistId, pageOptions),
+                        Pages.MAX_PLAYLIST_ITEMS_LIMIT, options, MAX_CONCURRENT_REQUESTS, items::add);
+            }
+        }
+
+        return playlist;
+    }
+}
@@ -0,0 +1,28 @@
+package spotify.api.playlists;
+
+import spotify.api.interfaces.PlaylistApi;
+
+import java.util.List;
+
+/**
+ * One request that changes the items of a playlist, as planned by {@link PlaylistDiff}.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public interface PlaylistOperation {
+    /**
+     * Sends the request.
+     *
+     * @param playlistApi the playlist API with the access token of a user that may edit the playlist
+     * @param playlistId  the id of the playlist
+     * @param snapshotId  the snapshot that the request is based on, {@code null} for the latest snapshot
+     * @return the snapshot id of the playlist after the request
+     */
+    String apply(PlaylistApi playlistApi, String playlistId, String snapshotId);
+
+    /**
+     * Changes a list of item URIs the way the request changes the playlist.
+     */
+    void applyTo(List<String> itemUris);
+}
@@ -0,0 +1,52 @@
+package spotify.api.playlists;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The requests that change the items of a playlist from one snapshot into a target list, in the order in which they
+ * must be sent.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class PlaylistPlan {
+    private final String baseSnapshotId;
+    private final List<PlaylistOperation> operations;
+
+    PlaylistPlan(final String baseSnapshotId, final List<PlaylistOperation> operations) {
+        this.baseSnapshotId = baseSnapshotId;
+        this.operations = Collections.unmodifiableList(new ArrayList<>(operations));
+    }
+
+    /**
+     * @return the snapshot id of the items that the plan starts from, or {@code null} when it is not known
+     */
+    public String getBaseSnapshotId() {
+        return baseSnapshotId;
+    }
+
+    public List<PlaylistOperation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * @return the amount of requests of the plan
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "PlaylistPlan{" +
+                "baseSnapshotId='" + baseSnapshotId + '\'' +
+                ", operations=" + operations +
+                '}';
+    }
+}
@@ -0,0 +1,120 @@
+package spotify.api.playlists;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.interfaces.PlaylistApi;
+import spotify.api.interfaces.TrackApi;
+import spotify.models.audio.AudioFeatures;
+import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.playlists.PlaylistTrack;
+import spotify.models.tracks.TrackFull;
+
+import java.util.*;
+
+/**
+ * Sorts the items of a playlist in place by their audio features, such as tempo, energy or key, with the fewest
+ * reorder requests.
+ * <p>
+ * The audio features are requested 100 tracks per request. The longest run of items that are already in sorted order
+ * stays where it is, and the other items are moved in ranges of neighbouring items, see {@link PlaylistDiff}. A nearly
+ * sorted playlist therefore takes only a few requests instead of one per item. Items without audio features, such as
+ * episodes and local files, are moved to the end in their current order. Items with equal audio features keep their
+ * current order.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class PlaylistSorter {
+    private static final int MAX_AUDIO_FEATURES_PER_REQUEST = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(PlaylistSorter.class);
+    private final TrackApi trackApi;
+    private final PlaylistEditor playlistEditor;
+
+    public PlaylistSorter(final PlaylistApi playlistApi, final TrackApi trackApi) {
+        this.trackApi = trackApi;
+        this.playlistEditor = new PlaylistEditor(playlistApi);
+    }
+
+    /**
+     * Requests the items of the playlist and their audio features, and plans the moves that sort them.
+     *
+     * @param playlistId the id of the playlist
+     * @param comparator the order of the audio features, for instance {@code Comparator.comparing(AudioFeatures::getTempo)}
+     * @return the plan, based on the current snapshot of the playlist
+     */
+    public PlaylistPlan plan(final String playlistId, final Comparator<AudioFeatures> comparator) {
+        final List<PlaylistTrack> items = new ArrayList<>();
+        final String snapshotId = playlistEditor.getItems(playlistId, items);
+        final List<AudioFeatures> audioFeatures = getAudioFeatures(items);
+
+        final Integer[] sortedIndices = new Integer[items.size()];
+        for (int i = 0; i < sortedIndices.length; i++) {
+            sortedIndices[i] = i;
+        }
+
+        Arrays.sort(sortedIndices, Comparator.comparing(audioFeatures::get, Comparator.nullsLast(comparator)));
+
+        final int[] sortedPositions = new int[items.size()];
+        for (int position = 0; position < sortedIndices.length; position++) {
+            sortedPositions[sortedIndices[position]] = position;
+        }
+
+        return new PlaylistPlan(snapshotId, new ArrayList<>(PlaylistDiff.planMoves(sortedPositions)));
+    }
+
+    /**
+     * Sorts the items of the playlist.
+     *
+     * @param playlistId the id of the playlist
+     * @param comparator the order of the audio features, for instance {@code Comparator.comparing(AudioFeatures::getTempo)}
+     * @return the plan that has been applied
+     */
+    public PlaylistPlan sort(final String playlistId, final Comparator<AudioFeatures> comparator) {
+        final PlaylistPlan plan = plan(playlistId, comparator);
+        logger.debug("Sorting playlist {} with {} requests.", playlistId, plan.size());
+        playlistEditor.apply(playlistId, plan);
+
+        return plan;
+    }
+
+    /**
+     * @return the audio features of every item, {@code null} for items without audio features
+     */
+    private List<AudioFeatures> getAudioFeatures(final List<PlaylistTrack> items) {
+        final List<String> trackIds = new ArrayList<>(items.size());
+        final Set<String> uniqueTrackIds = new LinkedHashSet<>();
+
+        for (PlaylistTrack item : items) {
+            final String trackId = item != null && !item.isLocal() && item.getTrack() instanceof TrackFull ? item.getTrack().getId() : null;
+            trackIds.add(trackId);
+
+            if (trackId != null) {
+                uniqueTrackIds.add(trackId);
+            }
+        }
+
+        final Map<String, AudioFeatures> audioFeaturesById = new HashMap<>();
+        final List<String> requestedTrackIds = new ArrayList<>(uniqueTrackIds);
+
+        for (int from = 0; from < requestedTrackIds.size(); from += MAX_AUDIO_FEATURES_PER_REQUEST) {
+            final List<String> batch = requestedTrackIds.subList(from, Math.min(from + MAX_AUDIO_FEATURES_PER_REQUEST, requestedTrackIds.size()));
+            final AudioFeaturesCollection audioFeaturesCollection = trackApi.getTracksAudioFeatures(batch);
+
+            if (audioFeaturesCollection != null && audioFeaturesCollection.getAudioFeatures() != null) {
+                for (AudioFeatures audioFeatures : audioFeaturesCollection.getAudioFeatures()) {
+                    if (audioFeatures != null) {
+                        audioFeaturesById.put(audioFeatures.getId(), audioFeatures);
+                    }
+                }
+            }
+        }
+
+        final List<AudioFeatures> audioFeatures = new ArrayList<>(items.size());
+        for (String trackId : trackIds) {
+            audioFeatures.add(trackId == null ? null : audioFeaturesById.get(trackId));
+        }
+
+        return audioFeatures;
+    }
+}
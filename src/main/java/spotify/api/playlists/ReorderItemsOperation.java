@@ -0,0 +1,69 @@
+package spotify.api.playlists;
+
+import spotify.api.interfaces.PlaylistApi;
+import spotify.models.playlists.Snapshot;
+import spotify.models.playlists.requests.ReorderPlaylistItemsRequestBody;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves a range of items of a playlist in front of another position.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class ReorderItemsOperation implements PlaylistOperation {
+    private final int rangeStart;
+    private final int rangeLength;
+    private final int insertBefore;
+
+    ReorderItemsOperation(final int rangeStart, final int rangeLength, final int insertBefore) {
+        this.rangeStart = rangeStart;
+        this.rangeLength = rangeLength;
+        this.insertBefore = insertBefore;
+    }
+
+    public int getRangeStart() {
+        return rangeStart;
+    }
+
+    public int getRangeLength() {
+        return rangeLength;
+    }
+
+    /**
+     * @return the position, before the move, in front of which the range is inserted
+     */
+    public int getInsertBefore() {
+        return insertBefore;
+    }
+
+    @Override
+    public String apply(final PlaylistApi playlistApi, final String playlistId, final String snapshotId) {
+        final Snapshot snapshot = playlistApi.reorderPlaylistItems(playlistId,
+                new ReorderPlaylistItemsRequestBody(rangeStart, rangeLength, insertBefore, snapshotId));
+
+        return snapshot == null ? null : snapshot.getSnapshotId();
+    }
+
+    @Override
+    public void applyTo(final List<String> itemUris) {
+        move(itemUris, rangeStart, rangeLength, insertBefore);
+    }
+
+    static <T> void move(final List<T> items, final int rangeStart, final int rangeLength, final int insertBefore) {
+        final List<T> range = new ArrayList<>(items.subList(rangeStart, rangeStart + rangeLength));
+        items.subList(rangeStart, rangeStart + rangeLength).clear();
+        items.addAll(insertBefore > rangeStart ? insertBefore - rangeLength : insertBefore, range);
+    }
+
+    @Override
+    public String toString() {
+        return "ReorderItemsOperation{" +
+                "rangeStart=" + rangeStart +
+                ", rangeLength=" + rangeLength +
+                ", insertBefore=" + insertBefore +
+                '}';
+    }
+}
@@ -0,0 +1,78 @@
+package spotify.api.spotify;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.authorization.ScopedAccessTokenProvider;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@link SpotifyApi} that is shared between all users and takes the access token per request.
+ * <p>
+ * One set of APIs is constructed once and reused for every user, so serving another user does not construct anything.
+ * <pre>{@code
+ * MultiTenantSpotifyApi spotifyApi = new MultiTenantSpotifyApi();
+ *
+ * TrackFull track = spotifyApi.execute("ACCESS TOKEN", api -> api.getTrack("TRACK ID", options));
+ * }</pre>
+ * Streams of paged items that are returned by {@link #execute(String, Function)} keep the access token of the user, so
+ * they can be consumed afterwards.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class MultiTenantSpotifyApi {
+    private final Logger logger = LoggerFactory.getLogger(MultiTenantSpotifyApi.class);
+    private final ScopedAccessTokenProvider accessTokenProvider;
+    private final SpotifyApi spotifyApi;
+
+    public MultiTenantSpotifyApi() {
+        this.accessTokenProvider = new ScopedAccessTokenProvider();
+        this.spotifyApi = new SpotifyApi(accessTokenProvider);
+    }
+
+    MultiTenantSpotifyApi(final ScopedAccessTokenProvider accessTokenProvider, final SpotifyApi spotifyApi) {
+        this.accessTokenProvider = accessTokenProvider;
+        this.spotifyApi = spotifyApi;
+    }
+
+    /**
+     * Executes the given requests with the access token of a user.
+     *
+     * @param accessToken the access token of the user
+     * @param apiCall     the requests to be made
+     * @param <T>         the type of the result
+     * @return the result of the requests
+     */
+    public <T> T execute(final String accessToken, final Function<SpotifyApi, T> apiCall) {
+        logger.trace("Executing requests with a scoped access token.");
+        return accessTokenProvider.callWithAccessToken(accessToken, () -> apiCall.apply(spotifyApi));
+    }
+
+    /**
+     * Executes the given requests with the access token that the provider returns for a user.
+     *
+     * @param userAccessTokenProvider provider of the access token of the user
+     * @param apiCall                 the requests to be made
+     * @param <T>                     the type of the result
+     * @return the result of the requests
+     */
+    public <T> T execute(final AccessTokenProvider userAccessTokenProvider, final Function<SpotifyApi, T> apiCall) {
+        return execute(userAccessTokenProvider.getAccessToken(), apiCall);
+    }
+
+    /**
+     * Executes the given requests, that do not return a result, with the access token of a user.
+     *
+     * @param accessToken the access token of the user
+     * @param apiCall     the requests to be made
+     */
+    public void run(final String accessToken, final Consumer<SpotifyApi> apiCall) {
+        execute(accessToken, api -> {
+            apiCall.accept(api);
+            return null;
+        });
+    }
+}
@@ -2,18 +2,34 @@ package spotify.api.spotify;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.batching.*;
+import spotify.api.caching.*;
+import spotify.api.chunking.*;
 import spotify.api.enums.AlbumType;
 import spotify.api.enums.EntityType;
 import spotify.api.enums.QueryType;
 import spotify.api.enums.RepeatType;
 import spotify.api.impl.*;
 import spotify.api.interfaces.*;
+import spotify.api.paging.Pages;
+import spotify.api.playlists.PlaylistEditor;
+import spotify.api.playlists.PlaylistItems;
+import spotify.api.playlists.PlaylistPlan;
+import spotify.api.playlists.PlaylistSorter;
+import spotify.api.sync.LibraryDelta;
+import spotify.api.sync.LibraryItemType;
+import spotify.api.sync.LibrarySync;
+import spotify.config.BatchingConfig;
+import spotify.config.ChunkingConfig;
 import spotify.models.albums.*;
 import spotify.models.artists.ArtistFull;
 import spotify.models.artists.ArtistFullCollection;
 import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioAnalysisVisitor;
 import spotify.models.audio.AudioFeatures;
 import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
 import spotify.models.categories.CategoryFull;
 import spotify.models.categories.CategoryFullPaging;
 import spotify.models.episodes.EpisodeFull;
@@ -44,8 +60,12 @@ import spotify.models.tracks.TrackFullCollection;
 import spotify.models.tracks.TrackSimplified;
 import spotify.models.users.User;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 public class SpotifyApi {
@@ -60,13 +80,47 @@ public class SpotifyApi {
     private FollowApi followApi;
     private LibraryApi libraryApi;
     private PlaylistApi playlistApi;
+    private CachingPlaylistApi cachingPlaylistApi;
     private PersonalizationApi personalizationApi;
     private PlayerApi playerApi;
     private SearchApi searchApi;
     private MarketApi marketApi;
+    private PagingApi pagingApi;
 
     public SpotifyApi(final String accessToken) {
-        this.setup(accessToken);
+        this(() -> accessToken);
+    }
+
+    /**
+     * Constructs a SpotifyApi that asks the given provider for the access token on every request.
+     *
+     * @param accessTokenProvider provider of the access token
+     * @see MultiTenantSpotifyApi
+     */
+    public SpotifyApi(final AccessTokenProvider accessTokenProvider) {
+        this.setup(accessTokenProvider);
+    }
+
+    private SpotifyApi(final Builder builder) {
+        this.setup(builder.accessTokenProvider);
+
+        if (builder.batchingConfig != null) {
+            this.setupBatching(builder.accessTokenProvider, builder.batchingConfig);
+        }
+
+        if (builder.chunkingConfig != null) {
+            this.setupChunking(builder.accessTokenProvider, builder.chunkingConfig);
+        }
+
+        if (builder.catalogCache != null) {
+            this.setupCaching(builder.catalogCache);
+        }
+
+        if (builder.playlistCache != null) {
+            logger.trace("Constructing caching playlist API");
+            this.cachingPlaylistApi = new CachingPlaylistApi(playlistApi, builder.playlistCache);
+            this.playlistApi = cachingPlaylistApi;
+        }
     }
 
     public void setApis(TrackApi trackApi, AlbumApi albumApi) {
@@ -99,6 +153,16 @@ public class SpotifyApi {
         return trackApi.getTrackAudioAnalysis(trackId);
     }
 
+    public ColumnarAudioAnalysis getTrackColumnarAudioAnalysis(String trackId) {
+        logger.info("Requesting columnar audio analysis of track id {}", trackId);
+        return trackApi.getTrackColumnarAudioAnalysis(trackId);
+    }
+
+    public void streamTrackAudioAnalysis(String trackId, AudioAnalysisVisitor visitor) {
+        logger.info("Streaming audio analysis of track id {}", trackId);
+        trackApi.streamTrackAudioAnalysis(trackId, visitor);
+    }
+
     public AlbumFull getAlbum(String albumId, Map<String, String> options) {
         logger.info("Requesting an album with id {}.", albumId);
         return albumApi.getAlbum(albumId, options);
@@ -119,6 +183,11 @@ public class SpotifyApi {
         return albumApi.getAlbumTracks(albumId, options);
     }
 
+    public Stream<TrackSimplified> streamAlbumTracks(String albumId, Map<String, String> options) {
+        logger.info("Requesting to stream all tracks of an album with id {}.", albumId);
+        return Pages.stream(pageOptions -> albumApi.getAlbumTracks(albumId, pageOptions), Pages.MAX_LIMIT, options);
+    }
+
     public User getCurrentUser() {
         logger.info("Requesting current user info");
         return userApi.getCurrentUser();
@@ -149,6 +218,16 @@ public class SpotifyApi {
         return showApi.getShowEpisodes(showId, options);
     }
 
+    public Stream<EpisodeSimplified> streamShowEpisodes(String showId, Map<String, String> options) {
+        logger.info("Requesting to stream all episodes of a show with id {}.", showId);
+        return Pages.stream(pageOptions -> showApi.getShowEpisodes(showId, pageOptions), Pages.MAX_LIMIT, options);
+    }
+
+    public void forEachShowEpisode(String showId, Map<String, String> options, int maxConcurrentRequests, Consumer<EpisodeSimplified> consumer) {
+        logger.info("Requesting to fetch all episodes of a show with id {} concurrently.", showId);
+        Pages.forEachConcurrently(pageOptions -> showApi.getShowEpisodes(showId, pageOptions), Pages.MAX_LIMIT, options, maxConcurrentRequests, consumer);
+    }
+
     public ShowSimplifiedCollection getShows(List<String> listOfShowIds, Map<String, String> options) {
         logger.info("Requesting multiple shows");
         return showApi.getShows(listOfShowIds, options);
@@ -164,6 +243,11 @@ public class SpotifyApi {
         return artistApi.getArtistAlbums(artistId, listOfAlbumTypes, options);
     }
 
+    public Stream<AlbumSimplified> streamArtistAlbums(String artistId, List<AlbumType> listOfAlbumTypes, Map<String, String> options) {
+        logger.info("Requesting to stream all albums of an artist with id {}.", artistId);
+        return Pages.stream(pageOptions -> artistApi.getArtistAlbums(artistId, listOfAlbumTypes, pageOptions), Pages.MAX_LIMIT, options);
+    }
+
     public TrackFullCollection getArtistTopTracks(String artistId, Map<String, String> options) {
         logger.info("Requesting top tracks of an artist");
         return artistApi.getArtistTopTracks(artistId, options);
@@ -189,11 +273,26 @@ public class SpotifyApi {
         return browseApi.getCategoryPlaylists(categoryId, options);
     }
 
+    public Stream<PlaylistSimplified> streamCategoryPlaylists(String categoryId, Map<String, String> options) {
+        logger.info("Requesting to stream all playlists of a category with id {}.", categoryId);
+        return Pages.stream(pageOptions -> browseApi.getCategoryPlaylists(categoryId, pageOptions).getPlaylists(), Pages.MAX_LIMIT, options);
+    }
+
     public CategoryFullPaging getCategories(Map<String, String> options) {
         logger.info("Requesting categories");
         return browseApi.getCategories(options);
     }
 
+    public Stream<CategoryFull> streamCategories(Map<String, String> options) {
+        logger.info("Requesting to stream all categories.");
+        return Pages.stream(pageOptions -> browseApi.getCategories(pageOptions).getCategories(), Pages.MAX_LIMIT, options);
+    }
+
+    public void forEachCategory(Map<String, String> options, int maxConcurrentRequests, Consumer<CategoryFull> consumer) {
+        logger.info("Requesting to fetch all categories concurrently.");
+        Pages.forEachConcurrently(pageOptions -> browseApi.getCategories(pageOptions).getCategories(), Pages.MAX_LIMIT, options, maxConcurrentRequests, consumer);
+    }
+
     public FeaturedPlaylistCollection getFeaturedPlaylists(Map<String, String> options) {
         logger.info("Requesting featured playlists");
         return browseApi.getFeaturedPlaylists(options);
@@ -204,6 +303,11 @@ public class SpotifyApi {
         return browseApi.getNewReleases(options);
     }
 
+    public Stream<AlbumSimplified> streamNewReleases(Map<String, String> options) {
+        logger.info("Requesting to stream all new releases.");
+        return Pages.stream(pageOptions -> browseApi.getNewReleases(pageOptions).getAlbums(), Pages.MAX_LIMIT, options);
+    }
+
     public RecommendationCollection getRecommendations(List<String> listOfSeedArtists, List<String> listOfSeedGenres, List<String> listOfSeedTracks, Map<String, String> options) {
         logger.info("Requesting recommendations");
         return browseApi.getRecommendations(listOfSeedArtists, listOfSeedGenres, listOfSeedTracks, options);
@@ -234,6 +338,11 @@ public class SpotifyApi {
         return followApi.getFollowedArtists(entityType, options);
     }
 
+    public Stream<ArtistFull> streamFollowedArtists(EntityType entityType, Map<String, String> options) {
+        logger.info("Requesting to stream all followed artists.");
+        return Pages.cursorBasedStream(pageOptions -> followApi.getFollowedArtists(entityType, pageOptions), Pages.MAX_LIMIT, options);
+    }
+
     public void unfollowEntities(EntityType entityType, List<String> listOfEntityIds) {
         logger.info("Requesting to unfollow entities");
         followApi.unfollowEntities(entityType, listOfEntityIds);
@@ -264,16 +373,41 @@ public class SpotifyApi {
         return libraryApi.getSavedAlbums(options);
     }
 
+    public Stream<SavedAlbumFull> streamSavedAlbums(Map<String, String> options) {
+        logger.info("Requesting to stream all of current user's saved albums");
+        return Pages.stream(libraryApi::getSavedAlbums, Pages.MAX_LIMIT, options);
+    }
+
+    public void forEachSavedAlbum(Map<String, String> options, int maxConcurrentRequests, Consumer<SavedAlbumFull> consumer) {
+        logger.info("Requesting to fetch all of current user's saved albums concurrently");
+        Pages.forEachConcurrently(libraryApi::getSavedAlbums, Pages.MAX_LIMIT, options, maxConcurrentRequests, consumer);
+    }
+
     public Paging<SavedShowSimplified> getSavedShows(Map<String, String> options) {
         logger.info("Requesting to fetch current user's saved shows");
         return libraryApi.getSavedShows(options);
     }
 
+    public Stream<SavedShowSimplified> streamSavedShows(Map<String, String> options) {
+        logger.info("Requesting to stream all of current user's saved shows");
+        return Pages.stream(libraryApi::getSavedShows, Pages.MAX_LIMIT, options);
+    }
+
     public Paging<SavedTrackFull> getSavedTracks(Map<String, String> options) {
         logger.info("Requesting to fetch current user's saved tracks");
         return libraryApi.getSavedTracks(options);
     }
 
+    public Stream<SavedTrackFull> streamSavedTracks(Map<String, String> options) {
+        logger.info("Requesting to stream all of current user's saved tracks");
+        return Pages.stream(libraryApi::getSavedTracks, Pages.MAX_LIMIT, options);
+    }
+
+    public void forEachSavedTrack(Map<String, String> options, int maxConcurrentRequests, Consumer<SavedTrackFull> consumer) {
+        logger.info("Requesting to fetch all of current user's saved tracks concurrently");
+        Pages.forEachConcurrently(libraryApi::getSavedTracks, Pages.MAX_LIMIT, options, maxConcurrentRequests, consumer);
+    }
+
     public void saveAlbums(List<String> listOfAlbumIds) {
         logger.info("Requesting to save albums");
         libraryApi.saveAlbums(listOfAlbumIds);
@@ -304,16 +438,31 @@ public class SpotifyApi {
         libraryApi.deleteTracks(listOfTracksIds);
     }
 
+    public LibraryDelta syncLibrary(LibrarySync librarySync, String userId, LibraryItemType libraryItemType) {
+        logger.info("Requesting to sync the saved {} of user {}", libraryItemType, userId);
+        return librarySync.sync(userId, libraryApi, libraryItemType);
+    }
+
     public Paging<PlaylistSimplified> getPlaylists(Map<String, String> options) {
         logger.info("Requesting to fetch current user's playlists");
         return playlistApi.getPlaylists(options);
     }
 
+    public Stream<PlaylistSimplified> streamPlaylists(Map<String, String> options) {
+        logger.info("Requesting to stream all playlists of the current user");
+        return Pages.stream(playlistApi::getPlaylists, Pages.MAX_LIMIT, options);
+    }
+
     public Paging<PlaylistSimplified> getUserPlaylists(String userId, Map<String, String> options) {
         logger.info("Requesting to fetch a user's playlists");
         return playlistApi.getUserPlaylists(userId, options);
     }
 
+    public Stream<PlaylistSimplified> streamUserPlaylists(String userId, Map<String, String> options) {
+        logger.info("Requesting to stream all playlists of a user");
+        return Pages.stream(pageOptions -> playlistApi.getUserPlaylists(userId, pageOptions), Pages.MAX_LIMIT, options);
+    }
+
     public List<Image> getPlaylistCoverImages(String playlistId) {
         logger.info("Requesting to fetch a playlist cover images");
         return playlistApi.getPlaylistCoverImages(playlistId);
@@ -329,9 +478,39 @@ public class SpotifyApi {
         return playlistApi.getPlaylistTracks(playlistId, options);
     }
 
-    public void addItemsToPlaylist(List<String> listOfObjectUris, String playlistId, int startPositionToInsert) {
+    public Stream<PlaylistTrack> streamPlaylistTracks(String playlistId, Map<String, String> options) {
+        logger.info("Requesting to stream all tracks of a playlist");
+        return Pages.stream(pageOptions -> getPlaylistTracksOfAll(playlistId, pageOptions), Pages.MAX_PLAYLIST_ITEMS_LIMIT, options);
+    }
+
+    public void forEachPlaylistTrack(String playlistId, Map<String, String> options, int maxConcurrentRequests, Consumer<PlaylistTrack> consumer) {
+        logger.info("Requesting to fetch all tracks of a playlist concurrently");
+        Pages.forEachConcurrently(pageOptions -> getPlaylistTracksOfAll(playlistId, pageOptions), Pages.MAX_PLAYLIST_ITEMS_LIMIT, options, maxConcurrentRequests, consumer);
+    }
+
+    /**
+     * Returns all items of a playlist. With a playlist cache they are served from the cache while the snapshot of the
+     * playlist has not changed, and cached otherwise.
+     *
+     * @param playlistId the id of the playlist
+     * @return all items of the playlist, which must not be modified
+     */
+    public List<PlaylistTrack> getAllPlaylistTracks(String playlistId) {
+        logger.info("Requesting to fetch all tracks of a playlist");
+
+        if (cachingPlaylistApi != null) {
+            return cachingPlaylistApi.getAllPlaylistTracks(playlistId);
+        }
+
+        final List<PlaylistTrack> items = new ArrayList<>();
+        PlaylistItems.requestAll(playlistApi, playlistId, items);
+
+        return items;
+    }
+
+    public Snapshot addItemsToPlaylist(List<String> listOfObjectUris, String playlistId, int startPositionToInsert) {
         logger.info("Requesting to add items to a playlist");
-        playlistApi.addItemToPlaylist(listOfObjectUris, playlistId, startPositionToInsert);
+        return playlistApi.addItemToPlaylist(listOfObjectUris, playlistId, startPositionToInsert);
     }
 
     public void createPlaylist(String userId, CreateUpdatePlaylistRequestBody requestBody) {
@@ -355,6 +534,18 @@ public class SpotifyApi {
         playlistApi.replacePlaylistItems(playlistId, listOfItemUris);
     }
 
+    public PlaylistPlan syncPlaylistItems(String playlistId, List<String> listOfItemUris) {
+        logger.info("Requesting to sync items of a playlist");
+        cacheAllPlaylistTracks(playlistId);
+        return new PlaylistEditor(playlistApi).sync(playlistId, listOfItemUris);
+    }
+
+    public PlaylistPlan sortPlaylistItems(String playlistId, Comparator<AudioFeatures> comparator) {
+        logger.info("Requesting to sort items of a playlist by their audio features");
+        cacheAllPlaylistTracks(playlistId);
+        return new PlaylistSorter(playlistApi, trackApi).sort(playlistId, comparator);
+    }
+
     public void uploadCoverImageToPlaylist(String playlistId, String base64EncodedJpegImage) {
         logger.info("Requesting to upload cover image to a playlist");
         playlistApi.uploadCoverImageToPlaylist(playlistId, base64EncodedJpegImage);
@@ -370,12 +561,22 @@ public class SpotifyApi {
         return personalizationApi.getTopArtists(options);
     }
 
+    public Stream<ArtistFull> streamTopArtists(Map<String, String> options) {
+        logger.info("Requesting to stream all top artists of the current user");
+        return Pages.stream(personalizationApi::getTopArtists, Pages.MAX_LIMIT, options);
+    }
+
 
     public Paging<TrackFull> getTopTracks(Map<String, String> options) {
         logger.info("Requesting to fetch user's top tracks");
         return personalizationApi.getTopTracks(options);
     }
 
+    public Stream<TrackFull> streamTopTracks(Map<String, String> options) {
+        logger.info("Requesting to stream all top tracks of the current user");
+        return Pages.stream(personalizationApi::getTopTracks, Pages.MAX_LIMIT, options);
+    }
+
     public DeviceCollection getAvailableDevices() {
         logger.info("Requesting to fetch user's available devices");
         return playerApi.getAvailableDevices();
@@ -391,6 +592,11 @@ public class SpotifyApi {
         return playerApi.getRecentlyPlayedTracks(options);
     }
 
+    public Stream<PlayHistory> streamRecentlyPlayedTracks(Map<String, String> options) {
+        logger.info("Requesting to stream all recently played tracks");
+        return Pages.cursorBasedStream(playerApi::getRecentlyPlayedTracks, Pages.MAX_LIMIT, options);
+    }
+
     public CurrentlyPlayingObject getCurrentlyPlayedObject(Map<String, String> options) {
         logger.info("Requesting to fetch user's currently played object");
         return playerApi.getCurrentlyPlayedObject(options);
@@ -451,21 +657,174 @@ public class SpotifyApi {
         return searchApi.searchItem(query, listOfQueryTypes, options);
     }
 
-    private void setup(final String accessToken) {
+    public <T> Paging<T> getNextPage(Paging<T> paging, Class<T> itemType) {
+        logger.info("Requesting the next page of a page");
+        return pagingApi.getNextPage(paging, itemType);
+    }
+
+    public <T> Paging<T> getPreviousPage(Paging<T> paging, Class<T> itemType) {
+        logger.info("Requesting the previous page of a page");
+        return pagingApi.getPreviousPage(paging, itemType);
+    }
+
+    public <T> CursorBasedPaging<T> getNextPage(CursorBasedPaging<T> paging, Class<T> itemType) {
+        logger.info("Requesting the next page of a cursor based page");
+        return pagingApi.getNextPage(paging, itemType);
+    }
+
+    /**
+     * Requests a page of a playlist for a caller that reads all pages, so the playlist cache loads all items at once.
+     */
+    private Paging<PlaylistTrack> getPlaylistTracksOfAll(final String playlistId, final Map<String, String> options) {
+        return cachingPlaylistApi == null
+                ? playlistApi.getPlaylistTracks(playlistId, options)
+                : cachingPlaylistApi.getPlaylistTracksCachingAll(playlistId, options);
+    }
+
+    /**
+     * Loads all items of a playlist into the playlist cache, if any, so the playlist editor reads them from the cache.
+     */
+    private void cacheAllPlaylistTracks(final String playlistId) {
+        if (cachingPlaylistApi != null) {
+            cachingPlaylistApi.getAllPlaylistTracks(playlistId);
+        }
+    }
+
+    private void setup(final AccessTokenProvider accessTokenProvider) {
         logger.trace("Constructing Retrofit APIs");
-        this.trackApi = new TrackApiRetrofit(accessToken);
-        this.albumApi = new AlbumApiRetrofit(accessToken);
-        this.userApi = new UserApiRetrofit(accessToken);
-        this.episodeApi = new EpisodeApiRetrofit(accessToken);
-        this.showApi = new ShowApiRetrofit(accessToken);
-        this.artistApi = new ArtistApiRetrofit(accessToken);
-        this.browseApi = new BrowseApiRetrofit(accessToken);
-        this.followApi = new FollowApiRetrofit(accessToken);
-        this.libraryApi = new LibraryApiRetrofit(accessToken);
-        this.playlistApi = new PlaylistApiRetrofit(accessToken);
-        this.personalizationApi = new PersonalizationApiRetrofit(accessToken);
-        this.playerApi = new PlayerApiRetrofit(accessToken);
-        this.searchApi = new SearchApiRetrofit(accessToken);
-        this.marketApi = new MarketApiRetrofit(accessToken);
+        this.trackApi = new TrackApiRetrofit(accessTokenProvider);
+        this.albumApi = new AlbumApiRetrofit(accessTokenProvider);
+        this.userApi = new UserApiRetrofit(accessTokenProvider);
+        this.episodeApi = new EpisodeApiRetrofit(accessTokenProvider);
+        this.showApi = new ShowApiRetrofit(accessTokenProvider);
+        this.artistApi = new ArtistApiRetrofit(accessTokenProvider);
+        this.browseApi = new BrowseApiRetrofit(accessTokenProvider);
+        this.followApi = new FollowApiRetrofit(accessTokenProvider);
+        this.libraryApi = new LibraryApiRetrofit(accessTokenProvider);
+        this.playlistApi = new PlaylistApiRetrofit(accessTokenProvider);
+        this.personalizationApi = new PersonalizationApiRetrofit(accessTokenProvider);
+        this.playerApi = new PlayerApiRetrofit(accessTokenProvider);
+        this.searchApi = new SearchApiRetrofit(accessTokenProvider);
+        this.marketApi = new MarketApiRetrofit(accessTokenProvider);
+        this.pagingApi = new PagingApiRetrofit(accessTokenProvider);
+    }
+
+    private void setupBatching(final AccessTokenProvider accessTokenProvider, final BatchingConfig batchingConfig) {
+        logger.trace("Constructing batching APIs with {}", batchingConfig);
+        this.trackApi = new BatchingTrackApi(trackApi, new BatchingAsyncTrackApi(accessTokenProvider, batchingConfig));
+        this.albumApi = new BatchingAlbumApi(albumApi, new BatchingAsyncAlbumApi(accessTokenProvider, batchingConfig));
+        this.artistApi = new BatchingArtistApi(artistApi, new BatchingAsyncArtistApi(accessTokenProvider, batchingConfig));
+        this.episodeApi = new BatchingEpisodeApi(episodeApi, new BatchingAsyncEpisodeApi(accessTokenProvider, batchingConfig));
+    }
+
+    private void setupChunking(final AccessTokenProvider accessTokenProvider, final ChunkingConfig chunkingConfig) {
+        logger.trace("Constructing chunking APIs with {}", chunkingConfig);
+        this.trackApi = new ChunkingTrackApi(trackApi, new ChunkingAsyncTrackApi(accessTokenProvider, chunkingConfig));
+        this.albumApi = new ChunkingAlbumApi(albumApi, new ChunkingAsyncAlbumApi(accessTokenProvider, chunkingConfig));
+        this.artistApi = new ChunkingArtistApi(artistApi, new ChunkingAsyncArtistApi(accessTokenProvider, chunkingConfig));
+        this.episodeApi = new ChunkingEpisodeApi(episodeApi, new ChunkingAsyncEpisodeApi(accessTokenProvider, chunkingConfig));
+        this.showApi = new ChunkingShowApi(showApi, new ChunkingAsyncShowApi(accessTokenProvider, chunkingConfig));
+        this.libraryApi = new ChunkingLibraryApi(libraryApi, new ChunkingAsyncLibraryApi(accessTokenProvider, chunkingConfig));
+        this.followApi = new ChunkingFollowApi(followApi, new ChunkingAsyncFollowApi(accessTokenProvider, chunkingConfig));
+    }
+
+    private void setupCaching(final CatalogCache catalogCache) {
+        logger.trace("Constructing caching APIs");
+        this.trackApi = new CachingTrackApi(trackApi, catalogCache);
+        this.albumApi = new CachingAlbumApi(albumApi, catalogCache);
+        this.artistApi = new CachingArtistApi(artistApi, catalogCache);
+        this.showApi = new CachingShowApi(showApi, catalogCache);
+        this.episodeApi = new CachingEpisodeApi(episodeApi, catalogCache);
+    }
+
+    /**
+     * Builder for constructing a {@link SpotifyApi} that batches, chunks or caches requests. Every feature that is not
+     * set stays disabled.
+     */
+    public static class Builder {
+        private AccessTokenProvider accessTokenProvider;
+        private BatchingConfig batchingConfig;
+        private ChunkingConfig chunkingConfig;
+        private CatalogCache catalogCache;
+        private PlaylistCache playlistCache;
+
+        /**
+         * Sets the provider that is asked for the access token on every request.
+         *
+         * @param accessTokenProvider provider of the access token
+         * @return this builder
+         * @see MultiTenantSpotifyApi
+         */
+        public Builder setAccessTokenProvider(AccessTokenProvider accessTokenProvider) {
+            this.accessTokenProvider = accessTokenProvider;
+
+            return this;
+        }
+
+        /**
+         * Batches concurrent lookups of single tracks, albums, artists and episodes into requests for multiple
+         * entities.
+         *
+         * @param batchingConfig configuration of the batching
+         * @return this builder
+         */
+        public Builder setBatchingConfig(BatchingConfig batchingConfig) {
+            this.batchingConfig = batchingConfig;
+
+            return this;
+        }
+
+        /**
+         * Splits id lists exceeding the maximum of an endpoint into multiple requests, instead of throwing an
+         * {@link IllegalArgumentException}.
+         *
+         * @param chunkingConfig configuration of the chunking
+         * @return this builder
+         */
+        public Builder setChunkingConfig(ChunkingConfig chunkingConfig) {
+            this.chunkingConfig = chunkingConfig;
+
+            return this;
+        }
+
+        /**
+         * Serves tracks, albums, artists, shows, episodes, audio features and audio analyses from the given cache.
+         * The cache may be shared by multiple SpotifyApi instances. Only the entities that are not cached are batched
+         * or split.
+         *
+         * @param catalogCache the cache of catalog entities
+         * @return this builder
+         */
+        public Builder setCatalogCache(CatalogCache catalogCache) {
+            this.catalogCache = catalogCache;
+
+            return this;
+        }
+
+        /**
+         * Serves playlists and their items from the given cache while their snapshot has not changed. Listing
+         * playlists tells the cache which playlists have changed.
+         *
+         * @param playlistCache the cache of playlists
+         * @return this builder
+         */
+        public Builder setPlaylistCache(PlaylistCache playlistCache) {
+            this.playlistCache = playlistCache;
+
+            return this;
+        }
+
+        /**
+         * Build {@link SpotifyApi} object.
+         *
+         * @return the SpotifyApi
+         */
+        public SpotifyApi build() {
+            if (accessTokenProvider == null) {
+                throw new IllegalArgumentException("The access token provider must not be null!");
+            }
+
+            return new SpotifyApi(this);
+        }
     }
 }
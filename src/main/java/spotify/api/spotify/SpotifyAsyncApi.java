@@ -0,0 +1,577 @@
+package spotify.api.spotify;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.authorization.AccessTokenProvider;
+import spotify.api.batching.BatchingAsyncAlbumApi;
+import spotify.api.batching.BatchingAsyncArtistApi;
+import spotify.api.batching.BatchingAsyncEpisodeApi;
+import spotify.api.batching.BatchingAsyncTrackApi;
+import spotify.api.chunking.*;
+import spotify.api.enums.AlbumType;
+import spotify.api.enums.EntityType;
+import spotify.api.enums.QueryType;
+import spotify.api.enums.RepeatType;
+import spotify.api.impl.*;
+import spotify.api.interfaces.*;
+import spotify.config.BatchingConfig;
+import spotify.config.ChunkingConfig;
+import spotify.factories.RetrofitHttpServiceFactory;
+import spotify.models.albums.*;
+import spotify.models.artists.ArtistFull;
+import spotify.models.artists.ArtistFullCollection;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioFeatures;
+import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.categories.CategoryFull;
+import spotify.models.categories.CategoryFullPaging;
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.episodes.EpisodeFullCollection;
+import spotify.models.episodes.EpisodeSimplified;
+import spotify.models.generic.Image;
+import spotify.models.markets.MarketFull;
+import spotify.models.paging.CursorBasedPaging;
+import spotify.models.paging.Paging;
+import spotify.models.players.CurrentlyPlayingObject;
+import spotify.models.players.DeviceCollection;
+import spotify.models.players.PlayHistory;
+import spotify.models.players.PlayingContext;
+import spotify.models.players.requests.ChangePlaybackStateRequestBody;
+import spotify.models.players.requests.TransferPlaybackRequestBody;
+import spotify.models.playlists.*;
+import spotify.models.playlists.requests.CreateUpdatePlaylistRequestBody;
+import spotify.models.playlists.requests.DeleteItemsPlaylistRequestBody;
+import spotify.models.playlists.requests.ReorderPlaylistItemsRequestBody;
+import spotify.models.recommendations.RecommendationCollection;
+import spotify.models.search.SearchQueryResult;
+import spotify.models.shows.SavedShowSimplified;
+import spotify.models.shows.ShowFull;
+import spotify.models.shows.ShowSimplifiedCollection;
+import spotify.models.tracks.SavedTrackFull;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.models.tracks.TrackSimplified;
+import spotify.models.users.User;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Asynchronous counterpart of {@link SpotifyApi}.
+ * <p>
+ * Requests are enqueued on the shared HTTP client instead of blocking the calling thread, so many requests can be in
+ * flight at once without a thread per request. Every method returns a {@link CompletableFuture} that completes
+ * exceptionally with the same exceptions that {@link SpotifyApi} throws.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class SpotifyAsyncApi {
+    private final Logger logger = LoggerFactory.getLogger(SpotifyAsyncApi.class);
+    private AsyncTrackApi asyncTrackApi;
+    private AsyncAlbumApi asyncAlbumApi;
+    private AsyncUserApi asyncUserApi;
+    private AsyncEpisodeApi asyncEpisodeApi;
+    private AsyncShowApi asyncShowApi;
+    private AsyncArtistApi asyncArtistApi;
+    private AsyncBrowseApi asyncBrowseApi;
+    private AsyncFollowApi asyncFollowApi;
+    private AsyncLibraryApi asyncLibraryApi;
+    private AsyncPlaylistApi asyncPlaylistApi;
+    private AsyncPersonalizationApi asyncPersonalizationApi;
+    private AsyncPlayerApi asyncPlayerApi;
+    private AsyncSearchApi asyncSearchApi;
+    private AsyncMarketApi asyncMarketApi;
+
+    public SpotifyAsyncApi(final String accessToken) {
+        this(() -> accessToken);
+    }
+
+    public SpotifyAsyncApi(final AccessTokenProvider accessTokenProvider) {
+        logger.trace("Constructing asynchronous Retrofit APIs");
+        this.asyncTrackApi = new AsyncTrackApiRetrofit(accessTokenProvider);
+        this.asyncAlbumApi = new AsyncAlbumApiRetrofit(accessTokenProvider);
+        this.asyncUserApi = new AsyncUserApiRetrofit(accessTokenProvider);
+        this.asyncEpisodeApi = new AsyncEpisodeApiRetrofit(accessTokenProvider);
+        this.asyncShowApi = new AsyncShowApiRetrofit(accessTokenProvider);
+        this.asyncArtistApi = new AsyncArtistApiRetrofit(accessTokenProvider);
+        this.asyncBrowseApi = new AsyncBrowseApiRetrofit(accessTokenProvider);
+        this.asyncFollowApi = new AsyncFollowApiRetrofit(accessTokenProvider);
+        this.asyncLibraryApi = new AsyncLibraryApiRetrofit(accessTokenProvider);
+        this.asyncPlaylistApi = new AsyncPlaylistApiRetrofit(accessTokenProvider);
+        this.asyncPersonalizationApi = new AsyncPersonalizationApiRetrofit(accessTokenProvider);
+        this.asyncPlayerApi = new AsyncPlayerApiRetrofit(accessTokenProvider);
+        this.asyncSearchApi = new AsyncSearchApiRetrofit(accessTokenProvider);
+        this.asyncMarketApi = new AsyncMarketApiRetrofit(accessTokenProvider);
+    }
+
+    private SpotifyAsyncApi(final Builder builder) {
+        this(builder.accessTokenProvider);
+        final AccessTokenProvider accessTokenProvider = builder.accessTokenProvider;
+        final BatchingConfig batchingConfig = builder.batchingConfig;
+        final ChunkingConfig chunkingConfig = builder.chunkingConfig;
+
+        if (batchingConfig != null) {
+            logger.trace("Constructing batching APIs with {}", batchingConfig);
+            this.asyncTrackApi = new BatchingAsyncTrackApi(accessTokenProvider, batchingConfig);
+            this.asyncAlbumApi = new BatchingAsyncAlbumApi(accessTokenProvider, batchingConfig);
+            this.asyncArtistApi = new BatchingAsyncArtistApi(accessTokenProvider, batchingConfig);
+            this.asyncEpisodeApi = new BatchingAsyncEpisodeApi(accessTokenProvider, batchingConfig);
+        }
+
+        if (chunkingConfig != null) {
+            logger.trace("Constructing chunking APIs with {}", chunkingConfig);
+            this.asyncTrackApi = new ChunkingAsyncTrackApi(asyncTrackApi, accessTokenProvider, RetrofitHttpServiceFactory.getTrackService(), chunkingConfig);
+            this.asyncAlbumApi = new ChunkingAsyncAlbumApi(asyncAlbumApi, accessTokenProvider, RetrofitHttpServiceFactory.getAlbumService(), chunkingConfig);
+            this.asyncArtistApi = new ChunkingAsyncArtistApi(asyncArtistApi, accessTokenProvider, RetrofitHttpServiceFactory.getArtistService(), chunkingConfig);
+            this.asyncEpisodeApi = new ChunkingAsyncEpisodeApi(asyncEpisodeApi, accessTokenProvider, RetrofitHttpServiceFactory.getEpisodeService(), chunkingConfig);
+            this.asyncShowApi = new ChunkingAsyncShowApi(asyncShowApi, accessTokenProvider, RetrofitHttpServiceFactory.getShowService(), chunkingConfig);
+            this.asyncLibraryApi = new ChunkingAsyncLibraryApi(asyncLibraryApi, accessTokenProvider, RetrofitHttpServiceFactory.getLibraryService(), chunkingConfig);
+            this.asyncFollowApi = new ChunkingAsyncFollowApi(asyncFollowApi, accessTokenProvider, RetrofitHttpServiceFactory.getFollowService(), chunkingConfig);
+        }
+    }
+
+    public CompletableFuture<TrackFull> getTrack(String trackId, Map<String, String> options) {
+        logger.info("Requesting a track with id {}.", trackId);
+        return asyncTrackApi.getTrack(trackId, options);
+    }
+
+    public CompletableFuture<TrackFullCollection> getTracks(List<String> listOfTrackIds, Map<String, String> options) {
+        logger.info("Requesting a list of tracks.");
+        return asyncTrackApi.getTracks(listOfTrackIds, options);
+    }
+
+    public CompletableFuture<AudioFeatures> getTrackAudioFeatures(String trackId) {
+        logger.info("Requesting track audio features with id {}.", trackId);
+        return asyncTrackApi.getTrackAudioFeatures(trackId);
+    }
+
+    public CompletableFuture<AudioFeaturesCollection> getTracksAudioFeatures(List<String> listOfTrackIds) {
+        logger.info("Requesting multiple track audio features.");
+        return asyncTrackApi.getTracksAudioFeatures(listOfTrackIds);
+    }
+
+    public CompletableFuture<AudioAnalysis> getTrackAudioAnalysis(String trackId) {
+        logger.info("Requesting audio analysis of track id {}", trackId);
+        return asyncTrackApi.getTrackAudioAnalysis(trackId);
+    }
+
+    public CompletableFuture<ColumnarAudioAnalysis> getTrackColumnarAudioAnalysis(String trackId) {
+        logger.info("Requesting columnar audio analysis of track id {}", trackId);
+        return asyncTrackApi.getTrackColumnarAudioAnalysis(trackId);
+    }
+
+    public CompletableFuture<AlbumFull> getAlbum(String albumId, Map<String, String> options) {
+        logger.info("Requesting an album with id {}.", albumId);
+        return asyncAlbumApi.getAlbum(albumId, options);
+    }
+
+    public CompletableFuture<MarketFull> getMarket() {
+        logger.info("Requesting all available markets.");
+        return asyncMarketApi.getMarkets();
+    }
+
+    public CompletableFuture<AlbumFullCollection> getAlbums(List<String> listOfAlbumIds, Map<String, String> options) {
+        logger.info("Requesting multiple albums.");
+        return asyncAlbumApi.getAlbums(listOfAlbumIds, options);
+    }
+
+    public CompletableFuture<Paging<TrackSimplified>> getAlbumTracks(String albumId, Map<String, String> options) {
+        logger.info("Requesting tracks of album with id {}", albumId);
+        return asyncAlbumApi.getAlbumTracks(albumId, options);
+    }
+
+    public CompletableFuture<User> getCurrentUser() {
+        logger.info("Requesting current user info");
+        return asyncUserApi.getCurrentUser();
+    }
+
+    public CompletableFuture<User> getUser(String userId) {
+        logger.info("Request user info");
+        return asyncUserApi.getUser(userId);
+    }
+
+    public CompletableFuture<EpisodeFull> getEpisode(String episodeId, Map<String, String> options) {
+        logger.info("Requesting episode");
+        return asyncEpisodeApi.getEpisode(episodeId, options);
+    }
+
+    public CompletableFuture<EpisodeFullCollection> getEpisodes(List<String> listOfEpisodeIds, Map<String, String> options) {
+        logger.info("Requesting multiple episodes");
+        return asyncEpisodeApi.getEpisodes(listOfEpisodeIds, options);
+    }
+
+    public CompletableFuture<ShowFull> getShow(String showId, Map<String, String> options) {
+        logger.info("Requesting show");
+        return asyncShowApi.getShow(showId, options);
+    }
+
+    public CompletableFuture<Paging<EpisodeSimplified>> getShowEpisodes(String showId, Map<String, String> options) {
+        logger.info("Requesting show episodes");
+        return asyncShowApi.getShowEpisodes(showId, options);
+    }
+
+    public CompletableFuture<ShowSimplifiedCollection> getShows(List<String> listOfShowIds, Map<String, String> options) {
+        logger.info("Requesting multiple shows");
+        return asyncShowApi.getShows(listOfShowIds, options);
+    }
+
+    public CompletableFuture<ArtistFull> getArtist(String artistId) {
+        logger.info("Requesting an artist");
+        return asyncArtistApi.getArtist(artistId);
+    }
+
+    public CompletableFuture<Paging<AlbumSimplified>> getArtistAlbums(String artistId, List<AlbumType> listOfAlbumTypes, Map<String, String> options) {
+        logger.info("Requesting albums of an artist");
+        return asyncArtistApi.getArtistAlbums(artistId, listOfAlbumTypes, options);
+    }
+
+    public CompletableFuture<TrackFullCollection> getArtistTopTracks(String artistId, Map<String, String> options) {
+        logger.info("Requesting top tracks of an artist");
+        return asyncArtistApi.getArtistTopTracks(artistId, options);
+    }
+
+    public CompletableFuture<ArtistFullCollection> getRelatedArtists(String artistId) {
+        logger.info("Requesting related artists");
+        return asyncArtistApi.getRelatedArtists(artistId);
+    }
+
+    public CompletableFuture<ArtistFullCollection> getArtists(List<String> listOfArtistIds) {
+        logger.info("Requesting multiple artists");
+        return asyncArtistApi.getArtists(listOfArtistIds);
+    }
+
+    public CompletableFuture<CategoryFull> getCategory(String categoryId, Map<String, String> options) {
+        logger.info("Requesting category");
+        return asyncBrowseApi.getCategory(categoryId, options);
+    }
+
+    public CompletableFuture<PlaylistSimplifiedPaging> getCategoryPlaylists(String categoryId, Map<String, String> options) {
+        logger.info("Requesting category playlists");
+        return asyncBrowseApi.getCategoryPlaylists(categoryId, options);
+    }
+
+    public CompletableFuture<CategoryFullPaging> getCategories(Map<String, String> options) {
+        logger.info("Requesting categories");
+        return asyncBrowseApi.getCategories(options);
+    }
+
+    public CompletableFuture<FeaturedPlaylistCollection> getFeaturedPlaylists(Map<String, String> options) {
+        logger.info("Requesting featured playlists");
+        return asyncBrowseApi.getFeaturedPlaylists(options);
+    }
+
+    public CompletableFuture<AlbumSimplifiedPaging> getNewReleases(Map<String, String> options) {
+        logger.info("Requesting new releases");
+        return asyncBrowseApi.getNewReleases(options);
+    }
+
+    public CompletableFuture<RecommendationCollection> getRecommendations(List<String> listOfSeedArtists, List<String> listOfSeedGenres, List<String> listOfSeedTracks, Map<String, String> options) {
+        logger.info("Requesting recommendations");
+        return asyncBrowseApi.getRecommendations(listOfSeedArtists, listOfSeedGenres, listOfSeedTracks, options);
+    }
+
+    public CompletableFuture<List<Boolean>> isFollowing(EntityType entityType, List<String> listOfEntityIds) {
+        logger.info("Requesting following list");
+        return asyncFollowApi.isFollowing(entityType, listOfEntityIds);
+    }
+
+    public CompletableFuture<List<Boolean>> isFollowingPlaylist(String playlistId, List<String> listOfUserIds) {
+        logger.info("Requesting following list");
+        return asyncFollowApi.isFollowingPlaylist(playlistId, listOfUserIds);
+    }
+
+    public CompletableFuture<Void> followEntities(EntityType entityType, List<String> listOfEntityIds) {
+        logger.info("Requesting to follow entities");
+        return asyncFollowApi.followEntities(entityType, listOfEntityIds);
+    }
+
+    public CompletableFuture<Void> followPlaylist(String playlistId, boolean setPlaylistPublic) {
+        logger.info("Requesting to follow playlist");
+        return asyncFollowApi.followPlaylist(playlistId, setPlaylistPublic);
+    }
+
+    public CompletableFuture<CursorBasedPaging<ArtistFull>> getFollowedArtists(EntityType entityType, Map<String, String> options) {
+        logger.info("Requesting current user's followed artists");
+        return asyncFollowApi.getFollowedArtists(entityType, options);
+    }
+
+    public CompletableFuture<Void> unfollowEntities(EntityType entityType, List<String> listOfEntityIds) {
+        logger.info("Requesting to unfollow entities");
+        return asyncFollowApi.unfollowEntities(entityType, listOfEntityIds);
+    }
+
+    public CompletableFuture<Void> unfollowPlaylist(String playlistId) {
+        logger.info("Requesting to unfollow playlist");
+        return asyncFollowApi.unfollowPlaylist(playlistId);
+    }
+
+    public CompletableFuture<List<Boolean>> hasSavedAlbums(List<String> listOfAlbumIds) {
+        logger.info("Requesting to check saved albums");
+        return asyncLibraryApi.hasSavedAlbums(listOfAlbumIds);
+    }
+
+    public CompletableFuture<List<Boolean>> hasSavedShows(List<String> listOfShowIds) {
+        logger.info("Requesting to check saved shows");
+        return asyncLibraryApi.hasSavedShows(listOfShowIds);
+    }
+
+    public CompletableFuture<List<Boolean>> hasSavedTracks(List<String> listOfTrackIds) {
+        logger.info("Requesting to check saved tracks");
+        return asyncLibraryApi.hasSavedTracks(listOfTrackIds);
+    }
+
+    public CompletableFuture<Paging<SavedAlbumFull>> getSavedAlbums(Map<String, String> options) {
+        logger.info("Requesting to fetch current user's saved albums");
+        return asyncLibraryApi.getSavedAlbums(options);
+    }
+
+    public CompletableFuture<Paging<SavedShowSimplified>> getSavedShows(Map<String, String> options) {
+        logger.info("Requesting to fetch current user's saved shows");
+        return asyncLibraryApi.getSavedShows(options);
+    }
+
+    public CompletableFuture<Paging<SavedTrackFull>> getSavedTracks(Map<String, String> options) {
+        logger.info("Requesting to fetch current user's saved tracks");
+        return asyncLibraryApi.getSavedTracks(options);
+    }
+
+    public CompletableFuture<Void> saveAlbums(List<String> listOfAlbumIds) {
+        logger.info("Requesting to save albums");
+        return asyncLibraryApi.saveAlbums(listOfAlbumIds);
+    }
+
+    public CompletableFuture<Void> saveShows(List<String> listOfShowIds) {
+        logger.info("Requesting to save shows");
+        return asyncLibraryApi.saveShows(listOfShowIds);
+    }
+
+    public CompletableFuture<Void> saveTracks(List<String> listOfTrackIds) {
+        logger.info("Requesting to save tracks");
+        return asyncLibraryApi.saveTracks(listOfTrackIds);
+    }
+
+    public CompletableFuture<Void> deleteAlbums(List<String> listOfAlbumIds) {
+        logger.info("Requesting to delete saved albums");
+        return asyncLibraryApi.deleteAlbums(listOfAlbumIds);
+    }
+
+    public CompletableFuture<Void> deleteShows(List<String> listOfShowIds, Map<String, String> options) {
+        logger.info("Requesting to delete saved shows");
+        return asyncLibraryApi.deleteShows(listOfShowIds, options);
+    }
+
+    public CompletableFuture<Void> deleteTracks(List<String> listOfTracksIds) {
+        logger.info("Requesting to delete saved tracks");
+        return asyncLibraryApi.deleteTracks(listOfTracksIds);
+    }
+
+    public CompletableFuture<Paging<PlaylistSimplified>> getPlaylists(Map<String, String> options) {
+        logger.info("Requesting to fetch current user's playlists");
+        return asyncPlaylistApi.getPlaylists(options);
+    }
+
+    public CompletableFuture<Paging<PlaylistSimplified>> getUserPlaylists(String userId, Map<String, String> options) {
+        logger.info("Requesting to fetch a user's playlists");
+        return asyncPlaylistApi.getUserPlaylists(userId, options);
+    }
+
+    public CompletableFuture<List<Image>> getPlaylistCoverImages(String playlistId) {
+        logger.info("Requesting to fetch a playlist cover images");
+        return asyncPlaylistApi.getPlaylistCoverImages(playlistId);
+    }
+
+    public CompletableFuture<PlaylistFull> getPlaylist(String playlistId, Map<String, String> options) {
+        logger.info("Requesting to fetch a playlist");
+        return asyncPlaylistApi.getPlaylist(playlistId, options);
+    }
+
+    public CompletableFuture<Paging<PlaylistTrack>> getPlaylistTracks(String playlistId, Map<String, String> options) {
+        logger.info("Requesting to fetch tracks of a playlist");
+        return asyncPlaylistApi.getPlaylistTracks(playlistId, options);
+    }
+
+    public CompletableFuture<Snapshot> addItemsToPlaylist(List<String> listOfObjectUris, String playlistId, int startPositionToInsert) {
+        logger.info("Requesting to add items to a playlist");
+        return asyncPlaylistApi.addItemToPlaylist(listOfObjectUris, playlistId, startPositionToInsert);
+    }
+
+    public CompletableFuture<Void> createPlaylist(String userId, CreateUpdatePlaylistRequestBody requestBody) {
+        logger.info("Requesting to create a playlist");
+        return asyncPlaylistApi.createPlaylist(userId, requestBody);
+    }
+
+    public CompletableFuture<Void> updatePlaylist(String playlistId, CreateUpdatePlaylistRequestBody requestBody) {
+        logger.info("Requesting to update a playlist");
+        return asyncPlaylistApi.updatePlaylist(playlistId, requestBody);
+    }
+
+    public CompletableFuture<Snapshot> reorderPlaylistItems(String playlistId, ReorderPlaylistItemsRequestBody requestBody) {
+        logger.info("Requesting to reorder items of a playlist");
+        return asyncPlaylistApi.reorderPlaylistItems(playlistId, requestBody);
+    }
+
+    public CompletableFuture<Void> replacePlaylistItems(String playlistId, List<String> listOfItemUris) {
+        logger.info("Requesting to replace items of a playlist");
+        return asyncPlaylistApi.replacePlaylistItems(playlistId, listOfItemUris);
+    }
+
+    public CompletableFuture<Void> uploadCoverImageToPlaylist(String playlistId, String base64EncodedJpegImage) {
+        logger.info("Requesting to upload cover image to a playlist");
+        return asyncPlaylistApi.uploadCoverImageToPlaylist(playlistId, base64EncodedJpegImage);
+    }
+
+    public CompletableFuture<Snapshot> deleteItemsFromPlaylist(String playlistId, DeleteItemsPlaylistRequestBody items) {
+        logger.info("Requesting to remove items from a playlist");
+        return asyncPlaylistApi.deleteItemsFromPlaylist(playlistId, items);
+    }
+
+    public CompletableFuture<Paging<ArtistFull>> getTopArtists(Map<String, String> options) {
+        logger.info("Requesting to fetch user's top artists");
+        return asyncPersonalizationApi.getTopArtists(options);
+    }
+
+    public CompletableFuture<Paging<TrackFull>> getTopTracks(Map<String, String> options) {
+        logger.info("Requesting to fetch user's top tracks");
+        return asyncPersonalizationApi.getTopTracks(options);
+    }
+
+    public CompletableFuture<DeviceCollection> getAvailableDevices() {
+        logger.info("Requesting to fetch user's available devices");
+        return asyncPlayerApi.getAvailableDevices();
+    }
+
+    public CompletableFuture<PlayingContext> getCurrentPlayingContext(Map<String, String> options) {
+        logger.info("Requesting to fetch current playing context");
+        return asyncPlayerApi.getCurrentPlayingContext(options);
+    }
+
+    public CompletableFuture<CursorBasedPaging<PlayHistory>> getRecentlyPlayedTracks(Map<String, String> options) {
+        logger.info("Requesting to fetch user's recently played tracks");
+        return asyncPlayerApi.getRecentlyPlayedTracks(options);
+    }
+
+    public CompletableFuture<CurrentlyPlayingObject> getCurrentlyPlayedObject(Map<String, String> options) {
+        logger.info("Requesting to fetch user's currently played object");
+        return asyncPlayerApi.getCurrentlyPlayedObject(options);
+    }
+
+    public CompletableFuture<Void> addItemToQueue(String uri, Map<String, String> options) {
+        logger.info("Requesting to add item to the queue");
+        return asyncPlayerApi.addItemToQueue(uri, options);
+    }
+
+    public CompletableFuture<Void> skipToNextTrack(Map<String, String> options) {
+        logger.info("Requesting to skip to the next track");
+        return asyncPlayerApi.skipToNextTrack(options);
+    }
+
+    public CompletableFuture<Void> skipToPreviousTrack(Map<String, String> options) {
+        logger.info("Requesting to skip to the previous track");
+        return asyncPlayerApi.skipToPreviousTrack(options);
+    }
+
+    public CompletableFuture<Void> pausePlayback(Map<String, String> options) {
+        logger.info("Requesting to user's playback");
+        return asyncPlayerApi.pausePlayback(options);
+    }
+
+    public CompletableFuture<Void> jumpToPositionInCurrentTrack(int positionMs, Map<String, String> options) {
+        logger.info("Requesting to jump to a time position in the current track");
+        return asyncPlayerApi.jumpToPositionInCurrentTrack(positionMs, options);
+    }
+
+    public CompletableFuture<Void> setRepeatModePlayback(RepeatType repeatType, Map<String, String> options) {
+        logger.info("Requesting to set the repeat mode of the playback");
+        return asyncPlayerApi.setRepeatModePlayback(repeatType, options);
+    }
+
+    public CompletableFuture<Void> setVolumePlayback(int volumePercent, Map<String, String> options) {
+        logger.info("Requesting to set the volume of the playback");
+        return asyncPlayerApi.setVolumePlayback(volumePercent, options);
+    }
+
+    public CompletableFuture<Void> changePlaybackState(ChangePlaybackStateRequestBody requestBody) {
+        logger.info("Requesting to change the state of the playback");
+        return asyncPlayerApi.changePlaybackState(requestBody);
+    }
+
+    public CompletableFuture<Void> shufflePlayback(boolean shuffle, Map<String, String> options) {
+        logger.info("Requesting to toggle the shuffle of the playback");
+        return asyncPlayerApi.shufflePlayback(shuffle, options);
+    }
+
+    public CompletableFuture<Void> transferPlayback(TransferPlaybackRequestBody requestBody) {
+        logger.info("Requesting to transfer playback to devices");
+        return asyncPlayerApi.transferPlayback(requestBody);
+    }
+
+    public CompletableFuture<SearchQueryResult> searchItem(String query, List<QueryType> listOfQueryTypes, Map<String, String> options) {
+        logger.info("Requesting to perform a query");
+        return asyncSearchApi.searchItem(query, listOfQueryTypes, options);
+    }
+
+    /**
+     * Builder for constructing a {@link SpotifyAsyncApi} that batches or chunks requests. Every feature that is not
+     * set stays disabled.
+     */
+    public static class Builder {
+        private AccessTokenProvider accessTokenProvider;
+        private BatchingConfig batchingConfig;
+        private ChunkingConfig chunkingConfig;
+
+        /**
+         * Sets the provider that is asked for the access token on every request.
+         *
+         * @param accessTokenProvider provider of the access token
+         * @return this builder
+         */
+        public Builder setAccessTokenProvider(AccessTokenProvider accessTokenProvider) {
+            this.accessTokenProvider = accessTokenProvider;
+
+            return this;
+        }
+
+        /**
+         * Batches concurrent lookups of single tracks, albums, artists and episodes into requests for multiple
+         * entities.
+         *
+         * @param batchingConfig configuration of the batching
+         * @return this builder
+         */
+        public Builder setBatchingConfig(BatchingConfig batchingConfig) {
+            this.batchingConfig = batchingConfig;
+
+            return this;
+        }
+
+        /**
+         * Splits id lists exceeding the maximum of an endpoint into multiple requests, instead of throwing an
+         * {@link IllegalArgumentException}.
+         *
+         * @param chunkingConfig configuration of the chunking
+         * @return this builder
+         */
+        public Builder setChunkingConfig(ChunkingConfig chunkingConfig) {
+            this.chunkingConfig = chunkingConfig;
+
+            return this;
+        }
+
+        /**
+         * Build {@link SpotifyAsyncApi} object.
+         *
+         * @return the SpotifyAsyncApi
+         */
+        public SpotifyAsyncApi build() {
+            if (accessTokenProvider == null) {
+                throw new IllegalArgumentException("The access token provider must not be null!");
+            }
+
+            return new SpotifyAsyncApi(this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package spotify.api.sync;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The items that have been saved and removed since the previous sync of a library.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class LibraryDelta {
+    private final String userId;
+    private final LibraryItemType type;
+    private final List<String> addedIds;
+    private final List<String> removedIds;
+    private final boolean fullSync;
+    private final int requests;
+
+    LibraryDelta(final String userId,
+                 final LibraryItemType type,
+                 final List<String> addedIds,
+                 final List<String> removedIds,
+                 final boolean fullSync,
+                 final int requests) {
+        this.userId = userId;
+        this.type = type;
+        this.addedIds = Collections.unmodifiableList(addedIds);
+        this.removedIds = Collections.unmodifiableList(removedIds);
+        this.fullSync = fullSync;
+        this.requests = requests;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public LibraryItemType getType() {
+        return type;
+    }
+
+    /**
+     * @return the ids of the items that have been saved, newest first
+     */
+    public List<String> getAddedIds() {
+        return addedIds;
+    }
+
+    /**
+     * @return the ids of the items that have been removed
+     */
+    public List<String> getRemovedIds() {
+        return removedIds;
+    }
+
+    /**
+     * @return whether all pages of the library have been requested, rather than only the newest ones
+     */
+    public boolean isFullSync() {
+        return fullSync;
+    }
+
+    /**
+     * @return the amount of pages that the sync has requested
+     */
+    public int getRequests() {
+        return requests;
+    }
+
+    public boolean isEmpty() {
+        return addedIds.isEmpty() && removedIds.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "LibraryDelta{" +
+                "userId='" + userId + '\'' +
+                ", type=" + type +
+                ", added=" + addedIds.size() +
+                ", removed=" + removedIds.size() +
+                ", fullSync=" + fullSync +
+                ", requests=" + requests +
+                '}';
+    }
+}
@@ -0,0 +1,28 @@
+package spotify.api.sync;
+
+/**
+ * The id of a saved item and the moment it has been saved.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+class LibraryEntry {
+    private final String id;
+    private final String addedAt;
+
+    LibraryEntry(final String id, final String addedAt) {
+        this.id = id;
+        this.addedAt = addedAt;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    /**
+     * @return the ISO 8601 timestamp of the moment the item has been saved, which sorts chronologically as a string
+     */
+    String getAddedAt() {
+        return addedAt;
+    }
+}
@@ -0,0 +1,84 @@
+package spotify.api.sync;
+
+import spotify.api.interfaces.LibraryApi;
+import spotify.models.albums.SavedAlbumFull;
+import spotify.models.paging.Paging;
+import spotify.models.shows.SavedShowSimplified;
+import spotify.models.tracks.SavedTrackFull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The kinds of items in the library of a user that a {@link LibrarySync} keeps in sync.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public enum LibraryItemType {
+    TRACKS {
+        @Override
+        Paging<LibraryEntry> getPage(LibraryApi libraryApi, Map<String, String> options) {
+            return toEntries(libraryApi.getSavedTracks(options),
+                    savedTrack -> savedTrack.getTrack() == null ? null : savedTrack.getTrack().getId(),
+                    SavedTrackFull::getAddedAt);
+        }
+    },
+    ALBUMS {
+        @Override
+        Paging<LibraryEntry> getPage(LibraryApi libraryApi, Map<String, String> options) {
+            return toEntries(libraryApi.getSavedAlbums(options),
+                    savedAlbum -> savedAlbum.getAlbum() == null ? null : savedAlbum.getAlbum().getId(),
+                    SavedAlbumFull::getAddedAt);
+        }
+    },
+    SHOWS {
+        @Override
+        Paging<LibraryEntry> getPage(LibraryApi libraryApi, Map<String, String> options) {
+            return toEntries(libraryApi.getSavedShows(options),
+                    savedShow -> savedShow.getShow() == null ? null : savedShow.getShow().getId(),
+                    SavedShowSimplified::getAddedAt);
+        }
+    };
+
+    /**
+     * Requests one page of the saved items of this type, newest first.
+     */
+    abstract Paging<LibraryEntry> getPage(LibraryApi libraryApi, Map<String, String> options);
+
+    private static <S> Paging<LibraryEntry> toEntries(final Paging<S> paging,
+                                                      final Function<S, String> idFunction,
+                                                      final Function<S, String> addedAtFunction) {
+        final Paging<LibraryEntry> entries = new Paging<>();
+
+        if (paging == null) {
+            entries.setItems(Collections.emptyList());
+            return entries;
+        }
+
+        final List<LibraryEntry> items = new ArrayList<>();
+
+        if (paging.getItems() != null) {
+            for (S savedItem : paging.getItems()) {
+                final String id = savedItem == null ? null : idFunction.apply(savedItem);
+
+                if (id != null) {
+                    items.add(new LibraryEntry(id, addedAtFunction.apply(savedItem)));
+                }
+            }
+        }
+
+        entries.setItems(items);
+        entries.setHref(paging.getHref());
+        entries.setLimit(paging.getLimit());
+        entries.setNext(paging.getNext());
+        entries.setPrevious(paging.getPrevious());
+        entries.setOffset(paging.getOffset());
+        entries.setTotal(paging.getTotal());
+
+        return entries;
+    }
+}
@@ -0,0 +1,18 @@
+package spotify.api.sync;
+
+/**
+ * Listener of the changes that a {@link LibrarySync} finds in the library of a user. It is called on the thread that
+ * syncs, after the snapshot has been updated.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+@FunctionalInterface
+public interface LibraryListener {
+    /**
+     * Called when a sync has found saved or removed items. The first sync of a library reports all items as saved.
+     *
+     * @param delta the saved and removed items
+     */
+    void onLibraryChange(LibraryDelta delta);
+}
@@ -0,0 +1,88 @@
+package spotify.api.sync;
+
+import java.util.*;
+
+/**
+ * The ids of the saved items of one type in the library of a user, newest first, as of the last sync.
+ * <p>
+ * A snapshot can be stored and handed back to {@link LibrarySync#restoreSnapshot(String, LibraryItemType, LibrarySnapshot)}
+ * later, so a new process continues incrementally instead of syncing the whole library again.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class LibrarySnapshot {
+    private final List<String> ids;
+    private final String newestAddedAt;
+    private final int unavailableCount;
+    private final Set<String> idSet;
+
+    /**
+     * @param ids           the ids of the saved items, newest first
+     * @param newestAddedAt the {@code added_at} of the newest item, or {@code null} when the library is empty
+     */
+    public LibrarySnapshot(final List<String> ids, final String newestAddedAt) {
+        this(ids, newestAddedAt, 0);
+    }
+
+    /**
+     * @param ids              the ids of the saved items, newest first
+     * @param newestAddedAt    the {@code added_at} of the newest item, or {@code null} when the library is empty
+     * @param unavailableCount the amount of saved items that Spotify counts in the total but returns without an id
+     */
+    public LibrarySnapshot(final List<String> ids, final String newestAddedAt, final int unavailableCount) {
+        if (ids == null) {
+            throw new IllegalArgumentException("The ids of a library snapshot must not be null!");
+        }
+
+        if (unavailableCount < 0) {
+            throw new IllegalArgumentException("The amount of unavailable items must not be negative!");
+        }
+
+        this.ids = Collections.unmodifiableList(new ArrayList<>(ids));
+        this.newestAddedAt = newestAddedAt;
+        this.unavailableCount = unavailableCount;
+        this.idSet = new HashSet<>(ids);
+    }
+
+    /**
+     * @return the ids of the saved items, newest first
+     */
+    public List<String> getIds() {
+        return ids;
+    }
+
+    /**
+     * @return the {@code added_at} of the newest item, or {@code null} when the library is empty
+     */
+    public String getNewestAddedAt() {
+        return newestAddedAt;
+    }
+
+    /**
+     * Saved items without an id, like tracks that are no longer available, are left out of the snapshot but are
+     * still part of the {@code total} of the saved items.
+     *
+     * @return the amount of saved items that Spotify counts in the total but returns without an id
+     */
+    public int getUnavailableCount() {
+        return unavailableCount;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public boolean contains(final String id) {
+        return idSet.contains(id);
+    }
+
+    @Override
+    public String toString() {
+        return "LibrarySnapshot{" +
+                "size=" + ids.size() +
+                ", newestAddedAt='" + newestAddedAt + '\'' +
+                ", unavailableCount=" + unavailableCount +
+                '}';
+    }
+}
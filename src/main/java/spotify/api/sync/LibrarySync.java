@@ -0,0 +1,260 @@
+package spotify.api.sync;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.interfaces.LibraryApi;
+import spotify.api.paging.Pages;
+import spotify.config.LibrarySyncConfig;
+import spotify.models.paging.Paging;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps a snapshot of the saved tracks, albums and shows of users, and tells a {@link LibraryListener} which items
+ * have been saved and removed since the previous sync.
+ * <p>
+ * The saved items are paged newest first, so a sync only requests pages from the newest item on until it reaches an
+ * item that is already in the snapshot. Items that have been saved in between are at the front, so this usually
+ * takes a single request. Removals do not show up at the front; instead the {@code total} of the first page is
+ * compared with the snapshot and the saved items. Saved items without an id, like tracks that are no longer
+ * available, are left out of the snapshot but counted in it, so they do not make every sync a full one. Only when they do not match are all pages requested again, to find
+ * out which items have been removed. Removals that are hidden by an equal amount of additions are found by the full
+ * sync that takes place once every full sync interval.
+ * <p>
+ * The syncs of different users and types may run at the same time, but the syncs of the same user and type must not
+ * overlap.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class LibrarySync {
+    private final Logger logger = LoggerFactory.getLogger(LibrarySync.class);
+    private final LibraryListener listener;
+    private final LibrarySyncConfig config;
+    private final LongSupplier ticker;
+    private final Map<String, SyncState> states = new ConcurrentHashMap<>();
+
+    public LibrarySync(final LibraryListener listener) {
+        this(listener, LibrarySyncConfig.defaultConfig());
+    }
+
+    public LibrarySync(final LibraryListener listener, final LibrarySyncConfig config) {
+        this(listener, config, System::nanoTime);
+    }
+
+    LibrarySync(final LibraryListener listener, final LibrarySyncConfig config, final LongSupplier ticker) {
+        this.listener = listener;
+        this.config = config;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Syncs the saved items of one type in the library of a user with its snapshot, and tells the listener about the
+     * changes when there are any.
+     *
+     * @param userId     the id under which the snapshot of the user is kept
+     * @param libraryApi the library API with the access token of the user
+     * @param type       the type of the saved items
+     * @return the changes since the previous sync, empty when nothing has changed
+     */
+    public LibraryDelta sync(final String userId, final LibraryApi libraryApi, final LibraryItemType type) {
+        final String key = key(userId, type);
+        final SyncState state = states.get(key);
+        final LibraryDelta delta;
+
+        if (state == null || ticker.getAsLong() - state.lastFullSync >= config.getFullSyncInterval().toNanos()) {
+            delta = fullSync(key, userId, libraryApi, type, state, 0);
+        } else {
+            delta = incrementalSync(key, userId, libraryApi, type, state);
+        }
+
+        logger.debug("Synced the {} of user {}: {}.", type, userId, delta);
+
+        if (!delta.isEmpty()) {
+            listener.onLibraryChange(delta);
+        }
+
+        return delta;
+    }
+
+    /**
+     * @param userId the id under which the snapshot of the user is kept
+     * @param type   the type of the saved items
+     * @return the snapshot of the last sync, or {@code null} when the library has not been synced yet
+     */
+    public LibrarySnapshot getSnapshot(final String userId, final LibraryItemType type) {
+        final SyncState state = states.get(key(userId, type));
+
+        return state == null ? null : state.snapshot;
+    }
+
+    /**
+     * Continues from a snapshot that has been stored earlier. The next sync is incremental, the full sync interval
+     * starts at this moment.
+     *
+     * @param userId   the id under which the snapshot of the user is kept
+     * @param type     the type of the saved items
+     * @param snapshot the snapshot of an earlier sync
+     */
+    public void restoreSnapshot(final String userId, final LibraryItemType type, final LibrarySnapshot snapshot) {
+        if (snapshot == null) {
+            throw new IllegalArgumentException("The snapshot to restore must not be null!");
+        }
+
+        states.put(key(userId, type), new SyncState(snapshot, ticker.getAsLong()));
+    }
+
+    /**
+     * Forgets the snapshot, so the next sync requests the whole library again.
+     *
+     * @param userId the id under which the snapshot of the user is kept
+     * @param type   the type of the saved items
+     */
+    public void removeSnapshot(final String userId, final LibraryItemType type) {
+        states.remove(key(userId, type));
+    }
+
+    private LibraryDelta incrementalSync(final String key,
+                                         final String userId,
+                                         final LibraryApi libraryApi,
+                                         final LibraryItemType type,
+                                         final SyncState state) {
+        final LibrarySnapshot snapshot = state.snapshot;
+        final Set<String> walkedIds = new LinkedHashSet<>();
+        final List<String> addedIds = new ArrayList<>();
+        final Map<String, String> options = new HashMap<>();
+        options.put("limit", String.valueOf(config.getPageSize()));
+        String newestAddedAt = null;
+        int offset = 0;
+        int requests = 0;
+        int total = 0;
+        boolean reachedSnapshot = false;
+
+        while (!reachedSnapshot) {
+            options.put("offset", String.valueOf(offset));
+            final Paging<LibraryEntry> page = type.getPage(libraryApi, options);
+            requests++;
+
+            if (requests == 1) {
+                total = page.getTotal();
+            }
+
+            for (LibraryEntry entry : page.getItems()) {
+                if (newestAddedAt == null) {
+                    newestAddedAt = entry.getAddedAt();
+                }
+
+                if (snapshot.contains(entry.getId()) && !isNewer(entry.getAddedAt(), snapshot.getNewestAddedAt())) {
+                    reachedSnapshot = true;
+                    break;
+                }
+
+                if (walkedIds.add(entry.getId()) && !snapshot.contains(entry.getId())) {
+                    addedIds.add(entry.getId());
+                }
+            }
+
+            if (page.getNext() == null || page.getItems().isEmpty()) {
+                break;
+            }
+
+            offset += page.getItems().size();
+        }
+
+        if (total != snapshot.size() + snapshot.getUnavailableCount() + addedIds.size()) {
+            logger.debug("The total of the {} of user {} does not match its snapshot, syncing all pages.", type, userId);
+            return fullSync(key, userId, libraryApi, type, state, requests);
+        }
+
+        final List<String> ids = new ArrayList<>(walkedIds);
+        for (String id : snapshot.getIds()) {
+            if (!walkedIds.contains(id)) {
+                ids.add(id);
+            }
+        }
+
+        final String snapshotAddedAt = newestAddedAt == null ? snapshot.getNewestAddedAt() : newestAddedAt;
+        states.put(key, new SyncState(new LibrarySnapshot(ids, snapshotAddedAt, snapshot.getUnavailableCount()), state.lastFullSync));
+
+        return new LibraryDelta(userId, type, addedIds, Collections.emptyList(), false, requests);
+    }
+
+    private LibraryDelta fullSync(final String key,
+                                  final String userId,
+                                  final LibraryApi libraryApi,
+                                  final LibraryItemType type,
+                                  final SyncState state,
+                                  final int previousRequests) {
+        final long startOfSync = ticker.getAsLong();
+        final AtomicInteger requests = new AtomicInteger(previousRequests);
+        final AtomicInteger total = new AtomicInteger();
+        final Set<String> ids = new LinkedHashSet<>();
+        final String[] newestAddedAt = new String[1];
+
+        Pages.forEachConcurrently(options -> {
+                    final Paging<LibraryEntry> page = type.getPage(libraryApi, options);
+
+                    if (requests.incrementAndGet() == previousRequests + 1) {
+                        total.set(page.getTotal());
+                    }
+
+                    return page;
+                },
+                config.getPageSize(),
+                Collections.emptyMap(),
+                config.getMaxConcurrentRequests(),
+                entry -> {
+                    if (newestAddedAt[0] == null) {
+                        newestAddedAt[0] = entry.getAddedAt();
+                    }
+                    ids.add(entry.getId());
+                });
+
+        final List<String> addedIds = new ArrayList<>();
+        final List<String> removedIds = new ArrayList<>();
+
+        for (String id : ids) {
+            if (state == null || !state.snapshot.contains(id)) {
+                addedIds.add(id);
+            }
+        }
+
+        if (state != null) {
+            for (String id : state.snapshot.getIds()) {
+                if (!ids.contains(id)) {
+                    removedIds.add(id);
+                }
+            }
+        }
+
+        final int unavailableCount = Math.max(0, total.get() - ids.size());
+        states.put(key, new SyncState(new LibrarySnapshot(new ArrayList<>(ids), newestAddedAt[0], unavailableCount), startOfSync));
+
+        return new LibraryDelta(userId, type, addedIds, removedIds, true, requests.get());
+    }
+
+    /**
+     * Whether an item has been saved after the newest item of the snapshot, which means that a known item has been
+     * removed and saved again rather than that the sync has reached the snapshot.
+     */
+    private static boolean isNewer(final String addedAt, final String newestAddedAt) {
+        return addedAt != null && newestAddedAt != null && addedAt.compareTo(newestAddedAt) > 0;
+    }
+
+    private static String key(final String userId, final LibraryItemType type) {
+        return type + ":" + userId;
+    }
+
+    private static class SyncState {
+        private final LibrarySnapshot snapshot;
+        private final long lastFullSync;
+
+        private SyncState(final LibrarySnapshot snapshot, final long lastFullSync) {
+            this.snapshot = snapshot;
+            this.lastFullSync = lastFullSync;
+        }
+    }
+}
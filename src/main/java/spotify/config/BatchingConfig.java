@@ -0,0 +1,74 @@
+package spotify.config;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the batching of single entity lookups into the endpoints that fetch multiple entities at once.
+ * <p>
+ * A lookup waits at most the configured window for other lookups to join its batch. A batch is sent earlier once it
+ * holds as many ids as its endpoint accepts.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class BatchingConfig {
+    private Duration window;
+
+    private BatchingConfig() {
+    }
+
+    /**
+     * Returns the configuration that is used when none has been set explicitly.
+     *
+     * @return the default configuration
+     */
+    public static BatchingConfig defaultConfig() {
+        return new Builder().build();
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Builder for constructing a {@link BatchingConfig} object.
+     */
+    public static class Builder {
+        private Duration window = Duration.ofMillis(5);
+
+        /**
+         * Sets how long the first lookup of a batch waits for other lookups before the batch is sent.
+         *
+         * @param window the batching window
+         * @return this builder
+         */
+        public Builder setWindow(Duration window) {
+            this.window = window;
+
+            return this;
+        }
+
+        /**
+         * Build {@link BatchingConfig} object.
+         *
+         * @return the batching configuration
+         */
+        public BatchingConfig build() {
+            if (window == null || window.isNegative()) {
+                throw new IllegalArgumentException("The batching window must not be negative!");
+            }
+
+            BatchingConfig batchingConfig = new BatchingConfig();
+            batchingConfig.window = this.window;
+
+            return batchingConfig;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BatchingConfig{" +
+                "window=" + window +
+                '}';
+    }
+}
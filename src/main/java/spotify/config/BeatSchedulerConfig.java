@@ -0,0 +1,150 @@
+package spotify.config;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link spotify.playback.BeatScheduler}.
+ * <p>
+ * Between two polls of the player the position is extrapolated from the last poll. A poll only moves the position
+ * when it differs more than the drift threshold from the extrapolated one, so small differences in the latency of the
+ * requests do not make the beats jitter.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class BeatSchedulerConfig {
+    private Duration pollInterval;
+    private Duration driftThreshold;
+    private Duration leadTime;
+    private int analysisCacheSize;
+
+    private BeatSchedulerConfig() {
+    }
+
+    /**
+     * Returns the configuration that is used when none has been set explicitly.
+     *
+     * @return the default configuration
+     */
+    public static BeatSchedulerConfig defaultConfig() {
+        return new Builder().build();
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public Duration getDriftThreshold() {
+        return driftThreshold;
+    }
+
+    public Duration getLeadTime() {
+        return leadTime;
+    }
+
+    public int getAnalysisCacheSize() {
+        return analysisCacheSize;
+    }
+
+    /**
+     * Builder for constructing a {@link BeatSchedulerConfig} object.
+     */
+    public static class Builder {
+        private Duration pollInterval = Duration.ofSeconds(5);
+        private Duration driftThreshold = Duration.ofMillis(40);
+        private Duration leadTime = Duration.ZERO;
+        private int analysisCacheSize = 16;
+
+        /**
+         * Sets how often the player is polled to pick up track changes, pauses and seeks. Near the end of a track the
+         * player is polled right after the track should have ended.
+         *
+         * @param pollInterval the poll interval
+         * @return this builder
+         */
+        public Builder setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+
+            return this;
+        }
+
+        /**
+         * Sets how far the polled position may be off from the extrapolated position before the events are
+         * rescheduled from the polled position.
+         *
+         * @param driftThreshold the drift threshold
+         * @return this builder
+         */
+        public Builder setDriftThreshold(Duration driftThreshold) {
+            this.driftThreshold = driftThreshold;
+
+            return this;
+        }
+
+        /**
+         * Sets how long before a beat its callback is called, to make up for the latency of whatever the callback
+         * controls, such as lights.
+         *
+         * @param leadTime the lead time
+         * @return this builder
+         */
+        public Builder setLeadTime(Duration leadTime) {
+            this.leadTime = leadTime;
+
+            return this;
+        }
+
+        /**
+         * Sets the amount of tracks of which the audio analysis is kept.
+         *
+         * @param analysisCacheSize the amount of audio analyses
+         * @return this builder
+         */
+        public Builder setAnalysisCacheSize(int analysisCacheSize) {
+            this.analysisCacheSize = analysisCacheSize;
+
+            return this;
+        }
+
+        /**
+         * Build {@link BeatSchedulerConfig} object.
+         *
+         * @return the beat scheduler configuration
+         */
+        public BeatSchedulerConfig build() {
+            if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+                throw new IllegalArgumentException("The poll interval must be positive!");
+            }
+
+            if (driftThreshold == null || driftThreshold.isNegative()) {
+                throw new IllegalArgumentException("The drift threshold must not be negative!");
+            }
+
+            if (leadTime == null || leadTime.isNegative()) {
+                throw new IllegalArgumentException("The lead time must not be negative!");
+            }
+
+            if (analysisCacheSize < 1) {
+                throw new IllegalArgumentException("The analysis cache size must be at least 1!");
+            }
+
+            BeatSchedulerConfig beatSchedulerConfig = new BeatSchedulerConfig();
+            beatSchedulerConfig.pollInterval = this.pollInterval;
+            beatSchedulerConfig.driftThreshold = this.driftThreshold;
+            beatSchedulerConfig.leadTime = this.leadTime;
+            beatSchedulerConfig.analysisCacheSize = this.analysisCacheSize;
+
+            return beatSchedulerConfig;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BeatSchedulerConfig{" +
+                "pollInterval=" + pollInterval +
+                ", driftThreshold=" + driftThreshold +
+                ", leadTime=" + leadTime +
+                ", analysisCacheSize=" + analysisCacheSize +
+                '}';
+    }
+}
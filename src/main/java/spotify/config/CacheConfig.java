@@ -0,0 +1,225 @@
+package spotify.config;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the in-process cache of catalog entities, such as tracks, albums and audio features.
+ * <p>
+ * Every type of entity has its own time to live, a time to live of zero disables caching of that type. The cache is
+ * bounded by the estimated size of its entries in bytes. When it is full, the entries that are requested least
+ * frequently are evicted first.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class CacheConfig {
+    private long maxWeight;
+    private Duration trackTtl;
+    private Duration albumTtl;
+    private Duration artistTtl;
+    private Duration showTtl;
+    private Duration episodeTtl;
+    private Duration audioFeaturesTtl;
+    private Duration audioAnalysisTtl;
+
+    private CacheConfig() {
+    }
+
+    /**
+     * Returns the configuration that is used when none has been set explicitly.
+     *
+     * @return the default configuration
+     */
+    public static CacheConfig defaultConfig() {
+        return new Builder().build();
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public Duration getTrackTtl() {
+        return trackTtl;
+    }
+
+    public Duration getAlbumTtl() {
+        return albumTtl;
+    }
+
+    public Duration getArtistTtl() {
+        return artistTtl;
+    }
+
+    public Duration getShowTtl() {
+        return showTtl;
+    }
+
+    public Duration getEpisodeTtl() {
+        return episodeTtl;
+    }
+
+    public Duration getAudioFeaturesTtl() {
+        return audioFeaturesTtl;
+    }
+
+    public Duration getAudioAnalysisTtl() {
+        return audioAnalysisTtl;
+    }
+
+    /**
+     * Builder for constructing a {@link CacheConfig} object.
+     */
+    public static class Builder {
+        private long maxWeight = 64L * 1024 * 1024;
+        private Duration trackTtl = Duration.ofHours(6);
+        private Duration albumTtl = Duration.ofHours(6);
+        private Duration artistTtl = Duration.ofHours(1);
+        private Duration showTtl = Duration.ofHours(1);
+        private Duration episodeTtl = Duration.ofHours(6);
+        private Duration audioFeaturesTtl = Duration.ofHours(24);
+        private Duration audioAnalysisTtl = Duration.ofHours(24);
+
+        /**
+         * Sets the maximum estimated size of all cached entities together.
+         *
+         * @param maxWeight the maximum weight in bytes
+         * @return this builder
+         */
+        public Builder setMaxWeight(long maxWeight) {
+            this.maxWeight = maxWeight;
+
+            return this;
+        }
+
+        /**
+         * Sets how long tracks are cached.
+         *
+         * @param trackTtl the time to live of tracks
+         * @return this builder
+         */
+        public Builder setTrackTtl(Duration trackTtl) {
+            this.trackTtl = trackTtl;
+
+            return this;
+        }
+
+        /**
+         * Sets how long albums are cached.
+         *
+         * @param albumTtl the time to live of albums
+         * @return this builder
+         */
+        public Builder setAlbumTtl(Duration albumTtl) {
+            this.albumTtl = albumTtl;
+
+            return this;
+        }
+
+        /**
+         * Sets how long artists are cached.
+         *
+         * @param artistTtl the time to live of artists
+         * @return this builder
+         */
+        public Builder setArtistTtl(Duration artistTtl) {
+            this.artistTtl = artistTtl;
+
+            return this;
+        }
+
+        /**
+         * Sets how long shows are cached.
+         *
+         * @param showTtl the time to live of shows
+         * @return this builder
+         */
+        public Builder setShowTtl(Duration showTtl) {
+            this.showTtl = showTtl;
+
+            return this;
+        }
+
+        /**
+         * Sets how long episodes are cached.
+         *
+         * @param episodeTtl the time to live of episodes
+         * @return this builder
+         */
+        public Builder setEpisodeTtl(Duration episodeTtl) {
+            this.episodeTtl = episodeTtl;
+
+            return this;
+        }
+
+        /**
+         * Sets how long audio features are cached.
+         *
+         * @param audioFeaturesTtl the time to live of audio features
+         * @return this builder
+         */
+        public Builder setAudioFeaturesTtl(Duration audioFeaturesTtl) {
+            this.audioFeaturesTtl = audioFeaturesTtl;
+
+            return this;
+        }
+
+        /**
+         * Sets how long audio analyses are cached.
+         *
+         * @param audioAnalysisTtl the time to live of audio analyses
+         * @return this builder
+         */
+        public Builder setAudioAnalysisTtl(Duration audioAnalysisTtl) {
+            this.audioAnalysisTtl = audioAnalysisTtl;
+
+            return this;
+        }
+
+        /**
+         * Build {@link CacheConfig} object.
+         *
+         * @return the cache configuration
+         */
+        public CacheConfig build() {
+            if (maxWeight <= 0) {
+                throw new IllegalArgumentException("The maximum weight must be positive!");
+            }
+
+            if (isInvalidTtl(trackTtl) || isInvalidTtl(albumTtl) || isInvalidTtl(artistTtl)
+                    || isInvalidTtl(showTtl) || isInvalidTtl(episodeTtl)
+                    || isInvalidTtl(audioFeaturesTtl) || isInvalidTtl(audioAnalysisTtl)) {
+                throw new IllegalArgumentException("The time to live must not be negative!");
+            }
+
+            CacheConfig cacheConfig = new CacheConfig();
+            cacheConfig.maxWeight = this.maxWeight;
+            cacheConfig.trackTtl = this.trackTtl;
+            cacheConfig.albumTtl = this.albumTtl;
+            cacheConfig.artistTtl = this.artistTtl;
+            cacheConfig.showTtl = this.showTtl;
+            cacheConfig.episodeTtl = this.episodeTtl;
+            cacheConfig.audioFeaturesTtl = this.audioFeaturesTtl;
+            cacheConfig.audioAnalysisTtl = this.audioAnalysisTtl;
+
+            return cacheConfig;
+        }
+
+        private static boolean isInvalidTtl(Duration ttl) {
+            return ttl == null || ttl.isNegative();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CacheConfig{" +
+                "maxWeight=" + maxWeight +
+                ", trackTtl=" + trackTtl +
+                ", albumTtl=" + albumTtl +
+                ", artistTtl=" + artistTtl +
+                ", showTtl=" + showTtl +
+                ", episodeTtl=" + episodeTtl +
+                ", audioFeaturesTtl=" + audioFeaturesTtl +
+                ", audioAnalysisTtl=" + audioAnalysisTtl +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package spotify.config;
+
+/**
+ * Configuration of the splitting of id lists that exceed the maximum of an endpoint into multiple requests.
+ * <p>
+ * The requests of one call are sent concurrently, but never more than the configured amount at once, so a list of
+ * thousands of ids does not occupy the whole HTTP client.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class ChunkingConfig {
+    private int maxConcurrentRequests;
+
+    private ChunkingConfig() {
+    }
+
+    /**
+     * Returns the configuration that is used when none has been set explicitly.
+     *
+     * @return the default configuration
+     */
+    public static ChunkingConfig defaultConfig() {
+        return new Builder().build();
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Builder for constructing a {@link ChunkingConfig} object.
+     */
+    public static class Builder {
+        private int maxConcurrentRequests = 4;
+
+        /**
+         * Sets how many requests of one call may be in flight at once.
+         *
+         * @param maxConcurrentRequests the maximum amount of concurrent requests per call
+         * @return this builder
+         */
+        public Builder setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+
+            return this;
+        }
+
+        /**
+         * Build {@link ChunkingConfig} object.
+         *
+         * @return the chunking configuration
+         */
+        public ChunkingConfig build() {
+            if (maxConcurrentRequests < 1) {
+                throw new IllegalArgumentException("The maximum amount of concurrent requests must be positive!");
+            }
+
+            ChunkingConfig chunkingConfig = new ChunkingConfig();
+            chunkingConfig.maxConcurrentRequests = this.maxConcurrentRequests;
+
+            return chunkingConfig;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkingConfig{" +
+                "maxConcurrentRequests=" + maxConcurrentRequests +
+                '}';
+    }
+}
@@ -0,0 +1,235 @@
+package spotify.config;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the HTTP transport that is shared by every Retrofit service.
+ * <p>
+ * All services created by {@link spotify.factories.RetrofitHttpServiceFactory} use one OkHttp client,
+ * so the connection pool, the dispatcher and the timeouts configured here apply to every API at once.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class HttpClientConfig {
+    private int maxIdleConnections;
+    private Duration keepAliveDuration;
+    private int maxRequests;
+    private int maxRequestsPerHost;
+    private Duration connectTimeout;
+    private Duration readTimeout;
+    private Duration writeTimeout;
+    private Duration callTimeout;
+    private RateLimitConfig rateLimitConfig;
+    private RetryConfig retryConfig;
+    private boolean coalesceIdenticalRequests;
+
+    private HttpClientConfig() {
+    }
+
+    /**
+     * Returns the configuration that is used when none has been set explicitly.
+     *
+     * @return the default configuration
+     */
+    public static HttpClientConfig defaultConfig() {
+        return new Builder().build();
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    public Duration getKeepAliveDuration() {
+        return keepAliveDuration;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    public int getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public Duration getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+
+    public RateLimitConfig getRateLimitConfig() {
+        return rateLimitConfig;
+    }
+
+    public RetryConfig getRetryConfig() {
+        return retryConfig;
+    }
+
+    public boolean isCoalesceIdenticalRequests() {
+        return coalesceIdenticalRequests;
+    }
+
+    /**
+     * Builder for constructing an {@link HttpClientConfig} object.
+     */
+    public static class Builder {
+        private int maxIdleConnections = 5;
+        private Duration keepAliveDuration = Duration.ofMinutes(5);
+        private int maxRequests = 64;
+        // every request goes to the same host, so the OkHttp default of 5 would throttle concurrent calls
+        private int maxRequestsPerHost = 64;
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration readTimeout = Duration.ofSeconds(10);
+        private Duration writeTimeout = Duration.ofSeconds(10);
+        private Duration callTimeout = Duration.ZERO;
+        private RateLimitConfig rateLimitConfig;
+        private RetryConfig retryConfig;
+        private boolean coalesceIdenticalRequests = false;
+
+        public Builder setMaxIdleConnections(int maxIdleConnections) {
+            this.maxIdleConnections = maxIdleConnections;
+
+            return this;
+        }
+
+        public Builder setKeepAliveDuration(Duration keepAliveDuration) {
+            this.keepAliveDuration = keepAliveDuration;
+
+            return this;
+        }
+
+        public Builder setMaxRequests(int maxRequests) {
+            this.maxRequests = maxRequests;
+
+            return this;
+        }
+
+        public Builder setMaxRequestsPerHost(int maxRequestsPerHost) {
+            this.maxRequestsPerHost = maxRequestsPerHost;
+
+            return this;
+        }
+
+        public Builder setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+
+            return this;
+        }
+
+        public Builder setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+
+            return this;
+        }
+
+        public Builder setWriteTimeout(Duration writeTimeout) {
+            this.writeTimeout = writeTimeout;
+
+            return this;
+        }
+
+        /**
+         * Sets the timeout of a complete call, including redirects and retries. {@link Duration#ZERO} means no timeout.
+         *
+         * @param callTimeout the call timeout
+         * @return this builder
+         */
+        public Builder setCallTimeout(Duration callTimeout) {
+            this.callTimeout = callTimeout;
+
+            return this;
+        }
+
+        /**
+         * Enables client side rate limiting and the retrying of rate limited requests. {@code null}, the default,
+         * disables it.
+         *
+         * @param rateLimitConfig the rate limit configuration
+         * @return this builder
+         */
+        public Builder setRateLimitConfig(RateLimitConfig rateLimitConfig) {
+            this.rateLimitConfig = rateLimitConfig;
+
+            return this;
+        }
+
+        /**
+         * Enables the retrying of idempotent requests that have failed. {@code null}, the default, disables it.
+         *
+         * @param retryConfig the retry configuration
+         * @return this builder
+         */
+        public Builder setRetryConfig(RetryConfig retryConfig) {
+            this.retryConfig = retryConfig;
+
+            return this;
+        }
+
+        /**
+         * Sets whether identical GET requests that are in flight at the same moment share one HTTP call. Requests
+         * are identical when their path, query parameters and access token are equal.
+         *
+         * @param coalesceIdenticalRequests whether to share identical concurrent GET requests
+         * @return this builder
+         */
+        public Builder setCoalesceIdenticalRequests(boolean coalesceIdenticalRequests) {
+            this.coalesceIdenticalRequests = coalesceIdenticalRequests;
+
+            return this;
+        }
+
+        /**
+         * Build {@link HttpClientConfig} object.
+         *
+         * @return the http client configuration
+         */
+        public HttpClientConfig build() {
+            if (maxIdleConnections < 0 || maxRequests < 1 || maxRequestsPerHost < 1) {
+                throw new IllegalArgumentException("Connection pool and dispatcher limits must be positive!");
+            }
+
+            HttpClientConfig httpClientConfig = new HttpClientConfig();
+            httpClientConfig.maxIdleConnections = this.maxIdleConnections;
+            httpClientConfig.keepAliveDuration = this.keepAliveDuration;
+            httpClientConfig.maxRequests = this.maxRequests;
+            httpClientConfig.maxRequestsPerHost = this.maxRequestsPerHost;
+            httpClientConfig.connectTimeout = this.connectTimeout;
+            httpClientConfig.readTimeout = this.readTimeout;
+            httpClientConfig.writeTimeout = this.writeTimeout;
+            httpClientConfig.callTimeout = this.callTimeout;
+            httpClientConfig.rateLimitConfig = this.rateLimitConfig;
+            httpClientConfig.retryConfig = this.retryConfig;
+            httpClientConfig.coalesceIdenticalRequests = this.coalesceIdenticalRequests;
+
+            return httpClientConfig;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HttpClientConfig{" +
+                "maxIdleConnections=" + maxIdleConnections +
+                ", keepAliveDuration=" + keepAliveDuration +
+                ", maxRequests=" + maxRequests +
+                ", maxRequestsPerHost=" + maxRequestsPerHost +
+                ", connectTimeout=" + connectTimeout +
+                ", readTimeout=" + readTimeout +
+                ", writeTimeout=" + writeTimeout +
+                ", callTimeout=" + callTimeout +
+                ", rateLimitConfig=" + rateLimitConfig +
+                ", retryConfig=" + retryConfig +
+                ", coalesceIdenticalRequests=" + coalesceIdenticalRequests +
+                '}';
+    }
+}
@@ -0,0 +1,125 @@
+package spotify.config;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link spotify.api.sync.LibrarySync}.
+ * <p>
+ * An incremental sync requests pages of the page size from the newest item on, until it reaches the items that are
+ * already known. A full sync requests all pages, up to the maximum amount of requests at the same time. A full sync
+ * takes place on the first sync, when the total of the library does not match the snapshot, and once every full sync
+ * interval.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class LibrarySyncConfig {
+    private int pageSize;
+    private int maxConcurrentRequests;
+    private Duration fullSyncInterval;
+
+    private LibrarySyncConfig() {
+    }
+
+    /**
+     * Returns the configuration that is used when none has been set explicitly.
+     *
+     * @return the default configuration
+     */
+    public static LibrarySyncConfig defaultConfig() {
+        return new Builder().build();
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public Duration getFullSyncInterval() {
+        return fullSyncInterval;
+    }
+
+    /**
+     * Builder for constructing a {@link LibrarySyncConfig} object.
+     */
+    public static class Builder {
+        private int pageSize = 50;
+        private int maxConcurrentRequests = 4;
+        private Duration fullSyncInterval = Duration.ofDays(1);
+
+        /**
+         * Sets the amount of items that are requested per page.
+         *
+         * @param pageSize the page size, from 1 up to 50
+         * @return this builder
+         */
+        public Builder setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+
+            return this;
+        }
+
+        /**
+         * Sets the maximum amount of pages that a full sync requests at the same time.
+         *
+         * @param maxConcurrentRequests the maximum amount of concurrent requests
+         * @return this builder
+         */
+        public Builder setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+
+            return this;
+        }
+
+        /**
+         * Sets how often a full sync takes place even though the total of the library matches the snapshot. A full
+         * sync finds removals that an equal amount of additions has hidden from the total.
+         *
+         * @param fullSyncInterval the interval between full syncs, zero to fully sync every time
+         * @return this builder
+         */
+        public Builder setFullSyncInterval(Duration fullSyncInterval) {
+            this.fullSyncInterval = fullSyncInterval;
+
+            return this;
+        }
+
+        /**
+         * Build {@link LibrarySyncConfig} object.
+         *
+         * @return the library sync configuration
+         */
+        public LibrarySyncConfig build() {
+            if (pageSize < 1 || pageSize > 50) {
+                throw new IllegalArgumentException("The page size must be between 1 and 50!");
+            }
+
+            if (maxConcurrentRequests < 1) {
+                throw new IllegalArgumentException("The maximum amount of concurrent requests must be at least 1!");
+            }
+
+            if (fullSyncInterval == null || fullSyncInterval.isNegative()) {
+                throw new IllegalArgumentException("The full sync interval must not be negative!");
+            }
+
+            LibrarySyncConfig librarySyncConfig = new LibrarySyncConfig();
+            librarySyncConfig.pageSize = this.pageSize;
+            librarySyncConfig.maxConcurrentRequests = this.maxConcurrentRequests;
+            librarySyncConfig.fullSyncInterval = this.fullSyncInterval;
+
+            return librarySyncConfig;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LibrarySyncConfig{" +
+                "pageSize=" + pageSize +
+                ", maxConcurrentRequests=" + maxConcurrentRequests +
+                ", fullSyncInterval=" + fullSyncInterval +
+                '}';
+    }
+}
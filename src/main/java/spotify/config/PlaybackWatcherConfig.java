@@ -0,0 +1,173 @@
+package spotify.config;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link spotify.playback.PlaybackWatcher}.
+ * <p>
+ * A user that is playing is polled every max interval, and right after the track should have ended when that comes
+ * earlier. A user that is not playing is polled every idle interval. The more the playback of a user has changed in
+ * the last polls, the closer the interval moves to the min interval. Every interval is spread randomly by the jitter,
+ * so the polls of users that started watching at the same moment drift apart.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class PlaybackWatcherConfig {
+    private Duration minInterval;
+    private Duration maxInterval;
+    private Duration idleInterval;
+    private double jitter;
+    private int threads;
+
+    private PlaybackWatcherConfig() {
+    }
+
+    /**
+     * Returns the configuration that is used when none has been set explicitly.
+     *
+     * @return the default configuration
+     */
+    public static PlaybackWatcherConfig defaultConfig() {
+        return new Builder().build();
+    }
+
+    public Duration getMinInterval() {
+        return minInterval;
+    }
+
+    public Duration getMaxInterval() {
+        return maxInterval;
+    }
+
+    public Duration getIdleInterval() {
+        return idleInterval;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Builder for constructing a {@link PlaybackWatcherConfig} object.
+     */
+    public static class Builder {
+        private Duration minInterval = Duration.ofSeconds(2);
+        private Duration maxInterval = Duration.ofSeconds(30);
+        private Duration idleInterval = Duration.ofSeconds(15);
+        private double jitter = 0.1;
+        private int threads = 4;
+
+        /**
+         * Sets the shortest interval between two polls of a user, used while the playback keeps changing.
+         *
+         * @param minInterval the minimum poll interval
+         * @return this builder
+         */
+        public Builder setMinInterval(Duration minInterval) {
+            this.minInterval = minInterval;
+
+            return this;
+        }
+
+        /**
+         * Sets the longest interval between two polls of a user that is playing.
+         *
+         * @param maxInterval the maximum poll interval
+         * @return this builder
+         */
+        public Builder setMaxInterval(Duration maxInterval) {
+            this.maxInterval = maxInterval;
+
+            return this;
+        }
+
+        /**
+         * Sets the interval between two polls of a user that is not playing.
+         *
+         * @param idleInterval the idle poll interval
+         * @return this builder
+         */
+        public Builder setIdleInterval(Duration idleInterval) {
+            this.idleInterval = idleInterval;
+
+            return this;
+        }
+
+        /**
+         * Sets the fraction by which every interval is randomly made shorter or longer.
+         *
+         * @param jitter the jitter, from 0 up to 1
+         * @return this builder
+         */
+        public Builder setJitter(double jitter) {
+            this.jitter = jitter;
+
+            return this;
+        }
+
+        /**
+         * Sets the amount of threads that send the polls and call the listener. The requests are asynchronous, so a
+         * thread is not held while a request is in flight.
+         *
+         * @param threads the amount of threads
+         * @return this builder
+         */
+        public Builder setThreads(int threads) {
+            this.threads = threads;
+
+            return this;
+        }
+
+        /**
+         * Build {@link PlaybackWatcherConfig} object.
+         *
+         * @return the playback watcher configuration
+         */
+        public PlaybackWatcherConfig build() {
+            if (minInterval == null || minInterval.isNegative() || minInterval.isZero()) {
+                throw new IllegalArgumentException("The min interval must be positive!");
+            }
+
+            if (maxInterval == null || maxInterval.compareTo(minInterval) < 0) {
+                throw new IllegalArgumentException("The max interval must not be shorter than the min interval!");
+            }
+
+            if (idleInterval == null || idleInterval.compareTo(minInterval) < 0) {
+                throw new IllegalArgumentException("The idle interval must not be shorter than the min interval!");
+            }
+
+            if (jitter < 0 || jitter > 1) {
+                throw new IllegalArgumentException("The jitter must be between 0 and 1!");
+            }
+
+            if (threads < 1) {
+                throw new IllegalArgumentException("The amount of threads must be at least 1!");
+            }
+
+            PlaybackWatcherConfig playbackWatcherConfig = new PlaybackWatcherConfig();
+            playbackWatcherConfig.minInterval = this.minInterval;
+            playbackWatcherConfig.maxInterval = this.maxInterval;
+            playbackWatcherConfig.idleInterval = this.idleInterval;
+            playbackWatcherConfig.jitter = this.jitter;
+            playbackWatcherConfig.threads = this.threads;
+
+            return playbackWatcherConfig;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PlaybackWatcherConfig{" +
+                "minInterval=" + minInterval +
+                ", maxInterval=" + maxInterval +
+                ", idleInterval=" + idleInterval +
+                ", jitter=" + jitter +
+                ", threads=" + threads +
+                '}';
+    }
+}
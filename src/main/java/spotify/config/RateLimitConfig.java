@@ -0,0 +1,147 @@
+package spotify.config;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the client side rate limiting of the shared HTTP transport.
+ * <p>
+ * Requests take a permit from a token bucket before they are sent. When Spotify answers with HTTP status code 429,
+ * every request that shares the bucket is paused for the duration of the Retry-After header and the rate limited
+ * request is sent again.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class RateLimitConfig {
+    private double requestsPerSecond;
+    private int burstSize;
+    private boolean limitPerAccessToken;
+    private int maxRetries;
+    private Duration maxRetryAfter;
+
+    private RateLimitConfig() {
+    }
+
+    /**
+     * Returns the configuration that is used when rate limiting is enabled without further configuration.
+     *
+     * @return the default configuration
+     */
+    public static RateLimitConfig defaultConfig() {
+        return new Builder().build();
+    }
+
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public int getBurstSize() {
+        return burstSize;
+    }
+
+    public boolean isLimitPerAccessToken() {
+        return limitPerAccessToken;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public Duration getMaxRetryAfter() {
+        return maxRetryAfter;
+    }
+
+    /**
+     * Builder for constructing a {@link RateLimitConfig} object.
+     */
+    public static class Builder {
+        private double requestsPerSecond = 10;
+        private int burstSize = 20;
+        private boolean limitPerAccessToken = false;
+        private int maxRetries = 3;
+        private Duration maxRetryAfter = Duration.ofMinutes(1);
+
+        /**
+         * Sets the rate at which the bucket is refilled. {@code 0} disables the bucket, in which case only the
+         * Retry-After header of rate limited requests is honoured.
+         *
+         * @param requestsPerSecond the sustained amount of requests per second
+         * @return this builder
+         */
+        public Builder setRequestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+
+            return this;
+        }
+
+        public Builder setBurstSize(int burstSize) {
+            this.burstSize = burstSize;
+
+            return this;
+        }
+
+        /**
+         * Sets whether every access token gets a bucket of its own. By default all requests of the application share
+         * one bucket, because Spotify rate limits per application.
+         *
+         * @param limitPerAccessToken whether to keep a bucket per access token
+         * @return this builder
+         */
+        public Builder setLimitPerAccessToken(boolean limitPerAccessToken) {
+            this.limitPerAccessToken = limitPerAccessToken;
+
+            return this;
+        }
+
+        public Builder setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+
+            return this;
+        }
+
+        /**
+         * Sets the longest Retry-After that is waited for. Rate limited requests asking for a longer wait fail with a
+         * {@link spotify.exceptions.TooManyRequestsException} right away, and pause the other requests of their bucket
+         * for no longer than this duration.
+         *
+         * @param maxRetryAfter the longest wait before a retry
+         * @return this builder
+         */
+        public Builder setMaxRetryAfter(Duration maxRetryAfter) {
+            this.maxRetryAfter = maxRetryAfter;
+
+            return this;
+        }
+
+        /**
+         * Build {@link RateLimitConfig} object.
+         *
+         * @return the rate limit configuration
+         */
+        public RateLimitConfig build() {
+            if (requestsPerSecond < 0 || burstSize < 1 || maxRetries < 0) {
+                throw new IllegalArgumentException("Rate, burst size and retries of the rate limit must not be negative!");
+            }
+
+            RateLimitConfig rateLimitConfig = new RateLimitConfig();
+            rateLimitConfig.requestsPerSecond = this.requestsPerSecond;
+            rateLimitConfig.burstSize = this.burstSize;
+            rateLimitConfig.limitPerAccessToken = this.limitPerAccessToken;
+            rateLimitConfig.maxRetries = this.maxRetries;
+            rateLimitConfig.maxRetryAfter = this.maxRetryAfter;
+
+            return rateLimitConfig;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitConfig{" +
+                "requestsPerSecond=" + requestsPerSecond +
+                ", burstSize=" + burstSize +
+                ", limitPerAccessToken=" + limitPerAccessToken +
+                ", maxRetries=" + maxRetries +
+                ", maxRetryAfter=" + maxRetryAfter +
+                '}';
+    }
+}
@@ -0,0 +1,155 @@
+package spotify.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Configuration of the retrying of failed requests by the shared HTTP transport.
+ * <p>
+ * A request is retried when it fails with an {@link java.io.IOException} or with one of the retryable status codes,
+ * as long as it is idempotent, attempts are left and the deadline of the call has not passed. Between attempts the
+ * request waits a random duration between zero and an exponentially growing backoff ("full jitter"), so clients
+ * that failed at the same moment do not retry at the same moment.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class RetryConfig {
+    private int maxAttempts;
+    private Duration initialBackoff;
+    private Duration maxBackoff;
+    private Duration deadline;
+    private Set<Integer> retryableStatusCodes;
+
+    private RetryConfig() {
+    }
+
+    /**
+     * Returns the configuration that is used when retrying is enabled without further configuration.
+     *
+     * @return the default configuration
+     */
+    public static RetryConfig defaultConfig() {
+        return new Builder().build();
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    public Set<Integer> getRetryableStatusCodes() {
+        return retryableStatusCodes;
+    }
+
+    /**
+     * Returns the longest time to wait before the given retry.
+     *
+     * @param retry the number of the retry, starting at 1
+     * @return the upper bound of the backoff
+     */
+    public Duration getBackoffCeiling(int retry) {
+        final int doublings = Math.min(retry - 1, 30);
+        final Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    /**
+     * Builder for constructing a {@link RetryConfig} object.
+     */
+    public static class Builder {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(200);
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        private Duration deadline = Duration.ofSeconds(30);
+        private Set<Integer> retryableStatusCodes = new HashSet<>(Arrays.asList(500, 502, 503, 504));
+
+        /**
+         * Sets the maximum amount of attempts of a request, including the first one.
+         *
+         * @param maxAttempts the maximum amount of attempts
+         * @return this builder
+         */
+        public Builder setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+
+            return this;
+        }
+
+        public Builder setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+
+            return this;
+        }
+
+        public Builder setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+
+            return this;
+        }
+
+        /**
+         * Sets the time after the first attempt after which no retries are started anymore.
+         *
+         * @param deadline the deadline of a call
+         * @return this builder
+         */
+        public Builder setDeadline(Duration deadline) {
+            this.deadline = deadline;
+
+            return this;
+        }
+
+        public Builder setRetryableStatusCodes(Set<Integer> retryableStatusCodes) {
+            this.retryableStatusCodes = new HashSet<>(retryableStatusCodes);
+
+            return this;
+        }
+
+        /**
+         * Build {@link RetryConfig} object.
+         *
+         * @return the retry configuration
+         */
+        public RetryConfig build() {
+            if (maxAttempts < 1 || initialBackoff.isNegative() || maxBackoff.isNegative() || deadline.isNegative()) {
+                throw new IllegalArgumentException("Attempts, backoff and deadline of the retry configuration must be positive!");
+            }
+
+            RetryConfig retryConfig = new RetryConfig();
+            retryConfig.maxAttempts = this.maxAttempts;
+            retryConfig.initialBackoff = this.initialBackoff;
+            retryConfig.maxBackoff = this.maxBackoff;
+            retryConfig.deadline = this.deadline;
+            retryConfig.retryableStatusCodes = Collections.unmodifiableSet(new HashSet<>(this.retryableStatusCodes));
+
+            return retryConfig;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RetryConfig{" +
+                "maxAttempts=" + maxAttempts +
+                ", initialBackoff=" + initialBackoff +
+                ", maxBackoff=" + maxBackoff +
+                ", deadline=" + deadline +
+                ", retryableStatusCodes=" + retryableStatusCodes +
+                '}';
+    }
+}
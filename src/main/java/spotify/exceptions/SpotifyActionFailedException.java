@@ -1,7 +1,27 @@
 package spotify.exceptions;
 
 public class SpotifyActionFailedException extends RuntimeException {
+    private final int statusCode;
+
     public SpotifyActionFailedException(String message) {
+        this(message, 0);
+    }
+
+    /**
+     * Instantiates a new SpotifyActionFailedException.
+     *
+     * @param message    the exception message
+     * @param statusCode the HTTP status code that Spotify has returned
+     */
+    public SpotifyActionFailedException(String message, int statusCode) {
         super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * @return the HTTP status code that Spotify has returned, or 0 when it is not known
+     */
+    public int getStatusCode() {
+        return statusCode;
     }
 }
@@ -0,0 +1,25 @@
+package spotify.exceptions;
+
+import java.time.Duration;
+
+/**
+ * This exception gets thrown when Spotify has rate limited the request with HTTP status code 429.
+ */
+public class TooManyRequestsException extends SpotifyActionFailedException {
+    private final Duration retryAfter;
+
+    /**
+     * Instantiates a new TooManyRequestsException.
+     *
+     * @param message    the exception message
+     * @param retryAfter how long Spotify has asked to wait before sending another request
+     */
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message, 429);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,120 @@
+package spotify.factories;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import okhttp3.ResponseBody;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Call;
+import retrofit2.converter.gson.GsonConverterFactory;
+import retrofit2.http.Body;
+import spotify.models.errors.SpotifyError;
+import spotify.retrofit.services.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * Holds the Gson instances and Retrofit converter factories that are shared by all services and by the handling of
+ * error responses.
+ * <p>
+ * Gson caches the type adapter of every type it has (de)serialized once, so sharing the instances means that
+ * adapters are only created once per process. The instances are immutable and safe to use from multiple threads.
+ * {@link #prewarm()} creates the adapters of every response and request body up front, so the first requests do not
+ * pay for them.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class ConverterRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(ConverterRegistry.class);
+    private static final Class<?>[] SERVICES = {
+            AlbumService.class, ArtistService.class, AuthorizationCodeFlowService.class, BrowseService.class,
+            ClientCredentialsFlowService.class, EpisodeService.class, FollowService.class, LibraryService.class,
+            MarketService.class, PersonalizationService.class, SearchService.class, ShowService.class,
+            TrackService.class, UserService.class
+    };
+    private static final Class<?>[] SERVICES_WITH_PLAYABLE_OBJECTS = {PlayerService.class, PlaylistService.class};
+
+    private static final Gson gson = GsonFactory.getGsonLowerCaseUnderScorePolicy();
+    private static final Gson gsonWithPlayableObjects = GsonFactory.getGsonLowerCaseUnderScorePolicyWithAbstractPlayableObjectDeserializer();
+    private static final Gson errorGson = new GsonBuilder().create();
+    private static final GsonConverterFactory converterFactory = GsonConverterFactory.create(gson);
+    private static final GsonConverterFactory converterFactoryWithPlayableObjects = GsonConverterFactory.create(gsonWithPlayableObjects);
+
+    private ConverterRegistry() {
+    }
+
+    /**
+     * @return the Gson instance for the bodies of the Spotify Web API
+     */
+    public static Gson getGson() {
+        return gson;
+    }
+
+    /**
+     * @return the Gson instance for the bodies that contain tracks or episodes as playable objects
+     */
+    public static Gson getGsonWithPlayableObjects() {
+        return gsonWithPlayableObjects;
+    }
+
+    /**
+     * @return the Gson instance for the {@link SpotifyError} bodies of failed requests
+     */
+    public static Gson getErrorGson() {
+        return errorGson;
+    }
+
+    /**
+     * Creates the type adapters of the bodies of all services and of {@link SpotifyError}. Call this once at startup
+     * to take their creation out of the first requests.
+     */
+    public static void prewarm() {
+        logger.debug("Prewarming the type adapters of all services.");
+        prewarm(gson, SERVICES);
+        prewarm(gsonWithPlayableObjects, SERVICES_WITH_PLAYABLE_OBJECTS);
+        errorGson.getAdapter(SpotifyError.class);
+    }
+
+    static GsonConverterFactory getConverterFactory() {
+        return converterFactory;
+    }
+
+    static GsonConverterFactory getConverterFactoryWithPlayableObjects() {
+        return converterFactoryWithPlayableObjects;
+    }
+
+    private static void prewarm(final Gson gson, final Class<?>[] services) {
+        for (Class<?> service : services) {
+            for (Method method : service.getMethods()) {
+                final Type returnType = method.getGenericReturnType();
+
+                if (returnType instanceof ParameterizedType && ((ParameterizedType) returnType).getRawType() == Call.class) {
+                    prewarm(gson, ((ParameterizedType) returnType).getActualTypeArguments()[0]);
+                }
+
+                final Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+                for (int i = 0; i < parameterAnnotations.length; i++) {
+                    for (Annotation annotation : parameterAnnotations[i]) {
+                        if (annotation instanceof Body) {
+                            prewarm(gson, method.getGenericParameterTypes()[i]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void prewarm(final Gson gson, final Type type) {
+        if (type == Void.class || type == ResponseBody.class) {
+            return;
+        }
+
+        logger.trace("Prewarming type adapter of {}.", type);
+        gson.getAdapter(TypeToken.get(type));
+    }
+}
@@ -3,44 +3,66 @@ package spotify.factories;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializer;
+import com.google.gson.TypeAdapterFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import spotify.models.generic.AbstractPlayableObject;
+import spotify.models.markets.MarketSet;
 
 class GsonFactory {
     private final static Logger logger = LoggerFactory.getLogger(GsonFactory.class);
+    private final static String MODEL_TYPE_ADAPTER_FACTORY = "spotify.factories.ModelTypeAdapterFactory";
+    private final static TypeAdapterFactory modelTypeAdapterFactory = createModelTypeAdapterFactory();
 
     static Gson getGsonLowerCaseUnderScorePolicy() {
         return getGson(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES);
     }
 
     static Gson getGsonLowerCaseUnderScorePolicyWithAbstractPlayableObjectDeserializer() {
-        return getGsonWithCustomTypeAdapter(
+        return getGsonWithTypeAdapterFactory(
                 FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES,
-                AbstractPlayableObject.class,
-                new AbstractPlayableObjectDeserializer());
+                new PlayableObjectTypeAdapterFactory());
     }
 
     private static Gson getGson(final FieldNamingPolicy fieldNamingPolicy) {
         GsonBuilder gsonBuilder = new GsonBuilder();
         gsonBuilder.setFieldNamingPolicy(fieldNamingPolicy);
+        gsonBuilder.registerTypeAdapter(MarketSet.class, new MarketSetTypeAdapter());
+        registerModelTypeAdapterFactory(gsonBuilder);
 
         logger.trace("Constructing Gson object with the FieldNamingPolicy {}", fieldNamingPolicy);
         return gsonBuilder.create();
     }
 
-    private static <T> Gson getGsonWithCustomTypeAdapter(final FieldNamingPolicy fieldNamingPolicy,
-                                                         final Class<T> baseClass,
-                                                         final JsonDeserializer<T> jsonDeserializer) {
+    private static Gson getGsonWithTypeAdapterFactory(final FieldNamingPolicy fieldNamingPolicy,
+                                                      final TypeAdapterFactory typeAdapterFactory) {
         final GsonBuilder gsonBuilder = new GsonBuilder();
 
         gsonBuilder.setFieldNamingPolicy(fieldNamingPolicy);
-        gsonBuilder.registerTypeAdapter(baseClass, jsonDeserializer);
+        gsonBuilder.registerTypeAdapter(MarketSet.class, new MarketSetTypeAdapter());
+        registerModelTypeAdapterFactory(gsonBuilder);
+        gsonBuilder.registerTypeAdapterFactory(typeAdapterFactory);
 
         logger.trace("Constructing Gson object with the FieldNamingPolicy {}", fieldNamingPolicy);
-        logger.trace("Constructing Gson object with custom type adapter for base type {}", baseClass);
+        logger.trace("Constructing Gson object with type adapter factory {}", typeAdapterFactory.getClass().getSimpleName());
         return gsonBuilder.create();
     }
 
+    private static void registerModelTypeAdapterFactory(final GsonBuilder gsonBuilder) {
+        if (modelTypeAdapterFactory != null) {
+            gsonBuilder.registerTypeAdapterFactory(modelTypeAdapterFactory);
+        }
+    }
+
+    /**
+     * The factory is generated by the type adapter processor during the build. It is looked up by name, so the sources
+     * also compile without the processor, for instance in an IDE, in which case Gson falls back to reflection.
+     */
+    private static TypeAdapterFactory createModelTypeAdapterFactory() {
+        try {
+            return (TypeAdapterFactory) Class.forName(MODEL_TYPE_ADAPTER_FACTORY).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            logger.warn("The generated {} could not be loaded, the models are (de)serialized with reflection.", MODEL_TYPE_ADAPTER_FACTORY);
+            return null;
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package spotify.factories;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import spotify.models.markets.MarketSet;
+
+import java.io.IOException;
+
+/**
+ * Gson can not create a {@link MarketSet} on its own, so a Gson instance that reads a {@link MarketSet} itself needs this adapter.
+ * Gson can not create a {@link MarketSet} on its own, so every Gson instance that reads the models needs this adapter.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class MarketSetTypeAdapter extends TypeAdapter<MarketSet> {
+    @Override
+    public void write(JsonWriter out, MarketSet value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginArray();
+        for (String market : value) {
+            out.value(market);
+        }
+        out.endArray();
+    }
+
+    @Override
+    public MarketSet read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        final MarketSet.Builder builder = new MarketSet.Builder();
+
+        in.beginArray();
+        while (in.hasNext()) {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+            } else {
+                builder.add(in.nextString());
+            }
+        }
+        in.endArray();
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,94 @@
+package spotify.factories;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.config.HttpClientConfig;
+import spotify.retrofit.interceptors.RateLimitInterceptor;
+import spotify.retrofit.interceptors.RateLimitMetrics;
+import spotify.retrofit.interceptors.RetryInterceptor;
+import spotify.retrofit.interceptors.RetryMetrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the single OkHttp client that every Retrofit client is built on,
+ * so all services share one connection pool and one dispatcher.
+ */
+class OkHttpClientFactory {
+    private final static Logger logger = LoggerFactory.getLogger(OkHttpClientFactory.class);
+    private static HttpClientConfig httpClientConfig = HttpClientConfig.defaultConfig();
+    private static final RateLimitMetrics rateLimitMetrics = new RateLimitMetrics();
+    private static final RetryMetrics retryMetrics = new RetryMetrics();
+    private static OkHttpClient okHttpClient;
+
+    static synchronized OkHttpClient getOkHttpClient() {
+        if (okHttpClient == null) {
+            okHttpClient = buildOkHttpClient(httpClientConfig);
+        }
+
+        return okHttpClient;
+    }
+
+    static synchronized HttpClientConfig getHttpClientConfig() {
+        return httpClientConfig;
+    }
+
+    static RateLimitMetrics getRateLimitMetrics() {
+        return rateLimitMetrics;
+    }
+
+    static RetryMetrics getRetryMetrics() {
+        return retryMetrics;
+    }
+
+    /**
+     * Replaces the shared OkHttp client. Idle connections of the previous client are evicted.
+     * Its dispatcher is left running, because services that were created before still send their calls through it.
+     * The threads of the dispatcher stop on their own once they have been idle for a minute.
+     *
+     * @param newHttpClientConfig the configuration of the new client
+     */
+    static synchronized void setHttpClientConfig(final HttpClientConfig newHttpClientConfig) {
+        logger.debug("Replacing shared OkHttp client with configuration {}.", newHttpClientConfig);
+        final OkHttpClient previousOkHttpClient = okHttpClient;
+
+        httpClientConfig = newHttpClientConfig;
+        okHttpClient = null;
+
+        if (previousOkHttpClient != null) {
+            previousOkHttpClient.connectionPool().evictAll();
+        }
+    }
+
+    private static OkHttpClient buildOkHttpClient(final HttpClientConfig config) {
+        logger.trace("Building shared OkHttp client with configuration {}.", config);
+        final Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(config.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(config.getMaxRequestsPerHost());
+
+        final OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(
+                        config.getMaxIdleConnections(),
+                        config.getKeepAliveDuration().toMillis(),
+                        TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .connectTimeout(config.getConnectTimeout())
+                .readTimeout(config.getReadTimeout())
+                .writeTimeout(config.getWriteTimeout())
+                .callTimeout(config.getCallTimeout());
+
+        // retries are added first, so every attempt passes the rate limiter on its own
+        if (config.getRetryConfig() != null) {
+            builder.addInterceptor(new RetryInterceptor(config.getRetryConfig(), retryMetrics));
+        }
+
+        if (config.getRateLimitConfig() != null) {
+            builder.addInterceptor(new RateLimitInterceptor(config.getRateLimitConfig(), rateLimitMetrics));
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,82 @@
+package spotify.factories;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.generic.AbstractPlayableObject;
+import spotify.models.tracks.TrackFull;
+
+import java.io.IOException;
+
+/**
+ * Type adapter factory that deserializes an {@link AbstractPlayableObject} into a {@link TrackFull} or an
+ * {@link EpisodeFull}, depending on its {@code type} field.
+ * <p>
+ * The fields in front of the {@code type} field are recorded as a flat list of tokens instead of a tree of
+ * {@code JsonElement}s. Once the type is known, the adapter of the concrete class replays the recorded tokens and reads
+ * the remaining fields directly from the response, so every item is parsed only once. Objects of an unknown type are
+ * skipped and deserialized as {@code null}.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class PlayableObjectTypeAdapterFactory implements TypeAdapterFactory {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        if (typeToken.getRawType() != AbstractPlayableObject.class) {
+            return null;
+        }
+
+        return (TypeAdapter<T>) new PlayableObjectTypeAdapter(
+                gson.getAdapter(TrackFull.class),
+                gson.getAdapter(EpisodeFull.class));
+    }
+
+    private static class PlayableObjectTypeAdapter extends TypeAdapter<AbstractPlayableObject> {
+        private final TypeAdapter<TrackFull> trackFullTypeAdapter;
+        private final TypeAdapter<EpisodeFull> episodeFullTypeAdapter;
+
+        private PlayableObjectTypeAdapter(final TypeAdapter<TrackFull> trackFullTypeAdapter,
+                                          final TypeAdapter<EpisodeFull> episodeFullTypeAdapter) {
+            this.trackFullTypeAdapter = trackFullTypeAdapter;
+            this.episodeFullTypeAdapter = episodeFullTypeAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, AbstractPlayableObject value) throws IOException {
+            if (value instanceof TrackFull) {
+                trackFullTypeAdapter.write(out, (TrackFull) value);
+            } else if (value instanceof EpisodeFull) {
+                episodeFullTypeAdapter.write(out, (EpisodeFull) value);
+            } else {
+                out.nullValue();
+            }
+        }
+
+        @Override
+        public AbstractPlayableObject read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            final ReplayingJsonReader replayingJsonReader = new ReplayingJsonReader(in);
+            final String objectType = replayingJsonReader.recordUntilField("type");
+
+            if ("track".equals(objectType)) {
+                return trackFullTypeAdapter.read(replayingJsonReader);
+            } else if ("episode".equals(objectType)) {
+                return episodeFullTypeAdapter.read(replayingJsonReader);
+            }
+
+            replayingJsonReader.skipRecordedObject();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package spotify.factories;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Json reader that first replays the tokens it has recorded from another reader, and then continues reading from that
+ * reader.
+ * <p>
+ * It supports the calls made by the adapters of the Spotify models. Promoting a name to a value, which Gson does for
+ * the keys of a {@code Map} field, is not supported.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+class ReplayingJsonReader extends JsonReader {
+    private static final Reader UNREADABLE_READER = new Reader() {
+        @Override
+        public int read(char[] buffer, int offset, int count) {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close() {
+            throw new AssertionError();
+        }
+    };
+
+    private final JsonReader in;
+    private JsonToken[] tokens = new JsonToken[32];
+    private String[] values = new String[32];
+    private int size;
+    private int position;
+    private boolean objectRecorded;
+
+    ReplayingJsonReader(final JsonReader in) {
+        super(UNREADABLE_READER);
+        this.in = in;
+    }
+
+    /**
+     * Records the object the underlying reader is positioned at, until the given field of the object has been read.
+     *
+     * @param fieldName the name of the field to look for
+     * @return the string value of the field, or {@code null} when the object does not have such a field
+     */
+    String recordUntilField(final String fieldName) throws IOException {
+        in.beginObject();
+        record(JsonToken.BEGIN_OBJECT, null);
+
+        while (in.hasNext()) {
+            final String name = in.nextName();
+            record(JsonToken.NAME, name);
+
+            if (name.equals(fieldName) && in.peek() == JsonToken.STRING) {
+                final String value = in.nextString();
+                record(JsonToken.STRING, value);
+                return value;
+            }
+
+            recordValue();
+        }
+
+        in.endObject();
+        record(JsonToken.END_OBJECT, null);
+        objectRecorded = true;
+
+        return null;
+    }
+
+    /**
+     * Skips the rest of the object that has been recorded by {@link #recordUntilField(String)}.
+     */
+    void skipRecordedObject() throws IOException {
+        position = size;
+
+        if (objectRecorded) {
+            return;
+        }
+
+        while (in.hasNext()) {
+            in.nextName();
+            in.skipValue();
+        }
+
+        in.endObject();
+    }
+
+    private void recordValue() throws IOException {
+        final JsonToken token = in.peek();
+
+        switch (token) {
+            case BEGIN_OBJECT:
+                in.beginObject();
+                record(token, null);
+                while (in.hasNext()) {
+                    record(JsonToken.NAME, in.nextName());
+                    recordValue();
+                }
+                in.endObject();
+                record(JsonToken.END_OBJECT, null);
+                break;
+            case BEGIN_ARRAY:
+                in.beginArray();
+                record(token, null);
+                while (in.hasNext()) {
+                    recordValue();
+                }
+                in.endArray();
+                record(JsonToken.END_ARRAY, null);
+                break;
+            case STRING:
+            case NUMBER:
+                record(token, in.nextString());
+                break;
+            case BOOLEAN:
+                record(token, String.valueOf(in.nextBoolean()));
+                break;
+            case NULL:
+                in.nextNull();
+                record(token, null);
+                break;
+            default:
+                throw new IllegalStateException("Unexpected token " + token + " at path " + in.getPath());
+        }
+    }
+
+    private void record(final JsonToken token, final String value) {
+        if (size == tokens.length) {
+            tokens = Arrays.copyOf(tokens, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+
+        tokens[size] = token;
+        values[size] = value;
+        size++;
+    }
+
+    private boolean isReplaying() {
+        return position < size;
+    }
+
+    private String consume(final JsonToken expected) {
+        if (tokens[position] != expected) {
+            throw new IllegalStateException("Expected " + expected + " but was " + tokens[position] + " at path " + in.getPath());
+        }
+
+        return values[position++];
+    }
+
+    private String consumeNumber() {
+        final JsonToken token = tokens[position];
+
+        if (token != JsonToken.NUMBER && token != JsonToken.STRING) {
+            throw new IllegalStateException("Expected a number but was " + token + " at path " + in.getPath());
+        }
+
+        return values[position++];
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        if (isReplaying()) {
+            consume(JsonToken.BEGIN_ARRAY);
+        } else {
+            in.beginArray();
+        }
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        if (isReplaying()) {
+            consume(JsonToken.END_ARRAY);
+        } else {
+            in.endArray();
+        }
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        if (isReplaying()) {
+            consume(JsonToken.BEGIN_OBJECT);
+        } else {
+            in.beginObject();
+        }
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        if (isReplaying()) {
+            consume(JsonToken.END_OBJECT);
+        } else {
+            in.endObject();
+        }
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (isReplaying()) {
+            return tokens[position] != JsonToken.END_OBJECT && tokens[position] != JsonToken.END_ARRAY;
+        }
+
+        return in.hasNext();
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        return isReplaying() ? tokens[position] : in.peek();
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        return isReplaying() ? consume(JsonToken.NAME) : in.nextName();
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        return isReplaying() ? consumeNumber() : in.nextString();
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        return isReplaying() ? Boolean.parseBoolean(consume(JsonToken.BOOLEAN)) : in.nextBoolean();
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        if (isReplaying()) {
+            consume(JsonToken.NULL);
+        } else {
+            in.nextNull();
+        }
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        return isReplaying() ? Double.parseDouble(consumeNumber()) : in.nextDouble();
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        if (!isReplaying()) {
+            return in.nextLong();
+        }
+
+        final String number = consumeNumber();
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            final double value = Double.parseDouble(number);
+            if ((long) value != value) {
+                throw new NumberFormatException("Expected a long but was " + number + " at path " + in.getPath());
+            }
+            return (long) value;
+        }
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        final long value = nextLong();
+
+        if ((int) value != value) {
+            throw new NumberFormatException("Expected an int but was " + value + " at path " + in.getPath());
+        }
+
+        return (int) value;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        if (!isReplaying()) {
+            in.skipValue();
+            return;
+        }
+
+        int depth = 0;
+        do {
+            final JsonToken token = tokens[position++];
+
+            if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+                depth++;
+            } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                depth--;
+            }
+        } while (depth > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    @Override
+    public String getPath() {
+        return in.getPath();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
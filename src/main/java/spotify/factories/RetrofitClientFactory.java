@@ -4,27 +4,48 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
+import spotify.retrofit.adapters.CoalescingCallAdapterFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 class RetrofitClientFactory {
     private final static Logger logger = LoggerFactory.getLogger(RetrofitClientFactory.class);
+    private final static Map<String, Retrofit> retrofitClients = new ConcurrentHashMap<>();
+    private final static Map<String, Retrofit> retrofitClientsWithAbstractPlayableObjectDeserializer = new ConcurrentHashMap<>();
+    private final static CoalescingCallAdapterFactory coalescingCallAdapterFactory = new CoalescingCallAdapterFactory();
 
     static Retrofit getRetrofitClient(String baseUrl) {
-        logger.trace("Building Retrofit HTTP client with base url {}.", baseUrl);
-        return new Retrofit.Builder()
-                .baseUrl(baseUrl)
-                .addConverterFactory(GsonConverterFactory
-                        .create(GsonFactory
-                                .getGsonLowerCaseUnderScorePolicy()))
-                .build();
+        return retrofitClients.computeIfAbsent(baseUrl, url ->
+                buildRetrofitClient(url, ConverterRegistry.getConverterFactory()));
     }
 
     static Retrofit getRetrofitClientWithAbstractPlayableObjectDeserializer(final String baseUrl) {
+        return retrofitClientsWithAbstractPlayableObjectDeserializer.computeIfAbsent(baseUrl, url ->
+                buildRetrofitClient(url, ConverterRegistry.getConverterFactoryWithPlayableObjects()));
+    }
+
+    static CoalescingCallAdapterFactory getCoalescingCallAdapterFactory() {
+        return coalescingCallAdapterFactory;
+    }
+
+    static void clearRetrofitClients() {
+        logger.trace("Clearing cached Retrofit HTTP clients.");
+        retrofitClients.clear();
+        retrofitClientsWithAbstractPlayableObjectDeserializer.clear();
+    }
+
+    private static Retrofit buildRetrofitClient(final String baseUrl, final GsonConverterFactory converterFactory) {
         logger.trace("Building Retrofit HTTP client with base url {}.", baseUrl);
-        return new Retrofit.Builder()
+        final Retrofit.Builder builder = new Retrofit.Builder()
                 .baseUrl(baseUrl)
-                .addConverterFactory(GsonConverterFactory
-                        .create(GsonFactory
-                                .getGsonLowerCaseUnderScorePolicyWithAbstractPlayableObjectDeserializer()))
-                .build();
+                .client(OkHttpClientFactory.getOkHttpClient())
+                .addConverterFactory(converterFactory);
+
+        if (OkHttpClientFactory.getHttpClientConfig().isCoalesceIdenticalRequests()) {
+            builder.addCallAdapterFactory(coalescingCallAdapterFactory);
+        }
+
+        return builder.build();
     }
 }
@@ -4,11 +4,76 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Retrofit;
 import spotify.config.ApiUrl;
+import spotify.config.HttpClientConfig;
+import spotify.retrofit.interceptors.RateLimitMetrics;
+import spotify.retrofit.interceptors.RetryMetrics;
 import spotify.retrofit.services.*;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the Retrofit services that are used by the APIs.
+ * <p>
+ * Services are created once and shared. They are all backed by the same OkHttp client,
+ * so every API and every {@link spotify.api.spotify.SpotifyApi} instance reuses one connection pool and dispatcher.
+ *
+ * @author Jiankai Zheng
+ * @since 1.0.0
+ */
 public class RetrofitHttpServiceFactory {
     private static final String API_BASE_URL_HTTPS_WITH_VERSION = ApiUrl.API_URL_HTTPS + ApiUrl.VERSION;
     private static final Logger logger = LoggerFactory.getLogger(RetrofitHttpServiceFactory.class);
+    private static final Map<Class<?>, Object> httpServices = new ConcurrentHashMap<>();
+
+    /**
+     * Configures the HTTP transport that is shared by all services.
+     * <p>
+     * Services that are requested after this call use the new configuration.
+     * Services and APIs that were created before keep working on the previous transport.
+     *
+     * @param httpClientConfig the configuration of the shared transport
+     */
+    public static synchronized void setHttpClientConfig(final HttpClientConfig httpClientConfig) {
+        logger.info("Configuring shared HTTP transport.");
+        OkHttpClientFactory.setHttpClientConfig(httpClientConfig);
+        RetrofitClientFactory.clearRetrofitClients();
+        httpServices.clear();
+    }
+
+    public static HttpClientConfig getHttpClientConfig() {
+        return OkHttpClientFactory.getHttpClientConfig();
+    }
+
+    /**
+     * Returns the counters of the rate limiting configured with {@link HttpClientConfig.Builder#setRateLimitConfig}.
+     * The counters keep counting when the configuration is replaced.
+     *
+     * @return the rate limit counters
+     */
+    public static RateLimitMetrics getRateLimitMetrics() {
+        return OkHttpClientFactory.getRateLimitMetrics();
+    }
+
+    /**
+     * Returns the counters of the retrying configured with {@link HttpClientConfig.Builder#setRetryConfig}.
+     * The counters keep counting when the configuration is replaced.
+     *
+     * @return the retry counters
+     */
+    public static RetryMetrics getRetryMetrics() {
+        return OkHttpClientFactory.getRetryMetrics();
+    }
+
+    /**
+     * Returns how many requests have shared the HTTP call of an identical request, see
+     * {@link HttpClientConfig.Builder#setCoalesceIdenticalRequests}.
+     *
+     * @return the amount of coalesced requests
+     */
+    public static long getCoalescedRequests() {
+        return RetrofitClientFactory.getCoalescingCallAdapterFactory().getCoalescedCalls();
+    }
 
     public static AlbumService getAlbumService() {
         return getRetrofitHttpService(AlbumService.class, API_BASE_URL_HTTPS_WITH_VERSION);
@@ -55,9 +120,7 @@ public class RetrofitHttpServiceFactory {
     }
 
     public static PlaylistService getPlaylistService() {
-        Retrofit httpClient = RetrofitClientFactory.getRetrofitClientWithAbstractPlayableObjectDeserializer(API_BASE_URL_HTTPS_WITH_VERSION);
-
-        return httpClient.create(PlaylistService.class);
+        return getRetrofitHttpServiceWithAbstractPlayableObjectDeserializer(PlaylistService.class);
     }
 
     public static PersonalizationService getPersonalizationService() {
@@ -65,23 +128,36 @@ public class RetrofitHttpServiceFactory {
     }
 
     public static PlayerService getPlayerService() {
-        Retrofit httpClient = RetrofitClientFactory.getRetrofitClientWithAbstractPlayableObjectDeserializer(API_BASE_URL_HTTPS_WITH_VERSION);
-
-        return httpClient.create(PlayerService.class);
+        return getRetrofitHttpServiceWithAbstractPlayableObjectDeserializer(PlayerService.class);
     }
 
     public static SearchService getSearchService() {
         return getRetrofitHttpService(SearchService.class, API_BASE_URL_HTTPS_WITH_VERSION);
     }
 
+    public static MarketService getMarketService() {
+        return getRetrofitHttpService(MarketService.class, API_BASE_URL_HTTPS_WITH_VERSION);
+    }
+
+    public static PagingService getPagingService() {
+        return getRetrofitHttpService(PagingService.class, API_BASE_URL_HTTPS_WITH_VERSION);
+    }
+
     private static <T> T getRetrofitHttpService(final Class<T> serviceClassToBeCreatedFor, final String baseUrl) {
-        logger.trace("Requesting Retrofit HTTP client for {}", serviceClassToBeCreatedFor);
-        Retrofit httpClient = RetrofitClientFactory.getRetrofitClient(baseUrl);
+        return serviceClassToBeCreatedFor.cast(httpServices.computeIfAbsent(serviceClassToBeCreatedFor, serviceClass -> {
+            logger.trace("Requesting Retrofit HTTP client for {}", serviceClass);
+            Retrofit httpClient = RetrofitClientFactory.getRetrofitClient(baseUrl);
 
-        return httpClient.create(serviceClassToBeCreatedFor);
+            return httpClient.create(serviceClass);
+        }));
     }
 
-    public static MarketService getMarketService() {
-        return getRetrofitHttpService(MarketService.class, API_BASE_URL_HTTPS_WITH_VERSION);
+    private static <T> T getRetrofitHttpServiceWithAbstractPlayableObjectDeserializer(final Class<T> serviceClassToBeCreatedFor) {
+        return serviceClassToBeCreatedFor.cast(httpServices.computeIfAbsent(serviceClassToBeCreatedFor, serviceClass -> {
+            logger.trace("Requesting Retrofit HTTP client for {}", serviceClass);
+            Retrofit httpClient = RetrofitClientFactory.getRetrofitClientWithAbstractPlayableObjectDeserializer(API_BASE_URL_HTTPS_WITH_VERSION);
+
+            return httpClient.create(serviceClass);
+        }));
     }
 }
@@ -0,0 +1,18 @@
+package spotify.models;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks the package of the models for which the type adapter processor generates Gson type adapters.
+ * <p>
+ * The processor only runs when this annotation is present in the sources that are compiled, so it does not take part
+ * in the compilation of other projects.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+@Documented
+@Target(ElementType.PACKAGE)
+@Retention(RetentionPolicy.SOURCE)
+public @interface GenerateTypeAdapters {
+}
@@ -5,6 +5,7 @@ import spotify.models.generic.Copyright;
 import spotify.models.generic.ExternalId;
 import spotify.models.generic.ExternalUrl;
 import spotify.models.generic.Image;
+import spotify.models.markets.MarketSet;
 import spotify.models.paging.Paging;
 import spotify.models.tracks.TrackSimplified;
 
@@ -53,6 +54,10 @@ public class AlbumFull {
         this.availableMarkets = availableMarkets;
     }
 
+    public MarketSet getAvailableMarketSet() {
+        return availableMarkets == null ? null : MarketSet.copyOf(availableMarkets);
+    }
+
     public List<Copyright> getCopyrights() {
         return copyrights;
     }
@@ -3,6 +3,7 @@ package spotify.models.albums;
 import spotify.models.artists.ArtistSimplified;
 import spotify.models.generic.ExternalUrl;
 import spotify.models.generic.Image;
+import spotify.models.markets.MarketSet;
 
 import java.util.List;
 
@@ -44,6 +45,10 @@ public class AlbumSimplified {
         this.availableMarkets = availableMarkets;
     }
 
+    public MarketSet getAvailableMarketSet() {
+        return availableMarkets == null ? null : MarketSet.copyOf(availableMarkets);
+    }
+
     public String getHref() {
         return href;
     }
@@ -0,0 +1,247 @@
+package spotify.models.audio;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static spotify.models.audio.ColumnarAudioAnalysis.VECTOR_LENGTH;
+
+/**
+ * Reads the elements of the audio analysis JSON of the Spotify Web API, for {@link AudioAnalysisReader} and
+ * {@link ColumnarAudioAnalysisTypeAdapterFactory}.
+ * <p>
+ * Time intervals are passed as primitives and all segments of an array share one {@link StreamedSegment}, so nothing
+ * is allocated per element. Missing and {@code null} values are read as zero, values of a vector beyond the twelfth
+ * are ignored.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+final class AudioAnalysisElementReader {
+    private AudioAnalysisElementReader() {
+    }
+
+    /**
+     * @param in    the reader positioned at the array of time intervals
+     * @param visit called for every time interval
+     * @return {@code true} when the whole array has been read, {@code false} when the visit has stopped reading
+     * @throws IOException when reading fails
+     */
+    static boolean readTimeIntervals(final JsonReader in, final TimeIntervalVisit visit) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+
+        in.beginArray();
+        while (in.hasNext()) {
+            float start = 0;
+            float duration = 0;
+            float confidence = 0;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "start":
+                        start = readFloat(in);
+                        break;
+                    case "duration":
+                        duration = readFloat(in);
+                        break;
+                    case "confidence":
+                        confidence = readFloat(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            if (!visit.visit(start, duration, confidence)) {
+                return false;
+            }
+        }
+        in.endArray();
+
+        return true;
+    }
+
+    /**
+     * @param in    the reader positioned at the array of segments
+     * @param visit called for every segment, with a segment that is only valid during the call
+     * @return {@code true} when the whole array has been read, {@code false} when the visit has stopped reading
+     * @throws IOException when reading fails
+     */
+    static boolean readSegments(final JsonReader in, final SegmentVisit visit) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+
+        final ReusableSegment segment = new ReusableSegment();
+
+        in.beginArray();
+        while (in.hasNext()) {
+            segment.clear();
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "start":
+                        segment.start = readFloat(in);
+                        break;
+                    case "duration":
+                        segment.duration = readFloat(in);
+                        break;
+                    case "confidence":
+                        segment.confidence = readFloat(in);
+                        break;
+                    case "loudness_start":
+                        segment.loudnessStart = readFloat(in);
+                        break;
+                    case "loudness_max_time":
+                        segment.loudnessMaxTime = readFloat(in);
+                        break;
+                    case "loudness_max":
+                        segment.loudnessMax = readFloat(in);
+                        break;
+                    case "loudness_end":
+                        segment.loudnessEnd = readFloat(in);
+                        break;
+                    case "pitches":
+                        readVector(in, segment.pitches);
+                        break;
+                    case "timbre":
+                        readVector(in, segment.timbre);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            if (!visit.visit(segment)) {
+                return false;
+            }
+        }
+        in.endArray();
+
+        return true;
+    }
+
+    static float readFloat(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return 0;
+        }
+
+        return (float) in.nextDouble();
+    }
+
+    static int readInt(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return 0;
+        }
+
+        return in.nextInt();
+    }
+
+    private static void readVector(final JsonReader in, final float[] vector) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return;
+        }
+
+        in.beginArray();
+        for (int i = 0; in.hasNext(); i++) {
+            if (i < vector.length) {
+                vector[i] = readFloat(in);
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endArray();
+    }
+
+    @FunctionalInterface
+    interface TimeIntervalVisit {
+        boolean visit(float start, float duration, float confidence);
+    }
+
+    @FunctionalInterface
+    interface SegmentVisit {
+        boolean visit(StreamedSegment segment);
+    }
+
+    private static class ReusableSegment implements StreamedSegment {
+        private final float[] pitches = new float[VECTOR_LENGTH];
+        private final float[] timbre = new float[VECTOR_LENGTH];
+        private float start;
+        private float duration;
+        private float confidence;
+        private float loudnessStart;
+        private float loudnessMaxTime;
+        private float loudnessMax;
+        private float loudnessEnd;
+
+        private void clear() {
+            start = 0;
+            duration = 0;
+            confidence = 0;
+            loudnessStart = 0;
+            loudnessMaxTime = 0;
+            loudnessMax = 0;
+            loudnessEnd = 0;
+            Arrays.fill(pitches, 0);
+            Arrays.fill(timbre, 0);
+        }
+
+        @Override
+        public float getStart() {
+            return start;
+        }
+
+        @Override
+        public float getDuration() {
+            return duration;
+        }
+
+        @Override
+        public float getConfidence() {
+            return confidence;
+        }
+
+        @Override
+        public float getLoudnessStart() {
+            return loudnessStart;
+        }
+
+        @Override
+        public float getLoudnessMaxTime() {
+            return loudnessMaxTime;
+        }
+
+        @Override
+        public float getLoudnessMax() {
+            return loudnessMax;
+        }
+
+        @Override
+        public float getLoudnessEnd() {
+            return loudnessEnd;
+        }
+
+        @Override
+        public float getPitch(int pitchClass) {
+            return pitches[pitchClass];
+        }
+
+        @Override
+        public float getTimbre(int coefficient) {
+            return timbre[coefficient];
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package spotify.models.audio;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+
+import static spotify.models.audio.AudioAnalysisElementReader.readFloat;
+import static spotify.models.audio.AudioAnalysisElementReader.readInt;
+import static spotify.models.audio.AudioAnalysisElementReader.readSegments;
+import static spotify.models.audio.AudioAnalysisElementReader.readTimeIntervals;
+
+/**
+ * Reads the audio analysis JSON of the Spotify Web API element by element and hands every element to an
+ * {@link AudioAnalysisVisitor}.
+ * <p>
+ * Only the element that is being visited is held in memory: time intervals are passed as primitives and all segments
+ * share one {@link StreamedSegment}. Reading stops as soon as the visitor returns {@code false}.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class AudioAnalysisReader {
+    private AudioAnalysisReader() {
+    }
+
+    /**
+     * @param in      the reader positioned at the audio analysis object
+     * @param visitor the visitor of the elements
+     * @return {@code true} when the whole analysis has been read, {@code false} when the visitor has stopped reading
+     * @throws IOException when reading fails
+     */
+    public static boolean read(final JsonReader in, final AudioAnalysisVisitor visitor) throws IOException {
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                final boolean proceed;
+
+                switch (in.nextName()) {
+                    case "bars":
+                        proceed = readTimeIntervals(in, visitor::visitBar);
+                        break;
+                    case "beats":
+                        proceed = readTimeIntervals(in, visitor::visitBeat);
+                        break;
+                    case "sections":
+                        proceed = readSections(in, visitor);
+                        break;
+                    case "segments":
+                        proceed = readSegments(in, visitor::visitSegment);
+                        break;
+                    case "tatums":
+                        proceed = readTimeIntervals(in, visitor::visitTatum);
+                        break;
+                    default:
+                        in.skipValue();
+                        proceed = true;
+                }
+
+                if (!proceed) {
+                    return false;
+                }
+            }
+            in.endObject();
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+
+        return true;
+    }
+
+    private static boolean readSections(final JsonReader in, final AudioAnalysisVisitor visitor) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+
+        in.beginArray();
+        while (in.hasNext()) {
+            final Section section = new Section();
+
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "start":
+                        section.setStart(readFloat(in));
+                        break;
+                    case "duration":
+                        section.setDuration(readFloat(in));
+                        break;
+                    case "confidence":
+                        section.setConfidence(readFloat(in));
+                        break;
+                    case "loudness":
+                        section.setLoudness(readFloat(in));
+                        break;
+                    case "tempo":
+                        section.setTempo(readFloat(in));
+                        break;
+                    case "tempo_confidence":
+                        section.setTempoConfidence(readFloat(in));
+                        break;
+                    case "key":
+                        section.setKey(readInt(in));
+                        break;
+                    case "key_confidence":
+                        section.setKeyConfidence(readFloat(in));
+                        break;
+                    case "mode":
+                        section.setMode(readInt(in));
+                        break;
+                    case "mode_confidence":
+                        section.setModeConfidence(readFloat(in));
+                        break;
+                    case "time_signature":
+                        section.setTimeSignature(readInt(in));
+                        break;
+                    case "time_signature_confidence":
+                        section.setTimeSignatureConfidence(readFloat(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            if (!visitor.visitSection(section)) {
+                return false;
+            }
+        }
+        in.endArray();
+
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+package spotify.models.audio;
+
+/**
+ * Receives the elements of an audio analysis one at a time, while the analysis is read from the response, so the
+ * analysis never has to be held in memory as a whole.
+ * <p>
+ * The elements are visited in the order of the response: the bars, beats, sections, segments and tatums, each in
+ * the order of their start. Every method returns whether reading should go on; returning {@code false} stops reading
+ * and closes the response. All methods continue by default, so a visitor only overrides the elements it needs.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public interface AudioAnalysisVisitor {
+    /**
+     * @param start      the start of the bar in seconds
+     * @param duration   the duration of the bar in seconds
+     * @param confidence the confidence of the bar, from 0.0 up to 1.0
+     * @return whether to continue reading the analysis
+     */
+    default boolean visitBar(float start, float duration, float confidence) {
+        return true;
+    }
+
+    /**
+     * @param start      the start of the beat in seconds
+     * @param duration   the duration of the beat in seconds
+     * @param confidence the confidence of the beat, from 0.0 up to 1.0
+     * @return whether to continue reading the analysis
+     */
+    default boolean visitBeat(float start, float duration, float confidence) {
+        return true;
+    }
+
+    /**
+     * @param section the section
+     * @return whether to continue reading the analysis
+     */
+    default boolean visitSection(Section section) {
+        return true;
+    }
+
+    /**
+     * @param segment the segment, which is reused for the next segment once this method returns
+     * @return whether to continue reading the analysis
+     */
+    default boolean visitSegment(StreamedSegment segment) {
+        return true;
+    }
+
+    /**
+     * @param start      the start of the tatum in seconds
+     * @param duration   the duration of the tatum in seconds
+     * @param confidence the confidence of the tatum, from 0.0 up to 1.0
+     * @return whether to continue reading the analysis
+     */
+    default boolean visitTatum(float start, float duration, float confidence) {
+        return true;
+    }
+}
@@ -0,0 +1,348 @@
+package spotify.models.audio;
+
+import com.google.gson.annotations.JsonAdapter;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+
+/**
+ * Audio analysis that keeps its time intervals and segments in primitive {@code float} columns instead of objects.
+ * <p>
+ * A segment of {@link AudioAnalysis} takes two lists of twelve boxed floats next to the segment itself, which adds up
+ * for the thousands of segments of a typical track. Here every property is one {@code float[]} with an entry per
+ * segment, and the pitches and timbre of all segments share one {@code float[]} each, with {@value #VECTOR_LENGTH}
+ * entries per segment. The JSON of the Spotify Web API is read straight into the columns.
+ * <p>
+ * {@link TimeIntervals#get(int)} and {@link Segments#get(int)} still give a {@link TimeInterval} or {@link Segment} for
+ * code that works with those, created when they are asked for. The analysis is immutable.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+@JsonAdapter(ColumnarAudioAnalysisTypeAdapterFactory.class)
+public class ColumnarAudioAnalysis {
+    /**
+     * The amount of pitches and of timbre coefficients of a segment.
+     */
+    public static final int VECTOR_LENGTH = 12;
+
+    private final TimeIntervals bars;
+    private final TimeIntervals beats;
+    private final List<Section> sections;
+    private final Segments segments;
+    private final TimeIntervals tatums;
+
+    ColumnarAudioAnalysis(final TimeIntervals bars,
+                          final TimeIntervals beats,
+                          final List<Section> sections,
+                          final Segments segments,
+                          final TimeIntervals tatums) {
+        this.bars = bars;
+        this.beats = beats;
+        this.sections = Collections.unmodifiableList(sections);
+        this.segments = segments;
+        this.tatums = tatums;
+    }
+
+    /**
+     * Copies an audio analysis into columns.
+     *
+     * @param audioAnalysis the audio analysis
+     * @return the columnar audio analysis
+     */
+    public static ColumnarAudioAnalysis from(final AudioAnalysis audioAnalysis) {
+        return new ColumnarAudioAnalysis(
+                TimeIntervals.from(audioAnalysis.getBars()),
+                TimeIntervals.from(audioAnalysis.getBeats()),
+                audioAnalysis.getSections() == null ? new ArrayList<>() : new ArrayList<>(audioAnalysis.getSections()),
+                Segments.from(audioAnalysis.getSegments()),
+                TimeIntervals.from(audioAnalysis.getTatums()));
+    }
+
+    public TimeIntervals getBars() {
+        return bars;
+    }
+
+    public TimeIntervals getBeats() {
+        return beats;
+    }
+
+    public List<Section> getSections() {
+        return sections;
+    }
+
+    public Segments getSegments() {
+        return segments;
+    }
+
+    public TimeIntervals getTatums() {
+        return tatums;
+    }
+
+    /**
+     * Bars, beats or tatums, as columns of their start, duration and confidence.
+     */
+    public static class TimeIntervals {
+        private final int size;
+        private final float[] start;
+        private final float[] duration;
+        private final float[] confidence;
+
+        TimeIntervals(final int size, final float[] start, final float[] duration, final float[] confidence) {
+            this.size = size;
+            this.start = start;
+            this.duration = duration;
+            this.confidence = confidence;
+        }
+
+        static TimeIntervals from(final List<TimeInterval> timeIntervals) {
+            final int size = timeIntervals == null ? 0 : timeIntervals.size();
+            final float[] start = new float[size];
+            final float[] duration = new float[size];
+            final float[] confidence = new float[size];
+
+            for (int i = 0; i < size; i++) {
+                final TimeInterval timeInterval = timeIntervals.get(i);
+                start[i] = timeInterval.getStart();
+                duration[i] = timeInterval.getDuration();
+                confidence[i] = timeInterval.getConfidence();
+            }
+
+            return new TimeIntervals(size, start, duration, confidence);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public float getStart(int index) {
+            return start[checkIndex(index, size)];
+        }
+
+        public float getDuration(int index) {
+            return duration[checkIndex(index, size)];
+        }
+
+        public float getConfidence(int index) {
+            return confidence[checkIndex(index, size)];
+        }
+
+        /**
+         * @param index the index of the time interval
+         * @return a new {@link TimeInterval} with the values of the time interval
+         */
+        public TimeInterval get(int index) {
+            final TimeInterval timeInterval = new TimeInterval();
+            timeInterval.setStart(getStart(index));
+            timeInterval.setDuration(duration[index]);
+            timeInterval.setConfidence(confidence[index]);
+
+            return timeInterval;
+        }
+
+        /**
+         * @return a read-only list view that creates a {@link TimeInterval} for every element that is accessed
+         */
+        public List<TimeInterval> asList() {
+            return new ListView<>(size, this::get);
+        }
+    }
+
+    /**
+     * Segments, as a column per property. The pitches and timbre of segment {@code i} are at the indexes
+     * {@code i * VECTOR_LENGTH} up to {@code (i + 1) * VECTOR_LENGTH} of their column.
+     */
+    public static class Segments {
+        private final int size;
+        private final float[] start;
+        private final float[] duration;
+        private final float[] confidence;
+        private final float[] loudnessStart;
+        private final float[] loudnessMaxTime;
+        private final float[] loudnessMax;
+        private final float[] loudnessEnd;
+        private final float[] pitches;
+        private final float[] timbre;
+
+        Segments(final int size,
+                 final float[] start,
+                 final float[] duration,
+                 final float[] confidence,
+                 final float[] loudnessStart,
+                 final float[] loudnessMaxTime,
+                 final float[] loudnessMax,
+                 final float[] loudnessEnd,
+                 final float[] pitches,
+                 final float[] timbre) {
+            this.size = size;
+            this.start = start;
+            this.duration = duration;
+            this.confidence = confidence;
+            this.loudnessStart = loudnessStart;
+            this.loudnessMaxTime = loudnessMaxTime;
+            this.loudnessMax = loudnessMax;
+            this.loudnessEnd = loudnessEnd;
+            this.pitches = pitches;
+            this.timbre = timbre;
+        }
+
+        static Segments from(final List<Segment> segments) {
+            final int size = segments == null ? 0 : segments.size();
+            final float[] start = new float[size];
+            final float[] duration = new float[size];
+            final float[] confidence = new float[size];
+            final float[] loudnessStart = new float[size];
+            final float[] loudnessMaxTime = new float[size];
+            final float[] loudnessMax = new float[size];
+            final float[] loudnessEnd = new float[size];
+            final float[] pitches = new float[size * VECTOR_LENGTH];
+            final float[] timbre = new float[size * VECTOR_LENGTH];
+
+            for (int i = 0; i < size; i++) {
+                final Segment segment = segments.get(i);
+                start[i] = segment.getStart();
+                duration[i] = segment.getDuration();
+                confidence[i] = segment.getConfidence();
+                loudnessStart[i] = segment.getLoudnessStart();
+                loudnessMaxTime[i] = segment.getLoudnessMaxTime();
+                loudnessMax[i] = segment.getLoudnessMax();
+                loudnessEnd[i] = segment.getLoudnessEnd();
+                copyVector(segment.getPitches(), pitches, i * VECTOR_LENGTH);
+                copyVector(segment.getTimbre(), timbre, i * VECTOR_LENGTH);
+            }
+
+            return new Segments(size, start, duration, confidence, loudnessStart, loudnessMaxTime, loudnessMax, loudnessEnd, pitches, timbre);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public float getStart(int index) {
+            return start[checkIndex(index, size)];
+        }
+
+        public float getDuration(int index) {
+            return duration[checkIndex(index, size)];
+        }
+
+        public float getConfidence(int index) {
+            return confidence[checkIndex(index, size)];
+        }
+
+        public float getLoudnessStart(int index) {
+            return loudnessStart[checkIndex(index, size)];
+        }
+
+        public float getLoudnessMaxTime(int index) {
+            return loudnessMaxTime[checkIndex(index, size)];
+        }
+
+        public float getLoudnessMax(int index) {
+            return loudnessMax[checkIndex(index, size)];
+        }
+
+        public float getLoudnessEnd(int index) {
+            return loudnessEnd[checkIndex(index, size)];
+        }
+
+        /**
+         * @param index      the index of the segment
+         * @param pitchClass the pitch class, from 0 (C) up to 11 (B)
+         * @return the relative dominance of the pitch class in the segment
+         */
+        public float getPitch(int index, int pitchClass) {
+            return pitches[checkIndex(index, size) * VECTOR_LENGTH + checkIndex(pitchClass, VECTOR_LENGTH)];
+        }
+
+        /**
+         * @param index       the index of the segment
+         * @param coefficient the timbre coefficient, from 0 up to 11
+         * @return the value of the timbre coefficient of the segment
+         */
+        public float getTimbre(int index, int coefficient) {
+            return timbre[checkIndex(index, size) * VECTOR_LENGTH + checkIndex(coefficient, VECTOR_LENGTH)];
+        }
+
+        /**
+         * @param index the index of the segment
+         * @return a new {@link Segment} with the values of the segment
+         */
+        public Segment get(int index) {
+            final int offset = checkIndex(index, size) * VECTOR_LENGTH;
+            final Segment segment = new Segment();
+            segment.setStart(start[index]);
+            segment.setDuration(duration[index]);
+            segment.setConfidence(confidence[index]);
+            segment.setLoudnessStart(loudnessStart[index]);
+            segment.setLoudnessMaxTime(loudnessMaxTime[index]);
+            segment.setLoudnessMax(loudnessMax[index]);
+            segment.setLoudnessEnd(loudnessEnd[index]);
+            segment.setPitches(toList(pitches, offset));
+            segment.setTimbre(toList(timbre, offset));
+
+            return segment;
+        }
+
+        /**
+         * @return a read-only list view that creates a {@link Segment} for every element that is accessed
+         */
+        public List<Segment> asList() {
+            return new ListView<>(size, this::get);
+        }
+
+        private static void copyVector(final List<Float> vector, final float[] column, final int offset) {
+            if (vector == null) {
+                return;
+            }
+
+            for (int i = 0; i < Math.min(vector.size(), VECTOR_LENGTH); i++) {
+                final Float value = vector.get(i);
+                column[offset + i] = value == null ? 0 : value;
+            }
+        }
+
+        private static List<Float> toList(final float[] column, final int offset) {
+            final Float[] vector = new Float[VECTOR_LENGTH];
+
+            for (int i = 0; i < VECTOR_LENGTH; i++) {
+                vector[i] = column[offset + i];
+            }
+
+            return Arrays.asList(vector);
+        }
+    }
+
+    private static int checkIndex(final int index, final int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return index;
+    }
+
+    private static class ListView<T> extends AbstractList<T> implements RandomAccess {
+        private final int size;
+        private final IntFunction<T> elementFunction;
+
+        private ListView(final int size, final IntFunction<T> elementFunction) {
+            this.size = size;
+            this.elementFunction = elementFunction;
+        }
+
+        @Override
+        public T get(int index) {
+            return elementFunction.apply(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package spotify.models.audio;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static spotify.models.audio.ColumnarAudioAnalysis.VECTOR_LENGTH;
+
+/**
+ * Reads the audio analysis JSON of the Spotify Web API straight into the columns of a {@link ColumnarAudioAnalysis},
+ * without creating a {@link TimeInterval} or {@link Segment} per element.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+class ColumnarAudioAnalysisTypeAdapterFactory implements TypeAdapterFactory {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        if (typeToken.getRawType() != ColumnarAudioAnalysis.class) {
+            return null;
+        }
+
+        return (TypeAdapter<T>) new ColumnarAudioAnalysisTypeAdapter(gson.getAdapter(Section.class));
+    }
+
+    private static class ColumnarAudioAnalysisTypeAdapter extends TypeAdapter<ColumnarAudioAnalysis> {
+        private final TypeAdapter<Section> sectionTypeAdapter;
+
+        private ColumnarAudioAnalysisTypeAdapter(final TypeAdapter<Section> sectionTypeAdapter) {
+            this.sectionTypeAdapter = sectionTypeAdapter;
+        }
+
+        @Override
+        public void write(JsonWriter out, ColumnarAudioAnalysis value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+
+            out.beginObject();
+            writeTimeIntervals(out.name("bars"), value.getBars());
+            writeTimeIntervals(out.name("beats"), value.getBeats());
+            out.name("sections").beginArray();
+            for (Section section : value.getSections()) {
+                sectionTypeAdapter.write(out, section);
+            }
+            out.endArray();
+            writeSegments(out.name("segments"), value.getSegments());
+            writeTimeIntervals(out.name("tatums"), value.getTatums());
+            out.endObject();
+        }
+
+        @Override
+        public ColumnarAudioAnalysis read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            ColumnarAudioAnalysis.TimeIntervals bars = ColumnarAudioAnalysis.TimeIntervals.from(Collections.emptyList());
+            ColumnarAudioAnalysis.TimeIntervals beats = bars;
+            List<Section> sections = new ArrayList<>();
+            ColumnarAudioAnalysis.Segments segments = ColumnarAudioAnalysis.Segments.from(Collections.emptyList());
+            ColumnarAudioAnalysis.TimeIntervals tatums = bars;
+
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "bars":
+                            bars = readTimeIntervals(in);
+                            break;
+                        case "beats":
+                            beats = readTimeIntervals(in);
+                            break;
+                        case "sections":
+                            sections = readSections(in);
+                            break;
+                        case "segments":
+                            segments = readSegments(in);
+                            break;
+                        case "tatums":
+                            tatums = readTimeIntervals(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException | NumberFormatException e) {
+                throw new JsonSyntaxException(e);
+            }
+
+            return new ColumnarAudioAnalysis(bars, beats, sections, segments, tatums);
+        }
+
+        private List<Section> readSections(final JsonReader in) throws IOException {
+            final List<Section> sections = new ArrayList<>();
+
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return sections;
+            }
+
+            in.beginArray();
+            while (in.hasNext()) {
+                sections.add(sectionTypeAdapter.read(in));
+            }
+            in.endArray();
+
+            return sections;
+        }
+
+        private static ColumnarAudioAnalysis.TimeIntervals readTimeIntervals(final JsonReader in) throws IOException {
+            final FloatColumn start = new FloatColumn();
+            final FloatColumn duration = new FloatColumn();
+            final FloatColumn confidence = new FloatColumn();
+
+            AudioAnalysisElementReader.readTimeIntervals(in, (intervalStart, intervalDuration, intervalConfidence) -> {
+                start.add(intervalStart);
+                duration.add(intervalDuration);
+                confidence.add(intervalConfidence);
+
+                return true;
+            });
+
+            return new ColumnarAudioAnalysis.TimeIntervals(start.size(), start.toArray(), duration.toArray(), confidence.toArray());
+        }
+
+        private static ColumnarAudioAnalysis.Segments readSegments(final JsonReader in) throws IOException {
+            final FloatColumn start = new FloatColumn();
+            final FloatColumn duration = new FloatColumn();
+            final FloatColumn confidence = new FloatColumn();
+            final FloatColumn loudnessStart = new FloatColumn();
+            final FloatColumn loudnessMaxTime = new FloatColumn();
+            final FloatColumn loudnessMax = new FloatColumn();
+            final FloatColumn loudnessEnd = new FloatColumn();
+            final FloatColumn pitches = new FloatColumn();
+            final FloatColumn timbre = new FloatColumn();
+
+            AudioAnalysisElementReader.readSegments(in, segment -> {
+                start.add(segment.getStart());
+                duration.add(segment.getDuration());
+                confidence.add(segment.getConfidence());
+                loudnessStart.add(segment.getLoudnessStart());
+                loudnessMaxTime.add(segment.getLoudnessMaxTime());
+                loudnessMax.add(segment.getLoudnessMax());
+                loudnessEnd.add(segment.getLoudnessEnd());
+                for (int i = 0; i < VECTOR_LENGTH; i++) {
+                    pitches.add(segment.getPitch(i));
+                    timbre.add(segment.getTimbre(i));
+                }
+
+                return true;
+            });
+
+            return new ColumnarAudioAnalysis.Segments(start.size(), start.toArray(), duration.toArray(), confidence.toArray(),
+                    loudnessStart.toArray(), loudnessMaxTime.toArray(), loudnessMax.toArray(), loudnessEnd.toArray(),
+                    pitches.toArray(), timbre.toArray());
+        }
+
+        private static void writeTimeIntervals(final JsonWriter out, final ColumnarAudioAnalysis.TimeIntervals timeIntervals) throws IOException {
+            out.beginArray();
+            for (int i = 0; i < timeIntervals.size(); i++) {
+                out.beginObject();
+                out.name("start").value(Float.valueOf(timeIntervals.getStart(i)));
+                out.name("duration").value(Float.valueOf(timeIntervals.getDuration(i)));
+                out.name("confidence").value(Float.valueOf(timeIntervals.getConfidence(i)));
+                out.endObject();
+            }
+            out.endArray();
+        }
+
+        private static void writeSegments(final JsonWriter out, final ColumnarAudioAnalysis.Segments segments) throws IOException {
+            out.beginArray();
+            for (int i = 0; i < segments.size(); i++) {
+                out.beginObject();
+                out.name("start").value(Float.valueOf(segments.getStart(i)));
+                out.name("duration").value(Float.valueOf(segments.getDuration(i)));
+                out.name("confidence").value(Float.valueOf(segments.getConfidence(i)));
+                out.name("loudness_start").value(Float.valueOf(segments.getLoudnessStart(i)));
+                out.name("loudness_max_time").value(Float.valueOf(segments.getLoudnessMaxTime(i)));
+                out.name("loudness_max").value(Float.valueOf(segments.getLoudnessMax(i)));
+                out.name("loudness_end").value(Float.valueOf(segments.getLoudnessEnd(i)));
+                out.name("pitches").beginArray();
+                for (int j = 0; j < VECTOR_LENGTH; j++) {
+                    out.value(Float.valueOf(segments.getPitch(i, j)));
+                }
+                out.endArray();
+                out.name("timbre").beginArray();
+                for (int j = 0; j < VECTOR_LENGTH; j++) {
+                    out.value(Float.valueOf(segments.getTimbre(i, j)));
+                }
+                out.endArray();
+                out.endObject();
+            }
+            out.endArray();
+        }
+    }
+
+    /**
+     * Growable {@code float[]}.
+     */
+    private static class FloatColumn {
+        private float[] values = new float[0];
+        private int size;
+
+        private void add(final float value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(64, values.length * 2));
+            }
+
+            values[size++] = value;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private float[] toArray() {
+            return values.length == size ? values : Arrays.copyOf(values, size);
+        }
+    }
+}
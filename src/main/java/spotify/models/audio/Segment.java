@@ -8,6 +8,8 @@ public class Segment {
     private float confidence;
     private float loudnessStart;
     private float loudnessMaxTime;
+    private float loudnessMax;
+    private float loudnessEnd;
     private float loudnessTime;
     private List<Float> pitches;
     private List<Float> timbre;
@@ -52,6 +54,22 @@ public class Segment {
         this.loudnessMaxTime = loudnessMaxTime;
     }
 
+    public float getLoudnessMax() {
+        return loudnessMax;
+    }
+
+    public void setLoudnessMax(float loudnessMax) {
+        this.loudnessMax = loudnessMax;
+    }
+
+    public float getLoudnessEnd() {
+        return loudnessEnd;
+    }
+
+    public void setLoudnessEnd(float loudnessEnd) {
+        this.loudnessEnd = loudnessEnd;
+    }
+
     public float getLoudnessTime() {
         return loudnessTime;
     }
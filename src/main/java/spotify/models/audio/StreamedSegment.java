@@ -0,0 +1,36 @@
+package spotify.models.audio;
+
+/**
+ * Read-only view of the segment that is being visited by an {@link AudioAnalysisVisitor}. The view is reused for
+ * every segment, so its values must be copied when they are needed after the visit.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public interface StreamedSegment {
+    float getStart();
+
+    float getDuration();
+
+    float getConfidence();
+
+    float getLoudnessStart();
+
+    float getLoudnessMaxTime();
+
+    float getLoudnessMax();
+
+    float getLoudnessEnd();
+
+    /**
+     * @param pitchClass the pitch class, from 0 (C) up to 11 (B)
+     * @return the relative dominance of the pitch class in the segment
+     */
+    float getPitch(int pitchClass);
+
+    /**
+     * @param coefficient the timbre coefficient, from 0 up to 11
+     * @return the value of the timbre coefficient of the segment
+     */
+    float getTimbre(int coefficient);
+}
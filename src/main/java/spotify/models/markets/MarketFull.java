@@ -8,4 +8,8 @@ public class MarketFull {
     public List<String> getMarkets() {
         return markets;
     }
+
+    public MarketSet getMarketSet() {
+        return markets == null ? null : MarketSet.copyOf(markets);
+    }
 }
@@ -0,0 +1,343 @@
+package spotify.models.markets;
+
+import java.util.*;
+
+/**
+ * Immutable set of markets, stored as a bitset over all two-letter ISO 3166-1 alpha-2 country codes.
+ * <p>
+ * The set is a read-only {@link List} of the market codes in alphabetical order, without duplicates. The models keep
+ * their markets as the {@code List<String>} Spotify sends; {@code getAvailableMarketSet()} and
+ * {@link MarketFull#getMarketSet()} copy them into a set when it is needed. It takes about a hundred bytes no matter
+ * how many markets it holds, where a list of 185 markets takes several kilobytes of strings. Lookups and set
+ * operations work on the bitset directly; {@link #isAvailableIn(String)}, {@link #intersects(MarketSet)} and
+ * {@link #containsAll(MarketSet)} do not allocate.
+ * <p>
+ * Codes that are not two uppercase letters are kept as they are, after the other codes. Spotify does not send them.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class MarketSet extends AbstractList<String> implements RandomAccess {
+    private static final int LETTERS = 26;
+    private static final int CODES = LETTERS * LETTERS;
+    private static final int WORDS = (CODES + Long.SIZE - 1) / Long.SIZE;
+    private static final String[] NO_OTHER_MARKETS = new String[0];
+    private static final String[] CODE_NAMES = createCodeNames();
+    private static final MarketSet EMPTY = new MarketSet(new long[WORDS], NO_OTHER_MARKETS);
+
+    private final long[] bits;
+    private final String[] otherMarkets;
+    private final int size;
+
+    private MarketSet(final long[] bits, final String[] otherMarkets) {
+        this.bits = bits;
+        this.otherMarkets = otherMarkets;
+
+        int bitCount = 0;
+        for (long word : bits) {
+            bitCount += Long.bitCount(word);
+        }
+
+        this.size = bitCount + otherMarkets.length;
+    }
+
+    /**
+     * @return the set without markets
+     */
+    public static MarketSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param markets the market codes
+     * @return the set of the markets
+     */
+    public static MarketSet of(final String... markets) {
+        return copyOf(Arrays.asList(markets));
+    }
+
+    /**
+     * @param markets the market codes
+     * @return the set of the markets, or the markets themselves when they already are a {@link MarketSet}
+     */
+    public static MarketSet copyOf(final Collection<String> markets) {
+        if (markets instanceof MarketSet) {
+            return (MarketSet) markets;
+        }
+
+        return new Builder().addAll(markets).build();
+    }
+
+    /**
+     * @param market the market code, for example {@code NL}
+     * @return whether the set holds the market
+     */
+    public boolean isAvailableIn(final String market) {
+        if (market == null) {
+            return false;
+        }
+
+        final int index = indexOf(market);
+
+        if (index >= 0) {
+            return (bits[index / Long.SIZE] & (1L << index)) != 0;
+        }
+
+        for (String otherMarket : otherMarkets) {
+            if (otherMarket.equals(market)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @param other the other set
+     * @return whether both sets hold at least one same market
+     */
+    public boolean intersects(final MarketSet other) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((bits[i] & other.bits[i]) != 0) {
+                return true;
+            }
+        }
+
+        for (String otherMarket : otherMarkets) {
+            if (other.isAvailableIn(otherMarket)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @param other the other set
+     * @return whether this set holds every market of the other set
+     */
+    public boolean containsAll(final MarketSet other) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((other.bits[i] & ~bits[i]) != 0) {
+                return false;
+            }
+        }
+
+        for (String otherMarket : other.otherMarkets) {
+            if (!isAvailableIn(otherMarket)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @param other the other set
+     * @return the markets that are in this set, in the other set or in both
+     */
+    public MarketSet union(final MarketSet other) {
+        final long[] unionBits = new long[WORDS];
+
+        for (int i = 0; i < WORDS; i++) {
+            unionBits[i] = bits[i] | other.bits[i];
+        }
+
+        final Set<String> unionOtherMarkets = new LinkedHashSet<>(Arrays.asList(otherMarkets));
+        unionOtherMarkets.addAll(Arrays.asList(other.otherMarkets));
+
+        return new MarketSet(unionBits, unionOtherMarkets.toArray(NO_OTHER_MARKETS));
+    }
+
+    /**
+     * @param other the other set
+     * @return the markets that are in both sets
+     */
+    public MarketSet intersection(final MarketSet other) {
+        final long[] intersectionBits = new long[WORDS];
+
+        for (int i = 0; i < WORDS; i++) {
+            intersectionBits[i] = bits[i] & other.bits[i];
+        }
+
+        return new MarketSet(intersectionBits, filterOtherMarkets(other, true));
+    }
+
+    /**
+     * @param other the other set
+     * @return the markets that are in this set but not in the other set
+     */
+    public MarketSet difference(final MarketSet other) {
+        final long[] differenceBits = new long[WORDS];
+
+        for (int i = 0; i < WORDS; i++) {
+            differenceBits[i] = bits[i] & ~other.bits[i];
+        }
+
+        return new MarketSet(differenceBits, filterOtherMarkets(other, false));
+    }
+
+    @Override
+    public String get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        int remaining = index;
+
+        for (int i = 0; i < WORDS; i++) {
+            final int bitCount = Long.bitCount(bits[i]);
+
+            if (remaining < bitCount) {
+                long word = bits[i];
+
+                for (int j = 0; j < remaining; j++) {
+                    word &= word - 1;
+                }
+
+                return CODE_NAMES[i * Long.SIZE + Long.numberOfTrailingZeros(word)];
+            }
+
+            remaining -= bitCount;
+        }
+
+        return otherMarkets[remaining];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return o instanceof String && isAvailableIn((String) o);
+    }
+
+    @Override
+    public boolean containsAll(final Collection<?> c) {
+        if (c instanceof MarketSet) {
+            return containsAll((MarketSet) c);
+        }
+
+        return super.containsAll(c);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private int word;
+            private long remainingBits = bits[0];
+            private int otherMarketIndex;
+
+            @Override
+            public boolean hasNext() {
+                while (remainingBits == 0 && word < WORDS - 1) {
+                    remainingBits = bits[++word];
+                }
+
+                return remainingBits != 0 || otherMarketIndex < otherMarkets.length;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                if (remainingBits == 0) {
+                    return otherMarkets[otherMarketIndex++];
+                }
+
+                final int index = word * Long.SIZE + Long.numberOfTrailingZeros(remainingBits);
+                remainingBits &= remainingBits - 1;
+
+                return CODE_NAMES[index];
+            }
+        };
+    }
+
+    private String[] filterOtherMarkets(final MarketSet other, final boolean keepShared) {
+        if (otherMarkets.length == 0) {
+            return NO_OTHER_MARKETS;
+        }
+
+        final List<String> filtered = new ArrayList<>();
+
+        for (String otherMarket : otherMarkets) {
+            if (other.isAvailableIn(otherMarket) == keepShared) {
+                filtered.add(otherMarket);
+            }
+        }
+
+        return filtered.toArray(NO_OTHER_MARKETS);
+    }
+
+    private static int indexOf(final String market) {
+        if (market.length() != 2) {
+            return -1;
+        }
+
+        final int first = market.charAt(0) - 'A';
+        final int second = market.charAt(1) - 'A';
+
+        if (first < 0 || first >= LETTERS || second < 0 || second >= LETTERS) {
+            return -1;
+        }
+
+        return first * LETTERS + second;
+    }
+
+    private static String[] createCodeNames() {
+        final String[] codeNames = new String[CODES];
+
+        for (int i = 0; i < CODES; i++) {
+            codeNames[i] = new String(new char[]{(char) ('A' + i / LETTERS), (char) ('A' + i % LETTERS)});
+        }
+
+        return codeNames;
+    }
+
+    /**
+     * Builder for constructing a {@link MarketSet} object one market at a time.
+     */
+    public static class Builder {
+        private final long[] bits = new long[WORDS];
+        private final Set<String> otherMarkets = new LinkedHashSet<>();
+
+        /**
+         * @param market the market code, for example {@code NL}
+         * @return this builder
+         */
+        public Builder add(String market) {
+            final int index = indexOf(market);
+
+            if (index >= 0) {
+                bits[index / Long.SIZE] |= 1L << index;
+            } else {
+                otherMarkets.add(market);
+            }
+
+            return this;
+        }
+
+        /**
+         * @param markets the market codes
+         * @return this builder
+         */
+        public Builder addAll(Collection<String> markets) {
+            markets.forEach(this::add);
+
+            return this;
+        }
+
+        /**
+         * Build {@link MarketSet} object.
+         *
+         * @return the set of the added markets
+         */
+        public MarketSet build() {
+            return new MarketSet(bits.clone(), otherMarkets.toArray(NO_OTHER_MARKETS));
+        }
+    }
+}
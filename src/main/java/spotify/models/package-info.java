@@ -0,0 +1,6 @@
+/**
+ * The models of the Spotify Web API. Gson type adapters are generated for the concrete classes in this package and its
+ * subpackages.
+ */
+@GenerateTypeAdapters
+package spotify.models;
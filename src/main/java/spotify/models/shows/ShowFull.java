@@ -4,6 +4,7 @@ import spotify.models.episodes.EpisodeSimplified;
 import spotify.models.generic.Copyright;
 import spotify.models.generic.ExternalUrl;
 import spotify.models.generic.Image;
+import spotify.models.markets.MarketSet;
 import spotify.models.paging.Paging;
 
 import java.util.List;
@@ -35,6 +36,10 @@ public class ShowFull {
         this.availableMarkets = availableMarkets;
     }
 
+    public MarketSet getAvailableMarketSet() {
+        return availableMarkets == null ? null : MarketSet.copyOf(availableMarkets);
+    }
+
     public List<Copyright> getCopyrights() {
         return copyrights;
     }
@@ -3,6 +3,7 @@ package spotify.models.shows;
 import spotify.models.generic.Copyright;
 import spotify.models.generic.ExternalUrl;
 import spotify.models.generic.Image;
+import spotify.models.markets.MarketSet;
 
 import java.util.List;
 
@@ -32,6 +33,10 @@ public class ShowSimplified {
         this.availableMarkets = availableMarkets;
     }
 
+    public MarketSet getAvailableMarketSet() {
+        return availableMarkets == null ? null : MarketSet.copyOf(availableMarkets);
+    }
+
     public List<Copyright> getCopyrights() {
         return copyrights;
     }
@@ -3,6 +3,7 @@ package spotify.models.tracks;
 import spotify.models.albums.AlbumSimplified;
 import spotify.models.artists.ArtistSimplified;
 import spotify.models.generic.AbstractPlayableObject;
+import spotify.models.markets.MarketSet;
 
 import java.util.List;
 
@@ -40,6 +41,10 @@ public class TrackFull extends AbstractPlayableObject {
         this.availableMarkets = availableMarkets;
     }
 
+    public MarketSet getAvailableMarketSet() {
+        return availableMarkets == null ? null : MarketSet.copyOf(availableMarkets);
+    }
+
     public int getDiscNumber() {
         return discNumber;
     }
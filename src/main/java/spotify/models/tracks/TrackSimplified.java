@@ -2,6 +2,7 @@ package spotify.models.tracks;
 
 import spotify.models.artists.ArtistFull;
 import spotify.models.generic.ExternalUrl;
+import spotify.models.markets.MarketSet;
 
 import java.util.List;
 
@@ -40,6 +41,10 @@ public class TrackSimplified {
         this.availableMarkets = availableMarkets;
     }
 
+    public MarketSet getAvailableMarketSet() {
+        return availableMarkets == null ? null : MarketSet.copyOf(availableMarkets);
+    }
+
     public int getDiscNumber() {
         return discNumber;
     }
@@ -0,0 +1,287 @@
+package spotify.playback;
+
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.audio.Section;
+import spotify.models.audio.Segment;
+import spotify.models.audio.TimeInterval;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable index over the bars, beats, sections, segments and tatums of an audio analysis, for finding the element
+ * that is playing at a moment of the track.
+ * <p>
+ * Every kind of element is a {@link Timeline} of primitive start times, so lookups are binary searches that take
+ * O(log n) and do not allocate. Index {@code i} of a timeline is element {@code i} of the analysis it has been built
+ * from, so the other properties of a segment or section can be read from the analysis. The index can be shared
+ * between threads.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class AudioAnalysisIndex {
+    private final Timeline bars;
+    private final Timeline beats;
+    private final Timeline sections;
+    private final Timeline segments;
+    private final Timeline tatums;
+    private final List<Section> sectionList;
+
+    private AudioAnalysisIndex(final Timeline bars,
+                               final Timeline beats,
+                               final Timeline sections,
+                               final Timeline segments,
+                               final Timeline tatums,
+                               final List<Section> sectionList) {
+        this.bars = bars;
+        this.beats = beats;
+        this.sections = sections;
+        this.segments = segments;
+        this.tatums = tatums;
+        this.sectionList = sectionList;
+    }
+
+    /**
+     * @param audioAnalysis the audio analysis
+     * @return the index over the audio analysis
+     * @throws IllegalArgumentException when the elements of the analysis are not sorted by their start
+     */
+    public static AudioAnalysisIndex of(final AudioAnalysis audioAnalysis) {
+        final List<Section> sections = nullToEmpty(audioAnalysis.getSections());
+        final List<Segment> segments = nullToEmpty(audioAnalysis.getSegments());
+
+        final Timeline.Builder segmentTimeline = new Timeline.Builder("segments", segments.size());
+        for (Segment segment : segments) {
+            segmentTimeline.add(segment.getStart(), segment.getDuration(), segment.getConfidence());
+        }
+
+        return new AudioAnalysisIndex(
+                fromTimeIntervals("bars", nullToEmpty(audioAnalysis.getBars())),
+                fromTimeIntervals("beats", nullToEmpty(audioAnalysis.getBeats())),
+                fromSections(sections),
+                segmentTimeline.build(),
+                fromTimeIntervals("tatums", nullToEmpty(audioAnalysis.getTatums())),
+                Collections.unmodifiableList(new ArrayList<>(sections)));
+    }
+
+    /**
+     * @param audioAnalysis the columnar audio analysis
+     * @return the index over the audio analysis
+     * @throws IllegalArgumentException when the elements of the analysis are not sorted by their start
+     */
+    public static AudioAnalysisIndex of(final ColumnarAudioAnalysis audioAnalysis) {
+        final ColumnarAudioAnalysis.Segments segments = audioAnalysis.getSegments();
+
+        final Timeline.Builder segmentTimeline = new Timeline.Builder("segments", segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            segmentTimeline.add(segments.getStart(i), segments.getDuration(i), segments.getConfidence(i));
+        }
+
+        return new AudioAnalysisIndex(
+                fromTimeIntervals("bars", audioAnalysis.getBars()),
+                fromTimeIntervals("beats", audioAnalysis.getBeats()),
+                fromSections(audioAnalysis.getSections()),
+                segmentTimeline.build(),
+                fromTimeIntervals("tatums", audioAnalysis.getTatums()),
+                audioAnalysis.getSections());
+    }
+
+    public Timeline getBars() {
+        return bars;
+    }
+
+    public Timeline getBeats() {
+        return beats;
+    }
+
+    public Timeline getSections() {
+        return sections;
+    }
+
+    public Timeline getSegments() {
+        return segments;
+    }
+
+    public Timeline getTatums() {
+        return tatums;
+    }
+
+    /**
+     * @param index the index of the section in {@link #getSections()}
+     * @return the section, with its tempo, key, loudness and time signature
+     */
+    public Section getSection(final int index) {
+        return sectionList.get(index);
+    }
+
+    private static Timeline fromTimeIntervals(final String name, final List<TimeInterval> timeIntervals) {
+        final Timeline.Builder timeline = new Timeline.Builder(name, timeIntervals.size());
+
+        for (TimeInterval timeInterval : timeIntervals) {
+            timeline.add(timeInterval.getStart(), timeInterval.getDuration(), timeInterval.getConfidence());
+        }
+
+        return timeline.build();
+    }
+
+    private static Timeline fromTimeIntervals(final String name, final ColumnarAudioAnalysis.TimeIntervals timeIntervals) {
+        final Timeline.Builder timeline = new Timeline.Builder(name, timeIntervals.size());
+
+        for (int i = 0; i < timeIntervals.size(); i++) {
+            timeline.add(timeIntervals.getStart(i), timeIntervals.getDuration(i), timeIntervals.getConfidence(i));
+        }
+
+        return timeline.build();
+    }
+
+    private static Timeline fromSections(final List<Section> sections) {
+        final Timeline.Builder timeline = new Timeline.Builder("sections", sections.size());
+
+        for (Section section : sections) {
+            timeline.add(section.getStart(), section.getDuration(), section.getConfidence());
+        }
+
+        return timeline.build();
+    }
+
+    private static <T> List<T> nullToEmpty(final List<T> list) {
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    /**
+     * Elements of one kind, sorted by their start. Times are in seconds from the start of the track.
+     */
+    public static final class Timeline {
+        private final float[] starts;
+        private final float[] durations;
+        private final float[] confidences;
+
+        private Timeline(final float[] starts, final float[] durations, final float[] confidences) {
+            this.starts = starts;
+            this.durations = durations;
+            this.confidences = confidences;
+        }
+
+        public int size() {
+            return starts.length;
+        }
+
+        public float getStart(int index) {
+            return starts[index];
+        }
+
+        public float getDuration(int index) {
+            return durations[index];
+        }
+
+        public float getEnd(int index) {
+            return starts[index] + durations[index];
+        }
+
+        public float getConfidence(int index) {
+            return confidences[index];
+        }
+
+        /**
+         * @param seconds the position in the track
+         * @return the index of the last element that starts at or before the position, or {@code -1} when the
+         * position is before the first element
+         */
+        public int indexAt(float seconds) {
+            return nextIndexAfter(seconds) - 1;
+        }
+
+        /**
+         * @param progressMs the position in the track in milliseconds, like the progress of the player
+         * @return the index of the last element that starts at or before the position, or {@code -1} when the
+         * position is before the first element
+         */
+        public int indexAtMs(long progressMs) {
+            return indexAt(progressMs / 1000f);
+        }
+
+        /**
+         * @param seconds the position in the track
+         * @return whether an element is playing at the position, rather than the position falling in a gap between
+         * elements or outside the timeline
+         */
+        public boolean isInside(float seconds) {
+            final int index = indexAt(seconds);
+
+            return index >= 0 && seconds < getEnd(index);
+        }
+
+        /**
+         * Finds the first element that starts after the position. The next {@code n} events are the elements from this
+         * index up to {@code index + n}, as far as they are below {@link #size()}.
+         *
+         * @param seconds the position in the track
+         * @return the index of the first element that starts after the position, or {@link #size()} when there is none
+         */
+        public int nextIndexAfter(float seconds) {
+            int low = 0;
+            int high = starts.length;
+
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+
+                if (starts[middle] <= seconds) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            return low;
+        }
+
+        /**
+         * Copies the start times of the next elements after the position into the array, as many as fit.
+         *
+         * @param seconds the position in the track
+         * @param starts  the array to fill
+         * @return the amount of start times that have been copied
+         */
+        public int nextStartsAfter(float seconds, float[] starts) {
+            final int first = nextIndexAfter(seconds);
+            final int count = Math.min(starts.length, this.starts.length - first);
+
+            System.arraycopy(this.starts, first, starts, 0, count);
+
+            return count;
+        }
+
+        private static class Builder {
+            private final String name;
+            private final float[] starts;
+            private final float[] durations;
+            private final float[] confidences;
+            private int size;
+
+            private Builder(final String name, final int capacity) {
+                this.name = name;
+                this.starts = new float[capacity];
+                this.durations = new float[capacity];
+                this.confidences = new float[capacity];
+            }
+
+            private void add(final float start, final float duration, final float confidence) {
+                if (size > 0 && start < starts[size - 1]) {
+                    throw new IllegalArgumentException("The " + name + " of the audio analysis are not sorted by their start!");
+                }
+
+                starts[size] = start;
+                durations[size] = duration;
+                confidences[size] = confidence;
+                size++;
+            }
+
+            private Timeline build() {
+                return new Timeline(starts, durations, confidences);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package spotify.playback;
+
+/**
+ * Callbacks of a {@link BeatScheduler}. The methods are called on the thread of the scheduler, one after the other, so
+ * they should return quickly to keep the following beats on time. All methods do nothing by default.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public interface BeatListener {
+    /**
+     * Called when a beat starts.
+     *
+     * @param trackId  the id of the track that is playing
+     * @param analysis the index over the audio analysis of the track
+     * @param index    the index of the beat in {@link AudioAnalysisIndex#getBeats()}
+     */
+    default void onBeat(String trackId, AudioAnalysisIndex analysis, int index) {
+    }
+
+    /**
+     * Called when a bar starts, before the beat that starts with it.
+     *
+     * @param trackId  the id of the track that is playing
+     * @param analysis the index over the audio analysis of the track
+     * @param index    the index of the bar in {@link AudioAnalysisIndex#getBars()}
+     */
+    default void onBar(String trackId, AudioAnalysisIndex analysis, int index) {
+    }
+
+    /**
+     * Called when a section starts, before the bar and beat that start with it.
+     *
+     * @param trackId  the id of the track that is playing
+     * @param analysis the index over the audio analysis of the track
+     * @param index    the index of the section in {@link AudioAnalysisIndex#getSections()}
+     */
+    default void onSection(String trackId, AudioAnalysisIndex analysis, int index) {
+    }
+}
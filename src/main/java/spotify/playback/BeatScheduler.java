@@ -0,0 +1,341 @@
+package spotify.playback;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.interfaces.PlayerApi;
+import spotify.api.interfaces.TrackApi;
+import spotify.config.BeatSchedulerConfig;
+import spotify.models.players.CurrentlyPlayingObject;
+import spotify.models.tracks.TrackFull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Calls a {@link BeatListener} on the beats, bars and sections of the track that the user is playing.
+ * <p>
+ * The player is polled every poll interval. Between polls the position is extrapolated from the last poll with
+ * {@link System#nanoTime()}, taking the middle of the request as the moment of the polled position. A poll only moves
+ * the position when the track, the play state or the position differs from the extrapolation by more than the drift
+ * threshold, which covers pauses and seeks. Near the end of a track the player is polled right after the track should
+ * have ended, so the next track is picked up quickly. The request of a poll is sent from a poller thread of its own and
+ * only its response is handed to the scheduler, so a slow request never holds up the beats, and a poll never waits
+ * behind the loading of an audio analysis.
+ * <p>
+ * Every event is scheduled on its own from the extrapolated position. The scheduler wakes up shortly before an event
+ * and parks until its exact moment, which keeps the jitter well below a millisecond on an idle machine. Audio analyses
+ * are loaded in the background and kept per track, and {@link #prefetch(String)} loads the analysis of an upcoming
+ * track before it starts.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class BeatScheduler implements AutoCloseable {
+    private static final long SPIN_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long TRACK_END_MARGIN_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final Logger logger = LoggerFactory.getLogger(BeatScheduler.class);
+    private final PlayerApi playerApi;
+    private final TrackApi trackApi;
+    private final BeatListener listener;
+    private final BeatSchedulerConfig config;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService poller;
+    private final ExecutorService loader;
+    private final LongSupplier ticker;
+    private final long spinNanos;
+    private final Map<String, CompletableFuture<AudioAnalysisIndex>> analyses;
+
+    // The fields below are only used on the thread of the scheduler.
+    private String trackId;
+    private int trackDurationMs;
+    private AudioAnalysisIndex analysis;
+    private boolean playing;
+    private double anchorProgressMs;
+    private long anchorNanos;
+    private int nextBar;
+    private int nextBeat;
+    private int nextSection;
+    private ScheduledFuture<?> scheduledEvent;
+
+    public BeatScheduler(final PlayerApi playerApi, final TrackApi trackApi, final BeatListener listener) {
+        this(playerApi, trackApi, listener, BeatSchedulerConfig.defaultConfig());
+    }
+
+    public BeatScheduler(final PlayerApi playerApi, final TrackApi trackApi, final BeatListener listener, final BeatSchedulerConfig config) {
+        this(playerApi, trackApi, listener, config,
+                createScheduler("spotify-beat-scheduler"), createScheduler("spotify-beat-scheduler-poller"),
+                createScheduler("spotify-beat-scheduler-loader"), System::nanoTime, SPIN_NANOS);
+    }
+
+    /**
+     * @param scheduler the single thread on which the polls are handled and the events are fired
+     * @param poller    the executor that sends the requests for the player
+     * @param loader    the executor that loads the audio analyses
+     * @param ticker    the clock that the scheduler runs on, in nanoseconds
+     * @param spinNanos how long before an event the scheduler wakes up to park until its exact moment
+     */
+    BeatScheduler(final PlayerApi playerApi,
+                  final TrackApi trackApi,
+                  final BeatListener listener,
+                  final BeatSchedulerConfig config,
+                  final ScheduledExecutorService scheduler,
+                  final ExecutorService poller,
+                  final ExecutorService loader,
+                  final LongSupplier ticker,
+                  final long spinNanos) {
+        this.playerApi = playerApi;
+        this.trackApi = trackApi;
+        this.listener = listener;
+        this.config = config;
+        this.scheduler = scheduler;
+        this.poller = poller;
+        this.loader = loader;
+        this.ticker = ticker;
+        this.spinNanos = spinNanos;
+        this.analyses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<AudioAnalysisIndex>> eldest) {
+                return size() > config.getAnalysisCacheSize();
+            }
+        };
+    }
+
+    /**
+     * Starts polling the player and calling the listener.
+     */
+    public void start() {
+        logger.debug("Starting the beat scheduler with {}.", config);
+        scheduler.execute(this::poll);
+    }
+
+    /**
+     * Loads the audio analysis of a track in the background, unless it has been loaded already.
+     *
+     * @param trackId the id of the track
+     * @return a future completing with the index over the audio analysis of the track
+     */
+    public CompletableFuture<AudioAnalysisIndex> prefetch(final String trackId) {
+        synchronized (analyses) {
+            final CompletableFuture<AudioAnalysisIndex> cachedAnalysis = analyses.get(trackId);
+
+            if (cachedAnalysis != null) {
+                return cachedAnalysis;
+            }
+
+            final CompletableFuture<AudioAnalysisIndex> loadedAnalysis = CompletableFuture.supplyAsync(
+                    () -> AudioAnalysisIndex.of(trackApi.getTrackColumnarAudioAnalysis(trackId)), loader);
+            analyses.put(trackId, loadedAnalysis);
+            loadedAnalysis.whenComplete((index, throwable) -> {
+                if (throwable != null) {
+                    logger.warn("Loading the audio analysis of track {} has failed.", trackId, throwable);
+                    synchronized (analyses) {
+                        analyses.remove(trackId, loadedAnalysis);
+                    }
+                }
+            });
+
+            return loadedAnalysis;
+        }
+    }
+
+    /**
+     * Stops polling the player and calling the listener.
+     */
+    @Override
+    public void close() {
+        logger.debug("Closing the beat scheduler.");
+        scheduler.shutdownNow();
+        poller.shutdownNow();
+        loader.shutdownNow();
+    }
+
+    private void poll() {
+        try {
+            poller.execute(this::requestPlayback);
+        } catch (RejectedExecutionException e) {
+            logger.trace("Beat scheduler has been closed, not polling the player again.");
+        }
+    }
+
+    /**
+     * Runs on the poller. The clock is read right around the request, so the time that the poll has waited in the
+     * queue of the poller does not move the sampled position.
+     */
+    private void requestPlayback() {
+        final long requestNanos = ticker.getAsLong();
+
+        try {
+            final CurrentlyPlayingObject currentlyPlaying = playerApi.getCurrentlyPlayedObject(Collections.emptyMap());
+            final long sampleNanos = requestNanos + (ticker.getAsLong() - requestNanos) / 2;
+            runOnScheduler(() -> onPolled(currentlyPlaying, null, sampleNanos));
+        } catch (RuntimeException e) {
+            runOnScheduler(() -> onPolled(null, e, 0));
+        }
+    }
+
+    private void onPolled(final CurrentlyPlayingObject currentlyPlaying, final RuntimeException exception, final long sampleNanos) {
+        if (exception != null) {
+            logger.warn("Polling the player has failed, extrapolating the last position until the next poll.", exception);
+            schedulePoll(config.getPollInterval().toNanos());
+            return;
+        }
+
+        update(currentlyPlaying, sampleNanos);
+        schedulePoll(nextPollDelayNanos());
+    }
+
+    private void update(final CurrentlyPlayingObject currentlyPlaying, final long sampleNanos) {
+        final boolean isTrack = currentlyPlaying != null && currentlyPlaying.getItem() instanceof TrackFull;
+        final String polledTrackId = isTrack ? currentlyPlaying.getItem().getId() : null;
+        final boolean polledPlaying = isTrack && currentlyPlaying.isPlaying();
+        final int polledProgressMs = isTrack ? currentlyPlaying.getProgressMs() : 0;
+
+        if (!Objects.equals(trackId, polledTrackId)) {
+            logger.debug("Track has changed from {} to {}.", trackId, polledTrackId);
+            trackId = polledTrackId;
+            trackDurationMs = isTrack ? currentlyPlaying.getItem().getDurationMs() : 0;
+            analysis = null;
+            resync(polledProgressMs, polledPlaying, sampleNanos);
+        } else {
+            final double driftMs = Math.abs(positionMs(sampleNanos) - polledProgressMs);
+
+            if (polledPlaying != playing || driftMs > config.getDriftThreshold().toMillis()) {
+                logger.debug("Resyncing track {} that has drifted {} ms, playing: {}.", trackId, driftMs, polledPlaying);
+                resync(polledProgressMs, polledPlaying, sampleNanos);
+            }
+        }
+
+        if (trackId != null && analysis == null) {
+            final String loadingTrackId = trackId;
+
+            prefetch(loadingTrackId).thenAccept(index -> runOnScheduler(() -> {
+                if (loadingTrackId.equals(trackId) && analysis == null) {
+                    analysis = index;
+                    rescheduleEvents();
+                }
+            }));
+        }
+    }
+
+    private void resync(final int progressMs, final boolean playing, final long sampleNanos) {
+        this.anchorProgressMs = progressMs;
+        this.anchorNanos = sampleNanos;
+        this.playing = playing;
+        rescheduleEvents();
+    }
+
+    private void rescheduleEvents() {
+        if (scheduledEvent != null) {
+            scheduledEvent.cancel(false);
+            scheduledEvent = null;
+        }
+
+        if (!playing || analysis == null) {
+            return;
+        }
+
+        final float position = (float) (positionMs(ticker.getAsLong()) / 1000);
+        nextBar = analysis.getBars().nextIndexAfter(position);
+        nextBeat = analysis.getBeats().nextIndexAfter(position);
+        nextSection = analysis.getSections().nextIndexAfter(position);
+        scheduleNextEvent();
+    }
+
+    private void scheduleNextEvent() {
+        final float start = Math.min(startOf(analysis.getSections(), nextSection),
+                Math.min(startOf(analysis.getBars(), nextBar), startOf(analysis.getBeats(), nextBeat)));
+
+        if (start == Float.POSITIVE_INFINITY) {
+            scheduledEvent = null;
+            return;
+        }
+
+        final long eventNanos = anchorNanos + (long) ((start * 1000 - anchorProgressMs) * 1_000_000)
+                - config.getLeadTime().toNanos();
+        final long delayNanos = Math.max(0, eventNanos - spinNanos - ticker.getAsLong());
+
+        scheduledEvent = scheduler.schedule(() -> fireEvents(start, eventNanos), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void fireEvents(final float start, final long eventNanos) {
+        long remainingNanos;
+        while ((remainingNanos = eventNanos - ticker.getAsLong()) > 0) {
+            LockSupport.parkNanos(remainingNanos);
+        }
+
+        if (nextSection < analysis.getSections().size() && analysis.getSections().getStart(nextSection) <= start) {
+            final int index = nextSection++;
+            notifyListener(() -> listener.onSection(trackId, analysis, index));
+        }
+
+        if (nextBar < analysis.getBars().size() && analysis.getBars().getStart(nextBar) <= start) {
+            final int index = nextBar++;
+            notifyListener(() -> listener.onBar(trackId, analysis, index));
+        }
+
+        if (nextBeat < analysis.getBeats().size() && analysis.getBeats().getStart(nextBeat) <= start) {
+            final int index = nextBeat++;
+            notifyListener(() -> listener.onBeat(trackId, analysis, index));
+        }
+
+        scheduleNextEvent();
+    }
+
+    private void notifyListener(final Runnable notification) {
+        try {
+            notification.run();
+        } catch (RuntimeException e) {
+            logger.warn("Beat listener has thrown an exception.", e);
+        }
+    }
+
+    private void runOnScheduler(final Runnable runnable) {
+        if (!scheduler.isShutdown()) {
+            scheduler.execute(runnable);
+        }
+    }
+
+    private void schedulePoll(final long delayNanos) {
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::poll, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private long nextPollDelayNanos() {
+        final long pollIntervalNanos = config.getPollInterval().toNanos();
+
+        if (!playing || trackDurationMs <= 0) {
+            return pollIntervalNanos;
+        }
+
+        final long remainingNanos = (long) ((trackDurationMs - positionMs(ticker.getAsLong())) * 1_000_000);
+
+        return Math.max(0, Math.min(pollIntervalNanos, remainingNanos + TRACK_END_MARGIN_NANOS));
+    }
+
+    private double positionMs(final long nanos) {
+        return playing ? anchorProgressMs + (nanos - anchorNanos) / 1_000_000d : anchorProgressMs;
+    }
+
+    private static float startOf(final AudioAnalysisIndex.Timeline timeline, final int index) {
+        return index < timeline.size() ? timeline.getStart(index) : Float.POSITIVE_INFINITY;
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler(final String threadName) {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+
+        return executor;
+    }
+}
@@ -0,0 +1,15 @@
+package spotify.playback;
+
+/**
+ * The properties of a {@link PlaybackState} whose changes are reported to a {@link PlaybackListener}.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public enum PlaybackChange {
+    TRACK,
+    DEVICE,
+    SHUFFLE,
+    REPEAT,
+    PLAYING
+}
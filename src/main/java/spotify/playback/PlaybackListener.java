@@ -0,0 +1,24 @@
+package spotify.playback;
+
+import java.util.Set;
+
+/**
+ * Listener of the changes of the playback of a user that is watched by a {@link PlaybackWatcher}. It is called on a
+ * thread of the watcher, so it should return quickly.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+@FunctionalInterface
+public interface PlaybackListener {
+    /**
+     * Called when a poll shows that the playback has changed. The first poll of a user is reported with all
+     * properties as changed and no previous state.
+     *
+     * @param userId   the id under which the user is watched
+     * @param previous the state of the previous poll, or {@code null} for the first poll
+     * @param current  the state of this poll
+     * @param changes  the properties that differ between the states
+     */
+    void onPlaybackChange(String userId, PlaybackState previous, PlaybackState current, Set<PlaybackChange> changes);
+}
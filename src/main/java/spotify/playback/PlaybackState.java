@@ -0,0 +1,128 @@
+package spotify.playback;
+
+import spotify.models.players.PlayingContext;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Snapshot of the playback of a user, as seen by one poll of a {@link PlaybackWatcher}.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public final class PlaybackState {
+    private final PlayingContext playingContext;
+    private final String itemId;
+    private final String deviceId;
+    private final boolean shuffle;
+    private final String repeatState;
+    private final boolean playing;
+    private final int progressMs;
+    private final int durationMs;
+
+    private PlaybackState(final PlayingContext playingContext) {
+        this.playingContext = playingContext;
+        this.itemId = playingContext == null || playingContext.getItem() == null ? null : playingContext.getItem().getId();
+        this.deviceId = playingContext == null || playingContext.getDevice() == null ? null : playingContext.getDevice().getId();
+        this.shuffle = playingContext != null && playingContext.isShuffleState();
+        this.repeatState = playingContext == null ? null : playingContext.getRepeatState();
+        this.playing = playingContext != null && playingContext.isPlaying();
+        this.progressMs = playingContext == null ? 0 : playingContext.getProgressMs();
+        this.durationMs = playingContext == null || playingContext.getItem() == null ? 0 : playingContext.getItem().getDurationMs();
+    }
+
+    /**
+     * @param playingContext the playing context of the user, or {@code null} when nothing is playing
+     * @return the state of the playback
+     */
+    static PlaybackState of(final PlayingContext playingContext) {
+        return new PlaybackState(playingContext);
+    }
+
+    /**
+     * @return the polled playing context, or {@code null} when nothing is playing
+     */
+    public PlayingContext getPlayingContext() {
+        return playingContext;
+    }
+
+    /**
+     * @return the id of the track or episode, or {@code null} when nothing is playing
+     */
+    public String getItemId() {
+        return itemId;
+    }
+
+    public String getDeviceId() {
+        return deviceId;
+    }
+
+    public boolean isShuffle() {
+        return shuffle;
+    }
+
+    public String getRepeatState() {
+        return repeatState;
+    }
+
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    public int getProgressMs() {
+        return progressMs;
+    }
+
+    public int getDurationMs() {
+        return durationMs;
+    }
+
+    /**
+     * @param previous the previous state, or {@code null} when there is none
+     * @return the properties that differ from the previous state, all of them when there is no previous state
+     */
+    Set<PlaybackChange> changesSince(final PlaybackState previous) {
+        if (previous == null) {
+            return EnumSet.allOf(PlaybackChange.class);
+        }
+
+        final Set<PlaybackChange> changes = EnumSet.noneOf(PlaybackChange.class);
+
+        if (!Objects.equals(itemId, previous.itemId)) {
+            changes.add(PlaybackChange.TRACK);
+        }
+
+        if (!Objects.equals(deviceId, previous.deviceId)) {
+            changes.add(PlaybackChange.DEVICE);
+        }
+
+        if (shuffle != previous.shuffle) {
+            changes.add(PlaybackChange.SHUFFLE);
+        }
+
+        if (!Objects.equals(repeatState, previous.repeatState)) {
+            changes.add(PlaybackChange.REPEAT);
+        }
+
+        if (playing != previous.playing) {
+            changes.add(PlaybackChange.PLAYING);
+        }
+
+        return changes;
+    }
+
+    @Override
+    public String toString() {
+        return "PlaybackState{" +
+                "itemId='" + itemId + '\'' +
+                ", deviceId='" + deviceId + '\'' +
+                ", shuffle=" + shuffle +
+                ", repeatState='" + repeatState + '\'' +
+                ", playing=" + playing +
+                ", progressMs=" + progressMs +
+                ", durationMs=" + durationMs +
+                '}';
+    }
+}
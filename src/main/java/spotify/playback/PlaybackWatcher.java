@@ -0,0 +1,257 @@
+package spotify.playback;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.api.interfaces.AsyncPlayerApi;
+import spotify.config.PlaybackWatcherConfig;
+import spotify.models.players.PlayingContext;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Polls the playback of many users and tells a {@link PlaybackListener} when the track, device, shuffle, repeat or play
+ * state of a user changes.
+ * <p>
+ * All users share one pool of threads, and every user is polled on its own adaptive interval instead of a fixed
+ * timer. A user that is playing is polled right after the track should have ended, and a user that is not playing is
+ * polled less often. A user whose playback has changed in the last polls is polled more often, until it settles again.
+ * The intervals are spread by a random jitter, so thousands of users do not end up polling at the same moment.
+ * <p>
+ * Every poll is one asynchronous request for the playing context, which holds the currently playing item next to the
+ * device, shuffle and repeat state. The threads of the watcher only send the requests and handle their responses, they
+ * are not held while a request is in flight. The next poll of a user is scheduled once the response of the previous
+ * one has been handled. A poll that fails is logged and retried after the max interval.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class PlaybackWatcher implements AutoCloseable {
+    private static final long TRACK_END_MARGIN_MILLIS = 1000;
+    private static final double ACTIVITY_WEIGHT = 0.5;
+
+    private final Logger logger = LoggerFactory.getLogger(PlaybackWatcher.class);
+    private final PlaybackWatcherConfig config;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, Watch> watches = new ConcurrentHashMap<>();
+
+    public PlaybackWatcher() {
+        this(PlaybackWatcherConfig.defaultConfig());
+    }
+
+    public PlaybackWatcher(final PlaybackWatcherConfig config) {
+        this(config, createScheduler(config.getThreads()));
+    }
+
+    PlaybackWatcher(final PlaybackWatcherConfig config, final ScheduledExecutorService scheduler) {
+        this.config = config;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Starts polling the playback of a user. The first poll takes place within the min interval, to spread the first
+     * polls of users that are watched at the same moment. A user that is already watched under the id is replaced.
+     *
+     * @param userId    the id under which the user is watched
+     * @param playerApi the asynchronous player API with the access token of the user
+     * @param listener  the listener of the changes of the playback
+     */
+    public void watch(final String userId, final AsyncPlayerApi playerApi, final PlaybackListener listener) {
+        final Watch watch = new Watch(userId, playerApi, listener);
+        final Watch replacedWatch = watches.put(userId, watch);
+
+        if (replacedWatch != null) {
+            replacedWatch.cancel();
+        }
+
+        logger.debug("Watching the playback of user {}.", userId);
+        watch.schedule(ThreadLocalRandom.current().nextLong(config.getMinInterval().toMillis()));
+    }
+
+    /**
+     * Stops polling the playback of a user.
+     *
+     * @param userId the id under which the user is watched
+     */
+    public void unwatch(final String userId) {
+        final Watch watch = watches.remove(userId);
+
+        if (watch != null) {
+            logger.debug("No longer watching the playback of user {}.", userId);
+            watch.cancel();
+        }
+    }
+
+    /**
+     * @param userId the id under which the user is watched
+     * @return the state of the last poll of the user, or {@code null} when the user has not been polled yet
+     */
+    public PlaybackState getState(final String userId) {
+        final Watch watch = watches.get(userId);
+
+        return watch == null ? null : watch.state;
+    }
+
+    /**
+     * @return the amount of users that are watched
+     */
+    public int getWatchedUsers() {
+        return watches.size();
+    }
+
+    /**
+     * Stops polling the playback of all users.
+     */
+    @Override
+    public void close() {
+        logger.debug("Closing the playback watcher of {} users.", watches.size());
+        watches.values().forEach(Watch::cancel);
+        watches.clear();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Computes the interval until the next poll, without jitter.
+     *
+     * @param config   the configuration of the watcher
+     * @param state    the state of the last poll
+     * @param activity the recent change rate, from 0 when nothing has changed up to 1 when every poll has changed
+     * @return the interval in milliseconds
+     */
+    static long nextIntervalMillis(final PlaybackWatcherConfig config, final PlaybackState state, final double activity) {
+        final long minInterval = config.getMinInterval().toMillis();
+        long interval;
+
+        if (state.isPlaying()) {
+            interval = config.getMaxInterval().toMillis();
+
+            if (state.getDurationMs() > 0) {
+                final long remaining = Math.max(0, state.getDurationMs() - state.getProgressMs());
+                interval = Math.min(interval, remaining + TRACK_END_MARGIN_MILLIS);
+            }
+        } else {
+            interval = config.getIdleInterval().toMillis();
+        }
+
+        interval -= Math.round((interval - minInterval) * activity);
+
+        return Math.max(minInterval, interval);
+    }
+
+    private long withJitter(final long intervalMillis) {
+        final double spread = config.getJitter() * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+
+        return Math.round(intervalMillis * (1 + spread));
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler(final int threads) {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "spotify-playback-watcher");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+
+        return executor;
+    }
+
+    /**
+     * The polls of one user. A poll schedules the next one when its response has been handled, so the polls of a user
+     * never overlap.
+     */
+    private class Watch {
+        private final String userId;
+        private final AsyncPlayerApi playerApi;
+        private final PlaybackListener listener;
+        private volatile PlaybackState state;
+        private volatile ScheduledFuture<?> scheduledPoll;
+        private volatile boolean cancelled;
+        private double activity;
+
+        private Watch(final String userId, final AsyncPlayerApi playerApi, final PlaybackListener listener) {
+            this.userId = userId;
+            this.playerApi = playerApi;
+            this.listener = listener;
+        }
+
+        private void schedule(final long delayMillis) {
+            if (cancelled) {
+                return;
+            }
+
+            try {
+                scheduledPoll = scheduler.schedule(this::poll, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                logger.trace("Playback watcher has been closed, not polling user {} again.", userId);
+            }
+        }
+
+        private void poll() {
+            if (cancelled) {
+                return;
+            }
+
+            final CompletableFuture<PlayingContext> playingContext;
+
+            try {
+                playingContext = playerApi.getCurrentPlayingContext(Collections.emptyMap());
+            } catch (RuntimeException e) {
+                onPolled(null, e);
+                return;
+            }
+
+            playingContext.whenComplete((polledPlayingContext, throwable) -> {
+                try {
+                    scheduler.execute(() -> onPolled(polledPlayingContext, throwable));
+                } catch (RejectedExecutionException e) {
+                    logger.trace("Playback watcher has been closed, not handling the poll of user {}.", userId);
+                }
+            });
+        }
+
+        private void onPolled(final PlayingContext playingContext, final Throwable throwable) {
+            if (cancelled) {
+                return;
+            }
+
+            if (throwable != null) {
+                logger.warn("Polling the playback of user {} has failed.", userId,
+                        throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                schedule(withJitter(config.getMaxInterval().toMillis()));
+                return;
+            }
+
+            final PlaybackState current = PlaybackState.of(playingContext);
+            final PlaybackState previous = state;
+            final Set<PlaybackChange> changes = current.changesSince(previous);
+            state = current;
+
+            if (previous != null) {
+                activity = activity * (1 - ACTIVITY_WEIGHT) + (changes.isEmpty() ? 0 : ACTIVITY_WEIGHT);
+            }
+
+            if (!changes.isEmpty() && !cancelled) {
+                logger.trace("Playback of user {} has changed: {}.", userId, changes);
+                try {
+                    listener.onPlaybackChange(userId, previous, current, changes);
+                } catch (RuntimeException e) {
+                    logger.warn("Playback listener of user {} has thrown an exception.", userId, e);
+                }
+            }
+
+            schedule(withJitter(nextIntervalMillis(config, current, activity)));
+        }
+
+        private void cancel() {
+            cancelled = true;
+
+            final ScheduledFuture<?> poll = scheduledPoll;
+            if (poll != null) {
+                poll.cancel(false);
+            }
+        }
+    }
+}
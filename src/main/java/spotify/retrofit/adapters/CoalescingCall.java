@@ -0,0 +1,218 @@
+package spotify.retrofit.adapters;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okio.Timeout;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.Type;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Call that shares the HTTP call of an identical GET request that is already in flight.
+ * <p>
+ * Only calls that deserialize their response body into the same type share an HTTP call, because the shared response
+ * is handed to every caller as it is. When the caller that sent the shared HTTP call cancels it, the callers waiting
+ * for it send their own call instead of failing with it. Whatever the shared HTTP call throws, errors included, is
+ * handed to the callers waiting for it, so they never wait for a call that has stopped.
+ *
+ * @param <T> the type of the response body
+ */
+class CoalescingCall<T> implements Call<T> {
+    private final Call<T> delegate;
+    private final Type responseType;
+    private final CoalescingCallAdapterFactory coalescingCallAdapterFactory;
+
+    CoalescingCall(final Call<T> delegate, final Type responseType, final CoalescingCallAdapterFactory coalescingCallAdapterFactory) {
+        this.delegate = delegate;
+        this.responseType = responseType;
+        this.coalescingCallAdapterFactory = coalescingCallAdapterFactory;
+    }
+
+    @Override
+    public Response<T> execute() throws IOException {
+        if (!isCoalescable()) {
+            return delegate.execute();
+        }
+
+        final String key = createKey(delegate.request(), responseType);
+        final InFlightCall<T> inFlightCall = new InFlightCall<>();
+        final InFlightCall<T> existingCall = coalescingCallAdapterFactory.registerOrGet(key, inFlightCall);
+
+        if (existingCall != null) {
+            return await(existingCall);
+        }
+
+        final Response<T> response;
+        try {
+            response = delegate.execute();
+        } catch (Throwable e) {
+            inFlightCall.fail(delegate.isCanceled() ? new CancellationException(e.getMessage()) : e);
+            throw e;
+        } finally {
+            coalescingCallAdapterFactory.unregister(key, inFlightCall);
+        }
+
+        inFlightCall.complete(response);
+        return await(inFlightCall, false);
+    }
+
+    @Override
+    public void enqueue(final Callback<T> callback) {
+        if (!isCoalescable()) {
+            delegate.enqueue(callback);
+            return;
+        }
+
+        final String key = createKey(delegate.request(), responseType);
+        final InFlightCall<T> inFlightCall = new InFlightCall<>();
+        final InFlightCall<T> existingCall = coalescingCallAdapterFactory.registerOrGet(key, inFlightCall);
+
+        if (existingCall != null) {
+            existingCall.getCompletion().whenComplete((completedCall, throwable) -> {
+                if (throwable == null) {
+                    callback.onResponse(this, completedCall.copyResponse());
+                } else if (isCancellationOfOtherCaller(throwable)) {
+                    delegate.enqueue(callback);
+                } else {
+                    callback.onFailure(this, unwrap(throwable));
+                }
+            });
+            return;
+        }
+
+        try {
+            delegate.enqueue(new Callback<T>() {
+                @Override
+                public void onResponse(Call<T> call, Response<T> response) {
+                    coalescingCallAdapterFactory.unregister(key, inFlightCall);
+                    inFlightCall.complete(response);
+                    forward(inFlightCall, callback);
+                }
+
+                @Override
+                public void onFailure(Call<T> call, Throwable throwable) {
+                    coalescingCallAdapterFactory.unregister(key, inFlightCall);
+                    inFlightCall.fail(delegate.isCanceled() ? new CancellationException(throwable.getMessage()) : throwable);
+                    callback.onFailure(CoalescingCall.this, throwable);
+                }
+            });
+        } catch (Throwable e) {
+            coalescingCallAdapterFactory.unregister(key, inFlightCall);
+            inFlightCall.fail(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isExecuted() {
+        return delegate.isExecuted();
+    }
+
+    @Override
+    public void cancel() {
+        delegate.cancel();
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return delegate.isCanceled();
+    }
+
+    @Override
+    public Call<T> clone() {
+        return new CoalescingCall<>(delegate.clone(), responseType, coalescingCallAdapterFactory);
+    }
+
+    @Override
+    public Request request() {
+        return delegate.request();
+    }
+
+    @Override
+    public Timeout timeout() {
+        return delegate.timeout();
+    }
+
+    private boolean isCoalescable() {
+        return "GET".equals(delegate.request().method());
+    }
+
+    private Response<T> await(final InFlightCall<T> inFlightCall) throws IOException {
+        return await(inFlightCall, true);
+    }
+
+    private Response<T> await(final InFlightCall<T> inFlightCall, final boolean sendOwnCallWhenCancelled) throws IOException {
+        try {
+            return inFlightCall.getCompletion().get().copyResponse();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for an identical request.");
+        } catch (ExecutionException e) {
+            if (sendOwnCallWhenCancelled && isCancellationOfOtherCaller(e.getCause())) {
+                return delegate.execute();
+            }
+
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IOException(cause);
+        }
+    }
+
+    private void forward(final InFlightCall<T> inFlightCall, final Callback<T> callback) {
+        inFlightCall.getCompletion().whenComplete((completedCall, throwable) -> {
+            if (throwable == null) {
+                callback.onResponse(this, completedCall.copyResponse());
+            } else {
+                callback.onFailure(this, unwrap(throwable));
+            }
+        });
+    }
+
+    private boolean isCancellationOfOtherCaller(final Throwable throwable) {
+        return unwrap(throwable) instanceof CancellationException && !delegate.isCanceled();
+    }
+
+    private static Throwable unwrap(final Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+
+        return throwable;
+    }
+
+    /**
+     * Creates the key of a request from its path, its query parameters sorted by name and value, its Authorization
+     * header and the type that its response body is deserialized into.
+     */
+    static String createKey(final Request request, final Type responseType) {
+        final HttpUrl url = request.url();
+        final TreeSet<String> queryParameters = new TreeSet<>();
+
+        for (int i = 0; i < url.querySize(); i++) {
+            queryParameters.add(url.queryParameterName(i) + "=" + url.queryParameterValue(i));
+        }
+
+        return request.method() + " " + url.host() + url.encodedPath() + "?" + queryParameters + " " + request.header("Authorization")
+                + " " + responseType.getTypeName();
+    }
+}
@@ -0,0 +1,94 @@
+package spotify.retrofit.adapters;
+
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Retrofit;
+import retrofit2.http.Streaming;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retrofit call adapter factory that lets identical GET requests which are in flight at the same moment share one
+ * HTTP call.
+ * <p>
+ * Requests are identical when they have the same path, the same query parameters in any order, the same
+ * Authorization header and the same response type, so requests of different users, or requests that read the same
+ * response into different models, are never shared. Every caller receives the same
+ * deserialized response body, which therefore must not be modified. Raw and streamed response bodies can only be
+ * read once, so their calls are never shared.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class CoalescingCallAdapterFactory extends CallAdapter.Factory {
+    private final Map<String, InFlightCall<?>> inFlightCalls = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    @Override
+    public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+        if (getRawType(returnType) != Call.class || !(returnType instanceof ParameterizedType)) {
+            return null;
+        }
+
+        final Type responseType = getParameterUpperBound(0, (ParameterizedType) returnType);
+
+        if (responseType == ResponseBody.class || isAnnotationPresent(annotations, Streaming.class)) {
+            return null;
+        }
+
+        return new CallAdapter<Object, Call<Object>>() {
+            @Override
+            public Type responseType() {
+                return responseType;
+            }
+
+            @Override
+            public Call<Object> adapt(Call<Object> call) {
+                return new CoalescingCall<>(call, responseType, CoalescingCallAdapterFactory.this);
+            }
+        };
+    }
+
+    private static boolean isAnnotationPresent(final Annotation[] annotations, final Class<? extends Annotation> annotationType) {
+        for (Annotation annotation : annotations) {
+            if (annotationType.isInstance(annotation)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return the amount of calls that have been answered by a call that was already in flight
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls.get();
+    }
+
+    /**
+     * Registers the call as in flight under the key, unless an identical call is in flight already.
+     *
+     * @return {@code null} when the given call has been registered, otherwise the call that is in flight
+     */
+    @SuppressWarnings("unchecked")
+    <T> InFlightCall<T> registerOrGet(final String key, final InFlightCall<T> inFlightCall) {
+        final InFlightCall<T> existingCall = (InFlightCall<T>) inFlightCalls.putIfAbsent(key, inFlightCall);
+
+        if (existingCall != null) {
+            coalescedCalls.incrementAndGet();
+        }
+
+        return existingCall;
+    }
+
+    void unregister(final String key, final InFlightCall<?> inFlightCall) {
+        inFlightCalls.remove(key, inFlightCall);
+    }
+}
@@ -0,0 +1,56 @@
+package spotify.retrofit.adapters;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The outcome of an HTTP call that is shared by every caller waiting for it.
+ * <p>
+ * An error body can only be read once, so it is buffered and every caller gets a copy of it.
+ *
+ * @param <T> the type of the response body
+ */
+class InFlightCall<T> {
+    private final CompletableFuture<InFlightCall<T>> completion = new CompletableFuture<>();
+    private Response<T> response;
+    private byte[] errorBody;
+    private MediaType errorBodyContentType;
+
+    CompletableFuture<InFlightCall<T>> getCompletion() {
+        return completion;
+    }
+
+    void complete(final Response<T> response) {
+        try {
+            if (!response.isSuccessful() && response.errorBody() != null) {
+                try (ResponseBody responseErrorBody = response.errorBody()) {
+                    this.errorBodyContentType = responseErrorBody.contentType();
+                    this.errorBody = responseErrorBody.bytes();
+                }
+            }
+
+            this.response = response;
+            completion.complete(this);
+        } catch (Throwable e) {
+            completion.completeExceptionally(e);
+        }
+    }
+
+    void fail(final Throwable throwable) {
+        completion.completeExceptionally(throwable);
+    }
+
+    /**
+     * @return the shared response, with a fresh copy of the error body for every caller
+     */
+    Response<T> copyResponse() {
+        if (errorBody == null) {
+            return response;
+        }
+
+        return Response.error(ResponseBody.create(errorBodyContentType, errorBody), response.raw());
+    }
+}
@@ -0,0 +1,18 @@
+package spotify.retrofit.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a service method that changes state, but can safely be sent more than once with the same outcome.
+ * <p>
+ * Requests of GET, HEAD and OPTIONS methods are idempotent by definition. Other requests are only retried after a
+ * failure when their service method carries this annotation.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,128 @@
+package spotify.retrofit.interceptors;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import spotify.config.RateLimitConfig;
+import spotify.utils.HttpUtil;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OkHttp interceptor that limits the rate at which requests are sent and honours the Retry-After header of
+ * rate limited responses.
+ * <p>
+ * Every request takes a permit from the token bucket of its application, or of its access token when configured.
+ * A response with HTTP status code 429 pauses the whole bucket for the Retry-After duration, so requests that are
+ * about to be sent with the same budget wait as well, after which the rate limited request is sent again. The pause
+ * never exceeds the max Retry-After of the configuration, so a request that gives up on a long Retry-After does not
+ * hold up the other requests of its bucket for that long.
+ * When the retries are exhausted the 429 response is returned and surfaces as a
+ * {@link spotify.exceptions.TooManyRequestsException}.
+ * <p>
+ * Waiting happens on the thread that executes the call, which is a dispatcher thread for asynchronous calls.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class RateLimitInterceptor implements Interceptor {
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int REQUESTS_PER_SWEEP = 1_000;
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+    private static final String APPLICATION_BUCKET = "";
+    private final Logger logger = LoggerFactory.getLogger(RateLimitInterceptor.class);
+    private final RateLimitConfig rateLimitConfig;
+    private final RateLimitMetrics rateLimitMetrics;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+
+    public RateLimitInterceptor(final RateLimitConfig rateLimitConfig, final RateLimitMetrics rateLimitMetrics) {
+        this.rateLimitConfig = rateLimitConfig;
+        this.rateLimitMetrics = rateLimitMetrics;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+        final TokenBucket bucket = getBucket(request);
+        int retries = 0;
+
+        while (true) {
+            acquire(bucket);
+            final Response response = chain.proceed(request);
+
+            if (response.code() != TOO_MANY_REQUESTS) {
+                return response;
+            }
+
+            rateLimitMetrics.recordThrottledResponse();
+            final Duration retryAfter = HttpUtil.parseRetryAfter(response.header("Retry-After"), DEFAULT_RETRY_AFTER);
+            final Duration pause = retryAfter.compareTo(rateLimitConfig.getMaxRetryAfter()) > 0 ? rateLimitConfig.getMaxRetryAfter() : retryAfter;
+            bucket.pauseUntil(System.nanoTime() + pause.toNanos());
+
+            if (retries >= rateLimitConfig.getMaxRetries() || retryAfter.compareTo(rateLimitConfig.getMaxRetryAfter()) > 0) {
+                logger.warn("Request {} has been rate limited, giving up after {} retries.", request.url(), retries);
+                return response;
+            }
+
+            logger.warn("Request {} has been rate limited, retrying after {}.", request.url(), retryAfter);
+            response.close();
+            retries++;
+            rateLimitMetrics.recordRetry();
+        }
+    }
+
+    private TokenBucket getBucket(final Request request) {
+        final String authorization = request.header("Authorization");
+        final String key = rateLimitConfig.isLimitPerAccessToken() && authorization != null ? authorization : APPLICATION_BUCKET;
+
+        // idle buckets are swept every so many requests, so a request does not have to walk all buckets
+        if (requests.incrementAndGet() % REQUESTS_PER_SWEEP == 0) {
+            final long now = System.nanoTime();
+            buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        }
+
+        return buckets.computeIfAbsent(key, ignored -> new TokenBucket(
+                rateLimitConfig.getRequestsPerSecond(),
+                rateLimitConfig.getBurstSize(),
+                System.nanoTime()));
+    }
+
+    private void acquire(final TokenBucket bucket) throws InterruptedIOException {
+        while (true) {
+            final long pause = bucket.getRemainingPause(System.nanoTime());
+
+            if (pause > 0) {
+                sleep(pause);
+                rateLimitMetrics.recordThrottledTime(pause);
+                continue;
+            }
+
+            final long wait = bucket.tryAcquire(System.nanoTime());
+
+            if (wait == 0) {
+                return;
+            }
+
+            sleep(wait);
+            rateLimitMetrics.recordQueuedTime(wait);
+        }
+    }
+
+    private void sleep(final long nanos) throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the rate limit.");
+        }
+    }
+}
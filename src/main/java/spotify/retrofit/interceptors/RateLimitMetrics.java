@@ -0,0 +1,71 @@
+package spotify.retrofit.interceptors;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the client side rate limiting.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class RateLimitMetrics {
+    private final AtomicLong throttledResponses = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong throttledNanos = new AtomicLong();
+    private final AtomicLong queuedNanos = new AtomicLong();
+
+    /**
+     * @return the amount of responses with HTTP status code 429
+     */
+    public long getThrottledResponses() {
+        return throttledResponses.get();
+    }
+
+    /**
+     * @return the amount of rate limited requests that have been sent again
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * @return the total time requests have been paused because of a Retry-After header
+     */
+    public Duration getThrottledTime() {
+        return Duration.ofNanos(throttledNanos.get());
+    }
+
+    /**
+     * @return the total time requests have waited for a permit of the token bucket
+     */
+    public Duration getQueuedTime() {
+        return Duration.ofNanos(queuedNanos.get());
+    }
+
+    void recordThrottledResponse() {
+        throttledResponses.incrementAndGet();
+    }
+
+    void recordRetry() {
+        retries.incrementAndGet();
+    }
+
+    void recordThrottledTime(long nanos) {
+        throttledNanos.addAndGet(nanos);
+    }
+
+    void recordQueuedTime(long nanos) {
+        queuedNanos.addAndGet(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitMetrics{" +
+                "throttledResponses=" + getThrottledResponses() +
+                ", retries=" + getRetries() +
+                ", throttledTime=" + getThrottledTime() +
+                ", queuedTime=" + getQueuedTime() +
+                '}';
+    }
+}
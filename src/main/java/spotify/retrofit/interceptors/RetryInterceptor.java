@@ -0,0 +1,142 @@
+package spotify.retrofit.interceptors;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import retrofit2.Invocation;
+import spotify.config.RetryConfig;
+import spotify.retrofit.annotations.Idempotent;
+import spotify.utils.HttpUtil;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OkHttp interceptor that retries idempotent requests which have failed with an {@link IOException} or with a
+ * retryable status code.
+ * <p>
+ * Requests with the methods GET, HEAD and OPTIONS are retried, as are requests of service methods that are marked
+ * {@link Idempotent}. Between attempts the request waits a random duration up to an exponentially growing backoff,
+ * or the Retry-After duration of the response when that is longer. No retry is started when it would begin after the
+ * deadline of the call. When the retries are exhausted the last response is returned or the last exception is
+ * thrown, which the APIs turn into the usual exceptions.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class RetryInterceptor implements Interceptor {
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private final Logger logger = LoggerFactory.getLogger(RetryInterceptor.class);
+    private final RetryConfig retryConfig;
+    private final RetryMetrics retryMetrics;
+
+    public RetryInterceptor(final RetryConfig retryConfig, final RetryMetrics retryMetrics) {
+        this.retryConfig = retryConfig;
+        this.retryMetrics = retryMetrics;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        final Request request = chain.request();
+
+        if (!isIdempotent(request)) {
+            retryMetrics.recordCall(1, false);
+            return chain.proceed(request);
+        }
+
+        final long deadlineNanos = System.nanoTime() + retryConfig.getDeadline().toNanos();
+        int attempt = 1;
+
+        while (true) {
+            Response response = null;
+            IOException exception = null;
+
+            try {
+                response = chain.proceed(request);
+            } catch (IOException e) {
+                exception = e;
+            }
+
+            final boolean retryable = exception != null
+                    ? !isCanceled(chain.call())
+                    : retryConfig.getRetryableStatusCodes().contains(response.code());
+
+            if (!retryable) {
+                retryMetrics.recordCall(attempt, false);
+                return returnOrThrow(response, exception);
+            }
+
+            final long backoffNanos = getBackoffNanos(attempt, response);
+
+            if (attempt >= retryConfig.getMaxAttempts() || System.nanoTime() + backoffNanos > deadlineNanos) {
+                logger.warn("Request {} has failed after {} attempts, giving up.", request.url(), attempt);
+                retryMetrics.recordCall(attempt, true);
+                return returnOrThrow(response, exception);
+            }
+
+            logger.warn("Attempt {} of request {} has failed, retrying in {} ms.",
+                    attempt,
+                    request.url(),
+                    TimeUnit.NANOSECONDS.toMillis(backoffNanos));
+
+            if (response != null) {
+                response.close();
+            }
+
+            sleep(backoffNanos);
+            retryMetrics.recordBackoff(backoffNanos);
+            attempt++;
+        }
+    }
+
+    private boolean isIdempotent(final Request request) {
+        if (IDEMPOTENT_METHODS.contains(request.method())) {
+            return true;
+        }
+
+        final Invocation invocation = request.tag(Invocation.class);
+
+        return invocation != null && invocation.method().isAnnotationPresent(Idempotent.class);
+    }
+
+    private boolean isCanceled(final Call call) {
+        return call != null && call.isCanceled();
+    }
+
+    private long getBackoffNanos(final int attempt, final Response response) {
+        final long ceilingNanos = retryConfig.getBackoffCeiling(attempt).toNanos();
+        final long jitteredNanos = ceilingNanos == 0 ? 0 : ThreadLocalRandom.current().nextLong(ceilingNanos + 1);
+
+        if (response == null) {
+            return jitteredNanos;
+        }
+
+        final Duration retryAfter = HttpUtil.parseRetryAfter(response.header("Retry-After"), Duration.ZERO);
+
+        return Math.max(jitteredNanos, retryAfter.toNanos());
+    }
+
+    private Response returnOrThrow(final Response response, final IOException exception) throws IOException {
+        if (exception != null) {
+            throw exception;
+        }
+
+        return response;
+    }
+
+    private void sleep(final long nanos) throws InterruptedIOException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry.");
+        }
+    }
+}
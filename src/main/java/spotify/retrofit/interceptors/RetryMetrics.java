@@ -0,0 +1,81 @@
+package spotify.retrofit.interceptors;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the retrying of failed requests.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+public class RetryMetrics {
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong attempts = new AtomicLong();
+    private final AtomicLong retriedCalls = new AtomicLong();
+    private final AtomicLong exhaustedCalls = new AtomicLong();
+    private final AtomicLong backoffNanos = new AtomicLong();
+
+    /**
+     * @return the amount of calls that have passed the retry interceptor
+     */
+    public long getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * @return the amount of attempts of all calls, including the first attempts
+     */
+    public long getAttempts() {
+        return attempts.get();
+    }
+
+    /**
+     * @return the amount of calls that needed more than one attempt
+     */
+    public long getRetriedCalls() {
+        return retriedCalls.get();
+    }
+
+    /**
+     * @return the amount of calls that have still failed after their last attempt
+     */
+    public long getExhaustedCalls() {
+        return exhaustedCalls.get();
+    }
+
+    /**
+     * @return the total time calls have waited between attempts
+     */
+    public Duration getBackoffTime() {
+        return Duration.ofNanos(backoffNanos.get());
+    }
+
+    void recordCall(final int attemptsOfCall, final boolean exhausted) {
+        calls.incrementAndGet();
+        attempts.addAndGet(attemptsOfCall);
+
+        if (attemptsOfCall > 1) {
+            retriedCalls.incrementAndGet();
+        }
+
+        if (exhausted) {
+            exhaustedCalls.incrementAndGet();
+        }
+    }
+
+    void recordBackoff(final long nanos) {
+        backoffNanos.addAndGet(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "RetryMetrics{" +
+                "calls=" + getCalls() +
+                ", attempts=" + getAttempts() +
+                ", retriedCalls=" + getRetriedCalls() +
+                ", exhaustedCalls=" + getExhaustedCalls() +
+                ", backoffTime=" + getBackoffTime() +
+                '}';
+    }
+}
@@ -0,0 +1,72 @@
+package spotify.retrofit.interceptors;
+
+/**
+ * Token bucket that hands out permits at a fixed rate and can be paused as a whole.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+class TokenBucket {
+    private final double permitsPerNano;
+    private final double capacity;
+    private double permits;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    /**
+     * @param requestsPerSecond the refill rate, {@code 0} for a bucket that never runs out of permits
+     * @param burstSize         the maximum amount of stored permits
+     * @param nowNanos          the current time
+     */
+    TokenBucket(final double requestsPerSecond, final int burstSize, final long nowNanos) {
+        this.permitsPerNano = requestsPerSecond / 1_000_000_000d;
+        this.capacity = burstSize;
+        this.permits = burstSize;
+        this.lastRefillNanos = nowNanos;
+        this.pausedUntilNanos = nowNanos;
+    }
+
+    /**
+     * Takes a permit if one is available.
+     *
+     * @param nowNanos the current time
+     * @return {@code 0} when a permit has been taken, otherwise the nanoseconds until the next permit is available
+     */
+    synchronized long tryAcquire(final long nowNanos) {
+        if (permitsPerNano == 0) {
+            return 0;
+        }
+
+        permits = Math.min(capacity, permits + (nowNanos - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = nowNanos;
+
+        if (permits >= 1) {
+            permits -= 1;
+            return 0;
+        }
+
+        return Math.max(1, (long) Math.ceil((1 - permits) / permitsPerNano));
+    }
+
+    /**
+     * Pauses the bucket, so no permits are handed out before the given time.
+     *
+     * @param untilNanos the time the pause ends
+     */
+    synchronized void pauseUntil(final long untilNanos) {
+        pausedUntilNanos = Math.max(pausedUntilNanos, untilNanos);
+    }
+
+    /**
+     * @param nowNanos the current time
+     * @return the nanoseconds the bucket remains paused, {@code 0} when it is not paused
+     */
+    synchronized long getRemainingPause(final long nowNanos) {
+        return Math.max(0, pausedUntilNanos - nowNanos);
+    }
+
+    synchronized boolean isIdle(final long nowNanos) {
+        return getRemainingPause(nowNanos) == 0
+                && (permitsPerNano == 0 || permits + (nowNanos - lastRefillNanos) * permitsPerNano >= capacity);
+    }
+}
@@ -5,6 +5,7 @@ import retrofit2.http.*;
 import spotify.api.enums.EntityType;
 import spotify.models.artists.ArtistFullCursorBasedPagingWrapper;
 import spotify.models.playlists.requests.FollowPlaylistRequestBody;
+import spotify.retrofit.annotations.Idempotent;
 
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,7 @@ public interface FollowService {
     Call<List<Boolean>> isFollowingPlaylist(@Header("Authorization") String accessToken, @Path("playlist_id") String playlistId, @Query("ids") String userIds);
 
     @PUT("me/following")
+    @Idempotent
     Call<Void> followEntities(@Header("Authorization") String accessToken, @Query("type") EntityType entityType, @Query("ids") String entityIds);
 
     @GET("me/following")
@@ -25,13 +27,16 @@ public interface FollowService {
                                                                 @QueryMap Map<String, String> options);
 
     @PUT("playlists/{playlist_id}/followers")
+    @Idempotent
     Call<Void> followPlaylist(@Header("Authorization") String accessToken,
                               @Path("playlist_id") String playlistId,
                               @Body FollowPlaylistRequestBody setPlaylistPublic);
 
     @DELETE("me/following")
+    @Idempotent
     Call<Void> unfollowEntities(@Header("Authorization") String accessToken, @Query("type") EntityType entityType, @Query("ids") String entityIds);
 
     @DELETE("playlists/{playlist_id}/followers")
+    @Idempotent
     Call<Void> unfollowPlaylist(@Header("Authorization") String accessToken, @Path("playlist_id") String playlistId);
 }
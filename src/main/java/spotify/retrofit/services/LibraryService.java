@@ -6,6 +6,7 @@ import spotify.models.albums.SavedAlbumFull;
 import spotify.models.paging.Paging;
 import spotify.models.shows.SavedShowSimplified;
 import spotify.models.tracks.SavedTrackFull;
+import spotify.retrofit.annotations.Idempotent;
 
 import java.util.List;
 import java.util.Map;
@@ -30,20 +31,26 @@ public interface LibraryService {
     Call<Paging<SavedTrackFull>> getSavedTracks(@Header("Authorization") String accessToken, @QueryMap Map<String, String> options);
 
     @PUT("me/albums")
+    @Idempotent
     Call<Void> saveAlbums(@Header("Authorization") String accessToken, @Query("ids") String albumIds);
 
     @PUT("me/shows")
+    @Idempotent
     Call<Void> saveShows(@Header("Authorization") String accessToken, @Query("ids") String showIds);
 
     @PUT("me/tracks")
+    @Idempotent
     Call<Void> saveTracks(@Header("Authorization") String accessToken, @Query("ids") String trackIds);
 
     @DELETE("me/albums")
+    @Idempotent
     Call<Void> deleteAlbums(@Header("Authorization") String accessToken, @Query("ids") String albumIds);
 
     @DELETE("me/shows")
+    @Idempotent
     Call<Void> deleteShows(@Header("Authorization") String accessToken, @Query("ids") String showIds, @QueryMap Map<String, String> options);
 
     @DELETE("me/tracks")
+    @Idempotent
     Call<Void> deleteTracks(@Header("Authorization") String accessToken, @Query("ids") String trackIds);
 }
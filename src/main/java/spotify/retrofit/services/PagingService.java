@@ -0,0 +1,12 @@
+package spotify.retrofit.services;
+
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.http.GET;
+import retrofit2.http.Header;
+import retrofit2.http.Url;
+
+public interface PagingService {
+    @GET
+    Call<ResponseBody> getPage(@Header("Authorization") String accessToken, @Url String pageUrl);
+}
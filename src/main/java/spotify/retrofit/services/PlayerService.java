@@ -10,6 +10,7 @@ import spotify.models.players.PlayHistory;
 import spotify.models.players.PlayingContext;
 import spotify.models.players.requests.ChangePlaybackStateRequestBody;
 import spotify.models.players.requests.TransferPlaybackRequestBody;
+import spotify.retrofit.annotations.Idempotent;
 
 import java.util.Map;
 
@@ -36,19 +37,23 @@ public interface PlayerService {
     Call<Void> skipToPreviousTrack(@Header("Authorization") String accessToken, @QueryMap Map<String, String> options);
 
     @PUT("me/player/pause")
+    @Idempotent
     Call<Void> pausePlayback(@Header("Authorization") String accessToken, @QueryMap Map<String, String> options);
 
     @PUT("me/player/seek")
+    @Idempotent
     Call<Void> jumpToPositionInCurrentTrack(@Header("Authorization") String accessToken,
                                             @Query("position_ms") int positionMs,
                                             @QueryMap Map<String, String> options);
 
     @PUT("me/player/repeat")
+    @Idempotent
     Call<Void> setRepeatModePlayback(@Header("Authorization") String accessToken,
                                      @Query("state") RepeatType repeatType,
                                      @QueryMap Map<String, String> options);
 
     @PUT("me/player/volume")
+    @Idempotent
     Call<Void> setVolumePlayback(@Header("Authorization") String accessToken,
                                  @Query("volume_percent") int volumePercent,
                                  @QueryMap Map<String, String> options);
@@ -58,10 +63,12 @@ public interface PlayerService {
     Call<Void> changePlaybackState(@Header("Authorization") String accessToken, @Body ChangePlaybackStateRequestBody requestBody);
 
     @PUT("me/player/shuffle")
+    @Idempotent
     Call<Void> shufflePlayback(@Header("Authorization") String accessToken,
                                @Query("state") boolean shuffle,
                                @QueryMap Map<String, String> options);
 
     @PUT("me/player")
+    @Idempotent
     Call<Void> transferPlayback(@Header("Authorization") String accessToken, @Body TransferPlaybackRequestBody requestBody);
 }
@@ -10,6 +10,7 @@ import spotify.models.playlists.PlaylistSimplified;
 import spotify.models.playlists.PlaylistTrack;
 import spotify.models.playlists.Snapshot;
 import spotify.models.playlists.requests.*;
+import spotify.retrofit.annotations.Idempotent;
 
 import java.util.List;
 import java.util.Map;
@@ -38,7 +39,7 @@ public interface PlaylistService {
 
     @Headers({"Content-Type: application/json"})
     @POST("playlists/{playlist_id}/tracks")
-    Call<Void> addItemToPlaylist(@Header("Authorization") String accessToken,
+    Call<Snapshot> addItemToPlaylist(@Header("Authorization") String accessToken,
                                  @Path("playlist_id") String playlistId,
                                  @Body AddItemPlaylistRequestBody requestBody);
 
@@ -50,6 +51,7 @@ public interface PlaylistService {
 
     @Headers({"Content-Type: application/json"})
     @PUT("playlists/{playlist_id}")
+    @Idempotent
     Call<Void> updatePlaylist(@Header("Authorization") String accessToken,
                               @Path("playlist_id") String playlistId,
                               @Body CreateUpdatePlaylistRequestBody requestBody);
@@ -61,12 +63,14 @@ public interface PlaylistService {
 
     @Headers({"Content-Type: application/json"})
     @PUT("playlists/{playlist_id}/tracks")
+    @Idempotent
     Call<Void> replacePlaylistItems(@Header("Authorization") String accessToken,
                                     @Path("playlist_id") String playlistId,
                                     @Body ReplacePlaylistItemsRequestBody requestBody);
 
     @Headers({"Content-Type: image/jpeg"})
     @PUT("playlists/{playlist_id}/images")
+    @Idempotent
     Call<Void> uploadCoverImageToPlaylist(@Header("Authorization") String accessToken,
                                           @Path("playlist_id") String playlistId,
                                           @Body RequestBody base64EncodedJpegImage);
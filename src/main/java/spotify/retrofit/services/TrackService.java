@@ -1,10 +1,12 @@
 package spotify.retrofit.services;
 
+import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.http.*;
 import spotify.models.audio.AudioAnalysis;
 import spotify.models.audio.AudioFeatures;
 import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
 import spotify.models.tracks.TrackFull;
 import spotify.models.tracks.TrackFullCollection;
 
@@ -26,4 +28,11 @@ public interface TrackService {
     @GET("audio-analysis/{id}")
     Call<AudioAnalysis> getTrackAudioAnalysis(@Header("Authorization") String accessToken, @Path("id") String trackId);
 
+    @GET("audio-analysis/{id}")
+    Call<ColumnarAudioAnalysis> getTrackColumnarAudioAnalysis(@Header("Authorization") String accessToken, @Path("id") String trackId);
+
+    @Streaming
+    @GET("audio-analysis/{id}")
+    Call<ResponseBody> streamTrackAudioAnalysis(@Header("Authorization") String accessToken, @Path("id") String trackId);
+
 }
@@ -0,0 +1,92 @@
+package spotify.utils;
+
+import org.slf4j.Logger;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import spotify.api.enums.HttpStatusCode;
+import spotify.exceptions.HttpRequestFailedException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class AsyncHttpUtil {
+
+    /**
+     * Enqueues the HTTP call and returns a future that completes with the response body.
+     * <p>
+     * The future completes exceptionally with the same exceptions the synchronous APIs throw:
+     * a {@link spotify.exceptions.SpotifyActionFailedException} when Spotify returns an error and
+     * a {@link HttpRequestFailedException} when the HTTP request itself fails.
+     * Cancelling the future cancels the HTTP call.
+     * <p>
+     * The future is completed on one of the threads of the shared OkHttp dispatcher, so dependent stages that block or
+     * do heavy work should be run on an executor of their own.
+     *
+     * @param httpCall           the call to be enqueued
+     * @param expectedStatusCode the status code of a successful response
+     * @param logger             the logger of the calling API
+     * @param <T>                the type of the response body
+     * @return a future completing with the response body
+     */
+    public static <T> CompletableFuture<T> enqueue(final Call<T> httpCall, final HttpStatusCode expectedStatusCode, final Logger logger) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        LoggingUtil.logHttpCall(logger, httpCall);
+        httpCall.enqueue(new Callback<T>() {
+            @Override
+            public void onResponse(Call<T> call, Response<T> response) {
+                try {
+                    ResponseChecker.throwIfRequestHasNotBeenFulfilledCorrectly(response, expectedStatusCode);
+
+                    logger.debug("Asynchronous HTTP call has been successfully completed.");
+                    future.complete(response.body());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Call<T> call, Throwable throwable) {
+                logger.error("Asynchronous HTTP call has failed.");
+                if (throwable instanceof IOException) {
+                    future.completeExceptionally(new HttpRequestFailedException(throwable.getMessage()));
+                } else {
+                    future.completeExceptionally(throwable);
+                }
+            }
+        });
+
+        future.whenComplete((body, throwable) -> {
+            if (future.isCancelled()) {
+                logger.debug("Future has been cancelled, cancelling asynchronous HTTP call.");
+                httpCall.cancel();
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Waits for the future and returns its result, rethrowing the exception it has failed with as is.
+     * <p>
+     * Unlike {@link CompletableFuture#join()} a failed request throws the same exceptions as the synchronous APIs
+     * instead of a {@link CompletionException} wrapping them.
+     *
+     * @param future the future to wait for
+     * @param <T>    the type of the result
+     * @return the result of the future
+     */
+    public static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+}
@@ -8,6 +8,10 @@ import spotify.exceptions.SpotifyAuthorizationFailedException;
 import spotify.models.authorization.AuthorizationCodeFlowTokenResponse;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 public class HttpUtil {
 
@@ -29,4 +33,31 @@ public class HttpUtil {
             throw new HttpRequestFailedException(e.getMessage());
         }
     }
+
+    /**
+     * Parses the value of a Retry-After header, which is either an amount of seconds or an HTTP date.
+     *
+     * @param retryAfter the value of the header, may be {@code null}
+     * @param fallback   the duration to be returned when the value is missing or cannot be parsed
+     * @return how long to wait before retrying, never negative
+     */
+    public static Duration parseRetryAfter(final String retryAfter, final Duration fallback) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return fallback;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                final Duration untilDate = Duration.between(
+                        ZonedDateTime.now(),
+                        ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException dateTimeParseException) {
+                return fallback;
+            }
+        }
+    }
 }
@@ -1,21 +1,40 @@
 package spotify.utils;
 
 
-import com.google.gson.Gson;
 import okhttp3.ResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import retrofit2.Response;
 import spotify.api.enums.HttpStatusCode;
 import spotify.exceptions.SpotifyActionFailedException;
+import spotify.exceptions.TooManyRequestsException;
+import spotify.factories.ConverterRegistry;
 import spotify.models.errors.SpotifyError;
 
+import java.time.Duration;
+
 public class ResponseChecker {
     private final static Logger logger = LoggerFactory.getLogger(ResponseChecker.class);
+    private final static int TOO_MANY_REQUESTS = 429;
+    private final static Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
 
     public static <T> void throwIfRequestHasNotBeenFulfilledCorrectly(final Response<T> response, final HttpStatusCode expectedStatusCode) {
+        checkTooManyRequests(response);
         checkHttpStatusCode(response, expectedStatusCode.toInt());
-        checkErrorBody(response.errorBody());
+        checkErrorBody(response.errorBody(), response.code());
+    }
+
+    private static <T> void checkTooManyRequests(Response<T> response) {
+        if (response.code() != TOO_MANY_REQUESTS) {
+            return;
+        }
+
+        final Duration retryAfter = HttpUtil.parseRetryAfter(response.headers().get("Retry-After"), DEFAULT_RETRY_AFTER);
+        final String errorMessage = String.format(
+                "Spotify has rate limited the request. Requests may be sent again after %d seconds.",
+                retryAfter.getSeconds());
+        logger.error(errorMessage);
+        throw new TooManyRequestsException(errorMessage, retryAfter);
     }
 
     private static <T> void checkHttpStatusCode(Response<T> response, int expectedStatusCode) {
@@ -30,21 +49,19 @@ public class ResponseChecker {
         }
     }
 
-    private static void checkErrorBody(final ResponseBody errorBody) {
+    private static void checkErrorBody(final ResponseBody errorBody, final int httpStatusCode) {
         if (errorBody == null) {
             return;
         }
 
-        Gson gson = new Gson();
-
         logger.trace("Spotify API has returned an error body.");
-        SpotifyError spotifyError = gson.fromJson(errorBody.charStream(), SpotifyError.class);
+        SpotifyError spotifyError = ConverterRegistry.getErrorGson().fromJson(errorBody.charStream(), SpotifyError.class);
 
         if (spotifyError == null) {
             final String errorMessage = "HTTP request to Spotify's server has not been fulfilled correctly. Reason is unknown.";
             logger.error(errorMessage);
             logger.warn("Converting error body to SpotifyError object has failed for some reason.");
-            throw new SpotifyActionFailedException(errorMessage);
+            throw new SpotifyActionFailedException(errorMessage, httpStatusCode);
         }
 
         final String message = spotifyError.getError().getMessage();
@@ -57,7 +74,7 @@ public class ResponseChecker {
                     statusCode,
                     message
             );
-            throw new SpotifyActionFailedException(message);
+            throw new SpotifyActionFailedException(message, statusCode);
         }
     }
 }
@@ -0,0 +1,601 @@
+package spotify.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Annotation processor that generates a Gson {@code TypeAdapter} for every concrete class under {@code spotify.models},
+ * together with the {@code ModelTypeAdapterFactory} that registers them.
+ * <p>
+ * The generated adapters read and write the fields through the getters and setters of the models, under the names
+ * that {@code FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES} or {@code @SerializedName} would give them, so Gson does
+ * not need reflection to (de)serialize the models. Reading falls back to Gson's reflective adapter for models without
+ * a public no-argument constructor or without a setter for every field, writing does so for models without a getter
+ * for every field. Models that are collections or that declare their own {@code @JsonAdapter} are left to Gson.
+ * <p>
+ * The processor only runs for compilations that contain the {@code spotify.models.GenerateTypeAdapters} annotation on
+ * the models package. It is compiled from its own source root and is not part of the library jar.
+ *
+ * @author Jiankai Zheng
+ * @since 1.6.0
+ */
+@SupportedAnnotationTypes(TypeAdapterProcessor.GENERATE_TYPE_ADAPTERS)
+public class TypeAdapterProcessor extends AbstractProcessor {
+    static final String GENERATE_TYPE_ADAPTERS = "spotify.models.GenerateTypeAdapters";
+    private static final String MODELS_PACKAGE = "spotify.models";
+    private static final String ADAPTERS_PACKAGE = "spotify.factories";
+    private static final String FACTORY_NAME = "ModelTypeAdapterFactory";
+    private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+    private static final String JSON_ADAPTER = "com.google.gson.annotations.JsonAdapter";
+
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        if (generated) {
+            return false;
+        }
+
+        final List<TypeElement> models = new ArrayList<>();
+
+        for (TypeElement typeElement : ElementFilter.typesIn(roundEnvironment.getRootElements())) {
+            if (isModel(typeElement)) {
+                models.add(typeElement);
+            }
+        }
+
+        if (models.isEmpty()) {
+            return false;
+        }
+
+        models.sort(Comparator.comparing(model -> model.getQualifiedName().toString()));
+        final Map<TypeElement, String> adapterNames = createAdapterNames(models);
+
+        try {
+            for (TypeElement model : models) {
+                writeAdapter(model, adapterNames.get(model));
+            }
+
+            writeFactory(models, adapterNames);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write type adapters: " + e.getMessage());
+        }
+
+        generated = true;
+        return false;
+    }
+
+    private boolean isModel(final TypeElement typeElement) {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+
+        return (packageName.equals(MODELS_PACKAGE) || packageName.startsWith(MODELS_PACKAGE + "."))
+                && typeElement.getKind() == ElementKind.CLASS
+                && typeElement.getModifiers().contains(Modifier.PUBLIC)
+                && !typeElement.getModifiers().contains(Modifier.ABSTRACT)
+                && !isCollection(typeElement.asType())
+                && !hasAnnotation(typeElement, JSON_ADAPTER);
+    }
+
+    /**
+     * Models that are collections, like {@code MarketSet}, are values with an adapter of their own rather than beans.
+     */
+    private boolean isCollection(final TypeMirror type) {
+        final TypeMirror collectionType = processingEnv.getElementUtils().getTypeElement(Collection.class.getName()).asType();
+
+        return processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type),
+                processingEnv.getTypeUtils().erasure(collectionType));
+    }
+
+    private Map<TypeElement, String> createAdapterNames(final List<TypeElement> models) {
+        final Map<TypeElement, String> adapterNames = new HashMap<>();
+        final Set<String> usedNames = new HashSet<>();
+
+        for (TypeElement model : models) {
+            String adapterName = model.getSimpleName() + "TypeAdapter";
+
+            if (!usedNames.add(adapterName)) {
+                final String packageName = processingEnv.getElementUtils().getPackageOf(model).getSimpleName().toString();
+                adapterName = Character.toUpperCase(packageName.charAt(0)) + packageName.substring(1) + adapterName;
+                usedNames.add(adapterName);
+            }
+
+            adapterNames.put(model, adapterName);
+        }
+
+        return adapterNames;
+    }
+
+    private void writeAdapter(final TypeElement model, final String adapterName) throws IOException {
+        final List<ModelField> fields = getFields(model);
+        final String modelType = model.getQualifiedName() + typeParametersAsObject(model);
+        final boolean generateRead = hasPublicNoArgumentConstructor(model) && fields.stream().allMatch(field -> field.setter != null);
+        final boolean generateWrite = fields.stream().allMatch(field -> field.getter != null);
+        final boolean needsDelegate = !generateRead || !generateWrite;
+        final SourceWriter source = new SourceWriter();
+
+        source.line("package " + ADAPTERS_PACKAGE + ";")
+                .line()
+                .line("import com.google.gson.Gson;")
+                .line("import com.google.gson.JsonSyntaxException;")
+                .line("import com.google.gson.TypeAdapter;")
+                .line("import com.google.gson.TypeAdapterFactory;")
+                .line("import com.google.gson.reflect.TypeToken;")
+                .line("import com.google.gson.stream.JsonReader;")
+                .line("import com.google.gson.stream.JsonToken;")
+                .line("import com.google.gson.stream.JsonWriter;")
+                .line()
+                .line("import java.io.IOException;")
+                .line("import java.lang.reflect.Type;")
+                .line()
+                .line("@javax.annotation.processing.Generated(\"" + TypeAdapterProcessor.class.getName() + "\")")
+                .line("final class " + adapterName + " extends TypeAdapter<" + modelType + "> {")
+                .indent();
+
+        if (needsDelegate) {
+            source.line("private final TypeAdapter<" + modelType + "> reflectiveTypeAdapter;");
+        }
+
+        for (ModelField field : fields) {
+            if (!field.isInlined()) {
+                source.line("private final TypeAdapter<" + field.javaType + "> " + field.adapterName + ";");
+            }
+        }
+
+        source.line()
+                .line("@SuppressWarnings(\"unchecked\")")
+                .line(adapterName + "(final Gson gson, final TypeAdapterFactory skipPast, final Type[] typeArguments) {")
+                .indent();
+
+        if (needsDelegate) {
+            source.line("this.reflectiveTypeAdapter = (TypeAdapter<" + modelType + ">) gson.getDelegateAdapter(skipPast, "
+                    + "(TypeToken<" + modelType + ">) TypeToken.get(" + typeExpression(model.asType(), model) + "));");
+        }
+
+        for (ModelField field : fields) {
+            if (!field.isInlined()) {
+                source.line("this." + field.adapterName + " = (TypeAdapter<" + field.javaType + ">) gson.getAdapter(TypeToken.get("
+                        + typeExpression(field.type, model) + "));");
+            }
+        }
+
+        source.outdent().line("}").line();
+        writeWriteMethod(source, modelType, fields, generateWrite);
+        source.line();
+        writeReadMethod(source, model, modelType, fields, generateRead);
+        source.outdent().line("}");
+
+        final JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(ADAPTERS_PACKAGE + "." + adapterName, model);
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    private void writeWriteMethod(final SourceWriter source, final String modelType, final List<ModelField> fields, final boolean generateWrite) {
+        source.line("@Override")
+                .line("public void write(JsonWriter out, " + modelType + " value) throws IOException {")
+                .indent();
+
+        if (!generateWrite) {
+            source.line("reflectiveTypeAdapter.write(out, value);").outdent().line("}");
+            return;
+        }
+
+        source.line("if (value == null) {")
+                .indent().line("out.nullValue();").line("return;").outdent()
+                .line("}")
+                .line()
+                .line("out.beginObject();");
+
+        for (ModelField field : fields) {
+            final String getterCall = "value." + field.getter + "()";
+
+            if (field.type.getKind() == TypeKind.FLOAT) {
+                source.line("out.name(\"" + field.jsonName + "\").value(Float.valueOf(" + getterCall + "));");
+            } else if (field.type.getKind().isPrimitive()) {
+                source.line("out.name(\"" + field.jsonName + "\").value(" + getterCall + ");");
+            } else {
+                source.line("out.name(\"" + field.jsonName + "\");")
+                        .line(field.adapterName + ".write(out, " + getterCall + ");");
+            }
+        }
+
+        source.line("out.endObject();").outdent().line("}");
+    }
+
+    private void writeReadMethod(final SourceWriter source,
+                                 final TypeElement model,
+                                 final String modelType,
+                                 final List<ModelField> fields,
+                                 final boolean generateRead) {
+        source.line("@Override")
+                .line("public " + modelType + " read(JsonReader in) throws IOException {")
+                .indent();
+
+        if (!generateRead) {
+            source.line("return reflectiveTypeAdapter.read(in);").outdent().line("}");
+            return;
+        }
+
+        source.line("if (in.peek() == JsonToken.NULL) {")
+                .indent().line("in.nextNull();").line("return null;").outdent()
+                .line("}")
+                .line()
+                .line("final " + modelType + " value = new " + model.getQualifiedName() + (model.getTypeParameters().isEmpty() ? "" : "<>") + "();")
+                .line()
+                .line("try {")
+                .indent()
+                .line("in.beginObject();")
+                .line("while (in.hasNext()) {")
+                .indent()
+                .line("switch (in.nextName()) {")
+                .indent();
+
+        for (ModelField field : fields) {
+            source.line("case \"" + field.jsonName + "\":").indent();
+
+            if (field.isInlined()) {
+                source.line("if (in.peek() == JsonToken.NULL) {")
+                        .indent().line("in.nextNull();").outdent()
+                        .line("} else {")
+                        .indent().line("value." + field.setter + "(" + primitiveReadExpression(field.type) + ");").outdent()
+                        .line("}");
+            } else {
+                source.line("value." + field.setter + "(" + field.adapterName + ".read(in));");
+            }
+
+            source.line("break;").outdent();
+        }
+
+        source.line("default:")
+                .indent().line("in.skipValue();").outdent()
+                .outdent().line("}")
+                .outdent().line("}")
+                .line("in.endObject();")
+                .outdent()
+                .line("} catch (IllegalStateException | NumberFormatException e) {")
+                .indent().line("throw new JsonSyntaxException(e);").outdent()
+                .line("}")
+                .line()
+                .line("return value;")
+                .outdent().line("}");
+    }
+
+    private void writeFactory(final List<TypeElement> models, final Map<TypeElement, String> adapterNames) throws IOException {
+        final SourceWriter source = new SourceWriter();
+
+        source.line("package " + ADAPTERS_PACKAGE + ";")
+                .line()
+                .line("import com.google.gson.Gson;")
+                .line("import com.google.gson.TypeAdapter;")
+                .line("import com.google.gson.TypeAdapterFactory;")
+                .line("import com.google.gson.reflect.TypeToken;")
+                .line()
+                .line("import java.lang.reflect.ParameterizedType;")
+                .line("import java.lang.reflect.Type;")
+                .line()
+                .line("/**")
+                .line(" * Type adapter factory for the models under {@code spotify.models}, with adapters generated at compile time by")
+                .line(" * {@code " + TypeAdapterProcessor.class.getName() + "}. The adapters expect the")
+                .line(" * {@code FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES} naming of the Spotify Web API.")
+                .line(" */")
+                .line("@javax.annotation.processing.Generated(\"" + TypeAdapterProcessor.class.getName() + "\")")
+                .line("public final class " + FACTORY_NAME + " implements TypeAdapterFactory {")
+                .indent()
+                .line("private static final Type[] NO_TYPE_ARGUMENTS = new Type[0];")
+                .line()
+                .line("@Override")
+                .line("@SuppressWarnings(\"unchecked\")")
+                .line("public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {")
+                .indent()
+                .line("final Class<? super T> rawType = typeToken.getRawType();")
+                .line("final Type[] typeArguments = typeToken.getType() instanceof ParameterizedType")
+                .line("        ? ((ParameterizedType) typeToken.getType()).getActualTypeArguments()")
+                .line("        : NO_TYPE_ARGUMENTS;")
+                .line();
+
+        for (TypeElement model : models) {
+            source.line("if (rawType == " + model.getQualifiedName() + ".class) {")
+                    .indent().line("return (TypeAdapter<T>) new " + adapterNames.get(model) + "(gson, this, typeArguments);").outdent()
+                    .line("}");
+        }
+
+        source.line()
+                .line("return null;")
+                .outdent().line("}")
+                .outdent().line("}");
+
+        final TypeElement[] originatingElements = models.toArray(new TypeElement[0]);
+        final JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(ADAPTERS_PACKAGE + "." + FACTORY_NAME, originatingElements);
+        try (Writer writer = sourceFile.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * Collects the serializable fields of the model and of its superclasses, in the order Gson writes them.
+     */
+    private List<ModelField> getFields(final TypeElement model) {
+        final List<ModelField> fields = new ArrayList<>();
+        final List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(model));
+        TypeElement currentType = model;
+
+        while (currentType != null && !currentType.getQualifiedName().contentEquals(Object.class.getName())) {
+            for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+                final Set<Modifier> modifiers = field.getModifiers();
+
+                if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)) {
+                    fields.add(createField(field, methods, model));
+                }
+            }
+
+            final TypeMirror superclass = currentType.getSuperclass();
+            currentType = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+
+        return fields;
+    }
+
+    private ModelField createField(final VariableElement field, final List<ExecutableElement> methods, final TypeElement model) {
+        final String name = field.getSimpleName().toString();
+        final String capitalizedName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        final TypeMirror type = field.asType();
+        final boolean isBoolean = type.getKind() == TypeKind.BOOLEAN;
+        final boolean hasIsPrefix = isBoolean && name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+        final List<String> setterNames = new ArrayList<>();
+        final List<String> getterNames = new ArrayList<>();
+
+        setterNames.add("set" + capitalizedName);
+        getterNames.add("get" + capitalizedName);
+
+        if (isBoolean) {
+            getterNames.add("is" + capitalizedName);
+        }
+
+        if (hasIsPrefix) {
+            setterNames.add("set" + name.substring(2));
+            getterNames.add(name);
+        }
+
+        final ModelField modelField = new ModelField();
+        modelField.type = type;
+        modelField.javaType = javaType(type);
+        modelField.jsonName = getJsonName(field);
+        modelField.adapterName = name + "TypeAdapter";
+        modelField.setter = findAccessor(methods, setterNames, type, true);
+        modelField.getter = findAccessor(methods, getterNames, type, false);
+
+        if (modelField.setter == null || modelField.getter == null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Field " + name + " of " + model.getSimpleName() + " has no public setter or getter, "
+                            + "falling back to the reflective type adapter.", field);
+        }
+
+        return modelField;
+    }
+
+    private String findAccessor(final List<ExecutableElement> methods, final List<String> names, final TypeMirror type, final boolean setter) {
+        for (String name : names) {
+            for (ExecutableElement method : methods) {
+                if (!method.getSimpleName().contentEquals(name)
+                        || !method.getModifiers().contains(Modifier.PUBLIC)
+                        || method.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+
+                final boolean matches = setter
+                        ? method.getParameters().size() == 1 && isAssignableErasure(type, method.getParameters().get(0).asType())
+                        : method.getParameters().isEmpty() && isSameErasure(method.getReturnType(), type);
+
+                if (matches) {
+                    return name;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isSameErasure(final TypeMirror first, final TypeMirror second) {
+        return processingEnv.getTypeUtils().isSameType(
+                processingEnv.getTypeUtils().erasure(first),
+                processingEnv.getTypeUtils().erasure(second));
+    }
+
+    /**
+     * Setters may accept a supertype of their field, like {@code List<String>} for a {@code MarketSet} field.
+     */
+    private boolean isAssignableErasure(final TypeMirror type, final TypeMirror parameterType) {
+        return processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type),
+                processingEnv.getTypeUtils().erasure(parameterType));
+    }
+
+    private boolean hasPublicNoArgumentConstructor(final TypeElement model) {
+        return ElementFilter.constructorsIn(model.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC));
+    }
+
+    private boolean hasAnnotation(final Element element, final String annotationName) {
+        return element.getAnnotationMirrors().stream().anyMatch(annotation ->
+                ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName));
+    }
+
+    private String getJsonName(final VariableElement field) {
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(SERIALIZED_NAME)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return (String) entry.getValue().getValue();
+                    }
+                }
+            }
+        }
+
+        return toLowerCaseWithUnderscores(field.getSimpleName().toString());
+    }
+
+    /**
+     * Translates a field name like {@code FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES} does.
+     */
+    static String toLowerCaseWithUnderscores(final String fieldName) {
+        final StringBuilder translation = new StringBuilder();
+
+        for (int i = 0; i < fieldName.length(); i++) {
+            final char character = fieldName.charAt(i);
+
+            if (Character.isUpperCase(character) && translation.length() != 0) {
+                translation.append('_');
+            }
+
+            translation.append(character);
+        }
+
+        return translation.toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    private String primitiveReadExpression(final TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "in.peek() == JsonToken.STRING ? Boolean.parseBoolean(in.nextString()) : in.nextBoolean()";
+            case INT:
+                return "in.nextInt()";
+            case LONG:
+                return "in.nextLong()";
+            case FLOAT:
+                return "(float) in.nextDouble()";
+            case DOUBLE:
+                return "in.nextDouble()";
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type " + type);
+        }
+    }
+
+    /**
+     * @return the Java source of the type, with type variables replaced by {@code Object}
+     */
+    private String javaType(final TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED:
+                final DeclaredType declaredType = (DeclaredType) type;
+                final String rawType = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+
+                if (declaredType.getTypeArguments().isEmpty()) {
+                    return rawType;
+                }
+
+                final StringJoiner typeArguments = new StringJoiner(", ", "<", ">");
+                declaredType.getTypeArguments().forEach(typeArgument -> typeArguments.add(javaType(typeArgument)));
+                return rawType + typeArguments;
+            case ARRAY:
+                return javaType(((ArrayType) type).getComponentType()) + "[]";
+            case TYPEVAR:
+                return Object.class.getName();
+            default:
+                if (type.getKind().isPrimitive()) {
+                    return type.toString();
+                }
+
+                throw new IllegalArgumentException("Unsupported field type " + type);
+        }
+    }
+
+    /**
+     * @return a Java expression that creates the {@code java.lang.reflect.Type} of the type, resolving the type
+     * variables of the model from the {@code typeArguments} constructor parameter
+     */
+    private String typeExpression(final TypeMirror type, final TypeElement model) {
+        switch (type.getKind()) {
+            case DECLARED:
+                final DeclaredType declaredType = (DeclaredType) type;
+                final String rawType = ((TypeElement) declaredType.asElement()).getQualifiedName() + ".class";
+
+                if (declaredType.getTypeArguments().isEmpty()) {
+                    return rawType;
+                }
+
+                final StringJoiner typeArguments = new StringJoiner(", ", "TypeToken.getParameterized(" + rawType + ", ", ").getType()");
+                declaredType.getTypeArguments().forEach(typeArgument -> typeArguments.add(typeExpression(typeArgument, model)));
+                return typeArguments.toString();
+            case ARRAY:
+                return javaType(type) + ".class";
+            case TYPEVAR:
+                final int index = model.getTypeParameters().indexOf(((TypeVariable) type).asElement());
+                return "(typeArguments.length > " + index + " ? typeArguments[" + index + "] : Object.class)";
+            default:
+                throw new IllegalArgumentException("Unsupported field type " + type);
+        }
+    }
+
+    private String typeParametersAsObject(final TypeElement model) {
+        if (model.getTypeParameters().isEmpty()) {
+            return "";
+        }
+
+        final StringJoiner typeParameters = new StringJoiner(", ", "<", ">");
+        model.getTypeParameters().forEach(typeParameter -> typeParameters.add(Object.class.getName()));
+        return typeParameters.toString();
+    }
+
+    private static class ModelField {
+        private TypeMirror type;
+        private String javaType;
+        private String jsonName;
+        private String adapterName;
+        private String setter;
+        private String getter;
+
+        private boolean isInlined() {
+            return type.getKind().isPrimitive();
+        }
+    }
+
+    private static class SourceWriter {
+        private final StringBuilder source = new StringBuilder();
+        private int indentation;
+
+        private SourceWriter line() {
+            source.append('\n');
+            return this;
+        }
+
+        private SourceWriter line(final String line) {
+            for (int i = 0; i < indentation; i++) {
+                source.append("    ");
+            }
+
+            source.append(line).append('\n');
+            return this;
+        }
+
+        private SourceWriter indent() {
+            indentation++;
+            return this;
+        }
+
+        private SourceWriter outdent() {
+            indentation--;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return source.toString();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package spotify.api.authorization;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+public class ScopedAccessTokenProviderTest {
+    private ScopedAccessTokenProvider sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new ScopedAccessTokenProvider();
+    }
+
+    @Test
+    void getAccessTokenReturnsBoundAccessToken() {
+        Assertions.assertEquals("token", sut.callWithAccessToken("token", sut::getAccessToken));
+    }
+
+    @Test
+    void getAuthorizationHeaderPrefixesBoundAccessTokenWithBearer() {
+        Assertions.assertEquals("Bearer token", sut.callWithAccessToken("token", sut::getAuthorizationHeader));
+    }
+
+    @Test
+    void getAccessTokenThrowsIllegalStateExceptionWhenNoAccessTokenIsBound() {
+        Assertions.assertThrows(IllegalStateException.class, () -> sut.getAccessToken());
+    }
+
+    @Test
+    void accessTokenIsUnboundAfterCall() {
+        sut.callWithAccessToken("token", sut::getAccessToken);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> sut.getAccessToken());
+    }
+
+    @Test
+    void nestedCallRestoresPreviousAccessToken() {
+        final String accessTokenAfterNestedCall = sut.callWithAccessToken("outer", () -> {
+            sut.callWithAccessToken("inner", sut::getAccessToken);
+            return sut.getAccessToken();
+        });
+
+        Assertions.assertEquals("outer", accessTokenAfterNestedCall);
+    }
+
+    @Test
+    void callWithAccessTokenThrowsIllegalArgumentExceptionWhenAccessTokenIsEmpty() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sut.callWithAccessToken("", sut::getAccessToken));
+    }
+
+    @Test
+    void propagateBindsAccessTokenOfCallingThreadWhileTaskRunsOnOtherThread() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            final CompletableFuture<String> accessToken = sut.callWithAccessToken("token",
+                    () -> CompletableFuture.supplyAsync(ScopedAccessTokenProvider.propagate(sut::getAccessToken), executor));
+
+            Assertions.assertEquals("token", accessToken.get());
+            final CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                    () -> CompletableFuture.supplyAsync(() -> sut.getAccessToken(), executor).join());
+            Assertions.assertTrue(exception.getCause() instanceof IllegalStateException);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void propagateBindsAccessTokenOfCreatingThreadWhenFunctionIsAppliedAfterwards() {
+        final Function<String, String> function = sut.callWithAccessToken("token",
+                () -> ScopedAccessTokenProvider.propagate(prefix -> prefix + sut.getAccessToken()));
+
+        Assertions.assertEquals("Bearer token", function.apply("Bearer "));
+        Assertions.assertEquals("Bearer token", sut.callWithAccessToken("other", () -> function.apply("Bearer ")));
+        Assertions.assertThrows(IllegalStateException.class, () -> sut.getAccessToken());
+    }
+
+    @Test
+    void accessTokensOfProvidersAreBoundIndependently() {
+        final ScopedAccessTokenProvider otherProvider = new ScopedAccessTokenProvider();
+
+        final String accessToken = sut.callWithAccessToken("token",
+                () -> otherProvider.callWithAccessToken("other", sut::getAccessToken));
+
+        Assertions.assertEquals("token", accessToken);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> sut.callWithAccessToken("token", otherProvider::getAccessToken));
+    }
+}
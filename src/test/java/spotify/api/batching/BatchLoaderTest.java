@@ -0,0 +1,182 @@
+package spotify.api.batching;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import spotify.exceptions.HttpRequestFailedException;
+import spotify.exceptions.SpotifyActionFailedException;
+import spotify.exceptions.TooManyRequestsException;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class BatchLoaderTest {
+    private final String fakeAccessToken = "69";
+    private final Duration longWindow = Duration.ofHours(1);
+    private final List<List<String>> requestedBatches = new CopyOnWriteArrayList<>();
+    private final List<String> requestedSingleIds = new CopyOnWriteArrayList<>();
+
+    @Test
+    void loadSendsBatchWhenMaximumSizeIsReached() throws Exception {
+        final BatchLoader<String> sut = new BatchLoader<>(2, longWindow, this::echoBatch, this::echoSingle);
+
+        final CompletableFuture<String> first = sut.load(fakeAccessToken, "1", Collections.emptyMap());
+        final CompletableFuture<String> second = sut.load(fakeAccessToken, "2", Collections.emptyMap());
+
+        Assertions.assertEquals("entity-1", first.get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals("entity-2", second.get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(List.of("1", "2")), requestedBatches);
+    }
+
+    @Test
+    void loadSendsBatchWhenWindowHasPassed() throws Exception {
+        final BatchLoader<String> sut = new BatchLoader<>(50, Duration.ofMillis(10), this::echoBatch, this::echoSingle);
+
+        final CompletableFuture<String> first = sut.load(fakeAccessToken, "1", Collections.emptyMap());
+        final CompletableFuture<String> second = sut.load(fakeAccessToken, "2", Collections.emptyMap());
+
+        Assertions.assertEquals("entity-1", first.get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals("entity-2", second.get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(List.of("1", "2")), requestedBatches);
+    }
+
+    @Test
+    void loadRequestsDuplicateIdsOnce() throws Exception {
+        final BatchLoader<String> sut = new BatchLoader<>(2, longWindow, this::echoBatch, this::echoSingle);
+
+        final CompletableFuture<String> first = sut.load(fakeAccessToken, "1", Collections.emptyMap());
+        final CompletableFuture<String> duplicate = sut.load(fakeAccessToken, "1", Collections.emptyMap());
+        sut.load(fakeAccessToken, "2", Collections.emptyMap());
+
+        Assertions.assertEquals("entity-1", first.get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals("entity-1", duplicate.get(1, TimeUnit.SECONDS));
+        Assertions.assertEquals(List.of(List.of("1", "2")), requestedBatches);
+    }
+
+    @Test
+    void loadBatchesDifferentOptionsSeparately() throws Exception {
+        final BatchLoader<String> sut = new BatchLoader<>(2, longWindow, this::echoBatch, this::echoSingle);
+
+        sut.load(fakeAccessToken, "1", Map.of("market", "NL"));
+        sut.load(fakeAccessToken, "2", Map.of("market", "US"));
+
+        Assertions.assertTrue(requestedBatches.isEmpty());
+
+        sut.load(fakeAccessToken, "3", Map.of("market", "NL")).get(1, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(List.of(List.of("1", "3")), requestedBatches);
+    }
+
+    @Test
+    void loadBatchesDifferentAccessTokensSeparately() {
+        final BatchLoader<String> sut = new BatchLoader<>(2, longWindow, this::echoBatch, this::echoSingle);
+
+        sut.load(fakeAccessToken, "1", Collections.emptyMap());
+        sut.load("420", "2", Collections.emptyMap());
+
+        Assertions.assertTrue(requestedBatches.isEmpty());
+    }
+
+    @Test
+    void loadLooksUpIdsOneByOneWhenBatchIsRejected() throws Exception {
+        final BatchLoader<String> sut = new BatchLoader<>(2, longWindow, (accessToken, ids, options) -> {
+            requestedBatches.add(ids);
+            return failedFuture(new SpotifyActionFailedException("invalid id", 400));
+        }, (accessToken, id, options) -> {
+            requestedSingleIds.add(id);
+            return "bad".equals(id) ? failedFuture(new SpotifyActionFailedException("invalid id", 400)) : echoSingle(accessToken, id, options);
+        });
+
+        final CompletableFuture<String> good = sut.load(fakeAccessToken, "1", Collections.emptyMap());
+        final CompletableFuture<String> bad = sut.load(fakeAccessToken, "bad", Collections.emptyMap());
+
+        Assertions.assertEquals("entity-1", good.get(1, TimeUnit.SECONDS));
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> bad.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof SpotifyActionFailedException);
+        Assertions.assertEquals(List.of("1", "bad"), requestedSingleIds);
+    }
+
+    @Test
+    void loadFailsEveryLookupOfBatchWhenHttpRequestFails() {
+        final BatchLoader<String> sut = new BatchLoader<>(2, longWindow,
+                (accessToken, ids, options) -> failedFuture(new HttpRequestFailedException("timeout")),
+                this::echoSingle);
+
+        final CompletableFuture<String> first = sut.load(fakeAccessToken, "1", Collections.emptyMap());
+        final CompletableFuture<String> second = sut.load(fakeAccessToken, "2", Collections.emptyMap());
+
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof HttpRequestFailedException);
+        Assertions.assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(requestedSingleIds.isEmpty());
+    }
+
+    @Test
+    void loadDoesNotLookUpIdsOneByOneWhenBatchIsRateLimited() {
+        final BatchLoader<String> sut = new BatchLoader<>(2, longWindow, (accessToken, ids, options) -> {
+            requestedBatches.add(ids);
+            return failedFuture(new TooManyRequestsException("rate limited", Duration.ofSeconds(1)));
+        }, (accessToken, id, options) -> {
+            requestedSingleIds.add(id);
+            return echoSingle(accessToken, id, options);
+        });
+
+        final CompletableFuture<String> first = sut.load(fakeAccessToken, "1", Collections.emptyMap());
+        final CompletableFuture<String> second = sut.load(fakeAccessToken, "2", Collections.emptyMap());
+
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof TooManyRequestsException);
+        Assertions.assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(requestedSingleIds.isEmpty());
+    }
+
+    @Test
+    void loadDoesNotLookUpIdsOneByOneWhenAccessTokenIsRejected() {
+        final BatchLoader<String> sut = new BatchLoader<>(2, longWindow,
+                (accessToken, ids, options) -> failedFuture(new SpotifyActionFailedException("The access token expired", 401)),
+                (accessToken, id, options) -> {
+                    requestedSingleIds.add(id);
+                    return echoSingle(accessToken, id, options);
+                });
+
+        final CompletableFuture<String> first = sut.load(fakeAccessToken, "1", Collections.emptyMap());
+        sut.load(fakeAccessToken, "2", Collections.emptyMap());
+
+        Assertions.assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(requestedSingleIds.isEmpty());
+    }
+
+    @Test
+    void loadFailsLookupOfUnknownIdAsNotFound() throws Exception {
+        final BatchLoader<String> sut = new BatchLoader<>(2, longWindow,
+                (accessToken, ids, options) -> CompletableFuture.completedFuture(Arrays.asList("entity-1", null)),
+                this::echoSingle);
+
+        final CompletableFuture<String> known = sut.load(fakeAccessToken, "1", Collections.emptyMap());
+        final CompletableFuture<String> unknown = sut.load(fakeAccessToken, "unknown", Collections.emptyMap());
+
+        Assertions.assertEquals("entity-1", known.get(1, TimeUnit.SECONDS));
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> unknown.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof SpotifyActionFailedException);
+        Assertions.assertEquals(404, ((SpotifyActionFailedException) exception.getCause()).getStatusCode());
+    }
+
+    private CompletableFuture<List<String>> echoBatch(String accessToken, List<String> ids, Map<String, String> options) {
+        requestedBatches.add(ids);
+        return CompletableFuture.completedFuture(ids.stream().map(id -> "entity-" + id).collect(Collectors.toList()));
+    }
+
+    private CompletableFuture<String> echoSingle(String accessToken, String id, Map<String, String> options) {
+        return CompletableFuture.completedFuture("entity-" + id);
+    }
+
+    private <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+}
@@ -0,0 +1,66 @@
+package spotify.api.batching;
+
+import okhttp3.Request;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import spotify.config.BatchingConfig;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.retrofit.services.TrackService;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class BatchingAsyncTrackApiTest {
+    private final String fakeAccessTokenWithBearer = "Bearer 69";
+    private BatchingAsyncTrackApi sut;
+    @Mock
+    private TrackService mockedTrackService;
+    @Mock
+    private Call<TrackFullCollection> mockedTrackFullCollectionCall;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        sut = new BatchingAsyncTrackApi(() -> "69", mockedTrackService, new BatchingConfig.Builder()
+                .setWindow(Duration.ofMillis(10))
+                .build());
+
+        when(mockedTrackService.getTracks(fakeAccessTokenWithBearer, "1,2", new HashMap<>())).thenReturn(mockedTrackFullCollectionCall);
+        when(mockedTrackFullCollectionCall.request()).thenReturn(new Request.Builder().url("https://jiankai.nl").build());
+    }
+
+    @Test
+    void getTrackLooksUpConcurrentTracksWithOneHttpCall() throws Exception {
+        final TrackFull firstTrack = new TrackFull();
+        final TrackFull secondTrack = new TrackFull();
+        final TrackFullCollection trackFullCollection = new TrackFullCollection();
+        trackFullCollection.setTracks(Arrays.asList(firstTrack, secondTrack));
+        doAnswer(invocation -> {
+            final Callback<TrackFullCollection> callback = invocation.getArgument(0);
+            callback.onResponse(mockedTrackFullCollectionCall, Response.success(trackFullCollection));
+            return null;
+        }).when(mockedTrackFullCollectionCall).enqueue(any());
+
+        final CompletableFuture<TrackFull> first = sut.getTrack("1", null);
+        final CompletableFuture<TrackFull> second = sut.getTrack("2", new HashMap<>());
+
+        Assertions.assertSame(firstTrack, first.get(1, TimeUnit.SECONDS));
+        Assertions.assertSame(secondTrack, second.get(1, TimeUnit.SECONDS));
+        verify(mockedTrackService).getTracks(fakeAccessTokenWithBearer, "1,2", new HashMap<>());
+        verify(mockedTrackService, never()).getTrack(any(), any(), any());
+    }
+}
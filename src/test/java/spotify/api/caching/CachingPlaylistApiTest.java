@@ -0,0 +1,277 @@
+package spotify.api.caching;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import spotify.api.interfaces.PlaylistApi;
+import spotify.api.paging.Pages;
+import spotify.models.paging.Paging;
+import spotify.models.playlists.*;
+import spotify.models.playlists.requests.DeleteItemsPlaylistRequestBody;
+import spotify.models.playlists.requests.ReorderPlaylistItemsRequestBody;
+import spotify.models.tracks.TrackFull;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class CachingPlaylistApiTest {
+    private final String fakePlaylistId = "playlist-1";
+    private final List<String> fakeTrackUris = new ArrayList<>();
+    private String fakeSnapshotId = "snapshot-1";
+    private CachingPlaylistApi sut;
+    @Mock
+    private PlaylistApi mockedPlaylistApi;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        for (int i = 0; i < 150; i++) {
+            fakeTrackUris.add("spotify:track:" + i);
+        }
+
+        when(mockedPlaylistApi.getPlaylist(eq(fakePlaylistId), anyMap())).thenAnswer(invocation -> createPlaylist());
+        when(mockedPlaylistApi.getPlaylistTracks(eq(fakePlaylistId), anyMap())).thenAnswer(invocation -> {
+            final Map<String, String> options = invocation.getArgument(1);
+            return createPage(Integer.parseInt(options.getOrDefault("offset", "0")), Integer.parseInt(options.getOrDefault("limit", "100")));
+        });
+        when(mockedPlaylistApi.getPlaylists(anyMap())).thenAnswer(invocation -> createListing());
+
+        sut = new CachingPlaylistApi(mockedPlaylistApi, new PlaylistCache());
+    }
+
+    @Test
+    void getPlaylistTracksServesAllPagesFromCacheAfterAllTracksHaveBeenLoaded() {
+        sut.getAllPlaylistTracks(fakePlaylistId);
+
+        final Paging<PlaylistTrack> page = sut.getPlaylistTracks(fakePlaylistId, createPagingOptions(100, 100));
+
+        Assertions.assertEquals(50, page.getItems().size());
+        Assertions.assertEquals("spotify:track:100", page.getItems().get(0).getTrack().getUri());
+        Assertions.assertEquals(150, page.getTotal());
+        Assertions.assertNull(page.getNext());
+        verify(mockedPlaylistApi, times(1)).getPlaylist(eq(fakePlaylistId), anyMap());
+        verify(mockedPlaylistApi, times(1)).getPlaylistTracks(eq(fakePlaylistId), anyMap());
+    }
+
+    @Test
+    void getPlaylistServesPlaylistFromCacheWhileListingShowsSameSnapshot() {
+        sut.getAllPlaylistTracks(fakePlaylistId);
+        sut.getPlaylists(Collections.emptyMap());
+
+        final PlaylistFull playlist = sut.getPlaylist(fakePlaylistId, Collections.emptyMap());
+
+        Assertions.assertEquals(fakeSnapshotId, playlist.getSnapshotId());
+        Assertions.assertEquals(100, playlist.getTracks().getItems().size());
+        verify(mockedPlaylistApi, times(1)).getPlaylist(eq(fakePlaylistId), anyMap());
+    }
+
+    @Test
+    void getPlaylistRefetchesPlaylistWhenListingShowsOtherSnapshot() {
+        sut.getAllPlaylistTracks(fakePlaylistId);
+        fakeSnapshotId = "snapshot-2";
+        fakeTrackUris.remove(0);
+        sut.getPlaylists(Collections.emptyMap());
+
+        final PlaylistFull playlist = sut.getPlaylist(fakePlaylistId, Collections.emptyMap());
+
+        Assertions.assertEquals("snapshot-2", playlist.getSnapshotId());
+        Assertions.assertEquals(149, playlist.getTracks().getTotal());
+        verify(mockedPlaylistApi, times(2)).getPlaylist(eq(fakePlaylistId), anyMap());
+    }
+
+    @Test
+    void reorderPlaylistItemsUpdatesCachedItemsAndSnapshot() {
+        final Snapshot snapshot = new Snapshot();
+        snapshot.setSnapshotId("snapshot-2");
+        final ReorderPlaylistItemsRequestBody requestBody = new ReorderPlaylistItemsRequestBody(0, 2, 5, fakeSnapshotId);
+        when(mockedPlaylistApi.reorderPlaylistItems(fakePlaylistId, requestBody)).thenReturn(snapshot);
+        sut.getAllPlaylistTracks(fakePlaylistId);
+
+        sut.reorderPlaylistItems(fakePlaylistId, requestBody);
+        final List<String> uris = sut.getPlaylistTracks(fakePlaylistId, createPagingOptions(0, 6)).getItems().stream()
+                .map(playlistTrack -> playlistTrack.getTrack().getUri())
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(Arrays.asList("spotify:track:2", "spotify:track:3", "spotify:track:4",
+                "spotify:track:0", "spotify:track:1", "spotify:track:5"), uris);
+        Assertions.assertEquals("snapshot-2", sut.getPlaylist(fakePlaylistId, Collections.emptyMap()).getSnapshotId());
+        verify(mockedPlaylistApi, times(1)).getPlaylist(eq(fakePlaylistId), anyMap());
+    }
+
+    @Test
+    void deleteItemsFromPlaylistRemovesCachedItems() {
+        final Snapshot snapshot = new Snapshot();
+        snapshot.setSnapshotId("snapshot-2");
+        final DeleteItemsPlaylistRequestBody requestBody = new DeleteItemsPlaylistRequestBody(Arrays.asList(
+                new PlaylistItem("spotify:track:0", null),
+                new PlaylistItem("spotify:track:7", new int[]{7})), fakeSnapshotId);
+        when(mockedPlaylistApi.deleteItemsFromPlaylist(fakePlaylistId, requestBody)).thenReturn(snapshot);
+        sut.getAllPlaylistTracks(fakePlaylistId);
+
+        sut.deleteItemsFromPlaylist(fakePlaylistId, requestBody);
+        final Paging<PlaylistTrack> page = sut.getPlaylistTracks(fakePlaylistId, createPagingOptions(0, 100));
+
+        Assertions.assertEquals(148, page.getTotal());
+        Assertions.assertEquals("spotify:track:1", page.getItems().get(0).getTrack().getUri());
+        Assertions.assertEquals("spotify:track:8", page.getItems().get(6).getTrack().getUri());
+        verify(mockedPlaylistApi, times(1)).getPlaylist(eq(fakePlaylistId), anyMap());
+    }
+
+    @Test
+    void addItemToPlaylistKeepsSnapshotButRefetchesItems() {
+        final Snapshot snapshot = new Snapshot();
+        snapshot.setSnapshotId("snapshot-2");
+        when(mockedPlaylistApi.addItemToPlaylist(Collections.singletonList("spotify:track:new"), fakePlaylistId, 0)).thenReturn(snapshot);
+        final PlaylistCache playlistCache = new PlaylistCache();
+        sut = new CachingPlaylistApi(mockedPlaylistApi, playlistCache);
+        sut.getAllPlaylistTracks(fakePlaylistId);
+
+        sut.addItemToPlaylist(Collections.singletonList("spotify:track:new"), fakePlaylistId, 0);
+
+        Assertions.assertEquals("snapshot-2", playlistCache.getSnapshotId(fakePlaylistId));
+        Assertions.assertFalse(playlistCache.isCached(fakePlaylistId));
+    }
+
+    @Test
+    void getPlaylistTracksDoesNotUseCacheWithOtherOptions() {
+        final Map<String, String> options = Collections.singletonMap("market", "NL");
+
+        sut.getPlaylistTracks(fakePlaylistId, options);
+
+        verify(mockedPlaylistApi).getPlaylistTracks(fakePlaylistId, options);
+        verify(mockedPlaylistApi, never()).getPlaylist(eq(fakePlaylistId), anyMap());
+    }
+
+    @Test
+    void getPlaylistTracksPassesSinglePageOnWhenPlaylistIsNotCached() {
+        final Paging<PlaylistTrack> page = sut.getPlaylistTracks(fakePlaylistId, createPagingOptions(100, 50));
+
+        Assertions.assertEquals(50, page.getItems().size());
+        verify(mockedPlaylistApi, times(1)).getPlaylistTracks(eq(fakePlaylistId), anyMap());
+        verify(mockedPlaylistApi, never()).getPlaylist(eq(fakePlaylistId), anyMap());
+    }
+
+    @Test
+    void getPlaylistDoesNotRequestOtherPagesWhenPlaylistIsNotCached() {
+        final PlaylistCache playlistCache = new PlaylistCache();
+        sut = new CachingPlaylistApi(mockedPlaylistApi, playlistCache);
+
+        final PlaylistFull playlist = sut.getPlaylist(fakePlaylistId, Collections.emptyMap());
+
+        Assertions.assertEquals(100, playlist.getTracks().getItems().size());
+        Assertions.assertEquals(fakeSnapshotId, playlistCache.getSnapshotId(fakePlaylistId));
+        Assertions.assertFalse(playlistCache.isCached(fakePlaylistId));
+        verify(mockedPlaylistApi, never()).getPlaylistTracks(eq(fakePlaylistId), anyMap());
+    }
+
+    @Test
+    void getPlaylistCachesPlaylistThatHoldsAllItemsInFirstPage() {
+        fakeTrackUris.subList(50, fakeTrackUris.size()).clear();
+
+        sut.getPlaylist(fakePlaylistId, Collections.emptyMap());
+        final Paging<PlaylistTrack> page = sut.getPlaylistTracks(fakePlaylistId, createPagingOptions(40, 20));
+
+        Assertions.assertEquals(10, page.getItems().size());
+        verify(mockedPlaylistApi, times(1)).getPlaylist(eq(fakePlaylistId), anyMap());
+        verify(mockedPlaylistApi, never()).getPlaylistTracks(eq(fakePlaylistId), anyMap());
+    }
+
+    @Test
+    void getAllPlaylistTracksRequestsPlaylistAgainWhenMaxAgeHasPassed() {
+        final AtomicLong fakeTime = new AtomicLong();
+        sut = new CachingPlaylistApi(mockedPlaylistApi, new PlaylistCache(10, Duration.ofMinutes(1), fakeTime::get));
+
+        sut.getAllPlaylistTracks(fakePlaylistId);
+        fakeTime.set(Duration.ofSeconds(59).toNanos());
+        sut.getAllPlaylistTracks(fakePlaylistId);
+
+        verify(mockedPlaylistApi, times(1)).getPlaylist(eq(fakePlaylistId), anyMap());
+
+        fakeTime.set(Duration.ofMinutes(1).toNanos());
+        final List<PlaylistTrack> items = sut.getAllPlaylistTracks(fakePlaylistId);
+
+        Assertions.assertEquals(150, items.size());
+        verify(mockedPlaylistApi, times(2)).getPlaylist(eq(fakePlaylistId), anyMap());
+    }
+
+    @Test
+    void getPlaylistTracksCachingAllServesEveryPageFromCacheAfterFirstPage() {
+        final List<PlaylistTrack> items = new ArrayList<>();
+        Pages.stream(pageOptions -> sut.getPlaylistTracksCachingAll(fakePlaylistId, pageOptions),
+                Pages.MAX_PLAYLIST_ITEMS_LIMIT, Collections.emptyMap()).forEach(items::add);
+        Pages.stream(pageOptions -> sut.getPlaylistTracksCachingAll(fakePlaylistId, pageOptions),
+                Pages.MAX_PLAYLIST_ITEMS_LIMIT, Collections.emptyMap()).forEach(items::add);
+
+        Assertions.assertEquals(300, items.size());
+        verify(mockedPlaylistApi, times(1)).getPlaylist(eq(fakePlaylistId), anyMap());
+        verify(mockedPlaylistApi, times(1)).getPlaylistTracks(eq(fakePlaylistId), anyMap());
+    }
+
+    @Test
+    void getPlaylistTracksCachingAllPassesPageOnWithOtherOptions() {
+        final Map<String, String> options = createPagingOptions(0, 100);
+        options.put("market", "NL");
+
+        sut.getPlaylistTracksCachingAll(fakePlaylistId, options);
+
+        verify(mockedPlaylistApi, never()).getPlaylist(eq(fakePlaylistId), anyMap());
+        verify(mockedPlaylistApi, times(1)).getPlaylistTracks(eq(fakePlaylistId), anyMap());
+    }
+
+    private PlaylistFull createPlaylist() {
+        final PlaylistFull playlist = new PlaylistFull();
+        playlist.setId(fakePlaylistId);
+        playlist.setSnapshotId(fakeSnapshotId);
+        playlist.setTracks(createPage(0, 100));
+
+        return playlist;
+    }
+
+    private Paging<PlaylistSimplified> createListing() {
+        final PlaylistSimplified playlist = new PlaylistSimplified();
+        playlist.setId(fakePlaylistId);
+        playlist.setSnapshotId(fakeSnapshotId);
+        final Paging<PlaylistSimplified> listing = new Paging<>();
+        listing.setItems(Collections.singletonList(playlist));
+
+        return listing;
+    }
+
+    private Paging<PlaylistTrack> createPage(final int offset, final int limit) {
+        final List<PlaylistTrack> items = new ArrayList<>();
+
+        for (int i = offset; i < Math.min(offset + limit, fakeTrackUris.size()); i++) {
+            final TrackFull track = new TrackFull();
+            track.setUri(fakeTrackUris.get(i));
+            final PlaylistTrack playlistTrack = new PlaylistTrack();
+            playlistTrack.setTrack(track);
+            items.add(playlistTrack);
+        }
+
+        final Paging<PlaylistTrack> page = new Paging<>();
+        page.setItems(items);
+        page.setOffset(offset);
+        page.setLimit(limit);
+        page.setTotal(fakeTrackUris.size());
+        page.setNext(offset + limit < fakeTrackUris.size() ? "next" : null);
+
+        return page;
+    }
+
+    private static Map<String, String> createPagingOptions(final int offset, final int limit) {
+        final Map<String, String> options = new HashMap<>();
+        options.put("offset", String.valueOf(offset));
+        options.put("limit", String.valueOf(limit));
+
+        return options;
+    }
+}
@@ -0,0 +1,140 @@
+package spotify.api.caching;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import spotify.api.interfaces.TrackApi;
+import spotify.config.CacheConfig;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.Segment;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackFullCollection;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.*;
+
+public class CachingTrackApiTest {
+    private final Map<String, String> fakeOptionalParameters = new HashMap<>();
+    private CachingTrackApi sut;
+    @Mock
+    private TrackApi mockedTrackApi;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        sut = new CachingTrackApi(mockedTrackApi, new CatalogCache(CacheConfig.defaultConfig()));
+    }
+
+    @Test
+    void getTrackServesTrackFromCacheAfterFirstLookup() {
+        final TrackFull trackFull = createTrack("69");
+        when(mockedTrackApi.getTrack("69", fakeOptionalParameters)).thenReturn(trackFull);
+
+        sut.getTrack("69", fakeOptionalParameters);
+
+        Assertions.assertSame(trackFull, sut.getTrack("69", fakeOptionalParameters));
+        verify(mockedTrackApi, times(1)).getTrack("69", fakeOptionalParameters);
+    }
+
+    @Test
+    void getTrackDoesNotCacheTrackOfMarketOfCurrentUser() {
+        final Map<String, String> options = Collections.singletonMap("market", "from_token");
+        when(mockedTrackApi.getTrack("69", options)).thenReturn(createTrack("69"));
+
+        sut.getTrack("69", options);
+        sut.getTrack("69", options);
+
+        verify(mockedTrackApi, times(2)).getTrack("69", options);
+    }
+
+    @Test
+    void getTracksOnlyRequestsTracksThatAreNotCached() {
+        when(mockedTrackApi.getTrack("69", fakeOptionalParameters)).thenReturn(createTrack("69"));
+        when(mockedTrackApi.getTracks(Arrays.asList("420", "1337"), fakeOptionalParameters))
+                .thenReturn(createTrackCollection(createTrack("420"), createTrack("1337")));
+        sut.getTrack("69", fakeOptionalParameters);
+
+        final List<TrackFull> tracks = sut.getTracks(Arrays.asList("420", "69", "1337"), fakeOptionalParameters).getTracks();
+
+        Assertions.assertEquals("420", tracks.get(0).getId());
+        Assertions.assertEquals("69", tracks.get(1).getId());
+        Assertions.assertEquals("1337", tracks.get(2).getId());
+        verify(mockedTrackApi).getTracks(Arrays.asList("420", "1337"), fakeOptionalParameters);
+    }
+
+    @Test
+    void getTracksDoesNotRequestAnythingWhenAllTracksAreCached() {
+        when(mockedTrackApi.getTracks(Arrays.asList("69", "420"), fakeOptionalParameters))
+                .thenReturn(createTrackCollection(createTrack("69"), createTrack("420")));
+        sut.getTracks(Arrays.asList("69", "420"), fakeOptionalParameters);
+
+        sut.getTracks(Arrays.asList("420", "69"), fakeOptionalParameters);
+
+        verify(mockedTrackApi, times(1)).getTracks(anyList(), anyMap());
+    }
+
+    @Test
+    void getTrackRequestsTrackAgainWhenTimeToLiveHasPassed() {
+        final AtomicLong fakeTime = new AtomicLong();
+        sut = new CachingTrackApi(mockedTrackApi, new CatalogCache(new CacheConfig.Builder()
+                .setTrackTtl(Duration.ofHours(1))
+                .build(), fakeTime::get));
+        when(mockedTrackApi.getTrack("69", fakeOptionalParameters)).thenReturn(createTrack("69"));
+
+        sut.getTrack("69", fakeOptionalParameters);
+        fakeTime.set(Duration.ofHours(1).toNanos());
+        sut.getTrack("69", fakeOptionalParameters);
+
+        verify(mockedTrackApi, times(2)).getTrack("69", fakeOptionalParameters);
+    }
+
+    @Test
+    void getTrackAudioAnalysisDoesNotCacheAnalysisThatWeighsMoreThanCache() {
+        final AudioAnalysis audioAnalysis = new AudioAnalysis();
+        audioAnalysis.setSegments(Collections.nCopies(1000, new Segment()));
+        sut = new CachingTrackApi(mockedTrackApi, new CatalogCache(new CacheConfig.Builder()
+                .setMaxWeight(256 * 1024)
+                .build()));
+        when(mockedTrackApi.getTrackAudioAnalysis("69")).thenReturn(audioAnalysis);
+
+        sut.getTrackAudioAnalysis("69");
+        sut.getTrackAudioAnalysis("69");
+
+        verify(mockedTrackApi, times(2)).getTrackAudioAnalysis("69");
+    }
+
+    @Test
+    void getTrackAudioAnalysisCachesAnalysisThatFitsInCache() {
+        final AudioAnalysis audioAnalysis = new AudioAnalysis();
+        audioAnalysis.setSegments(Collections.nCopies(100, new Segment()));
+        sut = new CachingTrackApi(mockedTrackApi, new CatalogCache(new CacheConfig.Builder()
+                .setMaxWeight(256 * 1024)
+                .build()));
+        when(mockedTrackApi.getTrackAudioAnalysis("69")).thenReturn(audioAnalysis);
+
+        sut.getTrackAudioAnalysis("69");
+        sut.getTrackAudioAnalysis("69");
+
+        verify(mockedTrackApi, times(1)).getTrackAudioAnalysis("69");
+    }
+
+    private TrackFull createTrack(final String id) {
+        final TrackFull trackFull = new TrackFull();
+        trackFull.setId(id);
+
+        return trackFull;
+    }
+
+    private TrackFullCollection createTrackCollection(final TrackFull... tracks) {
+        final TrackFullCollection trackFullCollection = new TrackFullCollection();
+        trackFullCollection.setTracks(Arrays.asList(tracks));
+
+        return trackFullCollection;
+    }
+}
@@ -0,0 +1,86 @@
+package spotify.api.caching;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TinyLfuCacheTest {
+    private final AtomicLong fakeTime = new AtomicLong();
+    private TinyLfuCache<String, String> sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new TinyLfuCache<>(100, fakeTime::get);
+    }
+
+    @Test
+    void getReturnsValueWithinTimeToLive() {
+        sut.put("69", "track", 10, 1000);
+        fakeTime.set(999);
+
+        Assertions.assertEquals("track", sut.get("69"));
+    }
+
+    @Test
+    void getReturnsNullWhenValueHasExpired() {
+        sut.put("69", "track", 10, 1000);
+        fakeTime.set(1000);
+
+        Assertions.assertNull(sut.get("69"));
+        Assertions.assertEquals(0, sut.stats().getEntryCount());
+    }
+
+    @Test
+    void putEvictsEntriesWhenMaximumWeightIsExceeded() {
+        for (int i = 0; i < 20; i++) {
+            sut.put(String.valueOf(i), "track", 10, 1000);
+        }
+
+        final CacheStats stats = sut.stats();
+        Assertions.assertTrue(stats.getWeight() <= 100);
+        Assertions.assertEquals(10, stats.getEvictionCount());
+    }
+
+    @Test
+    void putKeepsFrequentlyRequestedEntriesOverOneOffEntries() {
+        for (int i = 0; i < 10; i++) {
+            sut.put("popular" + i, "track", 10, 1000);
+        }
+
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 10; i++) {
+                sut.get("popular" + i);
+            }
+        }
+
+        for (int i = 0; i < 50; i++) {
+            sut.put("one-off" + i, "track", 10, 1000);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals("track", sut.get("popular" + i));
+        }
+    }
+
+    @Test
+    void putDoesNotCacheValueHeavierThanMaximumWeight() {
+        sut.put("69", "analysis", 101, 1000);
+
+        Assertions.assertNull(sut.get("69"));
+    }
+
+    @Test
+    void statsCountsHitsAndMisses() {
+        sut.put("69", "track", 10, 1000);
+
+        sut.get("69");
+        sut.get("420");
+
+        final CacheStats stats = sut.stats();
+        Assertions.assertEquals(1, stats.getHitCount());
+        Assertions.assertEquals(1, stats.getMissCount());
+        Assertions.assertEquals(0.5, stats.getHitRate());
+    }
+}
@@ -0,0 +1,90 @@
+package spotify.api.chunking;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import spotify.exceptions.HttpRequestFailedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ChunkedRequestsTest {
+    private final List<String> ids = IntStream.range(0, 120).mapToObj(String::valueOf).collect(Collectors.toList());
+
+    @Test
+    void fanOutSplitsIdsIntoChunksOfAtMostChunkSize() throws Exception {
+        final List<List<String>> requestedChunks = new CopyOnWriteArrayList<>();
+
+        ChunkedRequests.fanOut(ids, 50, 4, chunk -> {
+            requestedChunks.add(chunk);
+            return CompletableFuture.completedFuture(chunk.size());
+        }).get();
+
+        Assertions.assertEquals(3, requestedChunks.size());
+        Assertions.assertEquals(ids.subList(0, 50), requestedChunks.get(0));
+        Assertions.assertEquals(ids.subList(100, 120), requestedChunks.get(2));
+    }
+
+    @Test
+    void fanOutReturnsResultsInOrderOfChunksWhenCompletedOutOfOrder() throws Exception {
+        final List<CompletableFuture<List<String>>> pendingRequests = new ArrayList<>();
+
+        final CompletableFuture<List<List<String>>> result = ChunkedRequests.fanOut(ids, 50, 3, chunk -> {
+            final CompletableFuture<List<String>> request = new CompletableFuture<>();
+            pendingRequests.add(request);
+            return request;
+        });
+        pendingRequests.get(2).complete(List.of("c"));
+        pendingRequests.get(0).complete(List.of("a"));
+        pendingRequests.get(1).complete(List.of("b"));
+
+        Assertions.assertEquals(List.of("a", "b", "c"), ChunkedRequests.concat(result.get(), list -> list));
+    }
+
+    @Test
+    void fanOutDoesNotExceedMaximumConcurrentRequests() {
+        final List<CompletableFuture<Integer>> pendingRequests = new ArrayList<>();
+
+        ChunkedRequests.fanOut(ids, 10, 2, chunk -> {
+            final CompletableFuture<Integer> request = new CompletableFuture<>();
+            pendingRequests.add(request);
+            return request;
+        });
+
+        Assertions.assertEquals(2, pendingRequests.size());
+
+        pendingRequests.get(0).complete(10);
+
+        Assertions.assertEquals(3, pendingRequests.size());
+    }
+
+    @Test
+    void fanOutFailsAndStopsSendingWhenChunkFails() {
+        final List<List<String>> requestedChunks = new CopyOnWriteArrayList<>();
+
+        final CompletableFuture<List<Integer>> result = ChunkedRequests.fanOut(ids, 10, 1, chunk -> {
+            requestedChunks.add(chunk);
+            final CompletableFuture<Integer> request = new CompletableFuture<>();
+            request.completeExceptionally(new HttpRequestFailedException("timeout"));
+            return request;
+        });
+
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class, result::get);
+        Assertions.assertTrue(exception.getCause() instanceof HttpRequestFailedException);
+        Assertions.assertEquals(1, requestedChunks.size());
+    }
+
+    @Test
+    void concatSkipsMissingResults() {
+        final List<List<Boolean>> results = new ArrayList<>();
+        results.add(List.of(true));
+        results.add(null);
+        results.add(List.of(false));
+
+        Assertions.assertEquals(List.of(true, false), ChunkedRequests.concat(results, list -> list));
+    }
+}
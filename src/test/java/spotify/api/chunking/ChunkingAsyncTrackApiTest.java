@@ -0,0 +1,101 @@
+package spotify.api.chunking;
+
+import okhttp3.Request;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import spotify.api.interfaces.AsyncTrackApi;
+import spotify.config.ChunkingConfig;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackFullCollection;
+import spotify.retrofit.services.TrackService;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ChunkingAsyncTrackApiTest {
+    private final String fakeAccessTokenWithBearer = "Bearer 69";
+    private final Map<String, String> fakeOptionalParameters = new HashMap<>();
+    private ChunkingAsyncTrackApi sut;
+    @Mock
+    private AsyncTrackApi mockedAsyncTrackApi;
+    @Mock
+    private TrackService mockedTrackService;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        sut = new ChunkingAsyncTrackApi(mockedAsyncTrackApi, () -> "69", mockedTrackService, ChunkingConfig.defaultConfig());
+
+        when(mockedTrackService.getTracks(eq(fakeAccessTokenWithBearer), anyString(), anyMap())).thenAnswer(invocation -> {
+            final String trackIds = invocation.getArgument(1);
+            final TrackFullCollection trackFullCollection = new TrackFullCollection();
+            trackFullCollection.setTracks(Arrays.stream(trackIds.split(",")).map(this::createTrack).collect(Collectors.toList()));
+
+            return respondWith(trackFullCollection);
+        });
+    }
+
+    @Test
+    void getTracksDelegatesWhenListDoesNotExceedMaximum() {
+        final List<String> trackIds = createTrackIds(50);
+
+        sut.getTracks(trackIds, fakeOptionalParameters);
+
+        verify(mockedAsyncTrackApi).getTracks(trackIds, fakeOptionalParameters);
+        verify(mockedTrackService, never()).getTracks(any(), any(), any());
+    }
+
+    @Test
+    void getTracksSplitsListExceedingMaximumIntoMultipleHttpCalls() {
+        sut.getTracks(createTrackIds(120), fakeOptionalParameters).join();
+
+        verify(mockedTrackService, times(3)).getTracks(eq(fakeAccessTokenWithBearer), anyString(), anyMap());
+        verify(mockedAsyncTrackApi, never()).getTracks(any(), any());
+    }
+
+    @Test
+    void getTracksMergesTracksInOrderOfIds() {
+        final List<String> trackIds = createTrackIds(120);
+
+        final TrackFullCollection trackFullCollection = sut.getTracks(trackIds, fakeOptionalParameters).join();
+
+        Assertions.assertEquals(trackIds, trackFullCollection.getTracks().stream().map(TrackFull::getId).collect(Collectors.toList()));
+    }
+
+    private List<String> createTrackIds(int amount) {
+        return IntStream.range(0, amount).mapToObj(String::valueOf).collect(Collectors.toList());
+    }
+
+    private TrackFull createTrack(String trackId) {
+        final TrackFull trackFull = new TrackFull();
+        trackFull.setId(trackId);
+        return trackFull;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Call<TrackFullCollection> respondWith(TrackFullCollection trackFullCollection) {
+        final Call<TrackFullCollection> call = mock(Call.class);
+        when(call.request()).thenReturn(new Request.Builder().url("https://jiankai.nl").build());
+        doAnswer(invocation -> {
+            final Callback<TrackFullCollection> callback = invocation.getArgument(0);
+            callback.onResponse(call, Response.success(trackFullCollection));
+            return null;
+        }).when(call).enqueue(any());
+
+        return call;
+    }
+}
@@ -0,0 +1,138 @@
+package spotify.api.impl;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import spotify.exceptions.HttpRequestFailedException;
+import spotify.exceptions.SpotifyActionFailedException;
+import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.tracks.TrackFull;
+import spotify.retrofit.services.TrackService;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class AsyncTrackApiRetrofitTest extends AbstractApiRetrofitTest {
+    private final String fakeTrackId = "69";
+    private AsyncTrackApiRetrofit sut;
+    @Mock
+    private TrackService mockedTrackService;
+    @Mock
+    private Call<TrackFull> mockedTrackFullCall;
+    @Mock
+    private Call<AudioFeaturesCollection> mockedAudioFeaturesCollectionCall;
+    @Mock
+    private List<String> trackListWithExceededSize;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        sut = new AsyncTrackApiRetrofit(fakeAccessToken, mockedTrackService);
+
+        when(mockedTrackService.getTrack(fakeAccessTokenWithBearer, fakeTrackId, fakeOptionalParameters)).thenReturn(mockedTrackFullCall);
+        when(mockedTrackFullCall.request()).thenReturn(new Request.Builder().url(fakeUrl).build());
+    }
+
+    @Test
+    void getTrackUsesCorrectValuesToCreateHttpCall() {
+        sut.getTrack(fakeTrackId, null);
+
+        verify(mockedTrackService).getTrack(fakeAccessTokenWithBearer, fakeTrackId, fakeOptionalParameters);
+    }
+
+    @Test
+    void getTrackEnqueuesHttpCall() throws IOException {
+        sut.getTrack(fakeTrackId, fakeOptionalParameters);
+
+        verify(mockedTrackFullCall).enqueue(any());
+        verify(mockedTrackFullCall, never()).execute();
+    }
+
+    @Test
+    void getTrackCompletesWithTrackFullWhenSuccessful() throws Exception {
+        final TrackFull trackFull = new TrackFull();
+        respondWith(mockedTrackFullCall, Response.success(trackFull));
+
+        Assertions.assertSame(trackFull, sut.getTrack(fakeTrackId, fakeOptionalParameters).get());
+    }
+
+    @Test
+    void getTrackCompletesExceptionallyWithSpotifyActionFailedExceptionWhenError() {
+        respondWith(mockedTrackFullCall, Response.error(
+                400,
+                ResponseBody.create(MediaType.get("application/json"), getJson("error.json"))
+        ));
+
+        final ExecutionException exception = Assertions.assertThrows(
+                ExecutionException.class,
+                () -> sut.getTrack(fakeTrackId, fakeOptionalParameters).get());
+
+        Assertions.assertTrue(exception.getCause() instanceof SpotifyActionFailedException);
+    }
+
+    @Test
+    void getTrackCompletesExceptionallyWithHttpRequestFailedWhenHttpFails() {
+        doAnswer(invocation -> {
+            final Callback<TrackFull> callback = invocation.getArgument(0);
+            callback.onFailure(mockedTrackFullCall, new IOException());
+            return null;
+        }).when(mockedTrackFullCall).enqueue(any());
+
+        final ExecutionException exception = Assertions.assertThrows(
+                ExecutionException.class,
+                () -> sut.getTrack(fakeTrackId, fakeOptionalParameters).get());
+
+        Assertions.assertTrue(exception.getCause() instanceof HttpRequestFailedException);
+    }
+
+    @Test
+    void cancellingFutureCancelsHttpCall() {
+        final CompletableFuture<TrackFull> future = sut.getTrack(fakeTrackId, fakeOptionalParameters);
+
+        future.cancel(true);
+
+        verify(mockedTrackFullCall).cancel();
+    }
+
+    @Test
+    void getTracksThrowsIllegalArgumentExceptionWhenListExceedsMaximumAllowedSize() {
+        when(trackListWithExceededSize.size()).thenReturn(51);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sut.getTracks(trackListWithExceededSize, fakeOptionalParameters));
+    }
+
+    @Test
+    void getTracksAudioFeaturesUsesCorrectValuesToCreateHttpCall() {
+        final List<String> listOfFakeTrackIds = Arrays.asList(fakeTrackId, "420");
+        when(mockedTrackService.getTracksAudioFeatures(fakeAccessTokenWithBearer, "69,420")).thenReturn(mockedAudioFeaturesCollectionCall);
+        when(mockedAudioFeaturesCollectionCall.request()).thenReturn(new Request.Builder().url(fakeUrl).build());
+
+        sut.getTracksAudioFeatures(listOfFakeTrackIds);
+
+        verify(mockedTrackService).getTracksAudioFeatures(fakeAccessTokenWithBearer, "69,420");
+        verify(mockedAudioFeaturesCollectionCall).enqueue(any());
+    }
+
+    private <T> void respondWith(final Call<T> call, final Response<T> response) {
+        doAnswer(invocation -> {
+            final Callback<T> callback = invocation.getArgument(0);
+            callback.onResponse(call, response);
+            return null;
+        }).when(call).enqueue(any());
+    }
+}
@@ -0,0 +1,128 @@
+package spotify.api.impl;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.Call;
+import retrofit2.Response;
+import spotify.exceptions.HttpRequestFailedException;
+import spotify.exceptions.SpotifyActionFailedException;
+import spotify.models.artists.ArtistFull;
+import spotify.models.categories.CategoryFull;
+import spotify.models.paging.CursorBasedPaging;
+import spotify.models.paging.Paging;
+import spotify.retrofit.services.PagingService;
+
+import java.io.IOException;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class PagingApiRetrofitTest extends AbstractApiRetrofitTest {
+    private final String fakeNextUrl = "https://api.spotify.com/v1/browse/categories?offset=20&limit=20";
+    private final String fakePreviousUrl = "https://api.spotify.com/v1/browse/categories?offset=0&limit=20";
+    private PagingApiRetrofit sut;
+    @Mock
+    private PagingService mockedPagingService;
+    @Mock
+    private Call<ResponseBody> mockedResponseBodyCall;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        sut = new PagingApiRetrofit(fakeAccessToken, mockedPagingService);
+
+        when(mockedPagingService.getPage(anyString(), anyString())).thenReturn(mockedResponseBodyCall);
+        when(mockedResponseBodyCall.request()).thenReturn(new Request.Builder().url(fakeUrl).build());
+    }
+
+    @Test
+    void getNextPageUsesNextUrlToCreateHttpCall() throws IOException {
+        when(mockedResponseBodyCall.execute()).thenReturn(Response.success(createBody("{\"items\": []}")));
+
+        sut.getNextPage(createPaging(), CategoryFull.class);
+
+        verify(mockedPagingService).getPage(fakeAccessTokenWithBearer, fakeNextUrl);
+    }
+
+    @Test
+    void getPreviousPageUsesPreviousUrlToCreateHttpCall() throws IOException {
+        when(mockedResponseBodyCall.execute()).thenReturn(Response.success(createBody("{\"items\": []}")));
+
+        sut.getPreviousPage(createPaging(), CategoryFull.class);
+
+        verify(mockedPagingService).getPage(fakeAccessTokenWithBearer, fakePreviousUrl);
+    }
+
+    @Test
+    void getNextPageUnwrapsPageOfWrapperObject() throws IOException {
+        when(mockedResponseBodyCall.execute()).thenReturn(Response.success(createBody(
+                "{\"categories\": {\"items\": [{\"id\": \"toplists\", \"name\": \"Top Lists\"}], \"offset\": 20, \"total\": 21}}")));
+
+        final Paging<CategoryFull> page = sut.getNextPage(createPaging(), CategoryFull.class);
+
+        Assertions.assertEquals(20, page.getOffset());
+        Assertions.assertEquals("toplists", page.getItems().get(0).getId());
+    }
+
+    @Test
+    void getNextPageOfCursorBasedPagingDeserializesItems() throws IOException {
+        final CursorBasedPaging<ArtistFull> paging = new CursorBasedPaging<>();
+        paging.setNext("https://api.spotify.com/v1/me/following?type=artist&after=0I2XqVXqHScXjHhk6AYYRe&limit=20");
+        when(mockedResponseBodyCall.execute()).thenReturn(Response.success(createBody(
+                "{\"artists\": {\"items\": [{\"id\": \"0oSGxfWSnnOXhD2fKuz2Gy\"}], \"cursors\": {\"after\": null}}}")));
+
+        final CursorBasedPaging<ArtistFull> page = sut.getNextPage(paging, ArtistFull.class);
+
+        Assertions.assertEquals("0oSGxfWSnnOXhD2fKuz2Gy", page.getItems().get(0).getId());
+        verify(mockedPagingService).getPage(fakeAccessTokenWithBearer, paging.getNext());
+    }
+
+    @Test
+    void getNextPageReturnsNullWhenThereIsNoNextPage() {
+        final Paging<CategoryFull> paging = new Paging<>();
+
+        Assertions.assertNull(sut.getNextPage(paging, CategoryFull.class));
+        verify(mockedPagingService, never()).getPage(anyString(), anyString());
+    }
+
+    @Test
+    void getNextPageThrowsIllegalArgumentExceptionWhenUrlIsNotOfSpotifyWebApi() {
+        final Paging<CategoryFull> paging = new Paging<>();
+        paging.setNext(fakeUrl);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sut.getNextPage(paging, CategoryFull.class));
+    }
+
+    @Test
+    void getNextPageThrowsSpotifyActionFailedExceptionWhenError() throws IOException {
+        when(mockedResponseBodyCall.execute()).thenReturn(Response.error(400, createBody(getJson("error.json"))));
+
+        Assertions.assertThrows(SpotifyActionFailedException.class, () -> sut.getNextPage(createPaging(), CategoryFull.class));
+    }
+
+    @Test
+    void getNextPageThrowsHttpRequestFailedWhenHttpFails() throws IOException {
+        when(mockedResponseBodyCall.execute()).thenThrow(IOException.class);
+
+        Assertions.assertThrows(HttpRequestFailedException.class, () -> sut.getNextPage(createPaging(), CategoryFull.class));
+    }
+
+    private Paging<CategoryFull> createPaging() {
+        final Paging<CategoryFull> paging = new Paging<>();
+        paging.setNext(fakeNextUrl);
+        paging.setPrevious(fakePreviousUrl);
+
+        return paging;
+    }
+
+    private static ResponseBody createBody(final String json) {
+        return ResponseBody.create(MediaType.get("application/json"), json);
+    }
+}
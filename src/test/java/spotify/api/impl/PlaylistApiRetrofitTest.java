@@ -74,7 +74,7 @@ public class PlaylistApiRetrofitTest extends AbstractApiRetrofitTest {
         when(mockedPlaylistService.getPlaylistCoverImages(fakeAccessTokenWithBearer, fakePlaylistId)).thenReturn(mockedListOfImagesCall);
         when(mockedPlaylistService.getPlaylist(fakeAccessTokenWithBearer, fakePlaylistId, fakeOptionalParameters)).thenReturn(mockedPlaylistFullCall);
         when(mockedPlaylistService.getPlaylistTracks(fakeAccessTokenWithBearer, fakePlaylistId, fakeOptionalParameters)).thenReturn(mockedPlaylistTrackPagingCall);
-        when(mockedPlaylistService.addItemToPlaylist(eq(fakeAccessTokenWithBearer), eq(fakePlaylistId), isA(AddItemPlaylistRequestBody.class))).thenReturn(mockedVoidCall);
+        when(mockedPlaylistService.addItemToPlaylist(eq(fakeAccessTokenWithBearer), eq(fakePlaylistId), isA(AddItemPlaylistRequestBody.class))).thenReturn(mockedSnapshotCall);
         when(mockedPlaylistService.createPlaylist(eq(fakeAccessTokenWithBearer), eq(fakeUserId), isA(CreateUpdatePlaylistRequestBody.class))).thenReturn(mockedVoidCall);
         when(mockedPlaylistService.updatePlaylist(eq(fakeAccessTokenWithBearer), eq(fakePlaylistId), isA(CreateUpdatePlaylistRequestBody.class))).thenReturn(mockedVoidCall);
         when(mockedPlaylistService.reorderPlaylistItems(eq(fakeAccessTokenWithBearer), eq(fakePlaylistId), isA(ReorderPlaylistItemsRequestBody.class))).thenReturn(mockedSnapshotCall);
@@ -319,7 +319,7 @@ public class PlaylistApiRetrofitTest extends AbstractApiRetrofitTest {
     void addItemToPlaylistUsesCorrectValuesToCreateHttpCall() throws IOException {
         ArgumentCaptor<AddItemPlaylistRequestBody> requestBodyArgumentCaptor = ArgumentCaptor.forClass(AddItemPlaylistRequestBody.class);
 
-        when(mockedVoidCall.execute()).thenReturn(Response.success(null));
+        when(mockedSnapshotCall.execute()).thenReturn(Response.success(null));
 
         sut.addItemToPlaylist(listOfFakeObjectUris, fakePlaylistId, fakePositionToInsert);
 
@@ -336,16 +336,16 @@ public class PlaylistApiRetrofitTest extends AbstractApiRetrofitTest {
 
     @Test
     void addItemToPlaylistExecutesHttpCall() throws IOException {
-        when(mockedVoidCall.execute()).thenReturn(Response.success(null));
+        when(mockedSnapshotCall.execute()).thenReturn(Response.success(null));
 
         sut.addItemToPlaylist(listOfFakeObjectUris, fakePlaylistId, fakePositionToInsert);
 
-        verify(mockedVoidCall).execute();
+        verify(mockedSnapshotCall).execute();
     }
 
     @Test
     void addItemToPlaylistThrowsSpotifyActionFailedExceptionWhenError() throws IOException {
-        when(mockedVoidCall.execute())
+        when(mockedSnapshotCall.execute())
                 .thenReturn(
                         Response.error(
                                 400,
@@ -358,11 +358,18 @@ public class PlaylistApiRetrofitTest extends AbstractApiRetrofitTest {
 
     @Test
     void addItemToPlaylistThrowsHttpRequestFailedWhenHttpFails() throws IOException {
-        when(mockedVoidCall.execute()).thenThrow(IOException.class);
+        when(mockedSnapshotCall.execute()).thenThrow(IOException.class);
 
         Assertions.assertThrows(HttpRequestFailedException.class, () -> sut.addItemToPlaylist(listOfFakeObjectUris, fakePlaylistId, fakePositionToInsert));
     }
 
+    @Test
+    void addItemToPlaylistReturnsSnapshotWhenSuccessful() throws IOException {
+        when(mockedSnapshotCall.execute()).thenReturn(Response.success(new Snapshot()));
+
+        Assertions.assertNotNull(sut.addItemToPlaylist(listOfFakeObjectUris, fakePlaylistId, fakePositionToInsert));
+    }
+
     @Test
     void createPlaylistUsesCorrectValuesToCreateHttpCall() throws IOException {
         when(mockedCreateUpdatePlaylistRequestBody.getName()).thenReturn("jiankai zheng");
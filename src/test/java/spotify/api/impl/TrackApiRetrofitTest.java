@@ -13,8 +13,10 @@ import retrofit2.Response;
 import spotify.exceptions.HttpRequestFailedException;
 import spotify.exceptions.SpotifyActionFailedException;
 import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.AudioAnalysisVisitor;
 import spotify.models.audio.AudioFeatures;
 import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.audio.ColumnarAudioAnalysis;
 import spotify.models.tracks.TrackFull;
 import spotify.models.tracks.TrackFullCollection;
 import spotify.retrofit.services.TrackService;
@@ -44,6 +46,10 @@ public class TrackApiRetrofitTest extends AbstractApiRetrofitTest {
     @Mock
     private Call<AudioAnalysis> mockedAudioAnalysisCall;
     @Mock
+    private Call<ColumnarAudioAnalysis> mockedColumnarAudioAnalysisCall;
+    @Mock
+    private Call<ResponseBody> mockedResponseBodyCall;
+    @Mock
     private List<String> trackListWithExceededSize;
 
     @BeforeEach
@@ -57,12 +63,16 @@ public class TrackApiRetrofitTest extends AbstractApiRetrofitTest {
         when(mockedTrackService.getTrackAudioFeatures(fakeAccessTokenWithBearer, fakeTrackId)).thenReturn(mockedAudioFeaturesCall);
         when(mockedTrackService.getTracksAudioFeatures(fakeAccessTokenWithBearer, fakeTrackIds)).thenReturn(mockedAudioFeaturesCollectionCall);
         when(mockedTrackService.getTrackAudioAnalysis(fakeAccessTokenWithBearer, fakeTrackId)).thenReturn(mockedAudioAnalysisCall);
+        when(mockedTrackService.getTrackColumnarAudioAnalysis(fakeAccessTokenWithBearer, fakeTrackId)).thenReturn(mockedColumnarAudioAnalysisCall);
+        when(mockedTrackService.streamTrackAudioAnalysis(fakeAccessTokenWithBearer, fakeTrackId)).thenReturn(mockedResponseBodyCall);
 
         when(mockedTrackFullCall.request()).thenReturn(new Request.Builder().url(fakeUrl).build());
         when(mockedTrackFullCollection.request()).thenReturn(new Request.Builder().url(fakeUrl).build());
         when(mockedAudioFeaturesCall.request()).thenReturn(new Request.Builder().url(fakeUrl).build());
         when(mockedAudioFeaturesCollectionCall.request()).thenReturn(new Request.Builder().url(fakeUrl).build());
         when(mockedAudioAnalysisCall.request()).thenReturn(new Request.Builder().url(fakeUrl).build());
+        when(mockedColumnarAudioAnalysisCall.request()).thenReturn(new Request.Builder().url(fakeUrl).build());
+        when(mockedResponseBodyCall.request()).thenReturn(new Request.Builder().url(fakeUrl).build());
     }
 
     @Test
@@ -299,4 +309,83 @@ public class TrackApiRetrofitTest extends AbstractApiRetrofitTest {
         Assertions.assertNotNull(sut.getTrackAudioAnalysis(fakeTrackId));
     }
 
+    @Test
+    void getTrackColumnarAudioAnalysisUsesCorrectValuesToCreateHttpCall() throws IOException {
+        when(mockedColumnarAudioAnalysisCall.execute()).thenReturn(Response.success(ColumnarAudioAnalysis.from(new AudioAnalysis())));
+
+        sut.getTrackColumnarAudioAnalysis(fakeTrackId);
+
+        verify(mockedTrackService).getTrackColumnarAudioAnalysis(fakeAccessTokenWithBearer, fakeTrackId);
+    }
+
+    @Test
+    void getTrackColumnarAudioAnalysisThrowsSpotifyActionFailedExceptionWhenError() throws IOException {
+        when(mockedColumnarAudioAnalysisCall.execute())
+                .thenReturn(
+                        Response.error(
+                                400,
+                                ResponseBody.create(MediaType.get("application/json"), getJson("error.json"))
+                        )
+                );
+
+        Assertions.assertThrows(SpotifyActionFailedException.class, () -> sut.getTrackColumnarAudioAnalysis(fakeTrackId));
+    }
+
+    @Test
+    void getTrackColumnarAudioAnalysisReturnsColumnarAudioAnalysisWhenSuccessful() throws IOException {
+        when(mockedColumnarAudioAnalysisCall.execute()).thenReturn(Response.success(ColumnarAudioAnalysis.from(new AudioAnalysis())));
+
+        Assertions.assertNotNull(sut.getTrackColumnarAudioAnalysis(fakeTrackId));
+    }
+
+    @Test
+    void streamTrackAudioAnalysisUsesCorrectValuesToCreateHttpCall() throws IOException {
+        when(mockedResponseBodyCall.execute()).thenReturn(Response.success(ResponseBody.create(MediaType.get("application/json"), "{}")));
+
+        sut.streamTrackAudioAnalysis(fakeTrackId, new AudioAnalysisVisitor() {
+        });
+
+        verify(mockedTrackService).streamTrackAudioAnalysis(fakeAccessTokenWithBearer, fakeTrackId);
+    }
+
+    @Test
+    void streamTrackAudioAnalysisVisitsElementsOfResponseBody() throws IOException {
+        when(mockedResponseBodyCall.execute()).thenReturn(Response.success(ResponseBody.create(
+                MediaType.get("application/json"),
+                getJson("data/tracks/GetAudioAnalysisForTrackRequest.json"))));
+        final int[] visitedBeats = new int[1];
+
+        sut.streamTrackAudioAnalysis(fakeTrackId, new AudioAnalysisVisitor() {
+            @Override
+            public boolean visitBeat(float start, float duration, float confidence) {
+                visitedBeats[0]++;
+                return true;
+            }
+        });
+
+        Assertions.assertEquals(1, visitedBeats[0]);
+    }
+
+    @Test
+    void streamTrackAudioAnalysisThrowsSpotifyActionFailedExceptionWhenError() throws IOException {
+        when(mockedResponseBodyCall.execute())
+                .thenReturn(
+                        Response.error(
+                                400,
+                                ResponseBody.create(MediaType.get("application/json"), getJson("error.json"))
+                        )
+                );
+
+        Assertions.assertThrows(SpotifyActionFailedException.class, () -> sut.streamTrackAudioAnalysis(fakeTrackId, new AudioAnalysisVisitor() {
+        }));
+    }
+
+    @Test
+    void streamTrackAudioAnalysisThrowsHttpRequestFailedWhenHttpFails() throws IOException {
+        when(mockedResponseBodyCall.execute()).thenThrow(IOException.class);
+
+        Assertions.assertThrows(HttpRequestFailedException.class, () -> sut.streamTrackAudioAnalysis(fakeTrackId, new AudioAnalysisVisitor() {
+        }));
+    }
+
 }
@@ -0,0 +1,194 @@
+package spotify.api.paging;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import spotify.exceptions.SpotifyActionFailedException;
+import spotify.models.generic.Cursor;
+import spotify.models.paging.CursorBasedPaging;
+import spotify.models.paging.Paging;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class PagesTest {
+    private final List<Map<String, String>> requestedOptions = new CopyOnWriteArrayList<>();
+
+    @Test
+    void iteratorReturnsItemsOfAllPagesInOrder() {
+        final PageIterator<Integer> sut = Pages.iterator(this::fetchOffsetPage, 2, Map.of("market", "NL"));
+
+        final List<Integer> items = new ArrayList<>();
+        sut.forEachRemaining(items::add);
+
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4), items);
+        Assertions.assertEquals(Arrays.asList(null, "2", "4"),
+                requestedOptions.stream().map(options -> options.get("offset")).collect(Collectors.toList()));
+        Assertions.assertTrue(requestedOptions.stream().allMatch(options -> "2".equals(options.get("limit")) && "NL".equals(options.get("market"))));
+    }
+
+    @Test
+    void iteratorStartsAtOffsetOfOptions() {
+        final PageIterator<Integer> sut = Pages.iterator(this::fetchOffsetPage, 2, Map.of("offset", "3"));
+
+        final List<Integer> items = new ArrayList<>();
+        sut.forEachRemaining(items::add);
+
+        Assertions.assertEquals(List.of(3, 4), items);
+    }
+
+    @Test
+    void iteratorRequestsFirstPageOnFirstHasNextOnCallingThread() {
+        final List<Thread> requestingThreads = new CopyOnWriteArrayList<>();
+        final PageIterator<Integer> sut = Pages.iterator(options -> {
+            requestingThreads.add(Thread.currentThread());
+            return fetchOffsetPage(options);
+        }, 2, Collections.emptyMap());
+
+        Assertions.assertTrue(requestedOptions.isEmpty());
+        Assertions.assertTrue(sut.hasNext());
+        Assertions.assertSame(Thread.currentThread(), requestingThreads.get(0));
+    }
+
+    @Test
+    void iteratorRequestsNothingWhenClosedBeforeFirstHasNext() {
+        final PageIterator<Integer> sut = Pages.iterator(this::fetchOffsetPage, 2, Collections.emptyMap());
+
+        sut.close();
+
+        Assertions.assertFalse(sut.hasNext());
+        Assertions.assertTrue(requestedOptions.isEmpty());
+    }
+
+    @Test
+    void streamStopsRequestingPagesWhenConsumerStops() throws InterruptedException {
+        final List<Integer> items;
+
+        try (Stream<Integer> sut = Pages.stream(this::fetchOffsetPage, 1, Collections.emptyMap())) {
+            items = sut.limit(2).collect(Collectors.toList());
+        }
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        Assertions.assertEquals(List.of(0, 1), items);
+        Assertions.assertTrue(requestedOptions.size() <= 3, "Expected at most one page ahead but got " + requestedOptions);
+    }
+
+    @Test
+    void cursorBasedIteratorFollowsCursorOfNextUrl() {
+        final PageIterator<Integer> sut = Pages.cursorBasedIterator(this::fetchCursorPage, 2, Collections.emptyMap());
+
+        final List<Integer> items = new ArrayList<>();
+        sut.forEachRemaining(items::add);
+
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4), items);
+        Assertions.assertEquals(Arrays.asList(null, "1", "3"),
+                requestedOptions.stream().map(options -> options.get("after")).collect(Collectors.toList()));
+    }
+
+    @Test
+    void iteratorThrowsExceptionOfFailedPageWhenItIsReached() {
+        final PageIterator<Integer> sut = Pages.iterator(options -> {
+            if (options.containsKey("offset")) {
+                throw new SpotifyActionFailedException("Page has failed");
+            }
+
+            return fetchOffsetPage(options);
+        }, 2, Collections.emptyMap());
+
+        Assertions.assertEquals(0, (int) sut.next());
+        Assertions.assertEquals(1, (int) sut.next());
+        Assertions.assertThrows(SpotifyActionFailedException.class, sut::hasNext);
+    }
+
+    @Test
+    void iteratorThrowsWhenLimitIsNotPositive() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Pages.iterator(this::fetchOffsetPage, 0, Collections.emptyMap()));
+    }
+
+    @Test
+    void forEachConcurrentlyHandsItemsOfAllPagesToConsumerInOrder() {
+        final List<Integer> items = new ArrayList<>();
+
+        Pages.forEachConcurrently(this::fetchOffsetPage, 1, Collections.emptyMap(), 3, items::add);
+
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4), items);
+        Assertions.assertEquals(5, requestedOptions.size());
+    }
+
+    @Test
+    void forEachConcurrentlyRequestsAtMostMaximumPagesAtTheSameTime() {
+        final AtomicInteger concurrentRequests = new AtomicInteger();
+        final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+        final List<Integer> items = new ArrayList<>();
+
+        Pages.forEachConcurrently(options -> {
+            maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(20);
+                return fetchOffsetPage(options);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                concurrentRequests.decrementAndGet();
+            }
+        }, 1, Collections.emptyMap(), 2, items::add);
+
+        Assertions.assertEquals(List.of(0, 1, 2, 3, 4), items);
+        Assertions.assertEquals(2, maxConcurrentRequests.get());
+    }
+
+    @Test
+    void forEachConcurrentlyThrowsExceptionOfFailedPage() {
+        final List<Integer> items = new ArrayList<>();
+
+        Assertions.assertThrows(SpotifyActionFailedException.class, () -> Pages.forEachConcurrently(options -> {
+            if ("2".equals(options.get("offset"))) {
+                throw new SpotifyActionFailedException("Page has failed");
+            }
+
+            return fetchOffsetPage(options);
+        }, 1, Collections.emptyMap(), 2, items::add));
+        Assertions.assertEquals(List.of(0, 1), items);
+    }
+
+    /**
+     * Pages over the five items 0 up to 4.
+     */
+    private Paging<Integer> fetchOffsetPage(final Map<String, String> options) {
+        requestedOptions.add(options);
+
+        final int offset = Integer.parseInt(options.getOrDefault("offset", "0"));
+        final int limit = Integer.parseInt(options.get("limit"));
+        final Paging<Integer> paging = new Paging<>();
+        paging.setOffset(offset);
+        paging.setLimit(limit);
+        paging.setTotal(5);
+        paging.setItems(IntStream.range(offset, Math.min(5, offset + limit)).boxed().collect(Collectors.toList()));
+        paging.setNext(offset + limit < 5 ? "https://api.spotify.com/v1/me/tracks?offset=" + (offset + limit) : null);
+
+        return paging;
+    }
+
+    /**
+     * Pages over the five items 0 up to 4, with the last item of a page as its after cursor.
+     */
+    private CursorBasedPaging<Integer> fetchCursorPage(final Map<String, String> options) {
+        requestedOptions.add(options);
+
+        final int first = Integer.parseInt(options.getOrDefault("after", "-1")) + 1;
+        final int limit = Integer.parseInt(options.get("limit"));
+        final int last = Math.min(5, first + limit) - 1;
+        final Cursor cursor = new Cursor();
+        cursor.setAfter(String.valueOf(last));
+        final CursorBasedPaging<Integer> paging = new CursorBasedPaging<>();
+        paging.setItems(IntStream.rangeClosed(first, last).boxed().collect(Collectors.toList()));
+        paging.setCursors(cursor);
+        paging.setNext(last < 4 ? "https://api.spotify.com/v1/me/following?type=artist&after=" + last + "&limit=" + limit : null);
+
+        return paging;
+    }
+}
@@ -0,0 +1,130 @@
+package spotify.api.playlists;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class PlaylistDiffTest {
+    @Test
+    void planIsEmptyWhenPlaylistMatchesTarget() {
+        final List<String> uris = createUris(0, 10);
+
+        Assertions.assertTrue(PlaylistDiff.plan("snapshot", uris, uris).isEmpty());
+    }
+
+    @Test
+    void planMovesSingleItemWithOneRequest() {
+        final List<String> current = createUris(0, 500);
+        final List<String> target = new ArrayList<>(current);
+        target.add(10, target.remove(400));
+
+        final PlaylistPlan plan = PlaylistDiff.plan("snapshot", current, target);
+
+        Assertions.assertEquals(1, plan.size());
+        Assertions.assertTrue(plan.getOperations().get(0) instanceof ReorderItemsOperation);
+        assertPlanResultsInTarget(current, target, plan);
+    }
+
+    @Test
+    void planMovesContiguousItemsAsOneRange() {
+        final List<String> current = createUris(0, 50);
+        final List<String> target = new ArrayList<>(current.subList(30, 40));
+        target.addAll(current.subList(0, 30));
+        target.addAll(current.subList(40, 50));
+
+        final PlaylistPlan plan = PlaylistDiff.plan("snapshot", current, target);
+
+        Assertions.assertEquals(1, plan.size());
+        Assertions.assertEquals(10, ((ReorderItemsOperation) plan.getOperations().get(0)).getRangeLength());
+        assertPlanResultsInTarget(current, target, plan);
+    }
+
+    @Test
+    void planBatchesAdditionsAndRemovalsPerHundredItems() {
+        final List<String> current = createUris(0, 300);
+        final List<String> target = new ArrayList<>(current.subList(150, 300));
+        target.addAll(createUris(1000, 1250));
+
+        final PlaylistPlan plan = PlaylistDiff.plan("snapshot", current, target);
+
+        Assertions.assertEquals(2, count(plan, DeleteItemsOperation.class));
+        Assertions.assertEquals(3, count(plan, AddItemsOperation.class));
+        Assertions.assertEquals(0, count(plan, ReorderItemsOperation.class));
+        assertPlanResultsInTarget(current, target, plan);
+    }
+
+    @Test
+    void planOnlyRemovesSurplusDuplicates() {
+        final List<String> current = Arrays.asList("a", "b", "a", "c", "a");
+        final List<String> target = Arrays.asList("a", "b", "c");
+
+        final PlaylistPlan plan = PlaylistDiff.plan("snapshot", current, target);
+
+        Assertions.assertEquals(1, plan.size());
+        Assertions.assertEquals(Collections.singletonMap("a", Arrays.asList(2, 4)),
+                ((DeleteItemsOperation) plan.getOperations().get(0)).getPositionsByUri());
+        assertPlanResultsInTarget(current, target, plan);
+    }
+
+    @Test
+    void planResultsInTargetForRandomEdits() {
+        final Random random = new Random(42);
+
+        for (int run = 0; run < 200; run++) {
+            final List<String> current = randomUris(random, random.nextInt(400));
+            final List<String> target = randomUris(random, random.nextInt(400));
+
+            assertPlanResultsInTarget(current, target, PlaylistDiff.plan("snapshot", current, target));
+        }
+    }
+
+    @Test
+    void planMovesNoMoreItemsThanAreOutsideLongestIncreasingSubsequence() {
+        final Random random = new Random(7);
+        final List<String> current = createUris(0, 1000);
+        final List<String> target = new ArrayList<>(current);
+
+        for (int i = 0; i < 20; i++) {
+            target.add(random.nextInt(target.size()), target.remove(random.nextInt(target.size())));
+        }
+
+        final PlaylistPlan plan = PlaylistDiff.plan("snapshot", current, target);
+
+        Assertions.assertTrue(plan.size() <= 20);
+        assertPlanResultsInTarget(current, target, plan);
+    }
+
+    private static void assertPlanResultsInTarget(final List<String> current, final List<String> target, final PlaylistPlan plan) {
+        final List<String> uris = new ArrayList<>(current);
+
+        for (PlaylistOperation operation : plan.getOperations()) {
+            if (operation instanceof DeleteItemsOperation) {
+                ((DeleteItemsOperation) operation).getPositionsByUri().forEach((uri, positions) ->
+                        positions.forEach(position -> Assertions.assertEquals(uri, uris.get(position))));
+            }
+
+            operation.applyTo(uris);
+        }
+
+        Assertions.assertEquals(target, uris);
+    }
+
+    private static long count(final PlaylistPlan plan, final Class<? extends PlaylistOperation> type) {
+        return plan.getOperations().stream().filter(type::isInstance).count();
+    }
+
+    private static List<String> randomUris(final Random random, final int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> "spotify:track:" + random.nextInt(300))
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> createUris(final int from, final int to) {
+        return IntStream.range(from, to)
+                .mapToObj(i -> "spotify:track:" + i)
+                .collect(Collectors.toList());
+    }
+}
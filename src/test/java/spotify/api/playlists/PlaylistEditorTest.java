@@ -0,0 +1,129 @@
+package spotify.api.playlists;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import spotify.api.interfaces.PlaylistApi;
+import spotify.models.paging.Paging;
+import spotify.models.playlists.PlaylistFull;
+import spotify.models.playlists.PlaylistTrack;
+import spotify.models.playlists.Snapshot;
+import spotify.models.playlists.requests.DeleteItemsPlaylistRequestBody;
+import spotify.models.playlists.requests.ReorderPlaylistItemsRequestBody;
+import spotify.models.tracks.TrackFull;
+
+import java.util.*;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+public class PlaylistEditorTest {
+    private final String fakePlaylistId = "playlist-1";
+    private final List<String> playlist = new ArrayList<>();
+    private final List<String> requestedSnapshotIds = new ArrayList<>();
+    private int snapshots;
+    private PlaylistEditor sut;
+    @Mock
+    private PlaylistApi mockedPlaylistApi;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        for (int i = 0; i < 150; i++) {
+            playlist.add("spotify:track:" + i);
+        }
+
+        when(mockedPlaylistApi.getPlaylist(eq(fakePlaylistId), anyMap())).thenAnswer(invocation -> {
+            final PlaylistFull playlistFull = new PlaylistFull();
+            playlistFull.setSnapshotId(snapshotId());
+            playlistFull.setTracks(createPage(0));
+
+            return playlistFull;
+        });
+        when(mockedPlaylistApi.getPlaylistTracks(eq(fakePlaylistId), anyMap())).thenAnswer(invocation ->
+                createPage(Integer.parseInt(invocation.<Map<String, String>>getArgument(1).get("offset"))));
+        when(mockedPlaylistApi.deleteItemsFromPlaylist(eq(fakePlaylistId), any())).thenAnswer(invocation -> {
+            final DeleteItemsPlaylistRequestBody requestBody = invocation.getArgument(1);
+            requestedSnapshotIds.add(requestBody.getSnapshotId());
+            final Map<String, List<Integer>> positions = new HashMap<>();
+            requestBody.getTracks().forEach(item -> Arrays.stream(item.getPositions()).forEach(position ->
+                    positions.computeIfAbsent(item.getUri(), uri -> new ArrayList<>()).add(position)));
+            new DeleteItemsOperation(positions).applyTo(playlist);
+
+            return nextSnapshot();
+        });
+        when(mockedPlaylistApi.reorderPlaylistItems(eq(fakePlaylistId), any())).thenAnswer(invocation -> {
+            final ReorderPlaylistItemsRequestBody requestBody = invocation.getArgument(1);
+            requestedSnapshotIds.add(requestBody.getSnapshotId());
+            new ReorderItemsOperation(requestBody.getRangeStart(), requestBody.getRangeLength(), requestBody.getInsertBefore()).applyTo(playlist);
+
+            return nextSnapshot();
+        });
+        when(mockedPlaylistApi.addItemToPlaylist(anyList(), eq(fakePlaylistId), anyInt())).thenAnswer(invocation -> {
+            playlist.addAll(invocation.<Integer>getArgument(2), invocation.getArgument(0));
+
+            return nextSnapshot();
+        });
+
+        sut = new PlaylistEditor(mockedPlaylistApi);
+    }
+
+    @Test
+    void syncMakesPlaylistMatchTarget() {
+        final List<String> target = new ArrayList<>(playlist.subList(10, 150));
+        target.add(0, "spotify:track:new");
+        target.add(100, target.remove(120));
+
+        final PlaylistPlan plan = sut.sync(fakePlaylistId, target);
+
+        Assertions.assertEquals(target, playlist);
+        Assertions.assertEquals(3, plan.size());
+    }
+
+    @Test
+    void applyBasesEveryRequestOnSnapshotOfPreviousRequest() {
+        final List<String> target = new ArrayList<>(playlist.subList(1, 150));
+        target.add(50, target.remove(0));
+        target.add(100, target.remove(120));
+
+        sut.sync(fakePlaylistId, target);
+
+        Assertions.assertEquals(Arrays.asList("snapshot-0", "snapshot-1", "snapshot-2"), requestedSnapshotIds);
+    }
+
+    private String snapshotId() {
+        return "snapshot-" + snapshots;
+    }
+
+    private Snapshot nextSnapshot() {
+        snapshots++;
+        final Snapshot snapshot = new Snapshot();
+        snapshot.setSnapshotId(snapshotId());
+
+        return snapshot;
+    }
+
+    private Paging<PlaylistTrack> createPage(final int offset) {
+        final List<PlaylistTrack> items = new ArrayList<>();
+
+        for (int i = offset; i < Math.min(offset + 100, playlist.size()); i++) {
+            final TrackFull track = new TrackFull();
+            track.setUri(playlist.get(i));
+            final PlaylistTrack playlistTrack = new PlaylistTrack();
+            playlistTrack.setTrack(track);
+            items.add(playlistTrack);
+        }
+
+        final Paging<PlaylistTrack> page = new Paging<>();
+        page.setItems(items);
+        page.setOffset(offset);
+        page.setLimit(100);
+        page.setTotal(playlist.size());
+        page.setNext(offset + 100 < playlist.size() ? "next" : null);
+
+        return page;
+    }
+}
@@ -0,0 +1,158 @@
+package spotify.api.playlists;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import spotify.api.interfaces.PlaylistApi;
+import spotify.api.interfaces.TrackApi;
+import spotify.models.audio.AudioFeatures;
+import spotify.models.audio.AudioFeaturesCollection;
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.generic.AbstractPlayableObject;
+import spotify.models.paging.Paging;
+import spotify.models.playlists.PlaylistFull;
+import spotify.models.playlists.PlaylistTrack;
+import spotify.models.playlists.Snapshot;
+import spotify.models.playlists.requests.ReorderPlaylistItemsRequestBody;
+import spotify.models.tracks.TrackFull;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+
+public class PlaylistSorterTest {
+    private final String fakePlaylistId = "playlist-1";
+    private final Comparator<AudioFeatures> byTempo = Comparator.comparing(AudioFeatures::getTempo);
+    private final List<String> playlist = new ArrayList<>();
+    private final List<String> requestedSnapshotIds = new ArrayList<>();
+    private final AtomicInteger audioFeaturesRequests = new AtomicInteger();
+    private int snapshots;
+    private PlaylistSorter sut;
+    @Mock
+    private PlaylistApi mockedPlaylistApi;
+    @Mock
+    private TrackApi mockedTrackApi;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        for (int i = 0; i < 250; i++) {
+            playlist.add(String.valueOf(i));
+        }
+
+        when(mockedPlaylistApi.getPlaylist(eq(fakePlaylistId), anyMap())).thenAnswer(invocation -> {
+            final PlaylistFull playlistFull = new PlaylistFull();
+            playlistFull.setSnapshotId("snapshot-" + snapshots);
+            playlistFull.setTracks(createPage(0));
+
+            return playlistFull;
+        });
+        when(mockedPlaylistApi.getPlaylistTracks(eq(fakePlaylistId), anyMap())).thenAnswer(invocation ->
+                createPage(Integer.parseInt(invocation.<Map<String, String>>getArgument(1).get("offset"))));
+        when(mockedPlaylistApi.reorderPlaylistItems(eq(fakePlaylistId), any())).thenAnswer(invocation -> {
+            final ReorderPlaylistItemsRequestBody requestBody = invocation.getArgument(1);
+            requestedSnapshotIds.add(requestBody.getSnapshotId());
+            new ReorderItemsOperation(requestBody.getRangeStart(), requestBody.getRangeLength(), requestBody.getInsertBefore()).applyTo(playlist);
+            final Snapshot snapshot = new Snapshot();
+            snapshot.setSnapshotId("snapshot-" + ++snapshots);
+
+            return snapshot;
+        });
+        when(mockedTrackApi.getTracksAudioFeatures(anyList())).thenAnswer(invocation -> {
+            audioFeaturesRequests.incrementAndGet();
+            final List<String> trackIds = invocation.getArgument(0);
+            Assertions.assertTrue(trackIds.size() <= 100);
+            final AudioFeaturesCollection audioFeaturesCollection = new AudioFeaturesCollection();
+            audioFeaturesCollection.setAudioFeatures(trackIds.stream().map(PlaylistSorterTest::createAudioFeatures).collect(Collectors.toList()));
+
+            return audioFeaturesCollection;
+        });
+
+        sut = new PlaylistSorter(mockedPlaylistApi, mockedTrackApi);
+    }
+
+    @Test
+    void sortDoesNotRequestAnythingWhenPlaylistIsSorted() {
+        final PlaylistPlan plan = sut.sort(fakePlaylistId, byTempo);
+
+        Assertions.assertTrue(plan.isEmpty());
+        Assertions.assertEquals(3, audioFeaturesRequests.get());
+    }
+
+    @Test
+    void sortMovesOnlyItemsOutsideLongestIncreasingSubsequence() {
+        playlist.add(10, playlist.remove(200));
+        playlist.add(150, playlist.remove(3));
+        playlist.add(0, playlist.remove(249));
+
+        final PlaylistPlan plan = sut.sort(fakePlaylistId, byTempo);
+
+        Assertions.assertEquals(3, plan.size());
+        Assertions.assertEquals(sorted(), playlist);
+        Assertions.assertEquals(Arrays.asList("snapshot-0", "snapshot-1", "snapshot-2"), requestedSnapshotIds);
+    }
+
+    @Test
+    void sortMovesBlockOfNeighbouringItemsWithOneRequest() {
+        final List<String> block = new ArrayList<>(playlist.subList(100, 140));
+        playlist.subList(100, 140).clear();
+        playlist.addAll(20, block);
+
+        final PlaylistPlan plan = sut.sort(fakePlaylistId, byTempo);
+
+        Assertions.assertEquals(1, plan.size());
+        Assertions.assertEquals(sorted(), playlist);
+    }
+
+    @Test
+    void sortMovesItemsWithoutAudioFeaturesToTheEnd() {
+        playlist.set(5, "episode");
+        playlist.remove(6);
+        playlist.add(0, "199");
+
+        sut.sort(fakePlaylistId, byTempo);
+
+        Assertions.assertEquals("199", playlist.get(197));
+        Assertions.assertEquals("199", playlist.get(198));
+        Assertions.assertEquals("episode", playlist.get(playlist.size() - 1));
+    }
+
+    private List<String> sorted() {
+        return playlist.stream().sorted(Comparator.comparingInt(Integer::parseInt)).collect(Collectors.toList());
+    }
+
+    private Paging<PlaylistTrack> createPage(final int offset) {
+        final List<PlaylistTrack> items = new ArrayList<>();
+
+        for (int i = offset; i < Math.min(offset + 100, playlist.size()); i++) {
+            final AbstractPlayableObject track = "episode".equals(playlist.get(i)) ? new EpisodeFull() : new TrackFull();
+            track.setId(playlist.get(i));
+            final PlaylistTrack playlistTrack = new PlaylistTrack();
+            playlistTrack.setTrack(track);
+            items.add(playlistTrack);
+        }
+
+        final Paging<PlaylistTrack> page = new Paging<>();
+        page.setItems(items);
+        page.setOffset(offset);
+        page.setLimit(100);
+        page.setTotal(playlist.size());
+        page.setNext(offset + 100 < playlist.size() ? "next" : null);
+
+        return page;
+    }
+
+    private static AudioFeatures createAudioFeatures(final String trackId) {
+        final AudioFeatures audioFeatures = new AudioFeatures();
+        audioFeatures.setId(trackId);
+        audioFeatures.setTempo(Integer.parseInt(trackId));
+
+        return audioFeatures;
+    }
+}
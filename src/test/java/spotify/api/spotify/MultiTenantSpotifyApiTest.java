@@ -0,0 +1,156 @@
+package spotify.api.spotify;
+
+import okhttp3.Request;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.Call;
+import retrofit2.Response;
+import spotify.api.authorization.ScopedAccessTokenProvider;
+import spotify.api.impl.AlbumApiRetrofit;
+import spotify.api.impl.TrackApiRetrofit;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.TrackFull;
+import spotify.models.tracks.TrackSimplified;
+import spotify.retrofit.services.AlbumService;
+import spotify.retrofit.services.TrackService;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class MultiTenantSpotifyApiTest {
+    private final String fakeTrackId = "69";
+    private final Map<String, String> fakeOptionalParameters = new HashMap<>();
+    private MultiTenantSpotifyApi sut;
+    @Mock
+    private TrackService mockedTrackService;
+    @Mock
+    private AlbumService mockedAlbumService;
+    @Mock
+    private Call<TrackFull> mockedTrackFullCall;
+
+    @BeforeEach
+    void setup() throws IOException {
+        MockitoAnnotations.openMocks(this);
+
+        final ScopedAccessTokenProvider accessTokenProvider = new ScopedAccessTokenProvider();
+        final SpotifyApi spotifyApi = new SpotifyApi(accessTokenProvider);
+        spotifyApi.setApis(new TrackApiRetrofit(accessTokenProvider, mockedTrackService), new AlbumApiRetrofit(accessTokenProvider, mockedAlbumService));
+
+        sut = new MultiTenantSpotifyApi(accessTokenProvider, spotifyApi);
+
+        when(mockedTrackService.getTrack("Bearer first", fakeTrackId, fakeOptionalParameters)).thenReturn(mockedTrackFullCall);
+        when(mockedTrackService.getTrack("Bearer second", fakeTrackId, fakeOptionalParameters)).thenReturn(mockedTrackFullCall);
+        when(mockedTrackFullCall.request()).thenReturn(new Request.Builder().url("https://jiankai.nl").build());
+        when(mockedTrackFullCall.execute()).thenReturn(Response.success(new TrackFull()));
+    }
+
+    @Test
+    void executeUsesAccessTokenOfEachRequest() {
+        sut.execute("first", api -> api.getTrack(fakeTrackId, fakeOptionalParameters));
+        sut.execute("second", api -> api.getTrack(fakeTrackId, fakeOptionalParameters));
+
+        verify(mockedTrackService).getTrack("Bearer first", fakeTrackId, fakeOptionalParameters);
+        verify(mockedTrackService).getTrack("Bearer second", fakeTrackId, fakeOptionalParameters);
+    }
+
+    @Test
+    void executeUsesAccessTokenOfProvider() {
+        sut.execute(() -> "first", api -> api.getTrack(fakeTrackId, fakeOptionalParameters));
+
+        verify(mockedTrackService).getTrack("Bearer first", fakeTrackId, fakeOptionalParameters);
+    }
+
+    @Test
+    void executeReturnsResultOfApiCall() {
+        Assertions.assertNotNull(sut.execute("first", api -> api.getTrack(fakeTrackId, fakeOptionalParameters)));
+    }
+
+    @Test
+    void runExecutesApiCall() {
+        sut.run("first", api -> api.getTrack(fakeTrackId, fakeOptionalParameters));
+
+        verify(mockedTrackService).getTrack("Bearer first", fakeTrackId, fakeOptionalParameters);
+    }
+
+    @Test
+    void streamRequestsEveryPageWithAccessTokenOfExecute() {
+        when(mockedAlbumService.getAlbumTracks(anyString(), eq("album"), anyMap())).thenAnswer(invocation -> {
+            final Map<String, String> options = invocation.getArgument(2);
+            return createAlbumTracksCall(Integer.parseInt(options.getOrDefault("offset", "0")));
+        });
+
+        final List<String> trackIds = sut.execute("first", api -> {
+            try (Stream<TrackSimplified> tracks = api.streamAlbumTracks("album", Collections.emptyMap())) {
+                return tracks.map(TrackSimplified::getId).collect(Collectors.toList());
+            }
+        });
+
+        Assertions.assertEquals(List.of("0", "1", "2", "3", "4"), trackIds);
+        verify(mockedAlbumService, times(3)).getAlbumTracks(eq("Bearer first"), eq("album"), anyMap());
+    }
+
+    @Test
+    void streamKeepsAccessTokenOfExecuteWhenConsumedAfterwards() {
+        when(mockedAlbumService.getAlbumTracks(anyString(), eq("album"), anyMap())).thenAnswer(invocation -> {
+            final Map<String, String> options = invocation.getArgument(2);
+            return createAlbumTracksCall(Integer.parseInt(options.getOrDefault("offset", "0")));
+        });
+
+        final List<String> trackIds;
+        try (Stream<TrackSimplified> tracks = sut.execute("first", api -> api.streamAlbumTracks("album", Collections.emptyMap()))) {
+            trackIds = sut.execute("second", api -> tracks.map(TrackSimplified::getId).collect(Collectors.toList()));
+        }
+
+        Assertions.assertEquals(List.of("0", "1", "2", "3", "4"), trackIds);
+        verify(mockedAlbumService, times(3)).getAlbumTracks(eq("Bearer first"), eq("album"), anyMap());
+        verify(mockedAlbumService, never()).getAlbumTracks(eq("Bearer second"), eq("album"), anyMap());
+    }
+
+    @Test
+    void streamKeepsAccessTokenOfExecuteWhenConsumedWithoutAccessToken() {
+        when(mockedAlbumService.getAlbumTracks(anyString(), eq("album"), anyMap())).thenAnswer(invocation -> {
+            final Map<String, String> options = invocation.getArgument(2);
+            return createAlbumTracksCall(Integer.parseInt(options.getOrDefault("offset", "0")));
+        });
+
+        final List<String> trackIds;
+        try (Stream<TrackSimplified> tracks = sut.execute("first", api -> api.streamAlbumTracks("album", Collections.emptyMap()))) {
+            trackIds = tracks.map(TrackSimplified::getId).collect(Collectors.toList());
+        }
+
+        Assertions.assertEquals(List.of("0", "1", "2", "3", "4"), trackIds);
+        verify(mockedAlbumService, times(3)).getAlbumTracks(eq("Bearer first"), eq("album"), anyMap());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Call<Paging<TrackSimplified>> createAlbumTracksCall(final int offset) throws IOException {
+        final List<TrackSimplified> tracks = new ArrayList<>();
+        for (int i = offset; i < Math.min(5, offset + 2); i++) {
+            final TrackSimplified track = new TrackSimplified();
+            track.setId(String.valueOf(i));
+            tracks.add(track);
+        }
+
+        final Paging<TrackSimplified> page = new Paging<>();
+        page.setItems(tracks);
+        page.setOffset(offset);
+        page.setTotal(5);
+        page.setNext(offset + 2 < 5 ? "https://api.spotify.com/v1/albums/album/tracks?offset=" + (offset + 2) : null);
+
+        final Call<Paging<TrackSimplified>> call = mock(Call.class);
+        when(call.request()).thenReturn(new Request.Builder().url("https://jiankai.nl").build());
+        when(call.execute()).thenReturn(Response.success(page));
+
+        return call;
+    }
+}
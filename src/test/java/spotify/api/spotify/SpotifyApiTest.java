@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import spotify.api.impl.TrackApiRetrofit;
 import spotify.api.interfaces.AlbumApi;
+import spotify.config.BatchingConfig;
 import spotify.models.tracks.TrackFull;
 
 import java.util.HashMap;
@@ -39,4 +40,11 @@ public class SpotifyApiTest {
     void getTrackReturnsTrackFullObject() {
         Assertions.assertTrue(sut.getTrack(fakeTrackId, fakeMap) instanceof TrackFull);
     }
+
+    @Test
+    void builderThrowsIllegalArgumentExceptionWithoutAccessTokenProvider() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SpotifyApi.Builder()
+                .setBatchingConfig(BatchingConfig.defaultConfig())
+                .build());
+    }
 }
@@ -0,0 +1,186 @@
+package spotify.api.sync;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import spotify.api.interfaces.LibraryApi;
+import spotify.config.LibrarySyncConfig;
+import spotify.models.paging.Paging;
+import spotify.models.tracks.SavedTrackFull;
+import spotify.models.tracks.TrackFull;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.when;
+
+public class LibrarySyncTest {
+    private final String fakeUserId = "user-1";
+    private final LibrarySyncConfig config = new LibrarySyncConfig.Builder()
+            .setPageSize(10)
+            .setFullSyncInterval(Duration.ofHours(1))
+            .build();
+    private final AtomicLong ticker = new AtomicLong();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<LibraryDelta> deltas = new CopyOnWriteArrayList<>();
+    private final List<String> library = new CopyOnWriteArrayList<>();
+    private final Set<String> unavailableTracks = new HashSet<>();
+    private int savedTracks;
+
+    @Mock
+    private LibraryApi mockedLibraryApi;
+
+    private LibrarySync sut;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        when(mockedLibraryApi.getSavedTracks(anyMap())).thenAnswer(invocation -> {
+            requests.incrementAndGet();
+            return createPage(invocation.getArgument(0));
+        });
+
+        for (int i = 0; i < 95; i++) {
+            saveTrack();
+        }
+
+        sut = new LibrarySync(deltas::add, config, ticker::get);
+    }
+
+    @Test
+    void syncReportsAllItemsAsAddedOnFirstSync() {
+        final LibraryDelta delta = sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+
+        Assertions.assertTrue(delta.isFullSync());
+        Assertions.assertEquals(library, delta.getAddedIds());
+        Assertions.assertEquals(10, delta.getRequests());
+        Assertions.assertEquals(library, sut.getSnapshot(fakeUserId, LibraryItemType.TRACKS).getIds());
+        Assertions.assertEquals(1, deltas.size());
+    }
+
+    @Test
+    void syncRequestsOnlyTheNewestPageWhenItemsHaveBeenSaved() {
+        sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+        final String first = saveTrack();
+        final String second = saveTrack();
+        requests.set(0);
+
+        final LibraryDelta delta = sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+
+        Assertions.assertFalse(delta.isFullSync());
+        Assertions.assertEquals(Arrays.asList(second, first), delta.getAddedIds());
+        Assertions.assertEquals(1, requests.get());
+        Assertions.assertEquals(library, sut.getSnapshot(fakeUserId, LibraryItemType.TRACKS).getIds());
+    }
+
+    @Test
+    void syncDoesNotNotifyListenerWhenNothingHasChanged() {
+        sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+        requests.set(0);
+
+        final LibraryDelta delta = sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+
+        Assertions.assertTrue(delta.isEmpty());
+        Assertions.assertEquals(1, requests.get());
+        Assertions.assertEquals(1, deltas.size());
+    }
+
+    @Test
+    void syncRequestsAllPagesWhenTotalDoesNotMatch() {
+        sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+        final String removed = library.remove(40);
+        final String added = saveTrack();
+
+        final LibraryDelta delta = sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+
+        Assertions.assertTrue(delta.isFullSync());
+        Assertions.assertEquals(Collections.singletonList(added), delta.getAddedIds());
+        Assertions.assertEquals(Collections.singletonList(removed), delta.getRemovedIds());
+        Assertions.assertEquals(library, sut.getSnapshot(fakeUserId, LibraryItemType.TRACKS).getIds());
+    }
+
+    @Test
+    void syncRequestsAllPagesWhenFullSyncIntervalHasPassed() {
+        sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+        final String removed = library.remove(40);
+        saveTrack();
+        library.remove(0);
+        ticker.addAndGet(Duration.ofHours(1).toNanos());
+
+        final LibraryDelta delta = sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+
+        Assertions.assertTrue(delta.isFullSync());
+        Assertions.assertEquals(Collections.singletonList(removed), delta.getRemovedIds());
+        Assertions.assertTrue(delta.getAddedIds().isEmpty());
+    }
+
+    @Test
+    void syncContinuesIncrementallyFromRestoredSnapshot() {
+        sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+        final LibrarySnapshot snapshot = sut.getSnapshot(fakeUserId, LibraryItemType.TRACKS);
+        final LibrarySync restoredSync = new LibrarySync(deltas::add, config, ticker::get);
+        restoredSync.restoreSnapshot(fakeUserId, LibraryItemType.TRACKS, snapshot);
+        final String added = saveTrack();
+        requests.set(0);
+
+        final LibraryDelta delta = restoredSync.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+
+        Assertions.assertEquals(Collections.singletonList(added), delta.getAddedIds());
+        Assertions.assertEquals(1, requests.get());
+    }
+
+    @Test
+    void syncStaysIncrementalWhenSavedItemsAreUnavailable() {
+        unavailableTracks.add(library.get(40));
+        sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+        final String added = saveTrack();
+        requests.set(0);
+
+        final LibraryDelta delta = sut.sync(fakeUserId, mockedLibraryApi, LibraryItemType.TRACKS);
+
+        Assertions.assertFalse(delta.isFullSync());
+        Assertions.assertEquals(Collections.singletonList(added), delta.getAddedIds());
+        Assertions.assertEquals(1, requests.get());
+        Assertions.assertEquals(1, sut.getSnapshot(fakeUserId, LibraryItemType.TRACKS).getUnavailableCount());
+        Assertions.assertEquals(library.size() - 1, sut.getSnapshot(fakeUserId, LibraryItemType.TRACKS).size());
+    }
+
+    private String saveTrack() {
+        final String id = "track-" + savedTracks++;
+        library.add(0, id);
+
+        return id;
+    }
+
+    private Paging<SavedTrackFull> createPage(final Map<String, String> options) {
+        final int offset = Integer.parseInt(options.getOrDefault("offset", "0"));
+        final int limit = Integer.parseInt(options.get("limit"));
+        final List<SavedTrackFull> items = new ArrayList<>();
+
+        for (int i = offset; i < Math.min(offset + limit, library.size()); i++) {
+            final String id = library.get(i);
+            final TrackFull track = new TrackFull();
+            track.setId(id);
+            final SavedTrackFull savedTrack = new SavedTrackFull();
+            savedTrack.setTrack(unavailableTracks.contains(id) ? null : track);
+            savedTrack.setAddedAt(String.format("2021-01-01T00:%02d:%02dZ", Integer.parseInt(id.substring(6)) / 60, Integer.parseInt(id.substring(6)) % 60));
+            items.add(savedTrack);
+        }
+
+        final Paging<SavedTrackFull> page = new Paging<>();
+        page.setItems(items);
+        page.setOffset(offset);
+        page.setLimit(limit);
+        page.setTotal(library.size());
+        page.setNext(offset + limit < library.size() ? "https://api.spotify.com/v1/me/tracks?offset=" + (offset + limit) : null);
+
+        return page;
+    }
+}
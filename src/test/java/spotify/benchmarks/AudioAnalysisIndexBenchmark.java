@@ -0,0 +1,111 @@
+package spotify.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import spotify.factories.ConverterRegistry;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.Segment;
+import spotify.models.audio.TimeInterval;
+import spotify.playback.AudioAnalysisIndex;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares finding the beat and segment at a position of the track by scanning the lists of an {@link AudioAnalysis}
+ * with a lookup in an {@link AudioAnalysisIndex}.
+ * <p>
+ * Every invocation does {@value #LOOKUPS} lookups at random positions, as many as a light show polling once every
+ * tenth of a millisecond does in a second, so the average time shows whether a track keeps up with that rate. The GC
+ * profiler shows that the index does not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AudioAnalysisIndexBenchmark {
+    private static final int LOOKUPS = 10_000;
+
+    @Param({"2000"})
+    private int segments;
+
+    private AudioAnalysis audioAnalysis;
+    private AudioAnalysisIndex index;
+    private float[] positions;
+
+    @Setup
+    public void setup() throws IOException {
+        final String json = AudioAnalysisMemoryBenchmark.createAnalysis(segments);
+        final Random random = new Random(42);
+        final List<Segment> segmentList;
+
+        audioAnalysis = ConverterRegistry.getGson().fromJson(json, AudioAnalysis.class);
+        index = AudioAnalysisIndex.of(audioAnalysis);
+        segmentList = audioAnalysis.getSegments();
+        positions = new float[LOOKUPS];
+
+        final float end = segmentList.get(segmentList.size() - 1).getStart();
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = random.nextFloat() * end;
+        }
+    }
+
+    @Benchmark
+    public long linearScan() {
+        long sum = 0;
+
+        for (float position : positions) {
+            sum += linearIndexOfBeat(audioAnalysis.getBeats(), position) + linearIndexOfSegment(audioAnalysis.getSegments(), position);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long index() {
+        final AudioAnalysisIndex.Timeline beats = index.getBeats();
+        final AudioAnalysisIndex.Timeline segments = index.getSegments();
+        long sum = 0;
+
+        for (float position : positions) {
+            sum += beats.indexAt(position) + segments.indexAt(position);
+        }
+
+        return sum;
+    }
+
+    private static int linearIndexOfBeat(final List<TimeInterval> beats, final float position) {
+        int index = -1;
+
+        for (int i = 0; i < beats.size() && beats.get(i).getStart() <= position; i++) {
+            index = i;
+        }
+
+        return index;
+    }
+
+    private static int linearIndexOfSegment(final List<Segment> segments, final float position) {
+        int index = -1;
+
+        for (int i = 0; i < segments.size() && segments.get(i).getStart() <= position; i++) {
+            index = i;
+        }
+
+        return index;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AudioAnalysisIndexBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
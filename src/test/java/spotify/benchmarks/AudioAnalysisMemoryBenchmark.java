@@ -0,0 +1,134 @@
+package spotify.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import spotify.factories.ConverterRegistry;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.ColumnarAudioAnalysis;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares the memory of an {@link AudioAnalysis} with that of a {@link ColumnarAudioAnalysis}, for an analysis with
+ * as many segments as a track of a few minutes.
+ * <p>
+ * The benchmarks deserialize the analysis, so the GC profiler shows the heap allocated per analysis. Before running
+ * them, {@link #main(String[])} prints the heap that stays in use per analysis:
+ * {@code java -cp <test classpath> spotify.benchmarks.AudioAnalysisMemoryBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AudioAnalysisMemoryBenchmark {
+    private static final String FIXTURE = "src/test/resources/fixtures/responses/data/tracks/GetAudioAnalysisForTrackRequest.json";
+    private static final int RETAINED_ANALYSES = 50;
+
+    @Param({"2000"})
+    private int segments;
+
+    private String json;
+    private Gson gson;
+
+    @Setup
+    public void setup() throws IOException {
+        json = createAnalysis(segments);
+        gson = ConverterRegistry.getGson();
+    }
+
+    @Benchmark
+    public AudioAnalysis objectGraph() {
+        return gson.fromJson(json, AudioAnalysis.class);
+    }
+
+    @Benchmark
+    public ColumnarAudioAnalysis columnar() {
+        return gson.fromJson(json, ColumnarAudioAnalysis.class);
+    }
+
+    /**
+     * Repeats the bars, beats, segments and tatums of the fixture until the analysis has the amount of segments, with
+     * about four beats and eight tatums per second and a segment every quarter of a second.
+     */
+    static String createAnalysis(final int segments) throws IOException {
+        final JsonObject fixture = new JsonParser().parse(Files.readString(Path.of(FIXTURE))).getAsJsonObject();
+        final JsonObject analysis = fixture.deepCopy();
+
+        analysis.add("bars", repeat(fixture.getAsJsonArray("bars"), segments / 16, 4f));
+        analysis.add("beats", repeat(fixture.getAsJsonArray("beats"), segments, 0.25f));
+        analysis.add("segments", repeat(fixture.getAsJsonArray("segments"), segments, 0.25f));
+        analysis.add("tatums", repeat(fixture.getAsJsonArray("tatums"), segments * 2, 0.125f));
+
+        return analysis.toString();
+    }
+
+    private static JsonArray repeat(final JsonArray elements, final int amount, final float interval) {
+        final JsonArray repeated = new JsonArray();
+
+        for (int i = 0; i < amount; i++) {
+            final JsonElement element = elements.get(i % elements.size()).deepCopy();
+            element.getAsJsonObject().addProperty("start", i * interval);
+            element.getAsJsonObject().addProperty("duration", interval);
+            repeated.add(element);
+        }
+
+        return repeated;
+    }
+
+    private static long measureRetainedBytes(final Supplier<Object> supplier) {
+        final Object[] retained = new Object[RETAINED_ANALYSES];
+        final long before = usedHeap();
+
+        for (int i = 0; i < retained.length; i++) {
+            retained[i] = supplier.get();
+        }
+
+        final long after = usedHeap();
+
+        if (retained[retained.length - 1] == null) {
+            throw new IllegalStateException("The analysis has not been deserialized!");
+        }
+
+        return (after - before) / retained.length;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        final String json = createAnalysis(2000);
+        final Gson gson = ConverterRegistry.getGson();
+
+        System.out.println("Retained bytes per AudioAnalysis: "
+                + measureRetainedBytes(() -> gson.fromJson(json, AudioAnalysis.class)));
+        System.out.println("Retained bytes per ColumnarAudioAnalysis: "
+                + measureRetainedBytes(() -> gson.fromJson(json, ColumnarAudioAnalysis.class)));
+
+        new Runner(new OptionsBuilder()
+                .include(AudioAnalysisMemoryBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,111 @@
+package spotify.benchmarks;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import spotify.factories.ModelTypeAdapterFactory;
+import spotify.factories.PlayableObjectTypeAdapterFactory;
+import spotify.models.albums.AlbumFull;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.playlists.PlaylistFull;
+import spotify.models.tracks.TrackFull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares deserializing the fixtures with the generated {@link ModelTypeAdapterFactory} against Gson's reflective
+ * type adapters.
+ * <p>
+ * The {@code firstUse} benchmarks create a new Gson instance for every parse, so they include the cost of creating the
+ * adapters, which is where the reflective adapters inspect the fields of every model. Run with the GC profiler to see
+ * the heap allocated per parse: {@code java -cp <test classpath> spotify.benchmarks.ModelDeserializationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelDeserializationBenchmark {
+    private static final String FIXTURES = "src/test/resources/fixtures/responses/data/";
+
+    @Param({"tracks/GetTrackRequest.json", "albums/GetAlbumRequest.json", "playlists/GetPlaylistRequest.json", "tracks/GetAudioAnalysisForTrackRequest.json"})
+    private String fixture;
+
+    private String json;
+    private Class<?> modelClass;
+    private Gson reflectiveGson;
+    private Gson generatedGson;
+
+    @Setup
+    public void setup() throws IOException {
+        json = Files.readString(Path.of(FIXTURES + fixture));
+        modelClass = getModelClass(fixture);
+        reflectiveGson = createReflectiveGson();
+        generatedGson = createGeneratedGson();
+    }
+
+    @Benchmark
+    public Object reflectiveAdapters() {
+        return reflectiveGson.fromJson(json, modelClass);
+    }
+
+    @Benchmark
+    public Object generatedAdapters() {
+        return generatedGson.fromJson(json, modelClass);
+    }
+
+    @Benchmark
+    public Object reflectiveAdaptersFirstUse() {
+        return createReflectiveGson().fromJson(json, modelClass);
+    }
+
+    @Benchmark
+    public Object generatedAdaptersFirstUse() {
+        return createGeneratedGson().fromJson(json, modelClass);
+    }
+
+    private static Gson createReflectiveGson() {
+        return new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapterFactory(new PlayableObjectTypeAdapterFactory())
+                .create();
+    }
+
+    private static Gson createGeneratedGson() {
+        return new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+                .registerTypeAdapterFactory(new PlayableObjectTypeAdapterFactory())
+                .create();
+    }
+
+    private static Class<?> getModelClass(final String fixture) {
+        switch (fixture) {
+            case "tracks/GetTrackRequest.json":
+                return TrackFull.class;
+            case "albums/GetAlbumRequest.json":
+                return AlbumFull.class;
+            case "playlists/GetPlaylistRequest.json":
+                return PlaylistFull.class;
+            default:
+                return AudioAnalysis.class;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ModelDeserializationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,101 @@
+package spotify.benchmarks;
+
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import spotify.factories.PlayableObjectTypeAdapterFactory;
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.generic.AbstractPlayableObject;
+import spotify.models.paging.Paging;
+import spotify.models.playlists.PlaylistTrack;
+import spotify.models.tracks.TrackFull;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares deserializing a page of 100 playlist items with the streaming {@link PlayableObjectTypeAdapterFactory}
+ * against building a {@link JsonObject} tree of every item to look up its type, which is what the deserializer it
+ * replaced did.
+ * <p>
+ * The page is made by repeating the items of the playlist fixtures. Run with the GC profiler to see the heap allocated
+ * per page: {@code java -cp <test classpath> spotify.benchmarks.PlayableObjectDeserializationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayableObjectDeserializationBenchmark {
+    private static final Type PLAYLIST_TRACK_PAGING_TYPE = new TypeToken<Paging<PlaylistTrack>>() {
+    }.getType();
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"GetPlaylistsItemsRequest.json", "GetPlaylistsItemsRequest_Episode.json"})
+    private String fixture;
+
+    private String page;
+    private Gson treeGson;
+    private Gson streamingGson;
+
+    @Setup
+    public void setup() throws IOException {
+        final JsonObject fixturePage = new JsonParser()
+                .parse(Files.readString(Path.of("src/test/resources/fixtures/responses/data/playlists/" + fixture)))
+                .getAsJsonObject();
+        final JsonArray fixtureItems = fixturePage.getAsJsonArray("items");
+        final JsonArray items = new JsonArray();
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            items.add(fixtureItems.get(i % fixtureItems.size()));
+        }
+
+        fixturePage.add("items", items);
+        page = fixturePage.toString();
+
+        treeGson = new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapter(AbstractPlayableObject.class, (JsonDeserializer<AbstractPlayableObject>) (json, type, context) -> {
+                    final String objectType = json.getAsJsonObject().get("type").getAsString();
+
+                    if (objectType.equals("track")) {
+                        return context.deserialize(json, TrackFull.class);
+                    } else if (objectType.equals("episode")) {
+                        return context.deserialize(json, EpisodeFull.class);
+                    }
+
+                    return null;
+                })
+                .create();
+        streamingGson = new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapterFactory(new PlayableObjectTypeAdapterFactory())
+                .create();
+    }
+
+    @Benchmark
+    public Paging<PlaylistTrack> treeDeserializer() {
+        return treeGson.fromJson(page, PLAYLIST_TRACK_PAGING_TYPE);
+    }
+
+    @Benchmark
+    public Paging<PlaylistTrack> streamingTypeAdapter() {
+        return streamingGson.fromJson(page, PLAYLIST_TRACK_PAGING_TYPE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PlayableObjectDeserializationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
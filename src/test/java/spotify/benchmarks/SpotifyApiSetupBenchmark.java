@@ -0,0 +1,72 @@
+package spotify.benchmarks;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.GsonBuilder;
+import okhttp3.OkHttpClient;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+import spotify.api.spotify.SpotifyApi;
+import spotify.config.ApiUrl;
+import spotify.retrofit.services.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of setting up a {@link SpotifyApi} on the shared transport
+ * with building a separate Retrofit and OkHttp client for each of its services.
+ * <p>
+ * Every separate OkHttp client owns its own connection pool and dispatcher, so besides the setup cost shown here
+ * each of them also has to open and keep alive its own TLS connections. Run with the GC profiler to see the heap
+ * allocated per facade: {@code java -cp <test classpath> spotify.benchmarks.SpotifyApiSetupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpotifyApiSetupBenchmark {
+    private static final String API_BASE_URL_HTTPS_WITH_VERSION = ApiUrl.API_URL_HTTPS + ApiUrl.VERSION;
+    private static final Class<?>[] SERVICES_PER_FACADE = {
+            TrackService.class, AlbumService.class, UserService.class, EpisodeService.class, ShowService.class,
+            ArtistService.class, BrowseService.class, FollowService.class, LibraryService.class, PlaylistService.class,
+            PersonalizationService.class, PlayerService.class, SearchService.class, MarketService.class
+    };
+
+    @Benchmark
+    public SpotifyApi sharedTransport() {
+        return new SpotifyApi("access-token");
+    }
+
+    @Benchmark
+    public Object[] transportPerService() {
+        final Object[] services = new Object[SERVICES_PER_FACADE.length];
+
+        for (int i = 0; i < SERVICES_PER_FACADE.length; i++) {
+            final Retrofit retrofit = new Retrofit.Builder()
+                    .baseUrl(API_BASE_URL_HTTPS_WITH_VERSION)
+                    .client(new OkHttpClient())
+                    .addConverterFactory(GsonConverterFactory.create(new GsonBuilder()
+                            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                            .create()))
+                    .build();
+
+            services[i] = retrofit.create(SERVICES_PER_FACADE[i]);
+        }
+
+        return services;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SpotifyApiSetupBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,33 @@
+package spotify.factories;
+
+import com.google.gson.TypeAdapter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import spotify.models.errors.SpotifyError;
+import spotify.models.tracks.TrackFull;
+
+public class ConverterRegistryTest {
+    @Test
+    void getGsonReturnsSameInstanceEveryTime() {
+        Assertions.assertSame(ConverterRegistry.getGson(), ConverterRegistry.getGson());
+        Assertions.assertSame(ConverterRegistry.getConverterFactory(), ConverterRegistry.getConverterFactory());
+    }
+
+    @Test
+    void prewarmCreatesTypeAdaptersThatAreReusedAfterwards() {
+        ConverterRegistry.prewarm();
+
+        final TypeAdapter<TrackFull> typeAdapter = ConverterRegistry.getGson().getAdapter(TrackFull.class);
+
+        Assertions.assertTrue(typeAdapter instanceof TrackFullTypeAdapter);
+        Assertions.assertSame(typeAdapter, ConverterRegistry.getGson().getAdapter(TrackFull.class));
+    }
+
+    @Test
+    void getErrorGsonReadsSpotifyError() {
+        final SpotifyError spotifyError = ConverterRegistry.getErrorGson()
+                .fromJson("{\"error\": {\"status\": 404, \"message\": \"Not found\"}}", SpotifyError.class);
+
+        Assertions.assertEquals(404, spotifyError.getError().getStatus());
+    }
+}
@@ -0,0 +1,107 @@
+package spotify.factories;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spotify.models.markets.MarketFull;
+import spotify.models.markets.MarketSet;
+import spotify.models.tracks.TrackFull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class MarketSetTypeAdapterTest {
+    private Gson sut;
+
+    @BeforeEach
+    void setup() {
+        sut = ConverterRegistry.getGson();
+    }
+
+    @Test
+    void readsAvailableMarketsOfTrackAsListInResponseOrder() throws IOException {
+        final String json = Files.readString(Path.of("src/test/resources/fixtures/responses/data/tracks/GetTrackRequest.json"));
+
+        final TrackFull trackFull = sut.fromJson(json, TrackFull.class);
+
+        Assertions.assertFalse(trackFull.getAvailableMarkets() instanceof MarketSet);
+        Assertions.assertTrue(trackFull.getAvailableMarketSet().isAvailableIn(trackFull.getAvailableMarkets().get(0)));
+    }
+
+    @Test
+    void getMarketsKeepsOrderAndDuplicatesOfResponse() {
+        final MarketFull marketFull = sut.fromJson("{\"markets\": [\"NL\", \"BE\", \"ZW\", \"AD\", \"NL\"]}", MarketFull.class);
+
+        Assertions.assertEquals(Arrays.asList("NL", "BE", "ZW", "AD", "NL"), marketFull.getMarkets());
+    }
+
+    @Test
+    void getMarketSetIsSetOfMarketsInAlphabeticalOrder() {
+        final MarketFull marketFull = sut.fromJson("{\"markets\": [\"NL\", \"BE\", \"ZW\", \"AD\", \"NL\"]}", MarketFull.class);
+
+        Assertions.assertEquals(Arrays.asList("AD", "BE", "NL", "ZW"), marketFull.getMarketSet());
+        Assertions.assertEquals(Arrays.asList("AD", "BE", "NL", "ZW"), new ArrayList<>(marketFull.getMarketSet()));
+        Assertions.assertEquals("ZW", marketFull.getMarketSet().get(3));
+    }
+
+    @Test
+    void readsArrayOfMarketsIntoMarketSet() {
+        Assertions.assertEquals(Arrays.asList("BE", "NL"), sut.fromJson("[\"NL\", \"BE\"]", MarketSet.class));
+    }
+
+    @Test
+    void writesMarketSetAsArrayOfMarkets() {
+        Assertions.assertEquals("[\"BE\",\"NL\"]", sut.toJson(MarketSet.of("NL", "BE")));
+    }
+
+    @Test
+    void isAvailableInReturnsWhetherSetHoldsMarket() {
+        final MarketSet marketSet = MarketSet.of("NL", "BE");
+
+        Assertions.assertTrue(marketSet.isAvailableIn("NL"));
+        Assertions.assertFalse(marketSet.isAvailableIn("DE"));
+        Assertions.assertFalse(marketSet.isAvailableIn("nl"));
+        Assertions.assertFalse(marketSet.isAvailableIn(null));
+    }
+
+    @Test
+    void setOperationsCombineMarkets() {
+        final MarketSet benelux = MarketSet.of("BE", "NL", "LU");
+        final MarketSet dach = MarketSet.of("DE", "AT", "CH", "LU");
+
+        Assertions.assertEquals(Arrays.asList("AT", "BE", "CH", "DE", "LU", "NL"), benelux.union(dach));
+        Assertions.assertEquals(List.of("LU"), benelux.intersection(dach));
+        Assertions.assertEquals(Arrays.asList("BE", "NL"), benelux.difference(dach));
+        Assertions.assertTrue(benelux.intersects(dach));
+        Assertions.assertFalse(benelux.intersects(MarketSet.of("FR")));
+        Assertions.assertTrue(benelux.containsAll(MarketSet.of("BE", "NL")));
+        Assertions.assertFalse(benelux.containsAll(dach));
+    }
+
+    @Test
+    void keepsMarketsThatAreNotTwoUppercaseLetters() {
+        final MarketSet marketSet = MarketSet.of("NL", "from_token");
+
+        Assertions.assertEquals(Arrays.asList("NL", "from_token"), marketSet);
+        Assertions.assertTrue(marketSet.isAvailableIn("from_token"));
+        Assertions.assertEquals(List.of("from_token"), marketSet.difference(MarketSet.of("NL")));
+    }
+
+    @Test
+    void getAvailableMarketSetOfModelIsNullWithoutMarkets() {
+        final TrackFull trackFull = new TrackFull();
+
+        Assertions.assertNull(trackFull.getAvailableMarketSet());
+
+        trackFull.setAvailableMarkets(Arrays.asList("SE", "NO"));
+
+        Assertions.assertEquals(Arrays.asList("SE", "NO"), trackFull.getAvailableMarkets());
+        Assertions.assertTrue(trackFull.getAvailableMarketSet().isAvailableIn("SE"));
+        Assertions.assertEquals(Arrays.asList("NO", "SE"), trackFull.getAvailableMarketSet());
+    }
+}
@@ -0,0 +1,84 @@
+package spotify.factories;
+
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spotify.models.albums.AlbumFull;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.markets.MarketFull;
+import spotify.models.paging.Paging;
+import spotify.models.players.CurrentlyPlayingObject;
+import spotify.models.playlists.PlaylistFull;
+import spotify.models.playlists.requests.CreateUpdatePlaylistRequestBody;
+import spotify.models.recommendations.RecommendationCollection;
+import spotify.models.shows.ShowFull;
+import spotify.models.tracks.TrackFull;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ModelTypeAdapterFactoryTest {
+    private Gson reflectiveGson;
+    private Gson sut;
+
+    @BeforeEach
+    void setup() {
+        reflectiveGson = new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapterFactory(new PlayableObjectTypeAdapterFactory())
+                .create();
+        sut = GsonFactory.getGsonLowerCaseUnderScorePolicyWithAbstractPlayableObjectDeserializer();
+    }
+
+    @Test
+    void factoryCreatesGeneratedAdapterForModels() {
+        Assertions.assertTrue(sut.getAdapter(TrackFull.class) instanceof TrackFullTypeAdapter);
+    }
+
+    @Test
+    void factoryDoesNotCreateAdapterForOtherTypes() {
+        Assertions.assertNull(new ModelTypeAdapterFactory().create(sut, TypeToken.get(String.class)));
+    }
+
+    @Test
+    void generatedAdaptersReadSameModelsAsReflectiveAdapters() throws IOException {
+        assertReadsSameAsReflective("tracks/GetTrackRequest.json", TrackFull.class);
+        assertReadsSameAsReflective("albums/GetAlbumRequest.json", AlbumFull.class);
+        assertReadsSameAsReflective("tracks/GetAudioAnalysisForTrackRequest.json", AudioAnalysis.class);
+        assertReadsSameAsReflective("playlists/GetPlaylistRequest.json", PlaylistFull.class);
+        assertReadsSameAsReflective("shows/GetShowRequest.json", ShowFull.class);
+        assertReadsSameAsReflective("player/GetUsersCurrentlyPlayingTrackRequest_Episode.json", CurrentlyPlayingObject.class);
+        assertReadsSameAsReflective("browse/GetRecommendationsRequest.json", RecommendationCollection.class);
+        assertReadsSameAsReflective("playlists/GetPlaylistsItemsRequest.json", new TypeToken<Paging<spotify.models.playlists.PlaylistTrack>>() {
+        }.getType());
+    }
+
+    @Test
+    void generatedAdapterReadsModelWithoutSetterThroughReflectiveAdapter() {
+        final MarketFull marketFull = sut.fromJson("{\"markets\": [\"NL\", \"BE\"]}", MarketFull.class);
+
+        Assertions.assertEquals(2, marketFull.getMarkets().size());
+    }
+
+    @Test
+    void generatedAdapterWritesSerializedNameOfField() {
+        final JsonObject json = sut.toJsonTree(new CreateUpdatePlaylistRequestBody("name", null, true, false)).getAsJsonObject();
+
+        Assertions.assertTrue(json.get("public").getAsBoolean());
+        Assertions.assertFalse(json.has("description"));
+    }
+
+    private void assertReadsSameAsReflective(final String fixture, final Type type) throws IOException {
+        final String json = Files.readString(Path.of("src/test/resources/fixtures/responses/data/" + fixture));
+
+        final Object generated = sut.fromJson(json, type);
+        final Object reflective = reflectiveGson.fromJson(json, type);
+
+        Assertions.assertEquals(reflectiveGson.toJsonTree(reflective), reflectiveGson.toJsonTree(generated), fixture);
+        Assertions.assertEquals(reflectiveGson.toJsonTree(reflective), sut.toJsonTree(generated), fixture);
+    }
+}
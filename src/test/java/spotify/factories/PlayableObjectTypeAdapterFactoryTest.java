@@ -0,0 +1,84 @@
+package spotify.factories;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spotify.models.episodes.EpisodeFull;
+import spotify.models.generic.AbstractPlayableObject;
+import spotify.models.paging.Paging;
+import spotify.models.playlists.PlaylistTrack;
+import spotify.models.tracks.TrackFull;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class PlayableObjectTypeAdapterFactoryTest {
+    private final Type playlistTrackPagingType = new TypeToken<Paging<PlaylistTrack>>() {
+    }.getType();
+    private final Type playableObjectListType = new TypeToken<List<AbstractPlayableObject>>() {
+    }.getType();
+    private Gson sut;
+
+    @BeforeEach
+    void setup() {
+        sut = GsonFactory.getGsonLowerCaseUnderScorePolicyWithAbstractPlayableObjectDeserializer();
+    }
+
+    @Test
+    void adapterMapsToTrackFullObjectWhenTypeIsTrack() throws IOException {
+        final Paging<PlaylistTrack> paging = sut.fromJson(getJson("GetPlaylistsItemsRequest.json"), playlistTrackPagingType);
+
+        final AbstractPlayableObject object = paging.getItems().get(0).getTrack();
+
+        Assertions.assertTrue(object instanceof TrackFull);
+        Assertions.assertEquals("Otra Vez (feat. J Balvin)", object.getName());
+        Assertions.assertEquals(209453, object.getDurationMs());
+        Assertions.assertEquals("single", ((TrackFull) object).getAlbum().getAlbumType());
+    }
+
+    @Test
+    void adapterMapsToEpisodeFullObjectWhenTypeIsEpisode() throws IOException {
+        final Paging<PlaylistTrack> paging = sut.fromJson(getJson("GetPlaylistsItemsRequest_Episode.json"), playlistTrackPagingType);
+
+        final AbstractPlayableObject object = paging.getItems().get(0).getTrack();
+
+        Assertions.assertTrue(object instanceof EpisodeFull);
+        Assertions.assertEquals("episode", object.getType());
+    }
+
+    @Test
+    void adapterReadsFieldsAfterType() throws IOException {
+        final Paging<PlaylistTrack> paging = sut.fromJson(getJson("GetPlaylistsItemsRequest.json"), playlistTrackPagingType);
+
+        Assertions.assertEquals("spotify:track:7pk3EpFtmsOdj8iUhjmeCM", paging.getItems().get(0).getTrack().getUri());
+    }
+
+    @Test
+    void adapterSkipsObjectOfUnknownType() {
+        final List<AbstractPlayableObject> objects = sut.fromJson(
+                "[{\"id\": \"1\", \"type\": \"ad\", \"images\": [{\"url\": \"x\"}]}, {\"type\": \"track\", \"id\": \"2\"}]",
+                playableObjectListType);
+
+        Assertions.assertNull(objects.get(0));
+        Assertions.assertEquals("2", objects.get(1).getId());
+    }
+
+    @Test
+    void adapterReturnsNullWhenObjectHasNoType() {
+        final List<AbstractPlayableObject> objects = sut.fromJson(
+                "[{\"id\": \"1\", \"external_urls\": {\"spotify\": \"x\"}}, null]",
+                playableObjectListType);
+
+        Assertions.assertNull(objects.get(0));
+        Assertions.assertNull(objects.get(1));
+    }
+
+    private String getJson(final String fileName) throws IOException {
+        return Files.readString(Path.of("src/test/resources/fixtures/responses/data/playlists/" + fileName));
+    }
+}
@@ -0,0 +1,117 @@
+package spotify.factories;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.http.GET;
+import spotify.config.HttpClientConfig;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class RetrofitHttpServiceFactoryTest {
+
+    @AfterEach
+    void tearDown() {
+        RetrofitHttpServiceFactory.setHttpClientConfig(HttpClientConfig.defaultConfig());
+    }
+
+    @Test
+    void getServiceReturnsSameInstanceOnRepeatedCalls() {
+        Assertions.assertSame(RetrofitHttpServiceFactory.getTrackService(), RetrofitHttpServiceFactory.getTrackService());
+        Assertions.assertSame(RetrofitHttpServiceFactory.getPlaylistService(), RetrofitHttpServiceFactory.getPlaylistService());
+    }
+
+    @Test
+    void retrofitClientsAreSharedPerBaseUrl() {
+        Assertions.assertSame(
+                RetrofitClientFactory.getRetrofitClient("https://jiankai.nl/"),
+                RetrofitClientFactory.getRetrofitClient("https://jiankai.nl/"));
+    }
+
+    @Test
+    void retrofitClientsAreBackedByTheSharedOkHttpClient() {
+        final OkHttpClient sharedOkHttpClient = OkHttpClientFactory.getOkHttpClient();
+
+        Assertions.assertSame(sharedOkHttpClient, RetrofitClientFactory.getRetrofitClient("https://jiankai.nl/").callFactory());
+        Assertions.assertSame(sharedOkHttpClient, RetrofitClientFactory.getRetrofitClientWithAbstractPlayableObjectDeserializer("https://jiankai.nl/").callFactory());
+    }
+
+    @Test
+    void setHttpClientConfigAppliesConfigurationToSharedOkHttpClient() {
+        RetrofitHttpServiceFactory.setHttpClientConfig(new HttpClientConfig.Builder()
+                .setMaxRequests(12)
+                .setMaxRequestsPerHost(6)
+                .setConnectTimeout(Duration.ofSeconds(3))
+                .build());
+
+        final OkHttpClient okHttpClient = OkHttpClientFactory.getOkHttpClient();
+
+        Assertions.assertEquals(12, okHttpClient.dispatcher().getMaxRequests());
+        Assertions.assertEquals(6, okHttpClient.dispatcher().getMaxRequestsPerHost());
+        Assertions.assertEquals(3000, okHttpClient.connectTimeoutMillis());
+    }
+
+    @Test
+    void setHttpClientConfigKeepsServicesCreatedBeforeWorking() throws Exception {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/ping", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            final PingService serviceCreatedBefore = RetrofitClientFactory
+                    .getRetrofitClient("http://localhost:" + server.getAddress().getPort() + "/")
+                    .create(PingService.class);
+
+            RetrofitHttpServiceFactory.setHttpClientConfig(HttpClientConfig.defaultConfig());
+
+            final CompletableFuture<Integer> statusCode = new CompletableFuture<>();
+            serviceCreatedBefore.ping().enqueue(new Callback<ResponseBody>() {
+                @Override
+                public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
+                    statusCode.complete(response.code());
+                }
+
+                @Override
+                public void onFailure(Call<ResponseBody> call, Throwable throwable) {
+                    statusCode.completeExceptionally(throwable);
+                }
+            });
+
+            Assertions.assertEquals(200, (int) statusCode.get(10, TimeUnit.SECONDS));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void setHttpClientConfigCreatesNewServices() {
+        final Object serviceBeforeConfiguring = RetrofitHttpServiceFactory.getAlbumService();
+
+        RetrofitHttpServiceFactory.setHttpClientConfig(HttpClientConfig.defaultConfig());
+
+        Assertions.assertNotSame(serviceBeforeConfiguring, RetrofitHttpServiceFactory.getAlbumService());
+    }
+
+    @Test
+    void builderThrowsIllegalArgumentExceptionWhenLimitsAreNotPositive() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HttpClientConfig.Builder().setMaxRequests(0).build());
+    }
+
+    interface PingService {
+        @GET("ping")
+        Call<ResponseBody> ping();
+    }
+}
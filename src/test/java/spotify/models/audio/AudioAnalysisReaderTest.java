@@ -0,0 +1,129 @@
+package spotify.models.audio;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spotify.factories.ConverterRegistry;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AudioAnalysisReaderTest {
+    private String json;
+
+    @BeforeEach
+    void setup() throws IOException {
+        json = Files.readString(Path.of("src/test/resources/fixtures/responses/data/tracks/GetAudioAnalysisForTrackRequest.json"));
+    }
+
+    @Test
+    void readVisitsElementsInOrderOfResponse() throws IOException {
+        final List<String> visits = new ArrayList<>();
+
+        final boolean completed = AudioAnalysisReader.read(new JsonReader(new StringReader(json)), new RecordingVisitor(visits, Integer.MAX_VALUE));
+
+        Assertions.assertTrue(completed);
+        Assertions.assertEquals(List.of("bar", "beat", "section", "segment", "tatum"), visits);
+    }
+
+    @Test
+    void readVisitsSameValuesAsAudioAnalysis() throws IOException {
+        final Gson gson = ConverterRegistry.getGson();
+        final AudioAnalysis audioAnalysis = gson.fromJson(json, AudioAnalysis.class);
+        final List<Float> values = new ArrayList<>();
+
+        AudioAnalysisReader.read(new JsonReader(new StringReader(json)), new AudioAnalysisVisitor() {
+            @Override
+            public boolean visitBar(float start, float duration, float confidence) {
+                values.add(start);
+                return true;
+            }
+
+            @Override
+            public boolean visitSection(Section section) {
+                values.add(section.getTempo());
+                return true;
+            }
+
+            @Override
+            public boolean visitSegment(StreamedSegment segment) {
+                values.add(segment.getLoudnessMax());
+                values.add(segment.getPitch(11));
+                values.add(segment.getTimbre(0));
+                return true;
+            }
+        });
+
+        final Segment segment = audioAnalysis.getSegments().get(0);
+        Assertions.assertEquals(List.of(
+                audioAnalysis.getBars().get(0).getStart(),
+                audioAnalysis.getSections().get(0).getTempo(),
+                segment.getLoudnessMax(),
+                segment.getPitches().get(11),
+                segment.getTimbre().get(0)), values);
+    }
+
+    @Test
+    void readStopsWhenVisitorReturnsFalse() throws IOException {
+        final List<String> visits = new ArrayList<>();
+
+        final boolean completed = AudioAnalysisReader.read(new JsonReader(new StringReader(json)), new RecordingVisitor(visits, 2));
+
+        Assertions.assertFalse(completed);
+        Assertions.assertEquals(List.of("bar", "beat"), visits);
+    }
+
+    @Test
+    void readThrowsJsonSyntaxExceptionWhenJsonIsNotAnAnalysis() {
+        Assertions.assertThrows(JsonSyntaxException.class, () ->
+                AudioAnalysisReader.read(new JsonReader(new StringReader("{\"bars\": {}}")), new AudioAnalysisVisitor() {
+                }));
+    }
+
+    private static class RecordingVisitor implements AudioAnalysisVisitor {
+        private final List<String> visits;
+        private final int maximumVisits;
+
+        private RecordingVisitor(final List<String> visits, final int maximumVisits) {
+            this.visits = visits;
+            this.maximumVisits = maximumVisits;
+        }
+
+        private boolean record(final String visit) {
+            visits.add(visit);
+            return visits.size() < maximumVisits;
+        }
+
+        @Override
+        public boolean visitBar(float start, float duration, float confidence) {
+            return record("bar");
+        }
+
+        @Override
+        public boolean visitBeat(float start, float duration, float confidence) {
+            return record("beat");
+        }
+
+        @Override
+        public boolean visitSection(Section section) {
+            return record("section");
+        }
+
+        @Override
+        public boolean visitSegment(StreamedSegment segment) {
+            return record("segment");
+        }
+
+        @Override
+        public boolean visitTatum(float start, float duration, float confidence) {
+            return record("tatum");
+        }
+    }
+}
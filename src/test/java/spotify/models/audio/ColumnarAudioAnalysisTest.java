@@ -0,0 +1,98 @@
+package spotify.models.audio;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spotify.factories.ConverterRegistry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+public class ColumnarAudioAnalysisTest {
+    private Gson gson;
+    private String json;
+
+    @BeforeEach
+    void setup() throws IOException {
+        gson = ConverterRegistry.getGson();
+        json = Files.readString(Path.of("src/test/resources/fixtures/responses/data/tracks/GetAudioAnalysisForTrackRequest.json"));
+    }
+
+    @Test
+    void readsSameValuesAsAudioAnalysis() {
+        final AudioAnalysis audioAnalysis = gson.fromJson(json, AudioAnalysis.class);
+
+        final ColumnarAudioAnalysis sut = gson.fromJson(json, ColumnarAudioAnalysis.class);
+
+        Assertions.assertEquals(gson.toJsonTree(audioAnalysis.getBars()), gson.toJsonTree(sut.getBars().asList()));
+        Assertions.assertEquals(gson.toJsonTree(audioAnalysis.getBeats()), gson.toJsonTree(sut.getBeats().asList()));
+        Assertions.assertEquals(gson.toJsonTree(audioAnalysis.getSections()), gson.toJsonTree(sut.getSections()));
+        Assertions.assertEquals(gson.toJsonTree(audioAnalysis.getSegments()), gson.toJsonTree(sut.getSegments().asList()));
+        Assertions.assertEquals(gson.toJsonTree(audioAnalysis.getTatums()), gson.toJsonTree(sut.getTatums().asList()));
+    }
+
+    @Test
+    void segmentsKeepPitchesAndTimbreWithStrideOfTwelve() {
+        final ColumnarAudioAnalysis sut = gson.fromJson(json, ColumnarAudioAnalysis.class);
+        final Segment segment = gson.fromJson(json, AudioAnalysis.class).getSegments().get(0);
+
+        Assertions.assertEquals(segment.getLoudnessMax(), sut.getSegments().getLoudnessMax(0));
+        for (int i = 0; i < ColumnarAudioAnalysis.VECTOR_LENGTH; i++) {
+            Assertions.assertEquals((float) segment.getPitches().get(i), sut.getSegments().getPitch(0, i));
+            Assertions.assertEquals((float) segment.getTimbre().get(i), sut.getSegments().getTimbre(0, i));
+        }
+    }
+
+    @Test
+    void readsNullValuesAsZeroAndIgnoresValuesBeyondTwelfth() {
+        final String segmentJson = "{\"segments\": [{\"start\": null, \"duration\": 2.5, "
+                + "\"pitches\": [1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13], \"timbre\": null}]}";
+
+        final ColumnarAudioAnalysis sut = gson.fromJson(segmentJson, ColumnarAudioAnalysis.class);
+
+        Assertions.assertEquals(1, sut.getSegments().size());
+        Assertions.assertEquals(0f, sut.getSegments().getStart(0));
+        Assertions.assertEquals(2.5f, sut.getSegments().getDuration(0));
+        Assertions.assertEquals(12f, sut.getSegments().getPitch(0, ColumnarAudioAnalysis.VECTOR_LENGTH - 1));
+        Assertions.assertEquals(0f, sut.getSegments().getTimbre(0, 0));
+        Assertions.assertEquals(0, sut.getBars().size());
+    }
+
+    @Test
+    void fromCopiesAudioAnalysisIntoColumns() {
+        final Segment segment = new Segment();
+        segment.setStart(1.5f);
+        segment.setPitches(Arrays.asList(0.1f, 0.2f));
+        final AudioAnalysis audioAnalysis = new AudioAnalysis();
+        audioAnalysis.setSegments(Collections.singletonList(segment));
+
+        final ColumnarAudioAnalysis sut = ColumnarAudioAnalysis.from(audioAnalysis);
+
+        Assertions.assertEquals(1, sut.getSegments().size());
+        Assertions.assertEquals(0, sut.getBars().size());
+        Assertions.assertEquals(1.5f, sut.getSegments().getStart(0));
+        Assertions.assertEquals(0.2f, sut.getSegments().getPitch(0, 1));
+        Assertions.assertEquals(0f, sut.getSegments().getPitch(0, 11));
+    }
+
+    @Test
+    void writesSameJsonAsItReads() {
+        final ColumnarAudioAnalysis sut = gson.fromJson(json, ColumnarAudioAnalysis.class);
+
+        final ColumnarAudioAnalysis copy = gson.fromJson(gson.toJson(sut), ColumnarAudioAnalysis.class);
+
+        Assertions.assertEquals(gson.toJsonTree(sut), gson.toJsonTree(copy));
+    }
+
+    @Test
+    void accessorsThrowIndexOutOfBoundsExceptionForUnknownIndex() {
+        final ColumnarAudioAnalysis sut = gson.fromJson(json, ColumnarAudioAnalysis.class);
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sut.getBeats().getStart(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sut.getSegments().getPitch(0, 12));
+    }
+}
@@ -0,0 +1,101 @@
+package spotify.playback;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spotify.factories.ConverterRegistry;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.audio.TimeInterval;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class AudioAnalysisIndexTest {
+    private Gson gson;
+    private String json;
+
+    @BeforeEach
+    void setup() throws IOException {
+        gson = ConverterRegistry.getGson();
+        json = Files.readString(Path.of("src/test/resources/fixtures/responses/data/tracks/GetAudioAnalysisForTrackRequest.json"));
+    }
+
+    @Test
+    void indexAtFindsLastElementStartingAtOrBeforePosition() {
+        final AudioAnalysisIndex.Timeline sut = AudioAnalysisIndex.of(createAnalysis(0f, 0.5f, 1f, 1.5f)).getBeats();
+
+        Assertions.assertEquals(0, sut.indexAt(0f));
+        Assertions.assertEquals(0, sut.indexAt(0.49f));
+        Assertions.assertEquals(1, sut.indexAt(0.5f));
+        Assertions.assertEquals(3, sut.indexAt(20f));
+        Assertions.assertEquals(2, sut.indexAtMs(1200));
+    }
+
+    @Test
+    void indexAtReturnsMinusOneBeforeFirstElement() {
+        final AudioAnalysisIndex sut = AudioAnalysisIndex.of(createAnalysis(1f, 2f));
+
+        Assertions.assertEquals(-1, sut.getBeats().indexAt(0.5f));
+        Assertions.assertEquals(-1, sut.getBars().indexAt(0.5f));
+        Assertions.assertFalse(sut.getBeats().isInside(0.5f));
+        Assertions.assertTrue(sut.getBeats().isInside(1.2f));
+        Assertions.assertFalse(sut.getBeats().isInside(2.6f));
+    }
+
+    @Test
+    void nextStartsAfterCopiesUpcomingStartsThatFit() {
+        final AudioAnalysisIndex.Timeline sut = AudioAnalysisIndex.of(createAnalysis(0f, 0.5f, 1f, 1.5f)).getBeats();
+        final float[] starts = new float[2];
+
+        Assertions.assertEquals(1, sut.nextIndexAfter(0f));
+        Assertions.assertEquals(2, sut.nextStartsAfter(0.2f, starts));
+        Assertions.assertArrayEquals(new float[]{0.5f, 1f}, starts);
+        Assertions.assertEquals(1, sut.nextStartsAfter(1.2f, starts));
+        Assertions.assertEquals(1.5f, starts[0]);
+        Assertions.assertEquals(sut.size(), sut.nextIndexAfter(1.5f));
+    }
+
+    @Test
+    void indexesOfAudioAnalysisAndColumnarAudioAnalysisMatchTheElements() {
+        final AudioAnalysis audioAnalysis = gson.fromJson(json, AudioAnalysis.class);
+        final AudioAnalysisIndex objectGraphIndex = AudioAnalysisIndex.of(audioAnalysis);
+        final AudioAnalysisIndex columnarIndex = AudioAnalysisIndex.of(gson.fromJson(json, ColumnarAudioAnalysis.class));
+
+        for (int i = 0; i < audioAnalysis.getSegments().size(); i++) {
+            final float start = audioAnalysis.getSegments().get(i).getStart();
+
+            Assertions.assertEquals(i, objectGraphIndex.getSegments().indexAt(start));
+            Assertions.assertEquals(i, columnarIndex.getSegments().indexAt(start));
+        }
+        Assertions.assertEquals(audioAnalysis.getSections().get(0).getTempo(), columnarIndex.getSection(0).getTempo());
+    }
+
+    @Test
+    void ofThrowsWhenElementsAreNotSortedByStart() {
+        final AudioAnalysis audioAnalysis = createAnalysis(1f, 0.5f);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AudioAnalysisIndex.of(audioAnalysis));
+    }
+
+    private static AudioAnalysis createAnalysis(final Float... beatStarts) {
+        final List<TimeInterval> beats = new ArrayList<>();
+
+        for (float start : Arrays.asList(beatStarts)) {
+            final TimeInterval beat = new TimeInterval();
+            beat.setStart(start);
+            beat.setDuration(0.5f);
+            beats.add(beat);
+        }
+
+        final AudioAnalysis audioAnalysis = new AudioAnalysis();
+        audioAnalysis.setBeats(beats);
+
+        return audioAnalysis;
+    }
+}
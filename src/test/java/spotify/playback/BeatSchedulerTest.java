@@ -0,0 +1,229 @@
+package spotify.playback;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import spotify.api.interfaces.PlayerApi;
+import spotify.api.interfaces.TrackApi;
+import spotify.config.BeatSchedulerConfig;
+import spotify.models.audio.AudioAnalysis;
+import spotify.models.audio.ColumnarAudioAnalysis;
+import spotify.models.audio.TimeInterval;
+import spotify.models.players.CurrentlyPlayingObject;
+import spotify.models.tracks.TrackFull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class BeatSchedulerTest {
+    private final String fakeTrackId = "track-1";
+    private final List<Integer> beats = new CopyOnWriteArrayList<>();
+    private final List<Integer> bars = new CopyOnWriteArrayList<>();
+    private final AtomicInteger progressMs = new AtomicInteger();
+    private final BeatListener listener = new BeatListener() {
+        @Override
+        public void onBeat(String trackId, AudioAnalysisIndex analysis, int index) {
+            beats.add(index);
+        }
+
+        @Override
+        public void onBar(String trackId, AudioAnalysisIndex analysis, int index) {
+            bars.add(index);
+        }
+    };
+
+    @Mock
+    private PlayerApi mockedPlayerApi;
+    @Mock
+    private TrackApi mockedTrackApi;
+
+    private ManualScheduler scheduler;
+    private BeatScheduler sut;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        when(mockedTrackApi.getTrackColumnarAudioAnalysis(anyString())).thenReturn(createAnalysis());
+        scheduler = new ManualScheduler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) {
+            sut.close();
+        }
+    }
+
+    @Test
+    void startCallsListenerOnUpcomingBeatsAndBarsInOrder() {
+        progressMs.set(100);
+        when(mockedPlayerApi.getCurrentlyPlayedObject(anyMap())).thenAnswer(invocation -> createCurrentlyPlaying(true));
+        sut = createBeatScheduler(createConfig(Duration.ofSeconds(10)), scheduler, scheduler);
+
+        sut.start();
+        scheduler.advance(Duration.ofMillis(500));
+
+        Assertions.assertTrue(beats.size() >= 5, "Expected at least 5 beats but got " + beats);
+        Assertions.assertEquals(3, (int) beats.get(0), "Expected the first beat after the position but got " + beats);
+        for (int i = 1; i < beats.size(); i++) {
+            Assertions.assertEquals(beats.get(i - 1) + 1, (int) beats.get(i));
+        }
+        Assertions.assertFalse(bars.isEmpty());
+    }
+
+    @Test
+    void startDoesNotCallListenerWhilePaused() {
+        when(mockedPlayerApi.getCurrentlyPlayedObject(anyMap())).thenAnswer(invocation -> createCurrentlyPlaying(false));
+        sut = createBeatScheduler(createConfig(Duration.ofMillis(50)), scheduler, scheduler);
+
+        sut.start();
+        scheduler.advance(Duration.ofMillis(300));
+
+        Assertions.assertTrue(beats.isEmpty());
+        verify(mockedPlayerApi, times(7)).getCurrentlyPlayedObject(anyMap());
+    }
+
+    @Test
+    void pollResyncsToPositionAfterSeek() {
+        when(mockedPlayerApi.getCurrentlyPlayedObject(anyMap())).thenAnswer(invocation -> createCurrentlyPlaying(true));
+        sut = createBeatScheduler(createConfig(Duration.ofMillis(100)), scheduler, scheduler);
+
+        sut.start();
+        scheduler.advance(Duration.ofMillis(200));
+        progressMs.set(5000);
+        scheduler.advance(Duration.ofMillis(300));
+
+        Assertions.assertTrue(beats.get(beats.size() - 1) >= 100, "Expected beats after the seek but got " + beats);
+    }
+
+    @Test
+    void pollSendsRequestFromPollerInsteadOfScheduler() {
+        final ManualScheduler poller = new ManualScheduler();
+        when(mockedPlayerApi.getCurrentlyPlayedObject(anyMap())).thenAnswer(invocation -> createCurrentlyPlaying(true));
+        sut = createBeatScheduler(createConfig(Duration.ofSeconds(10)), poller, scheduler);
+
+        sut.start();
+        scheduler.runPending();
+
+        verify(mockedPlayerApi, never()).getCurrentlyPlayedObject(anyMap());
+
+        poller.runPending();
+        scheduler.advance(Duration.ofMillis(200));
+
+        verify(mockedPlayerApi, times(1)).getCurrentlyPlayedObject(anyMap());
+        Assertions.assertFalse(beats.isEmpty());
+    }
+
+    @Test
+    void pollSamplesPositionWhenRequestIsSentInsteadOfWhenItIsQueued() {
+        final ManualScheduler poller = new ManualScheduler();
+        progressMs.set(100);
+        when(mockedPlayerApi.getCurrentlyPlayedObject(anyMap())).thenAnswer(invocation -> createCurrentlyPlaying(true));
+        sut = createBeatScheduler(createConfig(Duration.ofSeconds(10)), poller, scheduler);
+
+        sut.start();
+        scheduler.advance(Duration.ofSeconds(1));
+        poller.runPending();
+        scheduler.advance(Duration.ofMillis(500));
+
+        Assertions.assertFalse(beats.isEmpty());
+        Assertions.assertEquals(3, (int) beats.get(0), "Expected the first beat after the position but got " + beats);
+    }
+
+    @Test
+    void pollDoesNotWaitForAnalysisBeingLoaded() {
+        final ManualScheduler loader = new ManualScheduler();
+        when(mockedPlayerApi.getCurrentlyPlayedObject(anyMap())).thenAnswer(invocation -> createCurrentlyPlaying(true));
+        sut = createBeatScheduler(createConfig(Duration.ofMillis(100)), scheduler, loader);
+
+        sut.start();
+        scheduler.advance(Duration.ofMillis(350));
+
+        verify(mockedPlayerApi, times(4)).getCurrentlyPlayedObject(anyMap());
+        verify(mockedTrackApi, never()).getTrackColumnarAudioAnalysis(anyString());
+    }
+
+    @Test
+    void pollKeepsFiringBeatsWhenRequestFails() {
+        when(mockedPlayerApi.getCurrentlyPlayedObject(anyMap()))
+                .thenAnswer(invocation -> createCurrentlyPlaying(true))
+                .thenThrow(new IllegalStateException("Spotify is down"));
+        sut = createBeatScheduler(createConfig(Duration.ofMillis(100)), scheduler, scheduler);
+
+        sut.start();
+        scheduler.advance(Duration.ofMillis(500));
+
+        Assertions.assertTrue(beats.size() >= 9, "Expected beats between the failed polls but got " + beats);
+        verify(mockedPlayerApi, atLeast(5)).getCurrentlyPlayedObject(anyMap());
+    }
+
+    @Test
+    void prefetchLoadsAnalysisOfTrackOnce() throws Exception {
+        sut = new BeatScheduler(mockedPlayerApi, mockedTrackApi, listener);
+
+        final AudioAnalysisIndex first = sut.prefetch(fakeTrackId).get(1, TimeUnit.SECONDS);
+        final AudioAnalysisIndex second = sut.prefetch(fakeTrackId).get(1, TimeUnit.SECONDS);
+
+        Assertions.assertSame(first, second);
+        verify(mockedTrackApi).getTrackColumnarAudioAnalysis(fakeTrackId);
+    }
+
+    private BeatScheduler createBeatScheduler(final BeatSchedulerConfig config, final ManualScheduler poller, final ManualScheduler loader) {
+        return new BeatScheduler(mockedPlayerApi, mockedTrackApi, listener, config, scheduler, poller, loader, scheduler::nanoTime, 0);
+    }
+
+    private CurrentlyPlayingObject createCurrentlyPlaying(final boolean playing) {
+        final TrackFull track = new TrackFull();
+        track.setId(fakeTrackId);
+        track.setDurationMs(60_000);
+
+        final CurrentlyPlayingObject currentlyPlaying = new CurrentlyPlayingObject();
+        currentlyPlaying.setItem(track);
+        currentlyPlaying.setPlaying(playing);
+        currentlyPlaying.setProgressMs(progressMs.get());
+
+        return currentlyPlaying;
+    }
+
+    private static BeatSchedulerConfig createConfig(final Duration pollInterval) {
+        return new BeatSchedulerConfig.Builder()
+                .setPollInterval(pollInterval)
+                .build();
+    }
+
+    /**
+     * Creates an analysis of a minute with a beat every 50 ms and a bar every 200 ms.
+     */
+    private static ColumnarAudioAnalysis createAnalysis() {
+        final AudioAnalysis audioAnalysis = new AudioAnalysis();
+        audioAnalysis.setBeats(createTimeIntervals(1200, 0.05f));
+        audioAnalysis.setBars(createTimeIntervals(300, 0.2f));
+
+        return ColumnarAudioAnalysis.from(audioAnalysis);
+    }
+
+    private static List<TimeInterval> createTimeIntervals(final int amount, final float duration) {
+        final List<TimeInterval> timeIntervals = new ArrayList<>();
+
+        for (int i = 0; i < amount; i++) {
+            final TimeInterval timeInterval = new TimeInterval();
+            timeInterval.setStart(i * duration);
+            timeInterval.setDuration(duration);
+            timeIntervals.add(timeInterval);
+        }
+
+        return timeIntervals;
+    }
+}
@@ -0,0 +1,136 @@
+package spotify.playback;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.*;
+
+/**
+ * Scheduled executor that runs its tasks on the thread of the test, in the order of their moments, whenever the test
+ * moves its clock forward. Its clock is only moved by the test, so the tests do not depend on the wall clock.
+ */
+class ManualScheduler extends AbstractExecutorService implements ScheduledExecutorService {
+    private final PriorityQueue<Task<?>> tasks = new PriorityQueue<>();
+    private long nanoTime;
+    private long sequence;
+    private boolean shutdown;
+
+    long nanoTime() {
+        return nanoTime;
+    }
+
+    /**
+     * Runs the tasks that are due now, including the tasks that they submit without a delay.
+     */
+    void runPending() {
+        advance(Duration.ZERO);
+    }
+
+    /**
+     * Moves the clock forward, running every task that becomes due at its own moment.
+     */
+    void advance(final Duration duration) {
+        final long targetNanoTime = nanoTime + duration.toNanos();
+
+        while (!tasks.isEmpty() && tasks.peek().dueNanoTime <= targetNanoTime) {
+            final Task<?> task = tasks.poll();
+            nanoTime = Math.max(nanoTime, task.dueNanoTime);
+            task.run();
+        }
+
+        nanoTime = targetNanoTime;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return schedule(Executors.callable(command), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        if (shutdown) {
+            throw new RejectedExecutionException("The scheduler has been shut down.");
+        }
+
+        final Task<V> task = new Task<>(callable, nanoTime + Math.max(0, unit.toNanos(delay)), sequence++);
+        tasks.add(task);
+
+        return task;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        final List<Runnable> pendingTasks = new ArrayList<>(tasks);
+        tasks.clear();
+
+        return pendingTasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && tasks.isEmpty();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+        return isTerminated();
+    }
+
+    private class Task<V> extends FutureTask<V> implements ScheduledFuture<V> {
+        private final long dueNanoTime;
+        private final long sequenceNumber;
+
+        private Task(final Callable<V> callable, final long dueNanoTime, final long sequenceNumber) {
+            super(callable);
+            this.dueNanoTime = dueNanoTime;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            tasks.remove(this);
+
+            return super.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanoTime - nanoTime, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            final Task<?> otherTask = (Task<?>) other;
+            final int comparison = Long.compare(dueNanoTime, otherTask.dueNanoTime);
+
+            return comparison != 0 ? comparison : Long.compare(sequenceNumber, otherTask.sequenceNumber);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package spotify.playback;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import spotify.api.interfaces.AsyncPlayerApi;
+import spotify.config.PlaybackWatcherConfig;
+import spotify.models.players.Device;
+import spotify.models.players.PlayingContext;
+import spotify.models.tracks.TrackFull;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+public class PlaybackWatcherTest {
+    private final String fakeUserId = "user-1";
+    private final PlaybackWatcherConfig config = new PlaybackWatcherConfig.Builder()
+            .setMinInterval(Duration.ofMillis(10))
+            .setMaxInterval(Duration.ofMillis(20))
+            .setIdleInterval(Duration.ofMillis(20))
+            .setJitter(0)
+            .build();
+    private final List<Set<PlaybackChange>> changes = new CopyOnWriteArrayList<>();
+
+    @Mock
+    private AsyncPlayerApi mockedPlayerApi;
+
+    private ManualScheduler scheduler;
+    private PlaybackWatcher sut;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        scheduler = new ManualScheduler();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) {
+            sut.close();
+        }
+    }
+
+    @Test
+    void watchNotifiesListenerOnlyWhenPlaybackChanges() {
+        final AtomicInteger polls = new AtomicInteger();
+        when(mockedPlayerApi.getCurrentPlayingContext(anyMap())).thenAnswer(invocation -> CompletableFuture.completedFuture(
+                createPlayingContext("track-1", "device-1", polls.incrementAndGet() > 3, true)));
+        sut = new PlaybackWatcher(config, scheduler);
+
+        sut.watch(fakeUserId, mockedPlayerApi, (userId, previous, current, playbackChanges) -> changes.add(playbackChanges));
+        scheduler.advance(Duration.ofMillis(300));
+
+        Assertions.assertTrue(polls.get() > 4);
+        Assertions.assertEquals(List.of(EnumSet.allOf(PlaybackChange.class), EnumSet.of(PlaybackChange.SHUFFLE)), changes);
+        Assertions.assertTrue(sut.getState(fakeUserId).isShuffle());
+    }
+
+    @Test
+    void unwatchStopsPollingUser() {
+        final AtomicInteger polls = new AtomicInteger();
+        when(mockedPlayerApi.getCurrentPlayingContext(anyMap())).thenAnswer(invocation -> {
+            polls.incrementAndGet();
+            return CompletableFuture.completedFuture(createPlayingContext("track-1", "device-1", false, true));
+        });
+        sut = new PlaybackWatcher(config, scheduler);
+
+        sut.watch(fakeUserId, mockedPlayerApi, (userId, previous, current, playbackChanges) -> changes.add(playbackChanges));
+        scheduler.advance(Duration.ofMillis(100));
+        sut.unwatch(fakeUserId);
+        final int pollsAfterUnwatch = polls.get();
+        scheduler.advance(Duration.ofMillis(100));
+
+        Assertions.assertTrue(pollsAfterUnwatch > 0);
+        Assertions.assertEquals(pollsAfterUnwatch, polls.get());
+        Assertions.assertEquals(0, sut.getWatchedUsers());
+        Assertions.assertNull(sut.getState(fakeUserId));
+    }
+
+    @Test
+    void watchSchedulesNextPollOnlyWhenResponseHasArrived() {
+        final CompletableFuture<PlayingContext> pendingPlayingContext = new CompletableFuture<>();
+        when(mockedPlayerApi.getCurrentPlayingContext(anyMap()))
+                .thenReturn(pendingPlayingContext)
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(createPlayingContext("track-1", "device-1", false, true)));
+        sut = new PlaybackWatcher(config, scheduler);
+
+        sut.watch(fakeUserId, mockedPlayerApi, (userId, previous, current, playbackChanges) -> changes.add(playbackChanges));
+        scheduler.advance(Duration.ofMillis(100));
+
+        verify(mockedPlayerApi, times(1)).getCurrentPlayingContext(anyMap());
+        Assertions.assertNull(sut.getState(fakeUserId));
+
+        pendingPlayingContext.complete(createPlayingContext("track-1", "device-1", false, true));
+        scheduler.advance(Duration.ofMillis(20));
+
+        verify(mockedPlayerApi, times(2)).getCurrentPlayingContext(anyMap());
+        Assertions.assertEquals(List.of(EnumSet.allOf(PlaybackChange.class)), changes);
+    }
+
+    @Test
+    void watchRetriesPollAfterMaxIntervalWhenRequestFails() {
+        final CompletableFuture<PlayingContext> failedPlayingContext = new CompletableFuture<>();
+        failedPlayingContext.completeExceptionally(new IllegalStateException("Spotify is down"));
+        when(mockedPlayerApi.getCurrentPlayingContext(anyMap()))
+                .thenReturn(failedPlayingContext)
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(createPlayingContext("track-1", "device-1", false, true)));
+        sut = new PlaybackWatcher(config, scheduler);
+
+        sut.watch(fakeUserId, mockedPlayerApi, (userId, previous, current, playbackChanges) -> changes.add(playbackChanges));
+        scheduler.advance(Duration.ofMillis(30));
+
+        verify(mockedPlayerApi, times(2)).getCurrentPlayingContext(anyMap());
+        Assertions.assertEquals(1, changes.size());
+    }
+
+    @Test
+    void changesSinceDetectsTrackDeviceRepeatAndPause() {
+        final PlaybackState previous = PlaybackState.of(createPlayingContext("track-1", "device-1", false, true));
+        final PlayingContext playingContext = createPlayingContext("track-2", "device-2", false, false);
+        playingContext.setRepeatState("track");
+
+        final Set<PlaybackChange> playbackChanges = PlaybackState.of(playingContext).changesSince(previous);
+
+        Assertions.assertEquals(EnumSet.of(PlaybackChange.TRACK, PlaybackChange.DEVICE, PlaybackChange.REPEAT, PlaybackChange.PLAYING), playbackChanges);
+        Assertions.assertTrue(PlaybackState.of(null).changesSince(PlaybackState.of(null)).isEmpty());
+    }
+
+    @Test
+    void nextIntervalFollowsRemainingTimePlayStateAndActivity() {
+        final PlaybackWatcherConfig defaultConfig = PlaybackWatcherConfig.defaultConfig();
+        final PlayingContext endingTrack = createPlayingContext("track-1", "device-1", false, true);
+        endingTrack.setProgressMs(55_000);
+
+        Assertions.assertEquals(30_000, PlaybackWatcher.nextIntervalMillis(defaultConfig,
+                PlaybackState.of(createPlayingContext("track-1", "device-1", false, true)), 0));
+        Assertions.assertEquals(6_000, PlaybackWatcher.nextIntervalMillis(defaultConfig, PlaybackState.of(endingTrack), 0));
+        Assertions.assertEquals(15_000, PlaybackWatcher.nextIntervalMillis(defaultConfig, PlaybackState.of(null), 0));
+        Assertions.assertEquals(2_000, PlaybackWatcher.nextIntervalMillis(defaultConfig, PlaybackState.of(null), 1));
+    }
+
+    private static PlayingContext createPlayingContext(final String trackId, final String deviceId, final boolean shuffle, final boolean playing) {
+        final TrackFull track = new TrackFull();
+        track.setId(trackId);
+        track.setDurationMs(60_000);
+        final Device device = new Device();
+        device.setId(deviceId);
+
+        final PlayingContext playingContext = new PlayingContext();
+        playingContext.setItem(track);
+        playingContext.setDevice(device);
+        playingContext.setShuffleState(shuffle);
+        playingContext.setRepeatState("off");
+        playingContext.setPlaying(playing);
+
+        return playingContext;
+    }
+}
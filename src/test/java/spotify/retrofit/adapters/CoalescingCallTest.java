@@ -0,0 +1,253 @@
+package spotify.retrofit.adapters;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Callback;
+import retrofit2.Response;
+import retrofit2.http.GET;
+import retrofit2.http.Streaming;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+public class CoalescingCallTest {
+    private final Request fakeGetRequest = new Request.Builder()
+            .url("https://api.spotify.com/v1/tracks/69?market=NL")
+            .header("Authorization", "Bearer 69")
+            .build();
+    private CoalescingCallAdapterFactory coalescingCallAdapterFactory;
+    @Mock
+    private Call<String> mockedFirstCall;
+    @Mock
+    private Call<String> mockedSecondCall;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        coalescingCallAdapterFactory = new CoalescingCallAdapterFactory();
+
+        when(mockedFirstCall.request()).thenReturn(fakeGetRequest);
+        when(mockedSecondCall.request()).thenReturn(fakeGetRequest);
+    }
+
+    @Test
+    void factoryDoesNotAdaptCallsOfStreamedOrRawResponseBodies() throws NoSuchMethodException {
+        final Method streamedMethod = FakeService.class.getMethod("getStreamed");
+        final Method rawMethod = FakeService.class.getMethod("getRaw");
+        final Method method = FakeService.class.getMethod("get");
+
+        Assertions.assertNull(coalescingCallAdapterFactory.get(streamedMethod.getGenericReturnType(), streamedMethod.getAnnotations(), null));
+        Assertions.assertNull(coalescingCallAdapterFactory.get(rawMethod.getGenericReturnType(), rawMethod.getAnnotations(), null));
+        Assertions.assertNotNull(coalescingCallAdapterFactory.get(method.getGenericReturnType(), method.getAnnotations(), null));
+    }
+
+    @Test
+    void executeSharesHttpCallOfIdenticalRequestInFlight() throws Exception {
+        final CountDownLatch firstCallStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirstCall = new CountDownLatch(1);
+        when(mockedFirstCall.execute()).thenAnswer(invocation -> {
+            firstCallStarted.countDown();
+            releaseFirstCall.await(5, TimeUnit.SECONDS);
+            return Response.success("track");
+        });
+
+        final CompletableFuture<Response<String>> firstResponse = CompletableFuture.supplyAsync(() -> execute(mockedFirstCall));
+        Assertions.assertTrue(firstCallStarted.await(5, TimeUnit.SECONDS));
+        final CompletableFuture<Response<String>> secondResponse = CompletableFuture.supplyAsync(() -> execute(mockedSecondCall));
+        waitUntilCoalesced(1);
+        releaseFirstCall.countDown();
+
+        Assertions.assertEquals("track", firstResponse.get(5, TimeUnit.SECONDS).body());
+        Assertions.assertEquals("track", secondResponse.get(5, TimeUnit.SECONDS).body());
+        verify(mockedSecondCall, never()).execute();
+    }
+
+    @Test
+    void executeGivesEveryCallerItsOwnCopyOfErrorBody() throws Exception {
+        final CountDownLatch firstCallStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirstCall = new CountDownLatch(1);
+        when(mockedFirstCall.execute()).thenAnswer(invocation -> {
+            firstCallStarted.countDown();
+            releaseFirstCall.await(5, TimeUnit.SECONDS);
+            return Response.error(404, ResponseBody.create(MediaType.get("application/json"), "not found"));
+        });
+
+        final CompletableFuture<Response<String>> firstResponse = CompletableFuture.supplyAsync(() -> execute(mockedFirstCall));
+        Assertions.assertTrue(firstCallStarted.await(5, TimeUnit.SECONDS));
+        final CompletableFuture<Response<String>> secondResponse = CompletableFuture.supplyAsync(() -> execute(mockedSecondCall));
+        waitUntilCoalesced(1);
+        releaseFirstCall.countDown();
+
+        Assertions.assertEquals("not found", firstResponse.get(5, TimeUnit.SECONDS).errorBody().string());
+        Assertions.assertEquals("not found", secondResponse.get(5, TimeUnit.SECONDS).errorBody().string());
+    }
+
+    @Test
+    void executeFailsCallersWaitingForHttpCallThatThrowsError() throws Exception {
+        final CountDownLatch firstCallStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirstCall = new CountDownLatch(1);
+        when(mockedFirstCall.execute()).thenAnswer(invocation -> {
+            firstCallStarted.countDown();
+            releaseFirstCall.await(5, TimeUnit.SECONDS);
+            throw new StackOverflowError("too deep");
+        });
+
+        final CompletableFuture<Response<String>> firstResponse = CompletableFuture.supplyAsync(() -> execute(mockedFirstCall));
+        Assertions.assertTrue(firstCallStarted.await(5, TimeUnit.SECONDS));
+        final CompletableFuture<Response<String>> secondResponse = CompletableFuture.supplyAsync(() -> execute(mockedSecondCall));
+        waitUntilCoalesced(1);
+        releaseFirstCall.countDown();
+
+        final ExecutionException firstException = Assertions.assertThrows(ExecutionException.class, () -> firstResponse.get(5, TimeUnit.SECONDS));
+        final ExecutionException secondException = Assertions.assertThrows(ExecutionException.class, () -> secondResponse.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(firstException.getCause() instanceof StackOverflowError);
+        Assertions.assertTrue(secondException.getCause() instanceof StackOverflowError);
+        verify(mockedSecondCall, never()).execute();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueueFailsCallersWaitingForHttpCallThatCanNotBeEnqueued() throws Exception {
+        final Callback<String> mockedCallback = mock(Callback.class);
+        final CountDownLatch secondCallFailed = new CountDownLatch(1);
+        final CoalescingCall<String> firstCall = new CoalescingCall<>(mockedFirstCall, String.class, coalescingCallAdapterFactory);
+        doAnswer(invocation -> {
+            new CoalescingCall<>(mockedSecondCall, String.class, coalescingCallAdapterFactory).enqueue(mockedCallback);
+            throw new StackOverflowError("too deep");
+        }).when(mockedFirstCall).enqueue(any());
+        doAnswer(invocation -> {
+            secondCallFailed.countDown();
+            return null;
+        }).when(mockedCallback).onFailure(any(), any(StackOverflowError.class));
+
+        Assertions.assertThrows(StackOverflowError.class, () -> firstCall.enqueue(mock(Callback.class)));
+
+        Assertions.assertTrue(secondCallFailed.await(5, TimeUnit.SECONDS));
+        verify(mockedSecondCall, never()).enqueue(any());
+        Assertions.assertEquals(1, coalescingCallAdapterFactory.getCoalescedCalls());
+    }
+
+    @Test
+    void executeDoesNotShareHttpCallOfRequestThatIsNotGet() throws IOException {
+        final Request fakePutRequest = fakeGetRequest.newBuilder()
+                .put(RequestBody.create(MediaType.get("application/json"), "{}"))
+                .build();
+        when(mockedFirstCall.request()).thenReturn(fakePutRequest);
+        when(mockedFirstCall.execute()).thenReturn(Response.success("saved"));
+
+        new CoalescingCall<>(mockedFirstCall, String.class, coalescingCallAdapterFactory).execute();
+
+        verify(mockedFirstCall).execute();
+        Assertions.assertEquals(0, coalescingCallAdapterFactory.getCoalescedCalls());
+    }
+
+    @Test
+    void executeDoesNotShareHttpCallAfterItHasCompleted() throws IOException {
+        when(mockedFirstCall.execute()).thenReturn(Response.success("track"));
+        when(mockedSecondCall.execute()).thenReturn(Response.success("track"));
+
+        new CoalescingCall<>(mockedFirstCall, String.class, coalescingCallAdapterFactory).execute();
+        new CoalescingCall<>(mockedSecondCall, String.class, coalescingCallAdapterFactory).execute();
+
+        verify(mockedSecondCall).execute();
+        Assertions.assertEquals(0, coalescingCallAdapterFactory.getCoalescedCalls());
+    }
+
+    @Test
+    void createKeyIgnoresOrderOfQueryParameters() {
+        final Request request = new Request.Builder().url("https://api.spotify.com/v1/tracks?ids=1,2&market=NL").build();
+        final Request reorderedRequest = new Request.Builder().url("https://api.spotify.com/v1/tracks?market=NL&ids=1,2").build();
+
+        Assertions.assertEquals(CoalescingCall.createKey(request, String.class), CoalescingCall.createKey(reorderedRequest, String.class));
+    }
+
+    @Test
+    void createKeyDiffersPerAccessToken() {
+        final Request requestOfOtherUser = fakeGetRequest.newBuilder().header("Authorization", "Bearer 420").build();
+
+        Assertions.assertNotEquals(CoalescingCall.createKey(fakeGetRequest, String.class), CoalescingCall.createKey(requestOfOtherUser, String.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void executeDoesNotShareHttpCallOfRequestWithOtherResponseType() throws Exception {
+        final Method method = FakeService.class.getMethod("get");
+        final Method otherMethod = FakeService.class.getMethod("getLength");
+        final CallAdapter<Object, Call<Object>> callAdapter = (CallAdapter<Object, Call<Object>>)
+                coalescingCallAdapterFactory.get(method.getGenericReturnType(), method.getAnnotations(), null);
+        final CallAdapter<Object, Call<Object>> otherCallAdapter = (CallAdapter<Object, Call<Object>>)
+                coalescingCallAdapterFactory.get(otherMethod.getGenericReturnType(), otherMethod.getAnnotations(), null);
+        final Call<Object> mockedOtherCall = mock(Call.class);
+        final CountDownLatch firstCallStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirstCall = new CountDownLatch(1);
+        when(mockedFirstCall.execute()).thenAnswer(invocation -> {
+            firstCallStarted.countDown();
+            releaseFirstCall.await(5, TimeUnit.SECONDS);
+            return Response.success("track");
+        });
+        when(mockedOtherCall.request()).thenReturn(fakeGetRequest);
+        when(mockedOtherCall.execute()).thenReturn(Response.success(5));
+
+        final CompletableFuture<Response<Object>> firstResponse = CompletableFuture.supplyAsync(() -> {
+            try {
+                return callAdapter.adapt((Call<Object>) (Call<?>) mockedFirstCall).execute();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Assertions.assertTrue(firstCallStarted.await(5, TimeUnit.SECONDS));
+        final Response<Object> otherResponse = otherCallAdapter.adapt(mockedOtherCall).execute();
+        releaseFirstCall.countDown();
+
+        Assertions.assertEquals(5, otherResponse.body());
+        Assertions.assertEquals("track", firstResponse.get(5, TimeUnit.SECONDS).body());
+        Assertions.assertEquals(0, coalescingCallAdapterFactory.getCoalescedCalls());
+    }
+
+    private Response<String> execute(final Call<String> call) {
+        try {
+            return new CoalescingCall<>(call, String.class, coalescingCallAdapterFactory).execute();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void waitUntilCoalesced(final long expectedCoalescedCalls) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (coalescingCallAdapterFactory.getCoalescedCalls() < expectedCoalescedCalls && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private interface FakeService {
+        @Streaming
+        @GET("audio-analysis/69")
+        Call<ResponseBody> getStreamed();
+
+        @GET("audio-analysis/69")
+        Call<ResponseBody> getRaw();
+
+        @GET("tracks/69")
+        Call<String> get();
+
+        @GET("tracks/69")
+        Call<Integer> getLength();
+    }
+}
@@ -0,0 +1,112 @@
+package spotify.retrofit.interceptors;
+
+import okhttp3.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import spotify.config.RateLimitConfig;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+public class RateLimitInterceptorTest {
+    private final Request fakeRequest = new Request.Builder().url("https://jiankai.nl").header("Authorization", "Bearer 69").build();
+    private RateLimitMetrics rateLimitMetrics;
+    @Mock
+    private Interceptor.Chain mockedChain;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        rateLimitMetrics = new RateLimitMetrics();
+        when(mockedChain.request()).thenReturn(fakeRequest);
+    }
+
+    @Test
+    void interceptRetriesRateLimitedRequestAfterRetryAfter() throws IOException {
+        final RateLimitInterceptor sut = new RateLimitInterceptor(RateLimitConfig.defaultConfig(), rateLimitMetrics);
+        when(mockedChain.proceed(fakeRequest)).thenReturn(createResponse(429, "0"), createResponse(200, null));
+
+        final Response response = sut.intercept(mockedChain);
+
+        Assertions.assertEquals(200, response.code());
+        verify(mockedChain, times(2)).proceed(fakeRequest);
+        Assertions.assertEquals(1, rateLimitMetrics.getThrottledResponses());
+        Assertions.assertEquals(1, rateLimitMetrics.getRetries());
+    }
+
+    @Test
+    void interceptReturnsRateLimitedResponseWhenRetriesAreExhausted() throws IOException {
+        final RateLimitInterceptor sut = new RateLimitInterceptor(new RateLimitConfig.Builder()
+                .setMaxRetries(2)
+                .build(), rateLimitMetrics);
+        when(mockedChain.proceed(fakeRequest)).thenReturn(createResponse(429, "0"));
+
+        final Response response = sut.intercept(mockedChain);
+
+        Assertions.assertEquals(429, response.code());
+        verify(mockedChain, times(3)).proceed(fakeRequest);
+        Assertions.assertEquals(3, rateLimitMetrics.getThrottledResponses());
+    }
+
+    @Test
+    void interceptDoesNotRetryWhenRetryAfterExceedsMaximum() throws IOException {
+        final RateLimitInterceptor sut = new RateLimitInterceptor(new RateLimitConfig.Builder()
+                .setMaxRetryAfter(Duration.ofSeconds(10))
+                .build(), rateLimitMetrics);
+        when(mockedChain.proceed(fakeRequest)).thenReturn(createResponse(429, "3600"));
+
+        final Response response = sut.intercept(mockedChain);
+
+        Assertions.assertEquals(429, response.code());
+        verify(mockedChain, times(1)).proceed(fakeRequest);
+        Assertions.assertEquals(0, rateLimitMetrics.getRetries());
+    }
+
+    @Test
+    void interceptPausesBucketNoLongerThanMaxRetryAfter() throws IOException {
+        final RateLimitInterceptor sut = new RateLimitInterceptor(new RateLimitConfig.Builder()
+                .setMaxRetryAfter(Duration.ofMillis(10))
+                .build(), rateLimitMetrics);
+        when(mockedChain.proceed(fakeRequest)).thenReturn(createResponse(429, "3600"), createResponse(200, null));
+
+        Assertions.assertEquals(429, sut.intercept(mockedChain).code());
+        Assertions.assertEquals(200, sut.intercept(mockedChain).code());
+
+        Assertions.assertTrue(rateLimitMetrics.getThrottledTime().compareTo(Duration.ofSeconds(1)) < 0);
+    }
+
+    @Test
+    void interceptWaitsForPermitWhenBurstIsUsedUp() throws IOException {
+        final RateLimitInterceptor sut = new RateLimitInterceptor(new RateLimitConfig.Builder()
+                .setRequestsPerSecond(100)
+                .setBurstSize(1)
+                .build(), rateLimitMetrics);
+        when(mockedChain.proceed(fakeRequest)).thenReturn(createResponse(200, null));
+
+        sut.intercept(mockedChain);
+        sut.intercept(mockedChain);
+
+        Assertions.assertTrue(rateLimitMetrics.getQueuedTime().toNanos() > 0);
+    }
+
+    private Response createResponse(int code, String retryAfter) {
+        final Response.Builder builder = new Response.Builder()
+                .request(fakeRequest)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("")
+                .body(ResponseBody.create(MediaType.get("application/json"), "{}"));
+
+        if (retryAfter != null) {
+            builder.header("Retry-After", retryAfter);
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,150 @@
+package spotify.retrofit.interceptors;
+
+import okhttp3.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import retrofit2.Invocation;
+import spotify.config.RetryConfig;
+import spotify.retrofit.services.LibraryService;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.mockito.Mockito.*;
+
+public class RetryInterceptorTest {
+    private final Request fakeGetRequest = new Request.Builder().url("https://jiankai.nl").build();
+    private RetryMetrics retryMetrics;
+    private RetryInterceptor sut;
+    @Mock
+    private Interceptor.Chain mockedChain;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        retryMetrics = new RetryMetrics();
+        sut = new RetryInterceptor(new RetryConfig.Builder()
+                .setMaxAttempts(3)
+                .setInitialBackoff(Duration.ZERO)
+                .build(), retryMetrics);
+    }
+
+    @Test
+    void interceptRetriesIdempotentRequestWhenHttpFails() throws IOException {
+        when(mockedChain.request()).thenReturn(fakeGetRequest);
+        when(mockedChain.proceed(fakeGetRequest))
+                .thenThrow(new IOException("connection reset"))
+                .thenReturn(createResponse(fakeGetRequest, 200));
+
+        final Response response = sut.intercept(mockedChain);
+
+        Assertions.assertEquals(200, response.code());
+        Assertions.assertEquals(2, retryMetrics.getAttempts());
+        Assertions.assertEquals(1, retryMetrics.getRetriedCalls());
+    }
+
+    @Test
+    void interceptReturnsLastResponseWhenAttemptsAreExhausted() throws IOException {
+        when(mockedChain.request()).thenReturn(fakeGetRequest);
+        when(mockedChain.proceed(fakeGetRequest)).thenReturn(createResponse(fakeGetRequest, 503));
+
+        final Response response = sut.intercept(mockedChain);
+
+        Assertions.assertEquals(503, response.code());
+        verify(mockedChain, times(3)).proceed(fakeGetRequest);
+        Assertions.assertEquals(1, retryMetrics.getExhaustedCalls());
+    }
+
+    @Test
+    void interceptDoesNotRetryClientErrors() throws IOException {
+        when(mockedChain.request()).thenReturn(fakeGetRequest);
+        when(mockedChain.proceed(fakeGetRequest)).thenReturn(createResponse(fakeGetRequest, 400));
+
+        sut.intercept(mockedChain);
+
+        verify(mockedChain, times(1)).proceed(fakeGetRequest);
+    }
+
+    @Test
+    void interceptDoesNotRetryRequestThatIsNotIdempotent() throws IOException {
+        final Request fakePostRequest = new Request.Builder()
+                .url("https://jiankai.nl")
+                .post(RequestBody.create(MediaType.get("application/json"), "{}"))
+                .build();
+        when(mockedChain.request()).thenReturn(fakePostRequest);
+        when(mockedChain.proceed(fakePostRequest)).thenThrow(new IOException("connection reset"));
+
+        Assertions.assertThrows(IOException.class, () -> sut.intercept(mockedChain));
+        verify(mockedChain, times(1)).proceed(fakePostRequest);
+    }
+
+    @Test
+    void interceptRetriesRequestOfServiceMethodMarkedIdempotent() throws Exception {
+        final Request fakePutRequest = new Request.Builder()
+                .url("https://jiankai.nl")
+                .put(RequestBody.create(null, new byte[0]))
+                .tag(Invocation.class, Invocation.of(
+                        LibraryService.class.getMethod("saveTracks", String.class, String.class),
+                        Arrays.asList("Bearer 69", "1,2")))
+                .build();
+        when(mockedChain.request()).thenReturn(fakePutRequest);
+        when(mockedChain.proceed(fakePutRequest))
+                .thenReturn(createResponse(fakePutRequest, 502))
+                .thenReturn(createResponse(fakePutRequest, 200));
+
+        final Response response = sut.intercept(mockedChain);
+
+        Assertions.assertEquals(200, response.code());
+        verify(mockedChain, times(2)).proceed(fakePutRequest);
+    }
+
+    @Test
+    void interceptDoesNotRetryWhenBackoffWouldExceedDeadline() throws IOException {
+        sut = new RetryInterceptor(new RetryConfig.Builder()
+                .setDeadline(Duration.ofMillis(1))
+                .build(), retryMetrics);
+        when(mockedChain.request()).thenReturn(fakeGetRequest);
+        when(mockedChain.proceed(fakeGetRequest)).thenReturn(createResponse(fakeGetRequest, 503, "60"));
+
+        sut.intercept(mockedChain);
+
+        verify(mockedChain, times(1)).proceed(fakeGetRequest);
+        Assertions.assertEquals(1, retryMetrics.getExhaustedCalls());
+    }
+
+    @Test
+    void backoffCeilingDoublesUpToMaximum() {
+        final RetryConfig retryConfig = new RetryConfig.Builder()
+                .setInitialBackoff(Duration.ofMillis(100))
+                .setMaxBackoff(Duration.ofMillis(300))
+                .build();
+
+        Assertions.assertEquals(Duration.ofMillis(100), retryConfig.getBackoffCeiling(1));
+        Assertions.assertEquals(Duration.ofMillis(200), retryConfig.getBackoffCeiling(2));
+        Assertions.assertEquals(Duration.ofMillis(300), retryConfig.getBackoffCeiling(3));
+    }
+
+    private Response createResponse(Request request, int code) {
+        return createResponse(request, code, null);
+    }
+
+    private Response createResponse(Request request, int code, String retryAfter) {
+        final Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("")
+                .body(ResponseBody.create(MediaType.get("application/json"), "{}"));
+
+        if (retryAfter != null) {
+            builder.header("Retry-After", retryAfter);
+        }
+
+        return builder.build();
+    }
+}
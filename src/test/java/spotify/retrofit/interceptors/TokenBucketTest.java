@@ -0,0 +1,45 @@
+package spotify.retrofit.interceptors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TokenBucketTest {
+    private static final long ONE_SECOND = 1_000_000_000L;
+
+    @Test
+    void tryAcquireHandsOutBurstAndThenReturnsWaitUntilNextPermit() {
+        final TokenBucket sut = new TokenBucket(2, 2, 0);
+
+        Assertions.assertEquals(0, sut.tryAcquire(0));
+        Assertions.assertEquals(0, sut.tryAcquire(0));
+        Assertions.assertEquals(ONE_SECOND / 2, sut.tryAcquire(0));
+    }
+
+    @Test
+    void tryAcquireRefillsPermitsOverTime() {
+        final TokenBucket sut = new TokenBucket(2, 1, 0);
+
+        sut.tryAcquire(0);
+
+        Assertions.assertEquals(0, sut.tryAcquire(ONE_SECOND / 2));
+    }
+
+    @Test
+    void tryAcquireNeverWaitsWhenRateIsZero() {
+        final TokenBucket sut = new TokenBucket(0, 1, 0);
+
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(0, sut.tryAcquire(0));
+        }
+    }
+
+    @Test
+    void pauseUntilKeepsTheLongestPause() {
+        final TokenBucket sut = new TokenBucket(2, 1, 0);
+
+        sut.pauseUntil(ONE_SECOND * 5);
+        sut.pauseUntil(ONE_SECOND);
+
+        Assertions.assertEquals(ONE_SECOND * 4, sut.getRemainingPause(ONE_SECOND));
+    }
+}
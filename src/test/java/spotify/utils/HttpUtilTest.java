@@ -0,0 +1,25 @@
+package spotify.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class HttpUtilTest {
+
+    @Test
+    void parseRetryAfterReturnsSecondsOfHeader() {
+        Assertions.assertEquals(Duration.ofSeconds(30), HttpUtil.parseRetryAfter("30", Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void parseRetryAfterReturnsFallbackWhenHeaderIsMissingOrInvalid() {
+        Assertions.assertEquals(Duration.ofSeconds(1), HttpUtil.parseRetryAfter(null, Duration.ofSeconds(1)));
+        Assertions.assertEquals(Duration.ofSeconds(1), HttpUtil.parseRetryAfter("soon", Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void parseRetryAfterReturnsZeroWhenDateHasPassed() {
+        Assertions.assertEquals(Duration.ZERO, HttpUtil.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT", Duration.ofSeconds(1)));
+    }
+}
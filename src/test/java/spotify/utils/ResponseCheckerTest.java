@@ -0,0 +1,61 @@
+package spotify.utils;
+
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import retrofit2.Response;
+import spotify.api.enums.HttpStatusCode;
+import spotify.exceptions.SpotifyActionFailedException;
+import spotify.exceptions.TooManyRequestsException;
+
+import java.time.Duration;
+
+public class ResponseCheckerTest {
+
+    @Test
+    void throwsTooManyRequestsExceptionWithRetryAfterWhenRateLimited() {
+        final Response<Object> response = Response.error(
+                ResponseBody.create(MediaType.get("application/json"), "{\"error\":{\"status\":429,\"message\":\"API rate limit exceeded\"}}"),
+                new okhttp3.Response.Builder()
+                        .request(new Request.Builder().url("https://jiankai.nl").build())
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(429)
+                        .message("Too Many Requests")
+                        .header("Retry-After", "7")
+                        .build());
+
+        final TooManyRequestsException exception = Assertions.assertThrows(
+                TooManyRequestsException.class,
+                () -> ResponseChecker.throwIfRequestHasNotBeenFulfilledCorrectly(response, HttpStatusCode.OK));
+
+        Assertions.assertEquals(Duration.ofSeconds(7), exception.getRetryAfter());
+    }
+
+    @Test
+    void throwsSpotifyActionFailedExceptionWithStatusCodeOfErrorBody() {
+        final Response<Object> response = Response.error(
+                ResponseBody.create(MediaType.get("application/json"), "{\"error\":{\"status\":400,\"message\":\"invalid id\"}}"),
+                new okhttp3.Response.Builder()
+                        .request(new Request.Builder().url("https://jiankai.nl").build())
+                        .protocol(Protocol.HTTP_1_1)
+                        .code(400)
+                        .message("Bad Request")
+                        .build());
+
+        final SpotifyActionFailedException exception = Assertions.assertThrows(
+                SpotifyActionFailedException.class,
+                () -> ResponseChecker.throwIfRequestHasNotBeenFulfilledCorrectly(response, HttpStatusCode.OK));
+
+        Assertions.assertEquals(400, exception.getStatusCode());
+    }
+
+    @Test
+    void throwsTooManyRequestsExceptionWithStatusCode429() {
+        final TooManyRequestsException exception = new TooManyRequestsException("rate limited", Duration.ofSeconds(1));
+
+        Assertions.assertEquals(429, exception.getStatusCode());
+    }
+}